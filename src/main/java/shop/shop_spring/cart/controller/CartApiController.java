@@ -10,8 +10,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import shop.shop_spring.cart.dto.CartAddRequest;
+import shop.shop_spring.cart.dto.CartBatchRequest;
+import shop.shop_spring.cart.dto.CartDto;
 import shop.shop_spring.cart.dto.CartItemUpdateRequest;
-import shop.shop_spring.cart.service.CartServiceImpl;
+import shop.shop_spring.cart.dto.CartSummaryDto;
+import shop.shop_spring.cart.service.CartService;
 import shop.shop_spring.common.response.CustomApiResponse;
 import shop.shop_spring.security.model.MyUser;
 
@@ -20,7 +23,7 @@ import shop.shop_spring.security.model.MyUser;
 @RequiredArgsConstructor
 @Tag(name = "Cart API", description = "장바구니 관련 API(추가, 삭제, 비우기 등)")
 public class CartApiController {
-    private final CartServiceImpl cartService;
+    private final CartService cartService;
 
     @Operation(summary = "장바구니 상품 추가", description = "사용자의 장바구니에 상품을 추가")
     @PostMapping("/items")
@@ -86,4 +89,35 @@ public class CartApiController {
         CustomApiResponse<Void> response = CustomApiResponse.successNoData("상품 개수 업데이트");
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    @Operation(summary = "장바구니 합계 조회", description = "장바구니 배지용 - 담긴 상품 수량, 상품 종류 수, 총 금액만 반환 (항목 조회 없음)")
+    @GetMapping("/summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공 (장바구니가 없으면 0)"),
+            @ApiResponse(responseCode = "403", description = "로그인 정보 불일치 또는 세션 종료")
+    })
+    public ResponseEntity<CustomApiResponse<CartSummaryDto>> getCartSummary(Authentication auth){
+        MyUser member = (MyUser) auth.getPrincipal();
+
+        CartSummaryDto summary = cartService.getCartSummary(member.getId());
+
+        CustomApiResponse<CartSummaryDto> response = CustomApiResponse.success("조회 성공", summary);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @Operation(summary = "장바구니 일괄 변경", description = "여러 상품의 담기/수량 변경/삭제를 한 번에 적용하고 변경된 장바구니 반환 (하나라도 실패하면 전부 취소)")
+    @PostMapping("/items/batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(없는 상품, 장바구니에 없는 상품, 잘못된 상품 수량)"),
+            @ApiResponse(responseCode = "403", description = "로그인 정보 불일치 또는 세션 종료")
+    })
+    public ResponseEntity<CustomApiResponse<CartDto>> applyOperations(@RequestBody CartBatchRequest batchRequest, Authentication auth){
+        MyUser member = (MyUser) auth.getPrincipal();
+
+        CartDto cart = cartService.applyOperations(member.getId(), batchRequest.getOperations());
+
+        CustomApiResponse<CartDto> response = CustomApiResponse.success("일괄 변경 성공", cart);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
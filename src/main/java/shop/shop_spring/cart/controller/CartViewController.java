@@ -7,14 +7,14 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import shop.shop_spring.cart.dto.CartDto;
-import shop.shop_spring.cart.service.CartServiceImpl;
+import shop.shop_spring.cart.service.CartService;
 import shop.shop_spring.security.model.MyUser;
 
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/cart")
 public class CartViewController {
-    private final CartServiceImpl cartService;
+    private final CartService cartService;
 
     @GetMapping("/items")
     public String showCart(Authentication auth, Model model){
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import shop.shop_spring.common.id.TimeOrderedId;
 import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.product.domain.Product;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -20,7 +22,7 @@ import java.util.List;
 public class Cart {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "cart_id")
     private Long id;
 
@@ -32,6 +34,26 @@ public class Cart {
     @Builder.Default
     private List<CartItem> cartItems = new ArrayList<>();
 
+    // 합계 - 항목 추가/삭제/수량 변경 시 갱신 (조회 시 항목 순회 없음), CartTotalsReconciler 가 주기적으로 검증
+    @Column(name = "total_quantity", nullable = false)
+    @Builder.Default
+    private int totalQuantity = 0;
+
+    @Column(name = "product_count", nullable = false)
+    @Builder.Default
+    private int productCount = 0;
+
+    // 최소 화폐 단위 (원)
+    @Column(name = "total_amount", nullable = false)
+    @Builder.Default
+    private long totalAmount = 0L;
+
+    // 낙관적 잠금 - 합계를 갱신하는 동시 변경(요청, write-behind 반영, 합계 보정) 중 늦은 쪽이 실패하여 합계 유실 방지
+    // (primitive 타입: 신규 여부는 id 로 판단되어 persist 경로 유지)
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -45,12 +67,78 @@ public class Cart {
         if (cartItem.getCart() != this){
             cartItem.setCart(this);
         }
+        fillUnitPrice(cartItem);
+        productCount++;
+        totalQuantity += cartItem.getQuantity();
+        totalAmount = Math.addExact(totalAmount, cartItem.getLineAmount());
     }
 
     public void removeCartItem(CartItem cartItem){
-        cartItems.remove(cartItem);
+        if (cartItems.remove(cartItem)){
+            fillUnitPrice(cartItem);
+            productCount--;
+            totalQuantity -= cartItem.getQuantity();
+            totalAmount = Math.subtractExact(totalAmount, cartItem.getLineAmount());
+        }
         if(cartItem.getCart() == this){
             cartItem.setCart(null);
         }
     }
+
+    /**
+     * 항목 전체 제거 (orphanRemoval 로 삭제)
+     */
+    public void clearCartItems(){
+        cartItems.clear();
+        resetTotals();
+    }
+
+    /**
+     * 합계만 0 으로 (항목을 일괄 DELETE 로 지운 경우)
+     */
+    public void resetTotals(){
+        productCount = 0;
+        totalQuantity = 0;
+        totalAmount = 0L;
+    }
+
+    /**
+     * 항목으로 합계를 다시 계산 (정합성 검증용)
+     * @return 합계가 바뀌었으면 true
+     */
+    public boolean recalculateTotals(){
+        int quantity = 0;
+        long amount = 0L;
+        for (CartItem cartItem : cartItems){
+            fillUnitPrice(cartItem);
+            quantity += cartItem.getQuantity();
+            amount = Math.addExact(amount, cartItem.getLineAmount());
+        }
+        boolean changed = productCount != cartItems.size() || totalQuantity != quantity || totalAmount != amount;
+        productCount = cartItems.size();
+        totalQuantity = quantity;
+        totalAmount = amount;
+        return changed;
+    }
+
+    // CartItem.setQuantity 에서 호출
+    public void onQuantityChanged(CartItem cartItem, int previousQuantity){
+        fillUnitPrice(cartItem);
+        int delta = cartItem.getQuantity() - previousQuantity;
+        totalQuantity += delta;
+        totalAmount = Math.addExact(totalAmount, Math.multiplyExact(cartItem.getUnitPrice(), (long) delta));
+    }
+
+    // CartItem.changeUnitPrice 에서 호출
+    public void onUnitPriceChanged(CartItem cartItem, long previousUnitPrice){
+        long delta = Math.subtractExact(cartItem.getUnitPrice(), previousUnitPrice);
+        totalAmount = Math.addExact(totalAmount, Math.multiplyExact(delta, (long) cartItem.getQuantity()));
+    }
+
+    private void fillUnitPrice(CartItem cartItem){
+        if (cartItem.getUnitPrice() == null){
+            Product product = cartItem.getProduct();
+            cartItem.setUnitPrice(product != null && product.getPrice() != null ? product.getPrice().getAmount() : 0L);
+        }
+    }
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import shop.shop_spring.common.id.TimeOrderedId;
 import shop.shop_spring.product.domain.Product;
 
 import java.time.LocalDateTime;
@@ -21,7 +22,7 @@ import java.time.LocalDateTime;
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "cart_item_id")
     private Long id;
 
@@ -36,6 +37,10 @@ public class CartItem {
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
 
+    // 담을 때의 상품 가격 (최소 화폐 단위), 장바구니 합계 계산용 - 비어 있으면 담을 때 상품 가격으로 채움
+    @Column(name = "unit_price")
+    private Long unitPrice;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -48,4 +53,33 @@ public class CartItem {
         this.cart = cart;
     }
 
+    /**
+     * 수량 변경 - 담긴 장바구니의 합계도 같이 갱신
+     */
+    public void setQuantity(Integer quantity) {
+        Integer previous = this.quantity;
+        this.quantity = quantity;
+        if (cart != null && previous != null){
+            cart.onQuantityChanged(this, previous);
+        }
+    }
+
+    /**
+     * 담을 때 가격 변경 (Redis 장바구니 가격 반영) - 담긴 장바구니의 합계도 같이 갱신
+     */
+    public void changeUnitPrice(Long unitPrice) {
+        Long previous = this.unitPrice;
+        this.unitPrice = unitPrice;
+        if (cart != null && previous != null){
+            cart.onUnitPriceChanged(this, previous);
+        }
+    }
+
+    /**
+     * 항목 금액 (최소 화폐 단위)
+     */
+    public long getLineAmount(){
+        return Math.multiplyExact(unitPrice, (long) quantity);
+    }
+
 }
@@ -0,0 +1,17 @@
+package shop.shop_spring.cart.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 일괄 변경 요청 DTO (작업은 순서대로 적용)")
+public class CartBatchRequest {
+    List<CartOperation> operations;
+}
@@ -4,11 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.domain.CartItem;
+import shop.shop_spring.common.money.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
@@ -22,11 +24,27 @@ public class CartDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * 합계는 장바구니에 유지되는 값을 그대로 사용 (항목 순회 없이 계산)
+     */
     public static CartDto fromEntity(Cart cart){
-        List<CartItemDto> cartItemDtos = cart.getCartItems().stream()
-                .map(CartItemDto::fromEntity)
-                .collect(Collectors.toList());
+        List<CartItemDto> cartItemDtos = new ArrayList<>(cart.getCartItems().size());
+        for (CartItem cartItem : cart.getCartItems()){
+            cartItemDtos.add(CartItemDto.fromEntity(cartItem));
+        }
 
+        return new CartDto(
+                cart.getId(),
+                cartItemDtos,
+                cart.getTotalQuantity(),
+                cart.getProductCount(),
+                Money.of(cart.getTotalAmount()).toBigDecimal(),
+                cart.getCreatedAt(),
+                cart.getUpdatedAt()
+        );
+    }
+
+    public static CartDto of(Long cartId, List<CartItemDto> cartItemDtos, LocalDateTime createdAt, LocalDateTime updatedAt){
         int totalItems = cartItemDtos.stream()
                 .mapToInt(CartItemDto::getQuantity)
                 .sum();
@@ -37,13 +55,13 @@ public class CartDto {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         return new CartDto(
-                cart.getId(),
+                cartId,
                 cartItemDtos,
                 totalItems,
                 totalProducts,
                 calculatedTotalPrice,
-                cart.getCreatedAt(),
-                cart.getUpdatedAt()
+                createdAt,
+                updatedAt
         );
     }
 
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import shop.shop_spring.cart.domain.CartItem;
+import shop.shop_spring.common.money.Money;
 import shop.shop_spring.product.domain.Product;
 
 import java.math.BigDecimal;
@@ -31,10 +32,17 @@ public class CartItemDto {
         // product가 null이거나 (관계 매핑 오류 등) 필요한 필드가 null일 수 있으므로 방어 코드 필요
         Long productId = (product != null) ? product.getId() : null;
         String productTitle = (product != null) ? product.getTitle() : "알 수 없는 상품";
-        BigDecimal productPrice = (product != null && product.getPrice() != null) ? product.getPrice() : BigDecimal.ZERO;
 
-        // 항목별 총 금액 계산
-        BigDecimal lineItemTotal = productPrice.multiply(BigDecimal.valueOf(cartItem.getQuantity()));
+        // 담을 때의 가격 기준 (장바구니 합계와 같은 값), 단가가 비어 있으면 현재 상품 가격
+        BigDecimal productPrice;
+        BigDecimal lineItemTotal;
+        if (cartItem.getUnitPrice() != null){
+            productPrice = Money.of(cartItem.getUnitPrice()).toBigDecimal();
+            lineItemTotal = Money.of(cartItem.getLineAmount()).toBigDecimal();
+        } else {
+            productPrice = (product != null && product.getPrice() != null) ? product.getPrice().toBigDecimal() : BigDecimal.ZERO;
+            lineItemTotal = productPrice.multiply(BigDecimal.valueOf(cartItem.getQuantity()));
+        }
 
         return new CartItemDto(
                 cartItem.getId(),
@@ -48,4 +56,20 @@ public class CartItemDto {
         );
 
     }
+
+    /**
+     * Redis 장바구니 항목용 - 항목 id 대신 상품 id 사용 (장바구니 내 상품은 하나씩만 존재)
+     */
+    public static CartItemDto of(Long productId, String productTitle, BigDecimal productPrice, int quantity){
+        return new CartItemDto(
+                productId,
+                productId,
+                productTitle,
+                productPrice,
+                quantity,
+                productPrice.multiply(BigDecimal.valueOf(quantity)),
+                null,
+                null
+        );
+    }
 }
@@ -0,0 +1,23 @@
+package shop.shop_spring.cart.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 일괄 변경의 개별 작업 (상품 id 기준)")
+public class CartOperation {
+    @Schema(description = "ADD: 담기(이미 있으면 수량 덮어씀), SET_QUANTITY: 수량 변경, REMOVE: 삭제")
+    private Type type;
+    private Long productId;
+    @Schema(description = "ADD, SET_QUANTITY 에서 사용 (1 이상)")
+    private Integer quantity;
+
+    public enum Type {
+        ADD, SET_QUANTITY, REMOVE
+    }
+}
@@ -0,0 +1,29 @@
+package shop.shop_spring.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.shop_spring.common.money.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * 장바구니 합계 (장바구니 배지용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartSummaryDto {
+    private int totalItemCount;
+    private int totalProductsCount;
+    private BigDecimal totalPrice;
+
+    // JPQL 생성자 표현식용 (합계 금액은 최소 화폐 단위)
+    public CartSummaryDto(Integer totalItemCount, Integer totalProductsCount, Long totalAmount){
+        this(totalItemCount, totalProductsCount, Money.of(totalAmount).toBigDecimal());
+    }
+
+    public static CartSummaryDto empty(){
+        return new CartSummaryDto(0, 0, BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,189 @@
+package shop.shop_spring.cart.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.domain.CartItem;
+import shop.shop_spring.cart.repository.CartRepository;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.member.repository.MemberRepository;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.repository.ProductRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 장바구니 -> DB write-behind
+ * dirty 집합에 쌓인 회원의 현재 장바구니로 cart/cart_item 을 맞춤 (배치 단위 한 트랜잭션, 실패 시 회원별 트랜잭션)
+ * - 수량/가격이 바뀐 상품은 UPDATE, 새 상품은 INSERT, Redis 에서 빠진 상품은 DELETE
+ * - 그 사이 삭제된 상품은 반영하지 않음
+ * - Redis 에 장바구니가 없으면(TTL 만료 등) DB 를 그대로 둠 -> 다음 접근 시 DB 에서 다시 적재
+ * 꺼낸 회원 id 는 커밋 전까지 처리 중 집합에 남김 -> 실패한 회원은 dirty 집합에 되돌려 다음 주기에 재시도,
+ * 반영 도중 서버가 죽은 경우는 다음 동기화 노드가 시작 시 dirty 로 되돌림
+ * 동기화 잠금은 배치마다 연장하여 반영이 길어져도 다른 노드가 동시에 반영하지 않음
+ */
+@Slf4j
+@Component
+public class RedisCartFlusher {
+    private final RedisCartStore cartStore;
+    private final CartRepository cartRepository;
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${app.cart.redis.flush-batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${app.cart.redis.flush-interval-ms:1000}")
+    private long flushIntervalMs = 1000;
+
+    public RedisCartFlusher(RedisCartStore cartStore,
+                            CartRepository cartRepository,
+                            MemberRepository memberRepository,
+                            ProductRepository productRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.cartStore = cartStore;
+        this.cartRepository = cartRepository;
+        this.memberRepository = memberRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cart.redis.flush-interval-ms:1000}")
+    public void flush(){
+        if (!cartStore.isEnabled()){
+            return;
+        }
+        Duration lease = Duration.ofMillis(flushIntervalMs * 10);
+        if (!cartStore.tryLockSync(nodeId, lease)){
+            return;
+        }
+        try {
+            long recovered = cartStore.recoverDirty();
+            if (recovered > 0){
+                log.warn("중단된 Redis 장바구니 DB 반영 복구, 다시 반영: {}건", recovered);
+            }
+
+            List<Long> memberIds = cartStore.claimDirty(batchSize);
+            while (!memberIds.isEmpty()){
+                flushBatch(memberIds);
+                if (memberIds.size() < batchSize){
+                    break;
+                }
+                // 잠금이 만료되어 다른 노드로 넘어갔으면 나머지는 그 노드에 맡김
+                if (!cartStore.renewSync(nodeId, lease)){
+                    log.warn("Redis 장바구니 동기화 잠금 만료, 이번 주기 반영 중단");
+                    return;
+                }
+                memberIds = cartStore.claimDirty(batchSize);
+            }
+        } finally {
+            cartStore.unlockSync(nodeId);
+        }
+    }
+
+    void flushBatch(List<Long> memberIds){
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyAll(memberIds));
+        } catch (RuntimeException e){
+            // 한 회원(동시 변경 충돌 등) 때문에 배치 전체가 롤백됨 -> 회원별 트랜잭션으로 다시 반영해 영향 범위를 좁힘
+            log.warn("Redis 장바구니 DB 반영 배치 실패, 회원별 반영으로 전환: size={}", memberIds.size(), e);
+            List<Long> failed = new ArrayList<>();
+            for (Long memberId : memberIds){
+                try {
+                    transactionTemplate.executeWithoutResult(status -> applyAll(List.of(memberId)));
+                } catch (RuntimeException memberFailure){
+                    log.warn("Redis 장바구니 DB 반영 실패, 다음 주기에 재시도: memberId={}", memberId, memberFailure);
+                    failed.add(memberId);
+                }
+            }
+            if (!failed.isEmpty()){
+                cartStore.markDirty(failed);
+            }
+        }
+        // 커밋(또는 실패한 회원을 dirty 로 되돌린) 뒤에 처리 중 집합에서 제거
+        cartStore.completeDirty(memberIds);
+    }
+
+    private void applyAll(List<Long> memberIds){
+        Map<Long, Cart> carts = cartRepository.findAllByMemberIdInWithItems(memberIds).stream()
+                .collect(Collectors.toMap(cart -> cart.getMember().getId(), Function.identity()));
+        Map<Long, List<RedisCartStore.CartLine>> linesByMemberId = new LinkedHashMap<>();
+        for (Long memberId : memberIds){
+            // dirty 에서 꺼낸 뒤 읽으므로 그 사이 변경도 포함됨 (다시 dirty 로 표시되어 한 번 더 반영될 뿐)
+            cartStore.read(memberId).ifPresent(lines -> linesByMemberId.put(memberId, lines));
+        }
+
+        // 배치의 상품을 한 번에 조회 - 삭제된 상품을 참조로 넣으면 FK 위반으로 배치가 계속 실패함
+        Set<Long> productIds = linesByMemberId.values().stream()
+                .flatMap(List::stream)
+                .map(RedisCartStore.CartLine::getProductId)
+                .collect(Collectors.toSet());
+        Map<Long, Product> products = productIds.isEmpty() ? Map.of()
+                : productRepository.findAllById(productIds).stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        linesByMemberId.forEach((memberId, lines) -> apply(memberId, carts.get(memberId), lines, products));
+    }
+
+    private void apply(Long memberId, Cart cart, List<RedisCartStore.CartLine> lines, Map<Long, Product> products){
+        if (cart == null){
+            if (lines.isEmpty()){
+                return;
+            }
+            cart = cartRepository.save(Cart.builder()
+                    .member(memberRepository.getReferenceById(memberId))
+                    .build());
+        }
+
+        Map<Long, CartItem> itemsByProductId = new HashMap<>();
+        for (CartItem item : cart.getCartItems()){
+            itemsByProductId.put(item.getProduct().getId(), item);
+        }
+
+        for (RedisCartStore.CartLine line : lines){
+            Product product = products.get(line.getProductId());
+            if (product == null){
+                // 담은 뒤 삭제된 상품 - DB 에 반영하지 않음 (주문 시 상품 조회에서 걸러짐)
+                log.warn("삭제된 상품은 장바구니 DB 반영에서 제외: memberId={}, productId={}", memberId, line.getProductId());
+                continue;
+            }
+            long unitPrice = Money.amountOf(line.getPrice());
+            CartItem item = itemsByProductId.remove(line.getProductId());
+            if (item == null){
+                cart.addCartItem(CartItem.builder()
+                        .product(product)
+                        .quantity(line.getQuantity())
+                        .unitPrice(unitPrice)
+                        .build());
+                continue;
+            }
+            // 가격 -> 수량 순서로 반영해도 각 변경이 합계에 차이만큼 더해지므로 합계 일치
+            if (item.getUnitPrice() == null || item.getUnitPrice() != unitPrice){
+                item.changeUnitPrice(unitPrice);
+            }
+            if (item.getQuantity() != line.getQuantity()){
+                item.setQuantity(line.getQuantity());
+            }
+        }
+
+        // Redis 에서 빠진 상품 (orphanRemoval 로 삭제)
+        for (CartItem removed : itemsByProductId.values()){
+            cart.removeCartItem(removed);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package shop.shop_spring.cart.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.cart.dto.CartOperation;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 장바구니 저장소
+ * 회원별 장바구니를 cart:member:{memberId} 해시(상품 id -> "수량:담을 때 가격")로 관리
+ * 변경은 Lua 스크립트 한 번(Redis 왕복 1회)으로 처리하고, 변경된 회원 id 는 dirty 집합에 모아
+ * RedisCartFlusher 가 cart/cart_item 테이블로 write-behind
+ * 반영 중인 회원 id 는 처리 중 집합으로 옮겨 두고 커밋 후 제거 -> 반영 도중 서버가 죽어도 유실되지 않음
+ * loaded 필드가 있으면 DB 에서 적재된(또는 새로 만든) 장바구니 -> 비어 있는 장바구니와 아직 적재되지 않은 장바구니를 구분
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCartStore {
+    static final String KEY_PREFIX = "cart:member:";
+    static final String DIRTY_KEY = "cart:dirty";
+    static final String PROCESSING_KEY = "cart:dirty:processing";
+    static final String SYNC_LOCK_KEY = "cart:sync-lock";
+    static final String LOADED_FIELD = "loaded";
+
+    // 장바구니가 Redis 에 없음 -> DB 에서 적재 후 다시 실행
+    public static final long NOT_LOADED = -1L;
+
+    // KEYS[1] = 장바구니 키, KEYS[2] = dirty 집합 / ARGV[1] = 회원 id, ARGV[2] = 상품 id, ARGV[3] = "수량:가격", ARGV[4] = TTL(초)
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 담을 때 가격은 유지하고 수량만 변경, 반환: 1 변경, 0 장바구니에 없는 상품
+    private static final RedisScript<Long> UPDATE_QUANTITY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            local line = redis.call('HGET', KEYS[1], ARGV[2])
+            if not line then
+              return 0
+            end
+            local price = string.sub(line, string.find(line, ':', 1, true) + 1)
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3] .. ':' .. price)
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 반환: 1 삭제, 0 장바구니에 없는 상품
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            if redis.call('HDEL', KEYS[1], ARGV[2]) == 0 then
+              return 0
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 반환: 비운 상품 수 (이미 비어 있으면 0)
+    private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            local count = redis.call('HLEN', KEYS[1]) - 1
+            if count == 0 then
+              return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], ARGV[2], '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return count
+            """, Long.class);
+
+    // 일괄 변경 - 먼저 전체 작업을 검증하고(수량 변경/삭제 대상이 없으면 아무것도 바꾸지 않음) 순서대로 적용
+    // ARGV[1] = 회원 id, ARGV[2] = TTL(초), ARGV[3i], ARGV[3i+1], ARGV[3i+2] = 작업(A/S/R), 상품 id, 값
+    // 반환: 0 성공, i 실패한 작업 순번(1부터)
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            local n = (#ARGV - 2) / 3
+            local present = {}
+            for i = 1, n do
+              local op = ARGV[3 * i]
+              local productId = ARGV[3 * i + 1]
+              if present[productId] == nil then
+                present[productId] = redis.call('HEXISTS', KEYS[1], productId) == 1
+              end
+              if op == 'A' then
+                present[productId] = true
+              elseif not present[productId] then
+                return i
+              elseif op == 'R' then
+                present[productId] = false
+              end
+            end
+            for i = 1, n do
+              local op = ARGV[3 * i]
+              local productId = ARGV[3 * i + 1]
+              if op == 'A' then
+                redis.call('HSET', KEYS[1], productId, ARGV[3 * i + 2])
+              elseif op == 'S' then
+                local line = redis.call('HGET', KEYS[1], productId)
+                local price = string.sub(line, string.find(line, ':', 1, true) + 1)
+                redis.call('HSET', KEYS[1], productId, ARGV[3 * i + 2] .. ':' .. price)
+              else
+                redis.call('HDEL', KEYS[1], productId)
+              end
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return 0
+            """, Long.class);
+
+    // 이미 있으면 기존 장바구니 유지 (동시에 적재한 다른 요청의 변경을 덮어쓰지 않음)
+    // ARGV[1] = loaded 필드, ARGV[2] = TTL(초), ARGV[2i+1] = 상품 id, ARGV[2i+2] = "수량:가격"
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], '1')
+            for i = 3, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // dirty 에서 꺼낸 회원 id 를 처리 중 집합으로 이동 (원자적)
+    // KEYS[1] = dirty 집합, KEYS[2] = 처리 중 집합 / ARGV[1] = 최대 개수
+    private static final RedisScript<List> CLAIM_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('SPOP', KEYS[1], ARGV[1])
+            if #ids > 0 then
+              redis.call('SADD', KEYS[2], unpack(ids))
+            end
+            return ids
+            """, List.class);
+
+    // 처리 중 집합에 남은 회원 id 를 dirty 로 되돌림, 반환: 되돌린 수
+    private static final RedisScript<Long> RECOVER_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('SMEMBERS', KEYS[2])
+            if #ids > 0 then
+              redis.call('SADD', KEYS[1], unpack(ids))
+              redis.call('DEL', KEYS[2])
+            end
+            return #ids
+            """, Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.cart.redis.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${app.cart.redis.ttl-days:30}")
+    private long ttlDays = 30;
+
+    public boolean isEnabled(){
+        return enabled;
+    }
+
+    /**
+     * 상품 담기 (이미 있으면 수량/가격 덮어씀)
+     * @return 1 성공, NOT_LOADED 장바구니 미적재
+     */
+    public long put(Long memberId, Long productId, int quantity, BigDecimal price){
+        return stringRedisTemplate.execute(PUT_SCRIPT, keys(memberId),
+                String.valueOf(memberId), String.valueOf(productId), CartLine.format(quantity, price), ttlSeconds());
+    }
+
+    /**
+     * @return 1 성공, 0 장바구니에 없는 상품, NOT_LOADED 장바구니 미적재
+     */
+    public long updateQuantity(Long memberId, Long productId, int quantity){
+        return stringRedisTemplate.execute(UPDATE_QUANTITY_SCRIPT, keys(memberId),
+                String.valueOf(memberId), String.valueOf(productId), String.valueOf(quantity), ttlSeconds());
+    }
+
+    /**
+     * @return 1 성공, 0 장바구니에 없는 상품, NOT_LOADED 장바구니 미적재
+     */
+    public long remove(Long memberId, Long productId){
+        return stringRedisTemplate.execute(REMOVE_SCRIPT, keys(memberId),
+                String.valueOf(memberId), String.valueOf(productId), ttlSeconds());
+    }
+
+    /**
+     * @return 비운 상품 수, NOT_LOADED 장바구니 미적재
+     */
+    public long clear(Long memberId){
+        return stringRedisTemplate.execute(CLEAR_SCRIPT, keys(memberId),
+                String.valueOf(memberId), LOADED_FIELD, ttlSeconds());
+    }
+
+    /**
+     * 일괄 변경 (스크립트 한 번, 전부 적용 또는 전부 미적용)
+     * @param prices 담기(ADD) 상품의 가격 스냅샷
+     * @return 0 성공, 실패한 작업 순번(1부터), NOT_LOADED 장바구니 미적재
+     */
+    public long apply(Long memberId, List<CartOperation> operations, Map<Long, BigDecimal> prices){
+        List<String> args = new ArrayList<>(operations.size() * 3 + 2);
+        args.add(String.valueOf(memberId));
+        args.add(ttlSeconds());
+        for (CartOperation operation : operations){
+            Long productId = operation.getProductId();
+            switch (operation.getType()){
+                case ADD -> {
+                    args.add("A");
+                    args.add(String.valueOf(productId));
+                    args.add(CartLine.format(operation.getQuantity(), prices.get(productId)));
+                }
+                case SET_QUANTITY -> {
+                    args.add("S");
+                    args.add(String.valueOf(productId));
+                    args.add(String.valueOf(operation.getQuantity()));
+                }
+                case REMOVE -> {
+                    args.add("R");
+                    args.add(String.valueOf(productId));
+                    args.add("");
+                }
+            }
+        }
+        return stringRedisTemplate.execute(APPLY_SCRIPT, keys(memberId), args.toArray());
+    }
+
+    /**
+     * DB 장바구니를 Redis 로 적재 (없을 때만)
+     * @return 새로 적재했으면 true
+     */
+    public boolean load(Long memberId, List<CartLine> lines){
+        List<String> args = new ArrayList<>(lines.size() * 2 + 2);
+        args.add(LOADED_FIELD);
+        args.add(ttlSeconds());
+        for (CartLine line : lines){
+            args.add(String.valueOf(line.getProductId()));
+            args.add(CartLine.format(line.getQuantity(), line.getPrice()));
+        }
+        Long loaded = stringRedisTemplate.execute(LOAD_SCRIPT, List.of(KEY_PREFIX + memberId), args.toArray());
+        return loaded != null && loaded == 1L;
+    }
+
+    /**
+     * 장바구니 상품 목록 (상품 id 오름차순)
+     * @return 장바구니가 Redis 에 없으면 empty (비어 있는 장바구니는 빈 목록)
+     */
+    public Optional<List<CartLine>> read(Long memberId){
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(KEY_PREFIX + memberId);
+        if (entries.isEmpty()){
+            return Optional.empty();
+        }
+        List<CartLine> lines = new ArrayList<>(entries.size());
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)){
+                lines.add(CartLine.parse(Long.valueOf(field.toString()), value.toString()));
+            }
+        });
+        lines.sort(Comparator.comparing(CartLine::getProductId));
+        return Optional.of(lines);
+    }
+
+    /**
+     * 반영할 회원 id 를 dirty 에서 꺼내 처리 중 집합으로 이동
+     * 반영이 커밋되면 completeDirty, 실패하면 markDirty 후 completeDirty 로 처리 중 집합에서 제거
+     */
+    public List<Long> claimDirty(int count){
+        List<?> claimed = stringRedisTemplate.execute(CLAIM_DIRTY_SCRIPT, List.of(DIRTY_KEY, PROCESSING_KEY), String.valueOf(count));
+        if (claimed == null){
+            return List.of();
+        }
+        return claimed.stream().map(id -> Long.valueOf(id.toString())).toList();
+    }
+
+    public void completeDirty(Collection<Long> memberIds){
+        if (memberIds.isEmpty()){
+            return;
+        }
+        stringRedisTemplate.opsForSet().remove(PROCESSING_KEY,
+                memberIds.stream().map(String::valueOf).toArray(Object[]::new));
+    }
+
+    /**
+     * 이전 동기화 노드가 반영 도중 중단되어 처리 중 집합에 남은 회원 id 를 dirty 로 되돌림
+     * 동기화 잠금을 가진 노드만 호출 (잠금 보유 중에는 다른 노드가 처리 중인 항목이 없음)
+     * @return 되돌린 회원 수
+     */
+    public long recoverDirty(){
+        Long recovered = stringRedisTemplate.execute(RECOVER_DIRTY_SCRIPT, List.of(DIRTY_KEY, PROCESSING_KEY));
+        return recovered == null ? 0L : recovered;
+    }
+
+    public void markDirty(Collection<Long> memberIds){
+        if (memberIds.isEmpty()){
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY,
+                memberIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // 여러 서버가 동시에 DB 로 쓰면서 오래된 장바구니가 나중에 덮어쓰지 않도록 동기화는 한 노드만 수행
+    public boolean tryLockSync(String owner, Duration lease){
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(SYNC_LOCK_KEY, owner, lease));
+    }
+
+    /**
+     * 동기화 잠금 연장 (배치마다 호출)
+     * @return 잠금을 아직 가지고 있으면 true, 만료되어 다른 노드로 넘어갔으면 false
+     */
+    public boolean renewSync(String owner, Duration lease){
+        Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(SYNC_LOCK_KEY), owner, String.valueOf(lease.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void unlockSync(String owner){
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(SYNC_LOCK_KEY), owner);
+    }
+
+    private List<String> keys(Long memberId){
+        return List.of(KEY_PREFIX + memberId, DIRTY_KEY);
+    }
+
+    private String ttlSeconds(){
+        return String.valueOf(Duration.ofDays(ttlDays).toSeconds());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CartLine {
+        private final Long productId;
+        private final int quantity;
+        // 담을 때 상품 가격 (화면 표시용, 주문 금액은 주문 시점 상품 가격으로 계산)
+        private final BigDecimal price;
+
+        static String format(int quantity, BigDecimal price){
+            return quantity + ":" + price.toPlainString();
+        }
+
+        static CartLine parse(Long productId, String value){
+            int separator = value.indexOf(':');
+            return new CartLine(productId,
+                    Integer.parseInt(value.substring(0, separator)),
+                    new BigDecimal(value.substring(separator + 1)));
+        }
+    }
+}
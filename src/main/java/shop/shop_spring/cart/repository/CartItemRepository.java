@@ -1,9 +1,20 @@
 package shop.shop_spring.cart.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import shop.shop_spring.cart.domain.CartItem;
 
 import java.util.Optional;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     Optional<CartItem> findByCartIdAndProductId(Long cartId, Long productId);
+
+    /**
+     * 장바구니 항목 일괄 삭제 (DELETE ... WHERE cart_id = ? 한 번, 항목별 DELETE 없음)
+     * 영속성 컨텍스트에 올라온 항목은 그대로 남으므로 이후 같은 트랜잭션에서 장바구니 항목을 다시 쓰지 않아야 함
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId")
+    int deleteAllByCartId(@Param("cartId") Long cartId);
 }
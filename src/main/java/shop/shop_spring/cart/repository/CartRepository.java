@@ -1,10 +1,14 @@
 package shop.shop_spring.cart.repository;
 
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.dto.CartSummaryDto;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
@@ -13,4 +17,37 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
             "LEFT JOIN FETCH ci.product p " +
             "WHERE c.member.id = :memberId")
     Optional<Cart> findByMemberIdWithItemsAndProducts(@Param("memberId") Long memberId);
+
+    // Redis 장바구니 write-behind 용 - 상품은 id 만 필요하므로 조인하지 않음
+    @Query("SELECT DISTINCT c FROM Cart c " +
+            "LEFT JOIN FETCH c.cartItems ci " +
+            "WHERE c.member.id IN :memberIds")
+    List<Cart> findAllByMemberIdInWithItems(@Param("memberIds") Collection<Long> memberIds);
+
+    // 장바구니 배지용 - 합계 컬럼만 조회
+    @Query("SELECT new shop.shop_spring.cart.dto.CartSummaryDto(c.totalQuantity, c.productCount, c.totalAmount) " +
+            "FROM Cart c WHERE c.member.id = :memberId")
+    Optional<CartSummaryDto> findSummaryByMemberId(@Param("memberId") Long memberId);
+
+    // 합계 검증 대상 장바구니 id (keyset)
+    @Query("SELECT c.id FROM Cart c WHERE c.id > :afterId ORDER BY c.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 항목 집계와 합계가 다른 장바구니 id (단가가 비어 있는 항목이 있는 장바구니 포함)
+     */
+    @Query("SELECT c.id FROM Cart c LEFT JOIN c.cartItems ci " +
+            "WHERE c.id IN :cartIds " +
+            "GROUP BY c.id, c.totalQuantity, c.productCount, c.totalAmount " +
+            "HAVING c.productCount <> COUNT(ci) " +
+            "OR COUNT(ci) <> COUNT(ci.unitPrice) " +
+            "OR c.totalQuantity <> COALESCE(SUM(ci.quantity), 0) " +
+            "OR c.totalAmount <> COALESCE(SUM(ci.quantity * ci.unitPrice), 0)")
+    List<Long> findIdsWithInconsistentTotals(@Param("cartIds") Collection<Long> cartIds);
+
+    @Query("SELECT DISTINCT c FROM Cart c " +
+            "LEFT JOIN FETCH c.cartItems ci " +
+            "LEFT JOIN FETCH ci.product p " +
+            "WHERE c.id IN :cartIds")
+    List<Cart> findAllByIdInWithItemsAndProducts(@Param("cartIds") Collection<Long> cartIds);
 }
@@ -2,6 +2,10 @@ package shop.shop_spring.cart.service;
 
 import shop.shop_spring.cart.domain.Cart;
 import shop.shop_spring.cart.dto.CartDto;
+import shop.shop_spring.cart.dto.CartOperation;
+import shop.shop_spring.cart.dto.CartSummaryDto;
+
+import java.util.List;
 
 public interface CartService {
     CartDto getCartForMember(Long memberId);
@@ -14,6 +18,23 @@ public interface CartService {
 
     boolean clearCart(Long memberId);
 
+    /**
+     * 장바구니 일괄 변경 - 작업(담기, 수량 변경, 삭제)을 순서대로 적용 (장바구니 한 번 조회, 하나라도 실패하면 전부 취소)
+     * @return 변경 후 장바구니
+     */
+    CartDto applyOperations(Long memberId, List<CartOperation> operations);
+
     Cart getCartEntityWithItemsAndProducts(Long memberId);
 
+    /**
+     * 주문한 장바구니 비우기 (장바구니 주문 트랜잭션에서 호출)
+     * getCartEntityWithItemsAndProducts 로 이미 조회한 장바구니를 다시 조회하지 않고 일괄 삭제
+     */
+    void clearCheckedOutCart(Long memberId, Cart cart);
+
+    /**
+     * 장바구니 합계만 조회 (장바구니 배지용, 항목 조회 없음)
+     */
+    CartSummaryDto getCartSummary(Long memberId);
+
 }
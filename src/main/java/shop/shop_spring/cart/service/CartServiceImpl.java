@@ -6,9 +6,12 @@ import org.springframework.transaction.annotation.Transactional;
 import shop.shop_spring.cart.domain.Cart;
 import shop.shop_spring.cart.domain.CartItem;
 import shop.shop_spring.cart.dto.CartDto;
+import shop.shop_spring.cart.dto.CartOperation;
+import shop.shop_spring.cart.dto.CartSummaryDto;
 import shop.shop_spring.cart.repository.CartItemRepository;
 import shop.shop_spring.cart.repository.CartRepository;
 import shop.shop_spring.cart.support.CartHelper;
+import shop.shop_spring.cart.support.CartOperations;
 import shop.shop_spring.common.exception.DataNotFoundException;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberService;
@@ -16,7 +19,13 @@ import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
 
 import org.springframework.security.access.AccessDeniedException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -102,13 +111,83 @@ public class CartServiceImpl implements CartService{
         Cart cart = cartHelper.getCartOrThrow(memberId);
         if (cart.getCartItems().isEmpty()){ return false;}
         cartItemRepository.deleteAll(cart.getCartItems());
-        cart.getCartItems().clear();
+        cart.clearCartItems();
         return true;
     }
 
+    @Transactional
+    @Override
+    public CartDto applyOperations(Long memberId, List<CartOperation> operations) {
+        CartOperations.validate(operations);
+
+        Cart cart = cartRepository.findByMemberIdWithItemsAndProducts(memberId)
+                .orElseGet(() -> cartRepository.save(Cart.builder()
+                        .member(memberService.findById(memberId))
+                        .build()));
+
+        Map<Long, CartItem> itemsByProductId = new LinkedHashMap<>();
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (CartItem cartItem : cart.getCartItems()){
+            itemsByProductId.put(cartItem.getProduct().getId(), cartItem);
+            quantities.put(cartItem.getProduct().getId(), cartItem.getQuantity());
+        }
+        Map<Long, Integer> result = CartOperations.apply(quantities, operations);
+
+        // 기존 항목 수량 변경/삭제
+        itemsByProductId.forEach((productId, cartItem) -> {
+            Integer quantity = result.get(productId);
+            if (quantity == null){
+                cart.removeCartItem(cartItem);
+            } else if (!quantity.equals(cartItem.getQuantity())){
+                cartItem.setQuantity(quantity);
+            }
+        });
+
+        // 새로 담은 상품은 한 번에 조회
+        List<Long> newProductIds = result.keySet().stream()
+                .filter(productId -> !itemsByProductId.containsKey(productId))
+                .toList();
+        if (!newProductIds.isEmpty()){
+            Map<Long, Product> products = productService.findAllByIds(newProductIds).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            List<CartItem> newItems = new ArrayList<>();
+            for (Long productId : newProductIds){
+                Product product = products.get(productId);
+                if (product == null){
+                    throw new DataNotFoundException("삭제되거나 없는 상품임");
+                }
+                CartItem newItem = CartItem.builder()
+                        .cart(cart)
+                        .product(product)
+                        .quantity(result.get(productId))
+                        .build();
+                cart.addCartItem(newItem);
+                newItems.add(newItem);
+            }
+            cartItemRepository.saveAll(newItems);
+        }
+
+        return CartDto.fromEntity(cart);
+    }
+
     @Override
     public Cart getCartEntityWithItemsAndProducts(Long memberId) {
         return cartHelper.getCartOrThrow(memberId);
 
     }
+
+    @Transactional
+    @Override
+    public void clearCheckedOutCart(Long memberId, Cart cart) {
+        // 컬렉션을 비우면 orphanRemoval 로 항목별 DELETE 가 나가므로 컬렉션은 건드리지 않고 합계만 초기화
+        cartItemRepository.deleteAllByCartId(cart.getId());
+        cart.resetTotals();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CartSummaryDto getCartSummary(Long memberId) {
+        return cartRepository.findSummaryByMemberId(memberId)
+                .orElseGet(CartSummaryDto::empty);
+    }
 }
@@ -0,0 +1,229 @@
+package shop.shop_spring.cart.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.domain.CartItem;
+import shop.shop_spring.cart.dto.CartDto;
+import shop.shop_spring.cart.dto.CartItemDto;
+import shop.shop_spring.cart.dto.CartOperation;
+import shop.shop_spring.cart.dto.CartSummaryDto;
+import shop.shop_spring.cart.redis.RedisCartStore;
+import shop.shop_spring.cart.redis.RedisCartStore.CartLine;
+import shop.shop_spring.cart.repository.CartRepository;
+import shop.shop_spring.cart.support.CartOperations;
+import shop.shop_spring.common.exception.DataNotFoundException;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.common.transaction.AfterCommit;
+import shop.shop_spring.product.Dto.ProductDetailDto;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.service.ProductService;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 장바구니 (app.cart.redis.enabled=true 일 때 CartServiceImpl 대신 사용)
+ * 담기/수량 변경/삭제/비우기는 Redis 왕복 1회 (DB 트랜잭션 없음), DB 반영은 RedisCartFlusher 가 모아서 처리
+ * 장바구니가 Redis 에 없으면 DB 에서 한 번 적재한 뒤 처리
+ * 장바구니 항목 id 는 상품 id (아직 DB 에 반영되지 않은 항목에는 cart_item id 가 없음)
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "app.cart.redis.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RedisCartServiceImpl implements CartService {
+    private static final String UNKNOWN_PRODUCT_TITLE = "알 수 없는 상품";
+
+    private final RedisCartStore cartStore;
+    private final CartRepository cartRepository;
+    private final ProductService productService;
+
+    @Override
+    public CartDto getCartForMember(Long memberId) {
+        List<CartLine> lines = lines(memberId);
+        if (lines.isEmpty()){ return null;}
+        return toDto(lines);
+    }
+
+    @Override
+    public void addItemToCart(Long memberId, Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("0 이하의 상품 수량");
+        }
+        BigDecimal price = priceOf(productId);
+
+        withLoadedCart(memberId, () -> cartStore.put(memberId, productId, quantity, price));
+    }
+
+    /**
+     * @param cartItemId 상품 id
+     */
+    @Override
+    public void updateItemQuantity(Long memberId, Long cartItemId, int newQuantity) {
+        if (newQuantity <= 0) {
+            throw new IllegalArgumentException("0 이하의 상품 수량");
+        }
+        long updated = withLoadedCart(memberId, () -> cartStore.updateQuantity(memberId, cartItemId, newQuantity));
+        if (updated == 0){
+            throw new DataNotFoundException("장바구니 내 없는 상품");
+        }
+    }
+
+    /**
+     * @param cartItemId 상품 id
+     */
+    @Override
+    public void removeItemFromCart(Long memberId, Long cartItemId) {
+        long removed = withLoadedCart(memberId, () -> cartStore.remove(memberId, cartItemId));
+        if (removed == 0){
+            throw new DataNotFoundException("장바구니 내 없는 상품");
+        }
+    }
+
+    /**
+     * 주문 트랜잭션 안에서 호출되면 커밋 후 비움 (주문이 롤백되면 장바구니 유지)
+     * 이 경우 비울 상품이 있는지 미리 알 수 없으므로 true 반환
+     */
+    @Override
+    public boolean clearCart(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()){
+            AfterCommit.run(() -> clearNow(memberId));
+            return true;
+        }
+        return clearNow(memberId);
+    }
+
+    /**
+     * 스크립트 한 번으로 전체 작업 적용 (수량 변경/삭제 대상이 없으면 아무것도 바꾸지 않음)
+     */
+    @Override
+    public CartDto applyOperations(Long memberId, List<CartOperation> operations) {
+        CartOperations.validate(operations);
+
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        for (CartOperation operation : operations){
+            if (operation.getType() == CartOperation.Type.ADD){
+                prices.computeIfAbsent(operation.getProductId(), this::priceOf);
+            }
+        }
+
+        long failed = withLoadedCart(memberId, () -> cartStore.apply(memberId, operations, prices));
+        if (failed > 0){
+            throw new DataNotFoundException("장바구니 내 없는 상품: " + operations.get((int) failed - 1).getProductId());
+        }
+        return toDto(lines(memberId));
+    }
+
+    /**
+     * 주문용 장바구니 - Redis 장바구니 수량 + 상품 한 번에 조회 (cart/cart_item 테이블 조회 없음)
+     * 반환하는 Cart 는 영속 상태가 아님 (주문 생성용)
+     */
+    @Override
+    public Cart getCartEntityWithItemsAndProducts(Long memberId) {
+        List<CartLine> lines = lines(memberId);
+        Map<Long, Product> products = productService.findAllByIds(lines.stream().map(CartLine::getProductId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Cart cart = Cart.builder().build();
+        for (CartLine line : lines){
+            Product product = products.get(line.getProductId());
+            if (product == null){
+                throw new DataNotFoundException("삭제되거나 없는 상품임");
+            }
+            cart.addCartItem(CartItem.builder()
+                    .product(product)
+                    .quantity(line.getQuantity())
+                    .build());
+        }
+        return cart;
+    }
+
+    @Override
+    public void clearCheckedOutCart(Long memberId, Cart cart) {
+        clearCart(memberId);
+    }
+
+    /**
+     * Redis 장바구니 항목 합산 (DB 조회 없음)
+     */
+    @Override
+    public CartSummaryDto getCartSummary(Long memberId) {
+        int totalQuantity = 0;
+        long totalAmount = 0L;
+        List<CartLine> lines = lines(memberId);
+        for (CartLine line : lines){
+            totalQuantity += line.getQuantity();
+            totalAmount = Math.addExact(totalAmount, Math.multiplyExact(Money.amountOf(line.getPrice()), line.getQuantity()));
+        }
+        return new CartSummaryDto(totalQuantity, lines.size(), Money.of(totalAmount).toBigDecimal());
+    }
+
+    private boolean clearNow(Long memberId){
+        return withLoadedCart(memberId, () -> cartStore.clear(memberId)) > 0;
+    }
+
+    private List<CartLine> lines(Long memberId){
+        return cartStore.read(memberId).orElseGet(() -> {
+            loadFromDb(memberId);
+            return cartStore.read(memberId).orElse(List.of());
+        });
+    }
+
+    private long withLoadedCart(Long memberId, LongSupplier command){
+        long result = command.getAsLong();
+        if (result == RedisCartStore.NOT_LOADED){
+            loadFromDb(memberId);
+            result = command.getAsLong();
+        }
+        return result;
+    }
+
+    private void loadFromDb(Long memberId){
+        List<CartLine> lines = cartRepository.findByMemberIdWithItemsAndProducts(memberId)
+                .map(cart -> cart.getCartItems().stream()
+                        .map(item -> new CartLine(item.getProduct().getId(), item.getQuantity(), unitPriceOf(item)))
+                        .toList())
+                .orElse(List.of());
+        cartStore.load(memberId, lines);
+    }
+
+    // 담을 때의 단가 스냅샷 유지 (DB 합계와 같은 단가), 단가 없는 기존 항목만 현재 상품 가격
+    private BigDecimal unitPriceOf(CartItem item){
+        if (item.getUnitPrice() != null){
+            return Money.of(item.getUnitPrice()).toBigDecimal();
+        }
+        Product product = item.getProduct();
+        return product.getPrice() != null ? product.getPrice().toBigDecimal() : BigDecimal.ZERO;
+    }
+
+    private CartDto toDto(List<CartLine> lines){
+        List<CartItemDto> items = lines.stream()
+                .map(line -> CartItemDto.of(line.getProductId(), titleOf(line.getProductId()), line.getPrice(), line.getQuantity()))
+                .collect(Collectors.toList());
+        return CartDto.of(null, items, null, null);
+    }
+
+    // 상품 상세 캐시로 존재 확인 + 가격 스냅샷 (캐시 적중 시 DB 조회 없음)
+    private BigDecimal priceOf(Long productId){
+        ProductDetailDto product = productService.getProductDetail(productId);
+        return product.getPrice() != null ? product.getPrice() : BigDecimal.ZERO;
+    }
+
+    private String titleOf(Long productId){
+        try {
+            return productService.getProductDetail(productId).getTitle();
+        } catch (DataNotFoundException e){
+            return UNKNOWN_PRODUCT_TITLE;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package shop.shop_spring.cart.support;
+
+import shop.shop_spring.cart.dto.CartOperation;
+import shop.shop_spring.common.exception.DataNotFoundException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장바구니 일괄 변경 작업 검증/적용
+ */
+public final class CartOperations {
+    public static final int MAX_OPERATIONS = 100;
+
+    private CartOperations() {
+    }
+
+    public static void validate(List<CartOperation> operations){
+        if (operations == null || operations.isEmpty()){
+            throw new IllegalArgumentException("변경할 작업이 없음");
+        }
+        if (operations.size() > MAX_OPERATIONS){
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 작업은 " + MAX_OPERATIONS + "개까지");
+        }
+        for (CartOperation operation : operations){
+            if (operation == null || operation.getType() == null || operation.getProductId() == null){
+                throw new IllegalArgumentException("작업 종류와 상품 id 는 필수");
+            }
+            if (operation.getType() != CartOperation.Type.REMOVE
+                    && (operation.getQuantity() == null || operation.getQuantity() <= 0)){
+                throw new IllegalArgumentException("0 이하의 상품 수량");
+            }
+        }
+    }
+
+    /**
+     * 현재 수량에 작업을 순서대로 적용한 최종 수량
+     * 같은 상품을 삭제 후 다시 담아도 최종 수량만 남으므로 DB 에는 수량 변경 한 번으로 반영됨
+     * @param quantities 상품 id -> 현재 수량
+     * @return 상품 id -> 최종 수량 (빠진 상품은 삭제 대상)
+     */
+    public static Map<Long, Integer> apply(Map<Long, Integer> quantities, List<CartOperation> operations){
+        Map<Long, Integer> result = new LinkedHashMap<>(quantities);
+        for (CartOperation operation : operations){
+            Long productId = operation.getProductId();
+            switch (operation.getType()){
+                case ADD -> result.put(productId, operation.getQuantity());
+                case SET_QUANTITY -> {
+                    if (!result.containsKey(productId)){
+                        throw new DataNotFoundException("장바구니 내 없는 상품: " + productId);
+                    }
+                    result.put(productId, operation.getQuantity());
+                }
+                case REMOVE -> {
+                    if (result.remove(productId) == null){
+                        throw new DataNotFoundException("장바구니 내 없는 상품: " + productId);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
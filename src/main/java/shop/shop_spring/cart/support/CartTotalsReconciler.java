@@ -0,0 +1,81 @@
+package shop.shop_spring.cart.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.repository.CartRepository;
+
+import java.util.List;
+
+/**
+ * 장바구니 합계 정합성 검증
+ * 합계는 항목 변경 시 엔티티에서 갱신하므로 일괄 DELETE, 같은 장바구니 동시 변경, 단가 없는 기존 항목 등으로 어긋날 수 있음
+ * - chunk 단위로 항목 집계와 합계를 비교하는 쿼리 1회 (어긋난 장바구니만 반환)
+ * - 어긋난 장바구니만 항목을 조회해 다시 계산 (변경된 합계는 dirty checking 으로 UPDATE)
+ */
+@Slf4j
+@Component
+public class CartTotalsReconciler {
+    private final CartRepository cartRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.cart.totals.check-chunk-size:500}")
+    private int chunkSize = 500;
+
+    public CartTotalsReconciler(CartRepository cartRepository, PlatformTransactionManager transactionManager) {
+        this.cartRepository = cartRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cart.totals.check-interval-ms:600000}",
+            initialDelayString = "${app.cart.totals.check-initial-delay-ms:60000}")
+    public void check(){
+        long afterId = 0L;
+        int corrected = 0;
+        List<Long> cartIds;
+        do {
+            cartIds = cartRepository.findIdsAfter(afterId, PageRequest.ofSize(chunkSize));
+            if (cartIds.isEmpty()){
+                break;
+            }
+            afterId = cartIds.get(cartIds.size() - 1);
+            try {
+                corrected += reconcile(cartIds);
+            } catch (RuntimeException e){
+                // 다음 주기에 다시 검증
+                log.warn("장바구니 합계 검증 실패: {} ~ {}", cartIds.get(0), afterId, e);
+            }
+        } while (cartIds.size() == chunkSize);
+
+        if (corrected > 0){
+            log.info("장바구니 합계 보정: {}건", corrected);
+        }
+    }
+
+    /**
+     * 장바구니 합계 검증 후 어긋난 합계 보정 (한 트랜잭션)
+     * @return 보정한 장바구니 수
+     */
+    public int reconcile(List<Long> cartIds){
+        Integer corrected = transactionTemplate.execute(status -> {
+            List<Long> inconsistentIds = cartRepository.findIdsWithInconsistentTotals(cartIds);
+            if (inconsistentIds.isEmpty()){
+                return 0;
+            }
+
+            int count = 0;
+            for (Cart cart : cartRepository.findAllByIdInWithItemsAndProducts(inconsistentIds)){
+                if (cart.recalculateTotals()){
+                    count++;
+                }
+            }
+            return count;
+        });
+        return corrected == null ? 0 : corrected;
+    }
+}
@@ -0,0 +1,39 @@
+package shop.shop_spring.category.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shop_spring.category.service.CategoryService;
+import shop.shop_spring.common.response.CustomApiResponse;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/categories")
+@RequiredArgsConstructor
+@Tag(name = "Category Admin API", description = "카테고리 관리자 API")
+public class CategoryAdminApiController {
+
+    private final CategoryService categoryService;
+
+    @Operation(summary = "카테고리 트리 갱신", description = "카테고리 변경 후 모든 서버의 카테고리 트리 스냅샷을 재구축")
+    @PostMapping("/refresh")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "갱신 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    public ResponseEntity<CustomApiResponse<Map<String, String>>> refreshCategoryTree(){
+        long version = categoryService.refreshCategoryTree();
+
+        Map<String, String> responseData = CustomApiResponse.createResponseData("트리 버전", String.valueOf(version));
+        CustomApiResponse<Map<String, String>> response = CustomApiResponse.success("카테고리 트리 갱신 완료", responseData);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -0,0 +1,9 @@
+package shop.shop_spring.category.repository;
+
+/**
+ * 카테고리 트리 구축용 (id, parentId) 프로젝션
+ */
+public interface CategoryParentView {
+    Long getId();
+    Long getParentId();
+}
@@ -1,6 +1,7 @@
 package shop.shop_spring.category.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import shop.shop_spring.category.domain.Category;
 
 import java.util.List;
@@ -8,4 +9,7 @@ import java.util.List;
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByParentIsNull();
     List<Category> findByParentId(Long parentId);
+
+    @Query("SELECT c.id AS id, c.parent.id AS parentId FROM Category c")
+    List<CategoryParentView> findAllParentViews();
 }
@@ -4,17 +4,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import shop.shop_spring.category.repository.CategoryRepository;
 import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.category.tree.CategoryTreeHolder;
 import shop.shop_spring.common.exception.DataNotFoundException;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeHolder categoryTreeHolder;
 
     public List<Category> findByParentIsNull() {
         var result = categoryRepository.findByParentIsNull();
@@ -33,43 +34,17 @@ public class CategoryService {
         return result;
     }
 
-    // 하위 카테고리 조회
+    // 하위 카테고리 조회 (자기 자신 포함) - 메모리의 트리 스냅샷 사용, DB 조회 없음
     public List<Long> getAllDescendantCategoryIds(Long categoryId) {
         if (categoryId == null) return Collections.emptyList();
 
-        List<Category> allCategories = categoryRepository.findAll();
-
-        Optional<Category> targetCategoryOpt = allCategories.stream()
-                .filter( c -> categoryId.equals(c.getId()))
-                .findFirst();
-
-        List<Long> categoryIds = new ArrayList<>();
-        if (targetCategoryOpt.isPresent()) {
-            Category targetCategory = targetCategoryOpt.get();
-            categoryIds.add(targetCategory.getId());
-            findAllDescendantIds(targetCategory, categoryIds, allCategories); // 재귀 함수 호출
-        }
-//        // 기존 코드
-//        Category category = getCategoryOrThrow(categoryId);
-//        List<Long> categoryIds = new ArrayList<>();
-//        categoryIds.add(category.getId());
-//
-//        findAllDescendantIds(category, categoryIds);
-
-        return categoryIds;
+        long[] descendantIds = categoryTreeHolder.current().descendantIdsOf(categoryId);
+        return Arrays.stream(descendantIds).boxed().toList();
     }
 
-    private void findAllDescendantIds(Category parent, List<Long> ids, List<Category> allCategories) {
-        // 메모리에서 부모의 자식 카테고리 찾기
-        List<Category> children = allCategories.stream()
-                .filter(c -> c.getParent() != null && c.getParent().getId().equals(parent.getId()))
-                .toList();
-
-        for (Category child : children) {
-            ids.add(child.getId());
-            // 자식의 자식들을 메모리에서 다시 탐색
-            findAllDescendantIds(child, ids, allCategories);
-        }
+    // 카테고리 변경 후 호출 - 모든 노드의 트리 스냅샷 재구축
+    public long refreshCategoryTree() {
+        return categoryTreeHolder.refreshAndBroadcast().getVersion();
     }
 
     private Category getCategoryOrThrow(Long id){
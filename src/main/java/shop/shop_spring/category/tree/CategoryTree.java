@@ -0,0 +1,86 @@
+package shop.shop_spring.category.tree;
+
+import lombok.Getter;
+import shop.shop_spring.category.repository.CategoryParentView;
+
+import java.util.*;
+
+/**
+ * 카테고리 트리 불변 스냅샷
+ * 각 카테고리마다 자기 자신 + 모든 하위 카테고리 id 배열을 미리 계산해 둠
+ * 카테고리 변경 시 새 스냅샷을 만들어 통째로 교체
+ */
+public final class CategoryTree {
+    private static final long[] EMPTY = new long[0];
+
+    @Getter
+    private final long version;
+    private final Map<Long, long[]> descendants;
+
+    private CategoryTree(long version, Map<Long, long[]> descendants) {
+        this.version = version;
+        this.descendants = descendants;
+    }
+
+    public static CategoryTree empty(){
+        return new CategoryTree(0L, Map.of());
+    }
+
+    public static CategoryTree build(long version, List<CategoryParentView> categories){
+        Map<Long, List<Long>> childrenByParent = new HashMap<>();
+        for (CategoryParentView category : categories){
+            childrenByParent.computeIfAbsent(category.getId(), id -> new ArrayList<>());
+            if (category.getParentId() != null){
+                childrenByParent.computeIfAbsent(category.getParentId(), id -> new ArrayList<>())
+                        .add(category.getId());
+            }
+        }
+
+        Map<Long, long[]> descendants = new HashMap<>(childrenByParent.size() * 2);
+        for (Long id : childrenByParent.keySet()){
+            descendants.put(id, collectPreOrder(id, childrenByParent));
+        }
+        return new CategoryTree(version, Collections.unmodifiableMap(descendants));
+    }
+
+    // 자기 자신을 시작으로 전위 순회 (잘못된 데이터로 순환이 있어도 한 번씩만 방문)
+    private static long[] collectPreOrder(Long rootId, Map<Long, List<Long>> childrenByParent){
+        long[] result = new long[8];
+        int size = 0;
+        Set<Long> visited = new HashSet<>();
+        Deque<Long> stack = new ArrayDeque<>();
+        stack.push(rootId);
+        while (!stack.isEmpty()){
+            Long id = stack.pop();
+            if (!visited.add(id)){
+                continue;
+            }
+            if (size == result.length){
+                result = Arrays.copyOf(result, size * 2);
+            }
+            result[size++] = id;
+
+            List<Long> children = childrenByParent.getOrDefault(id, List.of());
+            for (int i = children.size() - 1; i >= 0; i--){
+                stack.push(children.get(i));
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    public boolean contains(Long categoryId){
+        return descendants.containsKey(categoryId);
+    }
+
+    /**
+     * 자기 자신 포함 하위 카테고리 id (없는 카테고리면 빈 배열)
+     * 반환 배열은 공유되므로 수정 금지
+     */
+    public long[] descendantIdsOf(Long categoryId){
+        return descendants.getOrDefault(categoryId, EMPTY);
+    }
+
+    public int size(){
+        return descendants.size();
+    }
+}
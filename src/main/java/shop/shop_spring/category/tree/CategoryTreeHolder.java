@@ -0,0 +1,79 @@
+package shop.shop_spring.category.tree;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.category.repository.CategoryRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 카테고리 트리 스냅샷 보관
+ * 조회는 락 없이 참조만 읽고, 재구축 시 새 스냅샷으로 원자적 교체
+ * 다른 노드에는 Redis pub/sub 으로 재구축을 알림
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeHolder implements MessageListener {
+    public static final String REFRESH_CHANNEL = "category:tree:refresh";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final AtomicReference<CategoryTree> current = new AtomicReference<>(CategoryTree.empty());
+    // 자신이 보낸 갱신 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean loaded = false;
+
+    @PostConstruct
+    void subscribe(){
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REFRESH_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load(){
+        rebuild();
+    }
+
+    public CategoryTree current(){
+        if (!loaded){ // 시작 직후 구축 전에 들어온 요청
+            rebuild();
+        }
+        return current.get();
+    }
+
+    public synchronized CategoryTree rebuild(){
+        CategoryTree next = CategoryTree.build(current.get().getVersion() + 1, categoryRepository.findAllParentViews());
+        current.set(next);
+        loaded = true;
+        return next;
+    }
+
+    /**
+     * 로컬 재구축 후 클러스터 전체에 갱신 요청
+     */
+    public CategoryTree refreshAndBroadcast(){
+        CategoryTree tree = rebuild();
+        stringRedisTemplate.convertAndSend(REFRESH_CHANNEL, nodeId);
+        return tree;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String senderNodeId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (nodeId.equals(senderNodeId)){
+            return;
+        }
+        rebuild();
+    }
+}
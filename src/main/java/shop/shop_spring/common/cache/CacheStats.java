@@ -0,0 +1,20 @@
+package shop.shop_spring.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+    private String name;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long size;
+    private long maxSize;
+
+    public double getHitRatio(){
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
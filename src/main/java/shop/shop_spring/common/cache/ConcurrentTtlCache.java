@@ -0,0 +1,132 @@
+package shop.shop_spring.common.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한 + TTL 을 가지는 동시성 로컬 캐시 (조회는 잠금 없음)
+ * LocalLruCache 는 조회마다 전역 잠금을 잡으므로 모든 요청이 거치는 캐시에는 이 캐시를 사용
+ * 크기 초과 시 만료된 항목부터, 그래도 넘치면 임의(해시 순서) 항목을 퇴출 -> LRU 가 아님
+ * 퇴출은 한 스레드만 수행하므로 동시 저장 중에는 잠시 최대 크기를 넘을 수 있음
+ */
+public class ConcurrentTtlCache<K, V> {
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ConcurrentTtlCache(String name, int maxSize, long ttlMillis) {
+        this(name, maxSize, ttlMillis, System::nanoTime);
+    }
+
+    ConcurrentTtlCache(String name, int maxSize, long ttlMillis, LongSupplier nanoClock) {
+        if (maxSize < 1 || ttlMillis < 1){
+            throw new IllegalArgumentException("캐시 크기와 TTL 은 1 이상이어야 함");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+    }
+
+    public V get(K key){
+        Entry<V> entry = entries.get(key);
+        if (entry == null){
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(nanoClock.getAsLong())){
+            if (entries.remove(key, entry)){
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public void put(K key, V value){
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+        evictIfNecessary();
+    }
+
+    /**
+     * 항목별 만료 시간 지정 (캐시 TTL 보다 길면 캐시 TTL 적용, 1 미만이면 저장하지 않음)
+     */
+    public void put(K key, V value, long ttlMillis){
+        if (ttlMillis < 1){
+            entries.remove(key);
+            return;
+        }
+        long entryTtlNanos = Math.min(ttlNanos / 1_000_000L, ttlMillis) * 1_000_000L;
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong() + entryTtlNanos));
+        evictIfNecessary();
+    }
+
+    public void invalidate(K key){
+        entries.remove(key);
+    }
+
+    public void invalidateAll(){
+        entries.clear();
+    }
+
+    public int size(){
+        return entries.size();
+    }
+
+    public CacheStats stats(){
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), size(), maxSize);
+    }
+
+    private void evictIfNecessary(){
+        if (entries.size() <= maxSize || !evictionLock.tryLock()){
+            return;
+        }
+        try {
+            long now = nanoClock.getAsLong();
+            removeWhileOverMax(true, now);
+            removeWhileOverMax(false, now);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void removeWhileOverMax(boolean expiredOnly, long now){
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()){
+            Entry<V> entry = iterator.next().getValue();
+            if (expiredOnly && !entry.isExpired(now)){
+                continue;
+            }
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now){
+            return expiresAt - now <= 0;
+        }
+    }
+}
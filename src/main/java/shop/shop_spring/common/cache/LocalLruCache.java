@@ -0,0 +1,109 @@
+package shop.shop_spring.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한(LRU) + TTL 을 가지는 로컬 캐시
+ * 적중/미스/퇴출 횟수를 집계하여 캐시 크기 조정에 사용
+ */
+public class LocalLruCache<K, V> {
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LocalLruCache(String name, int maxSize, long ttlMillis) {
+        this(name, maxSize, ttlMillis, System::nanoTime);
+    }
+
+    LocalLruCache(String name, int maxSize, long ttlMillis, LongSupplier nanoClock) {
+        if (maxSize < 1 || ttlMillis < 1){
+            throw new IllegalArgumentException("캐시 크기와 TTL 은 1 이상이어야 함");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+        // accessOrder = true -> 조회 시 가장 최근 위치로 이동
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public synchronized V get(K key){
+        Entry<V> entry = entries.get(key);
+        if (entry == null){
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt - nanoClock.getAsLong() <= 0){
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value){
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+        evictIfNecessary();
+    }
+
+    /**
+     * 항목별 만료 시간 지정 (캐시 TTL 보다 길면 캐시 TTL 적용, 1 미만이면 저장하지 않음)
+     */
+    public synchronized void put(K key, V value, long ttlMillis){
+        if (ttlMillis < 1){
+            entries.remove(key);
+            return;
+        }
+        long entryTtlNanos = Math.min(ttlNanos / 1_000_000L, ttlMillis) * 1_000_000L;
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong() + entryTtlNanos));
+        evictIfNecessary();
+    }
+
+    public synchronized void invalidate(K key){
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll(){
+        entries.clear();
+    }
+
+    public synchronized int size(){
+        return entries.size();
+    }
+
+    public CacheStats stats(){
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), size(), maxSize);
+    }
+
+    private void evictIfNecessary(){
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()){
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package shop.shop_spring.common.exception;
 import jakarta.mail.MessagingException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,6 +11,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import shop.shop_spring.common.response.CustomApiResponse;
 
 import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler  {
@@ -78,10 +81,11 @@ public class GlobalExceptionHandler  {
     }
 
     @ExceptionHandler(InsufficientStockException.class)
-    public ResponseEntity<CustomApiResponse<Void>> handleInsufficientStockException(Exception e){
+    public ResponseEntity<CustomApiResponse<Map<String, List<Long>>>> handleInsufficientStockException(InsufficientStockException e){
         System.err.println("InsufficientStockException 발생:" + e.getMessage());
-        CustomApiResponse<Void> errorResponse = CustomApiResponse.errorNoData(HttpStatus.FORBIDDEN,
-                "재고 부족");
+        // 재고가 부족한 상품 id 를 함께 응답
+        CustomApiResponse<Map<String, List<Long>>> errorResponse = new CustomApiResponse<>(HttpStatus.BAD_REQUEST.value(),
+                "재고 부족", Map.of("failedProductIds", e.getFailedProductIds()));
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -92,4 +96,31 @@ public class GlobalExceptionHandler  {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
 
     }
+
+    @ExceptionHandler(ProductLockTimeoutException.class)
+    public ResponseEntity<CustomApiResponse<Void>> handleProductLockTimeoutException(ProductLockTimeoutException e){
+        System.err.println("ProductLockTimeoutException 발생: " + e.getMessage() + " " + e.getProductIds());
+        // 같은 상품 주문이 몰림 -> 잠시 후 재시도하도록 503
+        CustomApiResponse<Void> errorResponse = CustomApiResponse.errorNoData(HttpStatus.SERVICE_UNAVAILABLE,
+                "주문이 몰려 처리하지 못했음. 잠시 후 다시 시도");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<CustomApiResponse<Void>> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e){
+        System.err.println("ObjectOptimisticLockingFailureException 발생: " + e.getMessage());
+        // 같은 장바구니/주문을 다른 요청이 먼저 변경함 -> 최신 상태로 다시 시도
+        CustomApiResponse<Void> errorResponse = CustomApiResponse.errorNoData(HttpStatus.CONFLICT,
+                "다른 요청과 동시에 변경되어 처리하지 못했음. 다시 시도");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<CustomApiResponse<Void>> handleInvalidTokenException(InvalidTokenException e){
+        System.err.println("InvalidTokenException 발생: " + e.getMessage());
+        // 만료/사용된 refresh token -> 다시 로그인
+        CustomApiResponse<Void> errorResponse = CustomApiResponse.errorNoData(HttpStatus.UNAUTHORIZED,
+                "유효하지 않은 토큰. 다시 로그인 필요");
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
 }
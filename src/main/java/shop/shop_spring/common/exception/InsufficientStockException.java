@@ -1,5 +1,21 @@
 package shop.shop_spring.common.exception;
 
+import java.util.List;
+
 public class InsufficientStockException extends RuntimeException{
-    public InsufficientStockException(String message){super(message);}
+    // 재고가 부족한 상품 id 목록 (알 수 없으면 빈 목록)
+    private final List<Long> failedProductIds;
+
+    public InsufficientStockException(String message){
+        this(message, List.of());
+    }
+
+    public InsufficientStockException(String message, List<Long> failedProductIds){
+        super(message);
+        this.failedProductIds = List.copyOf(failedProductIds);
+    }
+
+    public List<Long> getFailedProductIds() {
+        return failedProductIds;
+    }
 }
@@ -0,0 +1,7 @@
+package shop.shop_spring.common.exception;
+
+public class InvalidTokenException extends RuntimeException{
+    public InvalidTokenException(String message){
+        super(message);
+    }
+}
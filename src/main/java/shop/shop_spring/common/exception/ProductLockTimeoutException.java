@@ -0,0 +1,17 @@
+package shop.shop_spring.common.exception;
+
+import java.util.List;
+
+public class ProductLockTimeoutException extends RuntimeException{
+    // 잠금을 얻지 못한 상품 id 목록
+    private final List<Long> productIds;
+
+    public ProductLockTimeoutException(String message, List<Long> productIds){
+        super(message);
+        this.productIds = List.copyOf(productIds);
+    }
+
+    public List<Long> getProductIds() {
+        return productIds;
+    }
+}
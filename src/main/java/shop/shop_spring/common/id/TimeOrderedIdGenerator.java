@@ -0,0 +1,71 @@
+package shop.shop_spring.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 정렬 가능한 PK 생성기 (Snowflake 방식)
+ * [41bit 타임스탬프(ms, 2025-01-01 기준)][5bit 노드][7bit 시퀀스] = 53bit
+ * 템플릿 스크립트에 id 가 숫자로 인라인되므로 JavaScript 안전 정수 범위(2^53 - 1) 안에서 생성
+ * 타임스탬프와 시퀀스를 하나의 AtomicLong 에 담아 CAS 로 갱신 (락 없음)
+ * 같은 ms 에 시퀀스를 다 쓰거나 시계가 뒤로 가면 논리 시각을 1ms 씩 앞당겨 단조 증가 유지
+ */
+public final class TimeOrderedIdGenerator {
+    public static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+    public static final int NODE_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile TimeOrderedIdGenerator defaultGenerator =
+            new TimeOrderedIdGenerator(0, System::currentTimeMillis);
+
+    private final long node;
+    private final LongSupplier clock;
+    // (경과 ms << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong lastState = new AtomicLong();
+
+    TimeOrderedIdGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE){
+            throw new IllegalArgumentException("노드 id 는 0 ~ " + MAX_NODE + " 범위여야 함: " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public long nextId(){
+        while (true){
+            long last = lastState.get();
+            long candidate = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long next = candidate > last ? candidate : last + 1;
+            if (lastState.compareAndSet(last, next)){
+                long elapsedMillis = next >>> SEQUENCE_BITS;
+                return (elapsedMillis << (NODE_BITS + SEQUENCE_BITS))
+                        | (node << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public static long next(){
+        return defaultGenerator.nextId();
+    }
+
+    /**
+     * 애플리케이션 시작 시 노드 id 지정 - 여러 서버에서 같은 노드 id 를 쓰면 PK 가 충돌할 수 있음
+     */
+    public static synchronized void configureNode(int node){
+        if (defaultGenerator.node == node){
+            return;
+        }
+        defaultGenerator = new TimeOrderedIdGenerator(node, System::currentTimeMillis);
+    }
+
+    public static long timestampMillisOf(long id){
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeOf(long id){
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+}
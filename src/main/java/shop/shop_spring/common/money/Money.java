@@ -0,0 +1,125 @@
+package shop.shop_spring.common.money;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 (최소 화폐 단위 long, 불변)
+ * 가격/합계 계산을 long 연산으로 처리 (BigDecimal 의 연산마다 생기는 객체/배열 할당 없음)
+ * - 연산은 Math.*Exact 로 overflow 시 ArithmeticException
+ * - 0 과의 연산은 같은 인스턴스를 반환, 그 외 연산은 새 인스턴스 -> 여러 줄 합계 등 반복 계산은 getAmount()/amountOf() 의 long 으로 누적
+ * - JSON(Jackson, Thymeleaf 인라인 포함)에는 숫자로 직렬화
+ * - DB(price 등 precision = 10 컬럼)는 MoneyConverter, API/DTO 는 toBigDecimal() 로 BigDecimal 과 변환
+ */
+public final class Money implements Comparable<Money>, Serializable {
+    // 원 (price 컬럼 scale 0)
+    public static final int SCALE = 0;
+    public static final Money ZERO = new Money(0L);
+
+    private final long amount;
+
+    private Money(long amount) {
+        this.amount = amount;
+    }
+
+    /**
+     * @param amount 최소 화폐 단위 금액
+     */
+    public static Money of(long amount){
+        return amount == 0L ? ZERO : new Money(amount);
+    }
+
+    /**
+     * BigDecimal -> Money (최소 화폐 단위 아래는 반올림, long 범위를 넘으면 ArithmeticException)
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount){
+        return of(amountOf(amount));
+    }
+
+    /**
+     * BigDecimal -> 최소 화폐 단위 long (Money 인스턴스 없이 합계 누적용, 이미 scale 0 이면 할당 없음)
+     */
+    public static long amountOf(BigDecimal amount){
+        if (amount == null){
+            throw new IllegalArgumentException("금액이 없음");
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    // 요청 DTO 등 값이 없을 수 있는 BigDecimal 변환
+    public static Money ofNullable(BigDecimal amount){
+        return amount == null ? null : of(amount);
+    }
+
+    public static BigDecimal toBigDecimalOrNull(Money money){
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    /**
+     * @return 최소 화폐 단위 금액
+     */
+    public long getAmount(){
+        return amount;
+    }
+
+    public Money plus(Money other){
+        if (other.amount == 0L){
+            return this;
+        }
+        return of(Math.addExact(amount, other.amount));
+    }
+
+    public Money minus(Money other){
+        if (other.amount == 0L){
+            return this;
+        }
+        return of(Math.subtractExact(amount, other.amount));
+    }
+
+    public Money times(long multiplier){
+        if (multiplier == 1L){
+            return this;
+        }
+        return of(Math.multiplyExact(amount, multiplier));
+    }
+
+    public boolean isZero(){
+        return amount == 0L;
+    }
+
+    public boolean isNegative(){
+        return amount < 0L;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal(){
+        return BigDecimal.valueOf(amount, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money money)) return false;
+        return amount == money.amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
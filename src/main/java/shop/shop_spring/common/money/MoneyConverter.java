@@ -0,0 +1,22 @@
+package shop.shop_spring.common.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Money <-> DECIMAL 컬럼 (기존 precision = 10 컬럼 그대로 사용)
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return Money.toBigDecimalOrNull(money);
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return Money.ofNullable(amount);
+    }
+}
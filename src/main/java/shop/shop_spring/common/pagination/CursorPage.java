@@ -0,0 +1,24 @@
+package shop.shop_spring.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 조회 결과
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper){
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,45 @@
+package shop.shop_spring.common.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기준 keyset 페이지네이션 커서
+ * 클라이언트에는 내부 구조를 감춘 불투명 토큰(base64url)으로 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode(){
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token){
+        if (token == null || token.isBlank()){
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0){
+                throw new IllegalArgumentException("유효하지 않은 커서");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.parseLong(raw.substring(idx + 1));
+            return new KeysetCursor(createdAt, id);
+        } catch (DateTimeParseException | NumberFormatException e){ // Base64 디코딩 실패는 IllegalArgumentException 그대로 전달
+            throw new IllegalArgumentException("유효하지 않은 커서");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package shop.shop_spring.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import shop.shop_spring.common.id.TimeOrderedIdGenerator;
+
+@Configuration
+public class JpaConfig {
+
+    @Value("${app.jpa.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${app.jpa.fetch-batch-size:100}")
+    private int fetchBatchSize = 100;
+
+    // 서버마다 다르게 지정 (0 ~ 31), 필수 - 미지정 시 시작 실패
+    @Value("${app.id.node-id:-1}")
+    private int nodeId = -1;
+
+    /**
+     * insert/update JDBC 배치 - 주문 상품 등 여러 행 저장 시 왕복 횟수 감소
+     * MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 를 함께 지정해야 다중 행 INSERT 로 전송됨
+     * spring.jpa.properties.hibernate.* 로 지정한 값이 있으면 그 값을 우선
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchPropertiesCustomizer(){
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+
+    /**
+     * 지연 로딩 배치 조회 - 여러 엔티티의 연관/컬렉션을 id IN 한 번으로 로딩 (N+1 방지)
+     * 컬렉션 fetch join 대신 사용 -> 부모 행이 자식 수만큼 중복 전송되지 않음
+     * 엔티티에 @BatchSize 가 있으면 그 값을 우선
+     */
+    @Bean
+    public HibernatePropertiesCustomizer batchFetchPropertiesCustomizer(){
+        return properties -> properties.putIfAbsent("hibernate.default_batch_fetch_size", fetchBatchSize);
+    }
+
+    /**
+     * PK 생성기 노드 id 지정
+     * 호스트 이름 해시 등으로 추정하면 서버 간 노드 id 가 겹쳐 PK 가 충돌할 수 있으므로
+     * 명시적으로 지정되지 않았거나 범위를 벗어나면 시작 시 바로 실패
+     */
+    @PostConstruct
+    void configureIdGenerator(){
+        if (nodeId < 0 || nodeId > TimeOrderedIdGenerator.MAX_NODE){
+            throw new IllegalStateException("app.id.node-id 를 서버마다 겹치지 않게 0 ~ "
+                    + TimeOrderedIdGenerator.MAX_NODE + " 범위로 지정해야 함: " + nodeId);
+        }
+        TimeOrderedIdGenerator.configureNode(nodeId);
+    }
+}
@@ -0,0 +1,31 @@
+package shop.shop_spring.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * OSIV(요청 동안 EntityManager 유지) 적용 범위
+ * 기본 OSIV 는 트랜잭션이 끝나도 요청에 묶인 커넥션을 응답을 쓸 때까지 반환하지 않음
+ * 주문 생성 요청은 커밋 후 PG 요청 결과를 최대 await-timeout-ms 동안 기다리므로 OSIV 에서 제외
+ * -> 주문 트랜잭션 커밋 시 커넥션이 풀로 반환되고, PG 대기 중에는 커넥션을 잡지 않음
+ * 이 빈이 있으면 Spring Boot 기본 OSIV 인터셉터(모든 경로)는 등록되지 않음
+ */
+@Configuration
+public class OpenInViewConfig implements WebMvcConfigurer {
+    // 트랜잭션 밖에서 지연 로딩하지 않는 요청만 (응답은 DTO)
+    static final String[] EXCLUDED_PATHS = {"/orders/single-item/**", "/orders/cart-items"};
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor(){
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(EXCLUDED_PATHS);
+    }
+}
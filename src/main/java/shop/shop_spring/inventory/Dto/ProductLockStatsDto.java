@@ -0,0 +1,21 @@
+package shop.shop_spring.inventory.Dto;
+
+import lombok.*;
+
+/**
+ * 상품 잠금 스트라이프별 경합 지표
+ * 한 스트라이프를 여러 상품이 공유하므로 lastContendedProductId 로 경합 중인 상품을 추정
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLockStatsDto {
+    private int stripe;
+    private int queueLength;            // 현재 대기 중인 스레드 수
+    private long acquisitions;          // 잠금 획득 횟수
+    private long contendedAcquisitions; // 대기 후 획득한 횟수
+    private long timeouts;              // 대기 시간 초과 횟수
+    private long totalWaitMicros;
+    private long maxWaitMicros;
+    private Long lastContendedProductId;
+}
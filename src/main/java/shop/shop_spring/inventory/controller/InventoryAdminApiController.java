@@ -0,0 +1,75 @@
+package shop.shop_spring.inventory.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shop_spring.common.response.CustomApiResponse;
+import shop.shop_spring.inventory.Dto.ProductLockStatsDto;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/inventory")
+@RequiredArgsConstructor
+@Tag(name = "Inventory Admin API", description = "재고 관리자 API")
+public class InventoryAdminApiController {
+
+    private final InventoryService inventoryService;
+    private final StripedProductLockManager productLockManager;
+
+    @Operation(summary = "핫 상품 등록", description = "현재 재고로 Redis 재고 카운터를 만들어 이후 주문은 카운터에서 차감 (프로모션 시작 전 등록)")
+    @PostMapping("/hot-products/{productId}")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "등록 성공"),
+            @ApiResponse(responseCode = "400", description = "Redis 재고 모드 비활성화 또는 상품 없음"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    public ResponseEntity<CustomApiResponse<Map<String, String>>> registerHotProduct(@PathVariable("productId") Long productId){
+        boolean registered = inventoryService.registerHotProduct(productId);
+
+        Map<String, String> responseData = CustomApiResponse.createResponseData("신규 등록", String.valueOf(registered));
+        CustomApiResponse<Map<String, String>> response = CustomApiResponse.success("핫 상품 등록 완료", responseData);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @Operation(summary = "핫 상품 해제", description = "Redis 재고 카운터 값을 DB 에 반영하고 카운터 삭제 (프로모션 종료 후 해제)")
+    @DeleteMapping("/hot-products/{productId}")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "해제 성공"),
+            @ApiResponse(responseCode = "400", description = "Redis 재고 모드 비활성화 또는 등록되지 않은 상품"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    public ResponseEntity<CustomApiResponse<Void>> unregisterHotProduct(@PathVariable("productId") Long productId){
+        inventoryService.unregisterHotProduct(productId);
+
+        CustomApiResponse<Void> response = CustomApiResponse.successNoData("핫 상품 해제 완료");
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @Operation(summary = "상품 잠금 경합 지표", description = "스트라이프별 누적 대기 시간/현재 대기열 길이 (대기 시간이 긴 순), 핫 상품 파악용")
+    @GetMapping("/lock-stats")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    public ResponseEntity<CustomApiResponse<List<ProductLockStatsDto>>> getLockStats(@RequestParam(value = "limit", defaultValue = "20") int limit){
+        List<ProductLockStatsDto> stats = productLockManager.stats(Math.max(1, limit));
+
+        CustomApiResponse<List<ProductLockStatsDto>> response = CustomApiResponse.success("상품 잠금 경합 지표 조회 성공", stats);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -0,0 +1,181 @@
+package shop.shop_spring.inventory.lock;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.common.exception.ProductLockTimeoutException;
+import shop.shop_spring.inventory.Dto.ProductLockStatsDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 재고 변경 경로용 스트라이프 잠금 (프로세스 내)
+ * - 고정 크기 잠금 배열, 상품 id 해시로 스트라이프 결정 -> 상품 수와 무관하게 메모리 일정
+ * - 여러 상품을 잠글 때 항상 스트라이프 번호 오름차순으로 획득
+ *   (한 스트라이프를 여러 상품이 공유하므로 상품 id 순서만으로는 획득 순서가 보장되지 않음)
+ * - 잠금 순서가 같으므로 장바구니 상품 순서가 반대인 주문끼리도 교착되지 않고, 같은 상품 주문은 DB 행 잠금 전에 직렬화
+ * - 재고 변경 문장을 보내는 동안만 잡음 (이후에는 DB 행 잠금이 커밋까지 보호), 트랜잭션 전체 동안 유지하지 않음
+ * - 대기 시간 초과 시 이미 잡은 잠금을 모두 풀고 ProductLockTimeoutException
+ * - 스트라이프별 대기 시간/대기열 길이를 기록해 경합이 심한(핫) 상품 파악
+ */
+@Component
+public class StripedProductLockManager {
+
+    @Value("${app.inventory.lock.stripes:256}")
+    private int stripeCount = 256;
+
+    @Value("${app.inventory.lock.timeout-ms:3000}")
+    private long timeoutMs = 3000;
+
+    private Stripe[] stripes;
+
+    @PostConstruct
+    void init(){
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1){
+            throw new IllegalArgumentException("스트라이프 수는 2의 거듭제곱이어야 함: " + stripeCount);
+        }
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++){
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public int stripeOf(Long productId){
+        // 연속된 id 가 인접 스트라이프에 몰리지 않도록 섞음
+        long h = productId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & (stripes.length - 1);
+    }
+
+    /**
+     * 상품 잠금 획득 - 반환된 핸들을 close 하면 해제
+     */
+    public Locked lock(Collection<Long> productIds){
+        // 스트라이프 번호 오름차순, 같은 스트라이프는 한 번만 (대표 상품 id 는 가장 작은 id)
+        TreeMap<Integer, Long> byStripe = new TreeMap<>();
+        for (Long productId : new TreeSet<>(productIds)){
+            byStripe.putIfAbsent(stripeOf(productId), productId);
+        }
+
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        int[] acquired = new int[byStripe.size()];
+        int count = 0;
+        try {
+            for (Map.Entry<Integer, Long> entry : byStripe.entrySet()){
+                if (!stripes[entry.getKey()].acquire(entry.getValue(), timeoutNanos)){
+                    throw new ProductLockTimeoutException("상품 잠금 대기 시간 초과", List.of(entry.getValue()));
+                }
+                acquired[count++] = entry.getKey();
+            }
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            unlock(acquired, count);
+            throw new IllegalStateException("상품 잠금 대기 중 인터럽트", e);
+        } catch (RuntimeException e){
+            unlock(acquired, count);
+            throw e;
+        }
+        return new Locked(acquired, count);
+    }
+
+    /**
+     * 스트라이프별 경합 지표 (사용된 스트라이프만, 누적 대기 시간이 긴 순)
+     */
+    public List<ProductLockStatsDto> stats(int limit){
+        List<ProductLockStatsDto> result = new ArrayList<>();
+        for (int i = 0; i < stripes.length; i++){
+            Stripe stripe = stripes[i];
+            int queueLength = stripe.lock.getQueueLength();
+            long acquisitions = stripe.acquisitions.sum();
+            long timeouts = stripe.timeouts.sum();
+            if (queueLength == 0 && acquisitions == 0 && timeouts == 0){
+                continue;
+            }
+            result.add(new ProductLockStatsDto(
+                    i,
+                    queueLength,
+                    acquisitions,
+                    stripe.contended.sum(),
+                    timeouts,
+                    TimeUnit.NANOSECONDS.toMicros(stripe.totalWaitNanos.sum()),
+                    TimeUnit.NANOSECONDS.toMicros(stripe.maxWaitNanos.get()),
+                    stripe.lastContendedProductId));
+        }
+        result.sort(Comparator.comparingLong(ProductLockStatsDto::getTotalWaitMicros)
+                .thenComparingInt(ProductLockStatsDto::getQueueLength)
+                .reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    private void unlock(int[] acquired, int count){
+        // 획득 역순으로 해제
+        for (int i = count - 1; i >= 0; i--){
+            stripes[acquired[i]].lock.unlock();
+        }
+    }
+
+    /**
+     * 획득한 잠금 핸들 (잠금을 획득한 스레드에서 close)
+     */
+    public final class Locked implements AutoCloseable {
+        private final int[] acquired;
+        private final int count;
+        private boolean closed;
+
+        private Locked(int[] acquired, int count) {
+            this.acquired = acquired;
+            this.count = count;
+        }
+
+        @Override
+        public void close() {
+            if (closed){
+                return;
+            }
+            closed = true;
+            unlock(acquired, count);
+        }
+    }
+
+    private static final class Stripe {
+        // 공정 잠금 - 핫 상품에서 늦게 온 요청이 대기 중인 요청을 계속 앞지르지 않도록
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder contended = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private volatile Long lastContendedProductId;
+
+        private boolean acquire(Long productId, long timeoutNanos) throws InterruptedException {
+            // 경합 없으면 바로 획득 (대기 시간 측정 생략)
+            if (!lock.hasQueuedThreads() && lock.tryLock()){
+                acquisitions.increment();
+                return true;
+            }
+
+            lastContendedProductId = productId;
+            long start = System.nanoTime();
+            boolean locked = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+            long waited = System.nanoTime() - start;
+            totalWaitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            if (locked){
+                acquisitions.increment();
+                contended.increment();
+            } else {
+                timeouts.increment();
+            }
+            return locked;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package shop.shop_spring.inventory.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 플래시 세일용 Redis 재고 카운터
+ * 핫 상품으로 등록된 상품만 inventory:stock:{id} 해시(available, reserved)에 재고를 두고
+ * 예약/확정/반환을 Lua 스크립트로 원자 처리 -> 같은 상품 행에 대한 DB 잠금 경합 제거
+ * 변경된 상품 id 는 dirty 집합에 모아 RedisStockReconciler 가 DB 로 write-behind
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisStockCounter {
+    static final String KEY_PREFIX = "inventory:stock:";
+    static final String DIRTY_KEY = "inventory:stock:dirty";
+    static final String PROCESSING_KEY = "inventory:stock:dirty:processing";
+    static final String SYNC_LOCK_KEY = "inventory:stock:sync-lock";
+
+    private static final long UNMANAGED = -1L;
+    private static final long INSUFFICIENT = 0L;
+
+    // KEYS[1] = dirty 집합, KEYS[i+1] = 상품 재고 키 / ARGV[2i-1] = 상품 id, ARGV[2i] = 수량
+    // 관리 중인 상품 중 하나라도 부족하면 아무것도 차감하지 않음
+    // 반환: {성공 여부, 상품별 코드(1 예약, 0 부족, -1 미관리)...}
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            local codes = {}
+            local ok = 1
+            for i = 1, n do
+              local available = redis.call('HGET', KEYS[i + 1], 'available')
+              if not available then
+                codes[i] = -1
+              elseif tonumber(available) < tonumber(ARGV[2 * i]) then
+                codes[i] = 0
+                ok = 0
+              else
+                codes[i] = 1
+              end
+            end
+            if ok == 1 then
+              for i = 1, n do
+                if codes[i] == 1 then
+                  local quantity = tonumber(ARGV[2 * i])
+                  redis.call('HINCRBY', KEYS[i + 1], 'available', -quantity)
+                  redis.call('HINCRBY', KEYS[i + 1], 'reserved', quantity)
+                  redis.call('SADD', KEYS[1], ARGV[2 * i - 1])
+                end
+              end
+            end
+            table.insert(codes, 1, ok)
+            return codes
+            """, List.class);
+
+    // 반환: 상품별 코드(1 반환, -1 미관리)
+    private static final RedisScript<List> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local codes = {}
+            for i = 1, #KEYS - 1 do
+              local key = KEYS[i + 1]
+              if redis.call('EXISTS', key) == 1 then
+                local quantity = tonumber(ARGV[2 * i])
+                local reserved = tonumber(redis.call('HGET', key, 'reserved') or '0')
+                redis.call('HINCRBY', key, 'available', quantity)
+                redis.call('HSET', key, 'reserved', math.max(reserved - quantity, 0))
+                redis.call('SADD', KEYS[1], ARGV[2 * i - 1])
+                codes[i] = 1
+              else
+                codes[i] = -1
+              end
+            end
+            return codes
+            """, List.class);
+
+    // 결제 완료 - 예약분을 판매 확정 (가용 재고는 예약 시 이미 차감됨)
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>("""
+            local confirmed = 0
+            for i = 1, #KEYS do
+              local reserved = redis.call('HGET', KEYS[i], 'reserved')
+              if reserved then
+                redis.call('HSET', KEYS[i], 'reserved', math.max(tonumber(reserved) - tonumber(ARGV[i]), 0))
+                confirmed = confirmed + 1
+              end
+            end
+            return confirmed
+            """, Long.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'available', ARGV[1], 'reserved', 0)
+            return 1
+            """, Long.class);
+
+    // 반환: 해제 시점의 가용 재고, 미관리면 -1
+    private static final RedisScript<Long> UNLOAD_SCRIPT = new DefaultRedisScript<>("""
+            local available = redis.call('HGET', KEYS[1], 'available')
+            if not available then
+              return -1
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            return tonumber(available)
+            """, Long.class);
+
+    private static final RedisScript<List> EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            local codes = {}
+            for i = 1, #KEYS do
+              codes[i] = redis.call('EXISTS', KEYS[i])
+            end
+            return codes
+            """, List.class);
+
+    // 반환: 상품별 가용 재고, 미관리면 -1
+    private static final RedisScript<List> AVAILABLE_SCRIPT = new DefaultRedisScript<>("""
+            local values = {}
+            for i = 1, #KEYS do
+              values[i] = tonumber(redis.call('HGET', KEYS[i], 'available') or '-1')
+            end
+            return values
+            """, List.class);
+
+    // dirty 에서 꺼낸 상품 id 를 처리 중 집합으로 이동 (원자적)
+    // KEYS[1] = dirty 집합, KEYS[2] = 처리 중 집합 / ARGV[1] = 최대 개수
+    private static final RedisScript<List> CLAIM_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('SPOP', KEYS[1], ARGV[1])
+            if #ids > 0 then
+              redis.call('SADD', KEYS[2], unpack(ids))
+            end
+            return ids
+            """, List.class);
+
+    // 처리 중 집합에 남은 상품 id 를 dirty 로 되돌림, 반환: 되돌린 수
+    private static final RedisScript<Long> RECOVER_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('SMEMBERS', KEYS[2])
+            if #ids > 0 then
+              redis.call('SADD', KEYS[1], unpack(ids))
+              redis.call('DEL', KEYS[2])
+            end
+            return #ids
+            """, Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.inventory.redis.enabled:false}")
+    private boolean enabled = false;
+
+    public boolean isEnabled(){
+        return enabled;
+    }
+
+    /**
+     * 관리 중인 상품만 원자적으로 예약
+     * @param quantities 상품 id -> 수량 (상품 id 오름차순)
+     */
+    public Reservation reserve(Map<Long, Integer> quantities){
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<?> result = stringRedisTemplate.execute(RESERVE_SCRIPT,
+                keysWithDirty(productIds), idQuantityArgs(quantities));
+
+        boolean applied = toLong(result.get(0)) == 1L;
+        List<Long> failed = new ArrayList<>();
+        Map<Long, Integer> reserved = new LinkedHashMap<>();
+        Map<Long, Integer> unmanaged = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size(); i++){
+            Long productId = productIds.get(i);
+            long code = toLong(result.get(i + 1));
+            if (code == UNMANAGED){
+                unmanaged.put(productId, quantities.get(productId));
+            } else if (code == INSUFFICIENT){
+                failed.add(productId);
+            } else if (applied){
+                reserved.put(productId, quantities.get(productId));
+            }
+        }
+        return new Reservation(failed, reserved, unmanaged);
+    }
+
+    /**
+     * 예약 반환
+     * @return Redis 에서 관리하지 않는 상품(그 사이 해제된 상품 포함) -> DB 로 반환해야 함
+     */
+    public Map<Long, Integer> release(Map<Long, Integer> quantities){
+        if (quantities.isEmpty()){
+            return Map.of();
+        }
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<?> result = stringRedisTemplate.execute(RELEASE_SCRIPT,
+                keysWithDirty(productIds), idQuantityArgs(quantities));
+
+        Map<Long, Integer> unmanaged = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size(); i++){
+            if (toLong(result.get(i)) == UNMANAGED){
+                unmanaged.put(productIds.get(i), quantities.get(productIds.get(i)));
+            }
+        }
+        return unmanaged;
+    }
+
+    public void confirm(Map<Long, Integer> quantities){
+        if (quantities.isEmpty()){
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            keys.add(KEY_PREFIX + productId);
+            args.add(String.valueOf(quantity));
+        });
+        stringRedisTemplate.execute(CONFIRM_SCRIPT, keys, args.toArray());
+    }
+
+    public List<Long> managedIds(Collection<Long> productIds){
+        List<Long> ids = new ArrayList<>(productIds);
+        if (ids.isEmpty()){
+            return List.of();
+        }
+        List<?> result = stringRedisTemplate.execute(EXISTS_SCRIPT, stockKeys(ids));
+
+        List<Long> managed = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++){
+            if (toLong(result.get(i)) == 1L){
+                managed.add(ids.get(i));
+            }
+        }
+        return managed;
+    }
+
+    /**
+     * 핫 상품 등록 - 이미 등록돼 있으면 기존 카운터 유지
+     * @return 새로 등록했으면 true
+     */
+    public boolean load(Long productId, int stockQuantity){
+        Long loaded = stringRedisTemplate.execute(LOAD_SCRIPT,
+                List.of(KEY_PREFIX + productId), String.valueOf(stockQuantity));
+        return loaded != null && loaded == 1L;
+    }
+
+    /**
+     * 핫 상품 해제
+     * @return 해제 시점 가용 재고, 관리 중이 아니었으면 null
+     */
+    public Long unload(Long productId){
+        Long available = stringRedisTemplate.execute(UNLOAD_SCRIPT,
+                List.of(KEY_PREFIX + productId, DIRTY_KEY), String.valueOf(productId));
+        return (available == null || available == UNMANAGED) ? null : available;
+    }
+
+    public Long available(Long productId){
+        Object available = stringRedisTemplate.opsForHash().get(KEY_PREFIX + productId, "available");
+        return available == null ? null : Long.valueOf(available.toString());
+    }
+
+    /**
+     * 여러 상품의 가용 재고를 한 번에 조회
+     * @return 상품 id -> 가용 재고 (관리 중인 상품만)
+     */
+    public Map<Long, Long> availableAll(List<Long> productIds){
+        if (productIds.isEmpty()){
+            return Map.of();
+        }
+        List<?> result = stringRedisTemplate.execute(AVAILABLE_SCRIPT, stockKeys(productIds));
+
+        Map<Long, Long> available = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size(); i++){
+            long value = toLong(result.get(i));
+            if (value != UNMANAGED){
+                available.put(productIds.get(i), value);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * 동기화할 상품 id 를 dirty 에서 꺼내 처리 중 집합으로 이동
+     * 반영이 커밋되면 completeDirty, 실패하면 markDirty 후 completeDirty 로 처리 중 집합에서 제거
+     */
+    public List<Long> claimDirty(int count){
+        List<?> claimed = stringRedisTemplate.execute(CLAIM_DIRTY_SCRIPT, List.of(DIRTY_KEY, PROCESSING_KEY), String.valueOf(count));
+        if (claimed == null){
+            return List.of();
+        }
+        return claimed.stream().map(id -> Long.valueOf(id.toString())).toList();
+    }
+
+    public void completeDirty(Collection<Long> productIds){
+        if (productIds.isEmpty()){
+            return;
+        }
+        stringRedisTemplate.opsForSet().remove(PROCESSING_KEY,
+                productIds.stream().map(String::valueOf).toArray(Object[]::new));
+    }
+
+    /**
+     * 이전 동기화 노드가 반영 도중 중단되어 처리 중 집합에 남은 상품 id 를 dirty 로 되돌림
+     * 동기화 잠금을 가진 노드만 호출 (잠금 보유 중에는 다른 노드가 처리 중인 항목이 없음)
+     * @return 되돌린 상품 수
+     */
+    public long recoverDirty(){
+        Long recovered = stringRedisTemplate.execute(RECOVER_DIRTY_SCRIPT, List.of(DIRTY_KEY, PROCESSING_KEY));
+        return recovered == null ? 0L : recovered;
+    }
+
+    public void markDirty(Collection<Long> productIds){
+        if (productIds.isEmpty()){
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY,
+                productIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // 여러 서버가 동시에 DB 로 쓰면서 오래된 값이 나중에 덮어쓰지 않도록 동기화는 한 노드만 수행
+    public boolean tryLockSync(String owner, Duration lease){
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(SYNC_LOCK_KEY, owner, lease));
+    }
+
+    /**
+     * 동기화 잠금 연장 (배치마다 호출)
+     * @return 잠금을 아직 가지고 있으면 true, 만료되어 다른 노드로 넘어갔으면 false
+     */
+    public boolean renewSync(String owner, Duration lease){
+        Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(SYNC_LOCK_KEY), owner, String.valueOf(lease.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void unlockSync(String owner){
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(SYNC_LOCK_KEY), owner);
+    }
+
+    private List<String> stockKeys(List<Long> productIds){
+        return productIds.stream().map(id -> KEY_PREFIX + id).toList();
+    }
+
+    private List<String> keysWithDirty(List<Long> productIds){
+        List<String> keys = new ArrayList<>(productIds.size() + 1);
+        keys.add(DIRTY_KEY);
+        keys.addAll(stockKeys(productIds));
+        return keys;
+    }
+
+    private Object[] idQuantityArgs(Map<Long, Integer> quantities){
+        List<String> args = new ArrayList<>(quantities.size() * 2);
+        quantities.forEach((productId, quantity) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+        return args.toArray();
+    }
+
+    private static long toLong(Object value){
+        return ((Number) value).longValue();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Reservation {
+        // 재고 부족으로 실패한 상품 (비어 있지 않으면 아무것도 예약되지 않음)
+        private final List<Long> failedProductIds;
+        // Redis 에서 예약된 상품
+        private final Map<Long, Integer> reserved;
+        // Redis 관리 대상이 아니어서 DB 로 예약해야 하는 상품
+        private final Map<Long, Integer> unmanaged;
+    }
+}
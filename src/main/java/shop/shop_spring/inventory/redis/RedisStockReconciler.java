@@ -0,0 +1,99 @@
+package shop.shop_spring.inventory.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.repository.ProductRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 재고 카운터 -> DB write-behind 동기화
+ * dirty 집합에 쌓인 상품의 현재 가용 재고를 product.stock_quantity 로 덮어씀
+ * 가용 재고는 트랜잭션 전에 배치 단위로 한 번에 조회 (트랜잭션 동안 Redis 왕복 없음)
+ * 꺼낸 상품 id 는 커밋 전까지 처리 중 집합에 남김 -> 실패한 배치는 dirty 집합에 되돌려 다음 주기에 재시도,
+ * 반영 도중 서버가 죽은 경우는 다음 동기화 노드가 시작 시 dirty 로 되돌림
+ * 동기화 잠금은 배치마다 연장하여 반영이 길어져도 다른 노드가 동시에 반영하지 않음
+ */
+@Slf4j
+@Component
+public class RedisStockReconciler {
+    private final RedisStockCounter stockCounter;
+    private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${app.inventory.redis.sync-batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${app.inventory.redis.sync-interval-ms:1000}")
+    private long syncIntervalMs = 1000;
+
+    public RedisStockReconciler(RedisStockCounter stockCounter,
+                                ProductRepository productRepository,
+                                ProductDetailCache productDetailCache,
+                                PlatformTransactionManager transactionManager) {
+        this.stockCounter = stockCounter;
+        this.productRepository = productRepository;
+        this.productDetailCache = productDetailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.redis.sync-interval-ms:1000}")
+    public void sync(){
+        if (!stockCounter.isEnabled()){
+            return;
+        }
+        Duration lease = Duration.ofMillis(syncIntervalMs * 10);
+        if (!stockCounter.tryLockSync(nodeId, lease)){
+            return;
+        }
+        try {
+            long recovered = stockCounter.recoverDirty();
+            if (recovered > 0){
+                log.warn("중단된 Redis 재고 DB 동기화 복구, 다시 반영: {}건", recovered);
+            }
+
+            List<Long> productIds = stockCounter.claimDirty(batchSize);
+            while (!productIds.isEmpty()){
+                syncBatch(productIds);
+                if (productIds.size() < batchSize){
+                    break;
+                }
+                // 잠금이 만료되어 다른 노드로 넘어갔으면 나머지는 그 노드에 맡김
+                if (!stockCounter.renewSync(nodeId, lease)){
+                    log.warn("Redis 재고 동기화 잠금 만료, 이번 주기 반영 중단");
+                    return;
+                }
+                productIds = stockCounter.claimDirty(batchSize);
+            }
+        } finally {
+            stockCounter.unlockSync(nodeId);
+        }
+    }
+
+    void syncBatch(List<Long> productIds){
+        try {
+            // dirty 에서 꺼낸 뒤 읽으므로 그 사이 변경도 포함됨 (다시 dirty 로 표시되어 한 번 더 반영될 뿐)
+            // 해제된 상품은 빠짐 - 해제 시점에 DB 로 반영됨
+            Map<Long, Long> available = stockCounter.availableAll(productIds);
+            transactionTemplate.executeWithoutResult(status -> {
+                available.forEach((productId, quantity) -> productRepository.overwriteStock(productId, quantity.intValue()));
+                productDetailCache.evictAll(productIds);
+            });
+        } catch (RuntimeException e){
+            log.warn("Redis 재고 DB 동기화 실패, 다음 주기에 재시도: {}", productIds, e);
+            stockCounter.markDirty(productIds);
+        }
+        // 커밋(또는 dirty 로 되돌린) 뒤에 처리 중 집합에서 제거
+        stockCounter.completeDirty(productIds);
+    }
+}
@@ -0,0 +1,41 @@
+package shop.shop_spring.inventory.service;
+
+import java.util.Map;
+
+public interface InventoryService {
+
+    /**
+     * 재고 예약(차감)
+     * 상품 id 오름차순으로 조건부 차감하여 다중 상품 주문 간 교착 방지
+     * 하나라도 부족하면 부족한 상품 id 목록과 함께 InsufficientStockException (호출 트랜잭션 롤백으로 전부 취소)
+     * 호출 트랜잭션에 참여하여 주문과 함께 커밋/롤백, Redis 관리 상품은 롤백 시 카운터로 반환
+     * @param quantitiesByProductId 상품 id -> 수량
+     */
+    void reserve(Map<Long, Integer> quantitiesByProductId);
+
+    /**
+     * 예약 재고 반환 (주문 취소, 결제 실패) - 호출 트랜잭션에 참여
+     * Redis 관리 상품은 커밋 후 카운터로 반환
+     * @param quantitiesByProductId 상품 id -> 수량
+     */
+    void release(Map<Long, Integer> quantitiesByProductId);
+
+    /**
+     * 결제 완료로 예약 확정 - Redis 관리 상품의 예약 수량만 정리 (DB 재고는 예약 시 이미 차감됨)
+     * @param quantitiesByProductId 상품 id -> 수량
+     */
+    void confirm(Map<Long, Integer> quantitiesByProductId);
+
+    /**
+     * 핫 상품 등록 - 현재 DB 재고로 Redis 카운터를 만들고 이후 주문은 카운터에서 차감
+     * 프로모션 시작 전에 등록하고, 등록 중 상품 재고 수정은 해제 후 진행
+     * @return 새로 등록했으면 true, 이미 등록된 상품이면 false
+     */
+    boolean registerHotProduct(Long productId);
+
+    /**
+     * 핫 상품 해제 - 카운터의 가용 재고를 DB 에 반영하고 카운터 삭제
+     * 해제 후 반환되는 예약분은 DB 로 반환됨
+     */
+    void unregisterHotProduct(Long productId);
+}
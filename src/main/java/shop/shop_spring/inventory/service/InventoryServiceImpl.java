@@ -0,0 +1,194 @@
+package shop.shop_spring.inventory.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.shop_spring.common.exception.DataNotFoundException;
+import shop.shop_spring.common.exception.InsufficientStockException;
+import shop.shop_spring.common.transaction.AfterCommit;
+import shop.shop_spring.inventory.redis.RedisStockCounter;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.repository.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class InventoryServiceImpl implements InventoryService {
+    private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+    private final RedisStockCounter stockCounter;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public InventoryServiceImpl(ProductRepository productRepository,
+                                ProductDetailCache productDetailCache,
+                                RedisStockCounter stockCounter,
+                                PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productDetailCache = productDetailCache;
+        this.stockCounter = stockCounter;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    @Override
+    public void reserve(Map<Long, Integer> quantitiesByProductId) {
+        TreeMap<Long, Integer> ordered = sortByProductId(quantitiesByProductId);
+        if (ordered.isEmpty()){
+            return;
+        }
+
+        // 핫 상품은 Redis 카운터에서 먼저 예약, 나머지만 DB 로 예약
+        TreeMap<Long, Integer> inDatabase = ordered;
+        Map<Long, Integer> inCounter = Map.of();
+        if (stockCounter.isEnabled()){
+            RedisStockCounter.Reservation reservation = stockCounter.reserve(ordered);
+            if (!reservation.getFailedProductIds().isEmpty()){
+                List<Long> failedProductIds = reservation.getFailedProductIds();
+                throw new InsufficientStockException("상품 재고 부족: " + failedProductIds, failedProductIds);
+            }
+            inCounter = reservation.getReserved();
+            inDatabase = new TreeMap<>(reservation.getUnmanaged());
+        }
+
+        try {
+            reserveInDatabase(inDatabase);
+        } catch (RuntimeException e){
+            releaseFromCounter(inCounter);
+            throw e;
+        }
+
+        // DB 차감은 주문 트랜잭션과 함께 롤백됨, Redis 카운터 예약분만 롤백 시 반환
+        if (!inCounter.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()){
+            Map<Long, Integer> reservedInCounter = inCounter;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED){
+                        releaseFromCounter(reservedInCounter);
+                    }
+                }
+            });
+        }
+    }
+
+    @Transactional
+    @Override
+    public void release(Map<Long, Integer> quantitiesByProductId) {
+        TreeMap<Long, Integer> ordered = sortByProductId(quantitiesByProductId);
+        if (ordered.isEmpty()){
+            return;
+        }
+
+        // Redis 는 트랜잭션에 참여하지 않으므로 커밋 후 반환 (롤백 시 이중 반환 방지)
+        if (stockCounter.isEnabled()){
+            List<Long> managedIds = stockCounter.managedIds(ordered.keySet());
+            if (!managedIds.isEmpty()){
+                TreeMap<Long, Integer> inCounter = new TreeMap<>();
+                managedIds.forEach(productId -> inCounter.put(productId, ordered.remove(productId)));
+                AfterCommit.run(() -> releaseFromCounter(inCounter));
+            }
+        }
+
+        if (!ordered.isEmpty()){
+            increaseAll(ordered);
+        }
+    }
+
+    @Override
+    public void confirm(Map<Long, Integer> quantitiesByProductId) {
+        if (!stockCounter.isEnabled()){
+            return;
+        }
+        TreeMap<Long, Integer> ordered = sortByProductId(quantitiesByProductId);
+        if (ordered.isEmpty()){
+            return;
+        }
+        AfterCommit.run(() -> stockCounter.confirm(ordered));
+    }
+
+    @Override
+    public boolean registerHotProduct(Long productId) {
+        checkCounterEnabled();
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new DataNotFoundException("상품을 찾을 수 없음"));
+        return stockCounter.load(productId, product.getStockQuantity());
+    }
+
+    @Override
+    public void unregisterHotProduct(Long productId) {
+        checkCounterEnabled();
+        Long available = stockCounter.unload(productId);
+        if (available == null){
+            throw new IllegalArgumentException("핫 상품으로 등록되지 않은 상품: " + productId);
+        }
+
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                productRepository.overwriteStock(productId, available.intValue());
+                productDetailCache.evict(productId);
+            });
+        } catch (RuntimeException e){
+            // DB 반영 실패 시 카운터 복구 (재고 유실 방지)
+            stockCounter.load(productId, available.intValue());
+            throw e;
+        }
+    }
+
+    private void reserveInDatabase(TreeMap<Long, Integer> ordered){
+        if (ordered.isEmpty()){
+            return;
+        }
+
+        // 주문 트랜잭션 안에서 차감 - 커넥션 하나로 처리하고 주문과 원자적으로 커밋/롤백
+        // (PG 요청은 커밋 후 outbox 에서 보내므로 행 잠금은 주문 저장 동안만 유지)
+        // 상품 수와 관계없이 조건부 차감 UPDATE 를 배치 한 번으로 전송
+        // 일부만 차감된 경우 예외로 트랜잭션 전체가 롤백되어 함께 취소됨
+        List<Long> failedProductIds = productRepository.decreaseStocks(ordered);
+        if (!failedProductIds.isEmpty()){
+            throw new InsufficientStockException("상품 재고 부족: " + failedProductIds, failedProductIds);
+        }
+        productDetailCache.evictAll(new ArrayList<>(ordered.keySet()));
+    }
+
+    // 카운터로 반환, 그 사이 핫 상품에서 해제된 상품은 DB 로 반환
+    private void releaseFromCounter(Map<Long, Integer> quantities){
+        if (quantities.isEmpty()){
+            return;
+        }
+        Map<Long, Integer> unmanaged = stockCounter.release(quantities);
+        if (!unmanaged.isEmpty()){
+            requiresNewTransaction.executeWithoutResult(status -> increaseAll(new TreeMap<>(unmanaged)));
+        }
+    }
+
+    private void increaseAll(TreeMap<Long, Integer> ordered){
+        ordered.forEach(productRepository::increaseStock);
+        productDetailCache.evictAll(new ArrayList<>(ordered.keySet()));
+    }
+
+    private void checkCounterEnabled(){
+        if (!stockCounter.isEnabled()){
+            throw new IllegalArgumentException("Redis 재고 모드가 비활성화 되어 있음");
+        }
+    }
+
+    private TreeMap<Long, Integer> sortByProductId(Map<Long, Integer> quantitiesByProductId){
+        TreeMap<Long, Integer> ordered = new TreeMap<>();
+        quantitiesByProductId.forEach((productId, quantity) -> {
+            if (quantity == null || quantity < 1){
+                throw new IllegalArgumentException("잘못된 상품 수량: " + productId);
+            }
+            ordered.merge(productId, quantity, Integer::sum);
+        });
+        return ordered;
+    }
+}
@@ -5,7 +5,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.mail.MessagingException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -21,6 +20,8 @@ import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.product.Dto.ProductUpdateRequest;
 import shop.shop_spring.product.service.ProductService;
 import shop.shop_spring.security.auth.AuthService;
+import shop.shop_spring.security.auth.AuthTokens;
+import shop.shop_spring.security.jwt.TokenCookies;
 import shop.shop_spring.security.model.MyUser;
 
 import java.io.UnsupportedEncodingException;
@@ -38,25 +39,40 @@ public class MemberApiController {
     private final ProductService productService;
     private final AuthService authService;
 
-    @Operation(summary = "로그인 기능", description = "사용자 인증 후 jwt 반환")
+    @Operation(summary = "로그인 기능", description = "사용자 인증 후 jwt 반환 (refresh token 은 쿠키로 전달)")
     @PostMapping("/login")
     @ResponseBody
     public String doLogin(@RequestBody LoginRequest request,
                           HttpServletResponse httpServletResponse) {
-        String jwt = authService.login(request.getUsername(), request.getPassword());
+        AuthTokens tokens = authService.login(request.getUsername(), request.getPassword());
 
-        addJwtCookieToResponse(httpServletResponse, jwt);
+        addTokenCookiesToResponse(httpServletResponse, tokens);
 
-        return jwt;
+        return tokens.getAccessToken();
     }
 
-    private void addJwtCookieToResponse(HttpServletResponse httpServletResponse, String jwt){
-        // 쿠키에 jwt 저장
-        var cookie = new Cookie("jwt", jwt);
-        cookie.setMaxAge(60 * 60);
-        cookie.setHttpOnly(true); // js 등에서 접근 x
-        cookie.setPath("/");
-        httpServletResponse.addCookie(cookie);
+    @Operation(summary = "토큰 재발급", description = "refresh token 쿠키로 새 jwt 와 refresh token 발급 (사용한 refresh token 은 폐기)")
+    @PostMapping("/token/refresh")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재발급 성공"),
+            @ApiResponse(responseCode = "401", description = "만료되었거나 이미 사용된 refresh token"),
+    })
+    @ResponseBody
+    public String refreshToken(@CookieValue(name = TokenCookies.REFRESH_TOKEN, required = false) String refreshToken,
+                               HttpServletResponse httpServletResponse) {
+        AuthTokens tokens = authService.refresh(refreshToken);
+
+        addTokenCookiesToResponse(httpServletResponse, tokens);
+
+        return tokens.getAccessToken();
+    }
+
+    private void addTokenCookiesToResponse(HttpServletResponse httpServletResponse, AuthTokens tokens){
+        // 쿠키에 jwt, refresh token 저장
+        httpServletResponse.addCookie(TokenCookies.create(TokenCookies.ACCESS_TOKEN,
+                tokens.getAccessToken(), tokens.getAccessTokenTtlSeconds()));
+        httpServletResponse.addCookie(TokenCookies.create(TokenCookies.REFRESH_TOKEN,
+                tokens.getRefreshToken(), tokens.getRefreshTokenTtlSeconds()));
     }
 
     @Operation(summary = "등록 상품 정보 수정", description = "회원이 등록한 상품의 정보를 수정 후 저장")
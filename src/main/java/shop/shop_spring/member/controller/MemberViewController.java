@@ -5,15 +5,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import shop.shop_spring.common.pagination.CursorPage;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.product.Dto.ProductSearchCondition;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
 import shop.shop_spring.security.model.MyUser;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/members")
 @RequiredArgsConstructor
@@ -21,6 +21,8 @@ public class MemberViewController {
     private final MemberServiceImpl memberService;
     private final ProductService productService;
 
+    private static final int PAGE_SIZE = 20;
+
     @GetMapping("/register")
     public String createForm(){
         return "members/register";
@@ -59,16 +61,18 @@ public class MemberViewController {
     }
 
     @GetMapping("/my-page/products")
-    public String showProducts(Authentication auth, Model model){
+    public String showProducts(@RequestParam(value = "cursor", required = false) String cursor,
+                               Authentication auth, Model model){
         MyUser myUser = (MyUser) auth.getPrincipal();
 
         ProductSearchCondition searchCondition = new ProductSearchCondition();
         searchCondition.setSellerUsername(myUser.getUsername());
 
-        List<Product> products = productService.searchProducts(searchCondition);
+        CursorPage<ProductSummaryDto> page = productService.searchProductPage(searchCondition, cursor, PAGE_SIZE);
 
         model.addAttribute("username", myUser.getUsername());
-        model.addAttribute("products", products);
+        model.addAttribute("products", page.getContent());
+        model.addAttribute("nextCursor", page.getNextCursor());
 
         return "members/my-page/products";
     }
@@ -78,6 +82,7 @@ public class MemberViewController {
         Product product = productService.findById(id);
 
         model.addAttribute("product", product);
+        model.addAttribute("description", productService.findDescription(id));
 
         return "members/my-page/edit-product";
     }
@@ -2,7 +2,6 @@ package shop.shop_spring.member.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
-import shop.shop_spring.cart.domain.Cart;
 import shop.shop_spring.member.domain.enums.Role;
 
 import java.time.LocalDate;
@@ -27,13 +26,6 @@ public class Member {
     @Enumerated(EnumType.STRING)
     private Role role;
 
-    @OneToOne(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
-    private Cart cart;
-
-    public void setCart(Cart cart){
-        this.cart = cart;
-        if(cart != null && cart.getMember() != this){
-            cart.setMember(this);
-        }
-    }
+    // 장바구니는 Cart 쪽에서만 member_id 로 참조 (mappedBy OneToOne 은 지연 로딩이 안 되어 회원 조회마다 장바구니 조회가 추가됨)
+    // 장바구니가 필요한 곳에서 CartRepository 로 회원 id 기준 조회
 }
@@ -3,6 +3,7 @@ package shop.shop_spring.order.Dto;
 import lombok.*;
 import shop.shop_spring.order.domain.Delivery;
 import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.common.money.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -43,7 +44,7 @@ public class OrderDetailDto {
                 .orderId(order.getId())
                 .ordererName(order.getOrderer().getName()) // Orderer(Member) 엔티티가 로딩되어 있어야 함
                 .orderDate(order.getOrderDate())
-                .totalAmount(order.getTotalAmount())
+                .totalAmount(Money.toBigDecimalOrNull(order.getTotalAmount()))
                 .status(order.getStatus())
                 .paymentMethod(order.getPaymentMethod())
                 // 배송 정보 (Delivery 엔티티가 로딩되어 있어야 함)
@@ -22,8 +22,8 @@ public class OrderItemDto {
                 .productId(orderItem.getProduct().getId())
                 .productName(orderItem.getProductTitleAtOrder())
                 .quantity(orderItem.getCount())
-                .orderPrice(orderItem.getOrderPrice())
-                .totalPrice(orderItem.getOrderPrice().multiply(BigDecimal.valueOf(orderItem.getCount())))
+                .orderPrice(orderItem.getOrderPrice().toBigDecimal())
+                .totalPrice(orderItem.getLineAmount().toBigDecimal())
                 .build();
     }
 }
@@ -2,6 +2,7 @@ package shop.shop_spring.order.Dto;
 
 import lombok.*;
 import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.common.money.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,4 +16,12 @@ public class OrderSummaryDto {
     private LocalDateTime orderDate;
     private BigDecimal totalAmount;
     private Order.OrderStatus status;
+    private Long itemCount; // 주문 상품 종류 수
+    private String firstItemTitle; // 대표 상품명 (첫 번째 주문 상품)
+
+    // 목록 조회 쿼리 생성자 프로젝션용 (엔티티 주문 금액은 Money)
+    public OrderSummaryDto(Long orderId, LocalDateTime orderDate, Money totalAmount, Order.OrderStatus status,
+                           Long itemCount, String firstItemTitle){
+        this(orderId, orderDate, Money.toBigDecimalOrNull(totalAmount), status, itemCount, firstItemTitle);
+    }
 }
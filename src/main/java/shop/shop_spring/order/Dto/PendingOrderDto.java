@@ -0,0 +1,16 @@
+package shop.shop_spring.order.Dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대기 주문 만료 시각 재구축용 (주문 id + 주문일)
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingOrderDto {
+    private Long orderId;
+    private LocalDateTime orderDate;
+}
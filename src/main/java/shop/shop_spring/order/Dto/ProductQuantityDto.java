@@ -0,0 +1,14 @@
+package shop.shop_spring.order.Dto;
+
+import lombok.*;
+
+/**
+ * 상품별 주문 수량 합계 (여러 주문의 예약 재고 일괄 반환용)
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuantityDto {
+    private Long productId;
+    private Long quantity;
+}
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -14,20 +15,29 @@ import shop.shop_spring.order.Dto.CartItemOrderRequest;
 import shop.shop_spring.order.Dto.SingleItemOrderRequest;
 import shop.shop_spring.order.sevice.OrderServiceImpl;
 import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
+import shop.shop_spring.payment.service.PaymentOutboxService;
 import shop.shop_spring.security.model.MyUser;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/orders")
 @RequiredArgsConstructor
 @Tag(name = "order API", description = "주문 관련 API(주문 조회, 주문 등)")
 public class OrderApiController {
     private final OrderServiceImpl orderService;
+    private final PaymentOutboxService paymentOutboxService;
+
+    // PG 요청 결과를 기다리는 최대 시간, 넘으면 202 + 상태 조회 API 로 재확인
+    @Value("${app.payment.outbox.await-timeout-ms:3000}")
+    private long awaitTimeoutMs = 3000;
 
     @Operation(summary = "단일 상품 구매", description = "단일 상품을 정해진 수량 만큼 구매")
     @PostMapping("/single-item/{productId}")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "주문 시작 및 결제 요청 정보 생성"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청(상품 재고 부족, PG사 결제 이슈)"),
+            @ApiResponse(responseCode = "202", description = "주문 접수, 결제 요청 처리 중(결제 요청 상태 조회 API 로 재확인)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(상품 재고 부족)"),
     })
     public ResponseEntity placeSingleItemOrder(
             @PathVariable Long productId,
@@ -35,24 +45,22 @@ public class OrderApiController {
             Authentication auth){
         MyUser member = (MyUser) auth.getPrincipal();
 
-        PaymentInitiationResponse initiationResponse = orderService.placeOrder(
+        Long orderId = orderService.placeOrder(
                 member.getId(),
                 productId,
                 request.getQuantity(),
                 request.getDeliveryInfo(),
                 request.getPaymentMethod());
 
-        CustomApiResponse<PaymentInitiationResponse> response = CustomApiResponse.success(
-                "주문 시작 및 결제 요청 정보 생성", initiationResponse);
-
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return initiationResponseOf(orderId);
     }
 
     @Operation(summary = "장바구니 상품 구매", description = "장바구니 내의 상품들을 정해진 수량만큼 구매")
     @PostMapping("/cart-items")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "주문 시작 및 결제 요청 정보 생성"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청(특정 상품 재고 부족, PG사 결제 이슈)"),
+            @ApiResponse(responseCode = "202", description = "주문 접수, 결제 요청 처리 중(결제 요청 상태 조회 API 로 재확인)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(특정 상품 재고 부족)"),
     })
     public ResponseEntity placeCartItemOrder(
             @RequestBody CartItemOrderRequest request,
@@ -60,15 +68,12 @@ public class OrderApiController {
 
         MyUser member = (MyUser) auth.getPrincipal();
 
-        PaymentInitiationResponse initiationResponse = orderService.placeCartOrder(
+        Long orderId = orderService.placeCartOrder(
                 member.getId(),
                 request.getDeliveryInfo(),
                 request.getPaymentMethod());
 
-        CustomApiResponse<PaymentInitiationResponse> response = CustomApiResponse.success(
-                "주문 시작 및 결제 요청 정보 생성", initiationResponse);
-
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return initiationResponseOf(orderId);
     }
 
 
@@ -87,4 +92,34 @@ public class OrderApiController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @Operation(summary = "결제 요청 상태 조회", description = "주문 응답이 pending 인 경우 PG 결제 요청 처리 결과를 재확인")
+    @GetMapping("/{orderId}/payment")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "결제 요청 상태 조회 성공(pending 이면 처리 중)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(결제 요청 존재x)"),
+    })
+    public ResponseEntity getPaymentInitiation(@PathVariable("orderId") Long orderId, Authentication auth){
+        MyUser member = (MyUser) auth.getPrincipal();
+
+        PaymentInitiationResponse initiationResponse = paymentOutboxService.getInitiation(member.getId(), orderId);
+
+        CustomApiResponse<PaymentInitiationResponse> response = CustomApiResponse.success(
+                "결제 요청 상태 조회", initiationResponse);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    private ResponseEntity initiationResponseOf(Long orderId){
+        // 주문 생성 경로는 OSIV 제외(OpenInViewConfig) -> 주문 트랜잭션 커밋 시 커넥션 반환 후 대기
+        PaymentInitiationResponse initiationResponse = paymentOutboxService.awaitInitiation(orderId, Duration.ofMillis(awaitTimeoutMs));
+
+        if (initiationResponse.isPending()){
+            CustomApiResponse<PaymentInitiationResponse> response = new CustomApiResponse<>(
+                    HttpStatus.ACCEPTED.value(), "주문 접수, 결제 요청 처리 중", initiationResponse);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        }
+
+        CustomApiResponse<PaymentInitiationResponse> response = CustomApiResponse.success(
+                "주문 시작 및 결제 요청 정보 생성", initiationResponse);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
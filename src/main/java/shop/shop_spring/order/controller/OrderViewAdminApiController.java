@@ -0,0 +1,40 @@
+package shop.shop_spring.order.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shop_spring.common.response.CustomApiResponse;
+import shop.shop_spring.order.view.OrderViewProjector;
+
+@RestController
+@RequestMapping("/api/admin/orders")
+@RequiredArgsConstructor
+@Tag(name = "Order Admin API", description = "주문 관리자 API")
+public class OrderViewAdminApiController {
+
+    private final OrderViewProjector orderViewProjector;
+
+    @Operation(summary = "주문 읽기 모델 재구축", description = "전체 주문으로 주문 상세 읽기 모델(order_view)을 다시 생성 (도입 시 기존 주문 채우기), 백그라운드에서 실행되며 완료 건수는 로그로 확인")
+    @PostMapping("/views/rebuild")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "재구축 시작"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "409", description = "이미 재구축 중")
+    })
+    public ResponseEntity<CustomApiResponse<Void>> rebuildOrderViews(){
+        if (!orderViewProjector.rebuildAsync()){
+            CustomApiResponse<Void> response = CustomApiResponse.errorNoData(HttpStatus.CONFLICT, "이미 주문 읽기 모델 재구축 중");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+
+        CustomApiResponse<Void> response = new CustomApiResponse<>(HttpStatus.ACCEPTED.value(), "주문 읽기 모델 재구축 시작", null);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
@@ -7,26 +7,30 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import shop.shop_spring.common.pagination.CursorPage;
 import shop.shop_spring.order.Dto.OrderDetailDto;
 import shop.shop_spring.order.Dto.OrderSummaryDto;
 import shop.shop_spring.order.sevice.OrderService;
 import shop.shop_spring.order.sevice.OrderServiceImpl;
 import shop.shop_spring.security.model.MyUser;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/orders")
 @RequiredArgsConstructor
 public class OrderViewController {
+    private static final int PAGE_SIZE = 20;
+
     private final OrderServiceImpl orderService;
 
     @GetMapping("/my-orders")
-    public String getMyOrderPage(Authentication auth, Model model){
+    public String getMyOrderPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                 Authentication auth, Model model){
         MyUser member = (MyUser) auth.getPrincipal();
-        List<OrderSummaryDto> orderSummaries = orderService.getOrdersByMember(member.getId());
+        CursorPage<OrderSummaryDto> page = orderService.getOrdersByMember(member.getId(), cursor, PAGE_SIZE);
 
-        model.addAttribute("orderSummaries", orderSummaries);
+        model.addAttribute("orderSummaries", page.getContent());
+        model.addAttribute("nextCursor", page.getNextCursor());
         return "members/my-page/orders";
     }
 
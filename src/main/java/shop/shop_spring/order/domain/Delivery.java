@@ -2,6 +2,7 @@ package shop.shop_spring.order.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import shop.shop_spring.common.id.TimeOrderedId;
 
 
 @Entity
@@ -14,7 +15,7 @@ import lombok.*;
 public class Delivery {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "delivery_name")
     private Long id;
 
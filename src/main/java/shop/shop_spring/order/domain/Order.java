@@ -2,15 +2,21 @@ package shop.shop_spring.order.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import shop.shop_spring.common.id.TimeOrderedId;
 import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.common.money.MoneyConverter;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_orderer_order_date", columnList = "orderer_id, order_date"), // 회원 주문 목록 조회
+        @Index(name = "idx_orders_status", columnList = "status") // 결제 대기 주문 만료 처리 (전체 스캔 방지)
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +24,7 @@ import java.util.List;
 @ToString(exclude = {"orderer", "orderItems", "delivery"})
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // DB에 위임하여 PK 자동 생성 (MySQL 기준)
+    @TimeOrderedId // 애플리케이션에서 시간순 PK 생성 (insert 배치 가능)
     @Column(name = "order_id")
     private Long id;
 
@@ -34,18 +40,26 @@ public class Order {
     private OrderStatus status; // 주문 상태
 
     @Column(name = "total_amount", nullable = false, precision = 10)
-    private BigDecimal totalAmount; // 주문 금액
+    @Convert(converter = MoneyConverter.class)
+    private Money totalAmount; // 주문 금액
 
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Delivery delivery;  // 배송 상태
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100) // 여러 주문의 주문 상품을 주문 id IN 으로 한 번에 로딩 (컬렉션 fetch join 대신)
     @Builder.Default
     private List<OrderItem> orderItems = new ArrayList<>(); // 주문한 상품들
 
     @Column(name = "payment_method", nullable = false, length = 50)
     private String paymentMethod;   // 결제 수단
 
+    // 낙관적 잠금 - 동시에 들어온 결제 콜백 중 하나만 상태 변경에 성공
+    // (primitive 타입: 신규 여부는 id 로 판단되어 persist 경로 유지)
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     
     public void setDelivery(Delivery delivery){
         this.delivery = delivery;
@@ -66,7 +80,8 @@ public class Order {
         PAID("결제 완료"),           // 결제 완료
         SHIPPED("배송 중"),          // 배송 중
         DELIVERED("배송 완료"),      // 배송 완료
-        CANCELED("취소 됨");         // 취소됨
+        CANCELED("취소 됨"),         // 취소됨
+        REFUND_REQUIRED("환불 필요"); // 만료/취소 후 결제 성공 통보가 도착함 (재고는 이미 반환됨, 환불 대상)
         private final String displayName;
 
         OrderStatus(String displayName) {
@@ -2,9 +2,11 @@ package shop.shop_spring.order.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import shop.shop_spring.common.id.TimeOrderedId;
 import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.common.money.MoneyConverter;
 
-import java.math.BigDecimal;
 
 @Entity
 @Table(name = "order_item")
@@ -15,7 +17,7 @@ import java.math.BigDecimal;
 @ToString(exclude = {"order", "product"})
 public class OrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "order_item_id")
     private Long id;
 
@@ -28,11 +30,17 @@ public class OrderItem {
     private Product product; // 주문된 상품
 
     @Column(name = "order_price", nullable = false, precision = 10)
-    private BigDecimal orderPrice; // 가격
+    @Convert(converter = MoneyConverter.class)
+    private Money orderPrice; // 가격
 
     @Column(name = "count", nullable = false)
     private Integer count; // 개수
 
     @Column(name = "product_name_at_order", nullable = false, length = 255)
     private String productTitleAtOrder; // 주문 당시 가격
+
+    // 주문 상품 금액 (가격 * 개수)
+    public Money getLineAmount(){
+        return orderPrice.times(count);
+    }
 }
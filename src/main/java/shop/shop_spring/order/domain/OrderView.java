@@ -0,0 +1,102 @@
+package shop.shop_spring.order.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+import shop.shop_spring.common.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상세 조회용 읽기 모델 (주문 1건 = 1행, 주문 상품은 JSON 으로 함께 저장)
+ * 주문 상태가 바뀌는 트랜잭션 안에서 함께 갱신 -> 상세 조회는 주문 id 한 건 조회로 끝남
+ */
+@Entity
+@Table(name = "order_view")
+@Getter @Setter
+@NoArgsConstructor
+@ToString(exclude = "itemsJson")
+public class OrderView implements Persistable<Long> {
+    @Id
+    @Column(name = "order_id")
+    private Long orderId; // 주문 id 그대로 사용
+
+    @Column(name = "orderer_id", nullable = false)
+    private Long ordererId; // 접근 권한 확인용
+
+    @Column(name = "orderer_name", nullable = false)
+    private String ordererName;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 50)
+    private Order.OrderStatus status;
+
+    @Column(name = "total_amount", nullable = false, precision = 10)
+    private BigDecimal totalAmount;
+
+    @Column(name = "payment_method", nullable = false, length = 50)
+    private String paymentMethod;
+
+    @Column(name = "receiver_name", nullable = false)
+    private String receiverName;
+
+    @Column(name = "address", nullable = false)
+    private String address;
+
+    @Column(name = "delivery_message")
+    private String deliveryMessage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status", nullable = false, length = 50)
+    private Delivery.DeliveryStatus deliveryStatus;
+
+    @Lob
+    @Column(name = "items_json", nullable = false)
+    private String itemsJson; // List<OrderItemDto>
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 항상 새 행으로 저장 (id 를 직접 지정하므로 merge 의 사전 SELECT 방지)
+    @Transient
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public static OrderView of(Order order, String itemsJson){
+        OrderView view = new OrderView();
+        view.orderId = order.getId();
+        view.ordererId = order.getOrderer().getId();
+        view.ordererName = order.getOrderer().getName();
+        view.orderDate = order.getOrderDate();
+        view.status = order.getStatus();
+        view.totalAmount = Money.toBigDecimalOrNull(order.getTotalAmount());
+        view.paymentMethod = order.getPaymentMethod();
+        view.receiverName = order.getDelivery().getReceiverName();
+        view.address = order.getDelivery().getAddress();
+        view.deliveryMessage = order.getDelivery().getDeliveryMessage();
+        view.deliveryStatus = order.getDelivery().getStatus();
+        view.itemsJson = itemsJson;
+        view.updatedAt = LocalDateTime.now();
+        return view;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew(){
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,160 @@
+package shop.shop_spring.order.expiry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.shop_spring.inventory.service.InventoryService;
+import shop.shop_spring.order.Dto.PendingOrderDto;
+import shop.shop_spring.order.Dto.ProductQuantityDto;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.repository.OrderRepository;
+import shop.shop_spring.order.view.OrderViewProjector;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 대기(PENDING) 주문 만료 처리
+ * - 주문 시 만료 시각을 타이밍 휠에 등록, 매 tick 만료된 주문만 꺼내 처리 (주문 테이블 스캔 없음)
+ * - 만료 주문은 chunk 단위 일괄 UPDATE 로 주문/배송 취소 후 예약 재고 반환
+ * - 휠은 메모리에만 있으므로 시작 시 DB 의 결제 대기 주문으로 재구축 (status 인덱스 사용)
+ */
+@Slf4j
+@Component
+public class PendingOrderExpiryScheduler {
+    private final OrderRepository orderRepository;
+    private final InventoryService inventoryService;
+    private final OrderViewProjector orderViewProjector;
+    private final TransactionTemplate transactionTemplate;
+
+    private PendingOrderTimingWheel wheel;
+
+    @Value("${app.order.pending-ttl-minutes:30}")
+    private long pendingTtlMinutes = 30;
+
+    @Value("${app.order.expiry.tick-ms:1000}")
+    private long tickMs = 1000;
+
+    @Value("${app.order.expiry.wheel-size:512}")
+    private int wheelSize = 512;
+
+    @Value("${app.order.expiry.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${app.order.expiry.retry-delay-ms:60000}")
+    private long retryDelayMs = 60000;
+
+    public PendingOrderExpiryScheduler(OrderRepository orderRepository,
+                                       InventoryService inventoryService,
+                                       OrderViewProjector orderViewProjector,
+                                       PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.inventoryService = inventoryService;
+        this.orderViewProjector = orderViewProjector;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void init(){
+        wheel = new PendingOrderTimingWheel(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 결제 대기 주문 등록 - 주문일 + pending-ttl-minutes 에 만료
+     * 롤백된 주문이 등록되어도 만료 시 해당 주문이 없으므로 무시됨
+     */
+    public void register(Long orderId, LocalDateTime orderDate){
+        wheel.schedule(orderId, toEpochMillis(orderDate.plusMinutes(pendingTtlMinutes)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        long afterId = 0L;
+        int count = 0;
+        List<PendingOrderDto> pendingOrders;
+        do {
+            pendingOrders = orderRepository.findPendingOrdersAfter(Order.OrderStatus.PENDING, afterId, PageRequest.ofSize(chunkSize));
+            for (PendingOrderDto pendingOrder : pendingOrders){
+                register(pendingOrder.getOrderId(), pendingOrder.getOrderDate());
+                afterId = pendingOrder.getOrderId();
+            }
+            count += pendingOrders.size();
+        } while (pendingOrders.size() == chunkSize);
+
+        log.info("결제 대기 주문 만료 휠 재구축: {}건", count);
+    }
+
+    @Scheduled(fixedDelayString = "${app.order.expiry.tick-ms:1000}")
+    public void tick(){
+        long now = System.currentTimeMillis();
+        List<Long> expiredIds = wheel.advance(now);
+        if (expiredIds.isEmpty()){
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(pendingTtlMinutes);
+        for (int from = 0; from < expiredIds.size(); from += chunkSize){
+            List<Long> chunk = expiredIds.subList(from, Math.min(from + chunkSize, expiredIds.size()));
+            try {
+                int canceled = expire(chunk, cutoff);
+                if (canceled > 0){
+                    log.info("결제 대기 만료 주문 취소: {}건", canceled);
+                }
+            } catch (RuntimeException e){
+                // 다음 기회에 다시 시도
+                log.error("결제 대기 주문 만료 처리 실패, 재시도 예약: {}건", chunk.size(), e);
+                chunk.forEach(orderId -> wheel.schedule(orderId, now + retryDelayMs));
+            }
+        }
+    }
+
+    /**
+     * 만료 주문 일괄 취소 (한 트랜잭션)
+     * @param orderIds 만료 후보 주문 id
+     * @param cutoff 이 시각 이전에 주문된 결제 대기 주문만 취소
+     * @return 취소된 주문 수
+     */
+    public int expire(Collection<Long> orderIds, LocalDateTime cutoff){
+        Integer canceled = transactionTemplate.execute(status -> {
+            // 1. 아직 결제 대기 중인 주문만 잠금 (그 사이 결제/취소된 주문 제외)
+            List<Long> expiredIds = orderRepository.lockExpiredOrderIds(orderIds, Order.OrderStatus.PENDING, cutoff);
+            if (expiredIds.isEmpty()){
+                return 0;
+            }
+
+            // 2. 반환할 예약 재고 (상품별 합계)
+            Map<Long, Integer> quantities = new HashMap<>();
+            for (ProductQuantityDto productQuantity : orderRepository.sumQuantitiesByProduct(expiredIds)){
+                quantities.put(productQuantity.getProductId(), productQuantity.getQuantity().intValue());
+            }
+
+            // 3. 주문/배송 일괄 취소 후 재고 반환
+            orderRepository.updateStatus(expiredIds, Order.OrderStatus.PENDING, Order.OrderStatus.CANCELED);
+            orderRepository.updateDeliveryStatus(expiredIds, Delivery.DeliveryStatus.CANCELED);
+            orderViewProjector.updateStatus(expiredIds, Order.OrderStatus.CANCELED, Delivery.DeliveryStatus.CANCELED);
+            inventoryService.release(quantities);
+            return expiredIds.size();
+        });
+        return canceled == null ? 0 : canceled;
+    }
+
+    public int registeredCount(){
+        return wheel.size();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime){
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,97 @@
+package shop.shop_spring.order.expiry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 결제 대기 주문 만료 시각을 관리하는 해시 타이밍 휠
+ * - 슬롯 = 만료 tick % 휠 크기, 등록/만료 처리 모두 O(1) (DB 스캔 없이 만료 대상만 꺼냄)
+ * - 휠 한 바퀴보다 먼 만료 시각은 같은 슬롯에 두고 해당 tick 이 될 때까지 건너뜀
+ * - 주문 상태는 모름 -> 만료된 id 라도 DB 갱신 시 PENDING 인 주문만 취소
+ */
+public class PendingOrderTimingWheel {
+    private final long tickMillis;
+    private final int mask;
+    private final ArrayDeque<Entry>[] slots;
+    private long currentTick; // 마지막으로 처리한 tick
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public PendingOrderTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0){
+            throw new IllegalArgumentException("tick 은 0 보다 커야 함: " + tickMillis);
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1){
+            throw new IllegalArgumentException("휠 크기는 2의 거듭제곱이어야 함: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.slots = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++){
+            slots[i] = new ArrayDeque<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 만료 시각 등록 (이미 지난 시각이면 다음 tick 에 만료)
+     */
+    public synchronized void schedule(Long orderId, long deadlineMillis){
+        // 올림 -> 만료 시각 이전에 꺼내지지 않음
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        slots[(int) (deadlineTick & mask)].add(new Entry(orderId, deadlineTick));
+        size++;
+    }
+
+    /**
+     * nowMillis 까지 tick 을 진행하고 만료된 주문 id 반환
+     */
+    public synchronized List<Long> advance(long nowMillis){
+        long targetTick = nowMillis / tickMillis;
+        List<Long> expired = new ArrayList<>();
+        if (targetTick <= currentTick){
+            return expired;
+        }
+
+        if (targetTick - currentTick >= slots.length){
+            // 휠 한 바퀴 이상 멈춰 있었음 (GC, 일시 정지 등) -> 전체 슬롯 한 번만 확인
+            for (ArrayDeque<Entry> slot : slots){
+                drainExpired(slot, targetTick, expired);
+            }
+        } else {
+            for (long tick = currentTick + 1; tick <= targetTick; tick++){
+                drainExpired(slots[(int) (tick & mask)], tick, expired);
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    public synchronized int size(){
+        return size;
+    }
+
+    private void drainExpired(ArrayDeque<Entry> slot, long tick, List<Long> expired){
+        Iterator<Entry> iterator = slot.iterator();
+        while (iterator.hasNext()){
+            Entry entry = iterator.next();
+            if (entry.deadlineTick <= tick){
+                iterator.remove();
+                expired.add(entry.orderId);
+                size--;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Long orderId;
+        private final long deadlineTick;
+
+        private Entry(Long orderId, long deadlineTick) {
+            this.orderId = orderId;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
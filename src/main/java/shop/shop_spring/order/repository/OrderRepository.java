@@ -1,16 +1,35 @@
 package shop.shop_spring.order.repository;
 
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import shop.shop_spring.order.Dto.OrderSummaryDto;
+import shop.shop_spring.order.Dto.PendingOrderDto;
+import shop.shop_spring.order.Dto.ProductQuantityDto;
+import shop.shop_spring.order.domain.Delivery;
 import shop.shop_spring.order.domain.Order;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    // 주문 목록 한 행 = 주문 요약 + 주문 상품 수 + 대표 상품명 (엔티티 로딩 없이 DTO 로 바로 조회)
+    String ORDER_SUMMARY_SELECT = "SELECT new shop.shop_spring.order.Dto.OrderSummaryDto(" +
+            "o.id, o.orderDate, o.totalAmount, o.status, " +
+            "(SELECT COUNT(oi) FROM OrderItem oi WHERE oi.order = o), " +
+            "(SELECT fi.productTitleAtOrder FROM OrderItem fi WHERE fi.order = o " +
+            "AND fi.id = (SELECT MIN(mi.id) FROM OrderItem mi WHERE mi.order = o))) " +
+            "FROM Order o ";
+
     /**
      * 주문 Id로 주문 조회
      * 주문 관련 상품과 상품에 대한 상품 엔티티까지 Fetch Join하여 한 번에 로딩
@@ -23,14 +42,48 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             "WHERE o.id = :orderId")
     Optional<Order> findByIdWithOrderItemsAndProduct(@Param("orderId") Long orderId);
 
-    @Query("SELECT DISTINCT o FROM Order o " +
-            "JOIN FETCH o.orderer m " +           // 주문자(Member) Fetch Join
-            "JOIN FETCH o.delivery d " +           // 배송 정보(Delivery) Fetch Join
-            "JOIN FETCH o.orderItems oi " +        // 주문 상품(OrderItem) 컬렉션 Fetch Join
-            "JOIN FETCH oi.product p " +           // 각 주문 상품의 Product Fetch Join
-            "WHERE o.id = :orderId")
+    /**
+     * 결제 콜백 일괄 처리용 - 여러 주문을 배송 정보와 함께 로딩
+     * 주문 상품은 접근 시 배치 조회 (주문 id IN 한 번), 상품 id 는 프록시에서 바로 읽으므로 상품 조회 없음
+     * (컬렉션 fetch join 은 주문/배송 컬럼이 주문 상품 수만큼 중복되어 전송됨)
+     * @param orderIds
+     * @return
+     */
+    @EntityGraph(attributePaths = {"delivery"})
+    @Query("SELECT o FROM Order o WHERE o.id IN :orderIds")
+    List<Order> findAllByIdInWithDelivery(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문 상세 로딩 - 주문자/배송(단일 연관)만 조인하고 주문 상품/상품은 배치 조회
+     * 주문 상품 수와 관계없이 쿼리 3번 (주문+주문자+배송 1행, 주문 상품 N행, 상품 IN 조회)
+     * 주문 1행을 주문 상품 수만큼 반복하는 카테시안 결과와 DISTINCT 중복 제거가 없음
+     * 주문 상품/상품은 트랜잭션 안에서 접근해야 함
+     */
+    @EntityGraph(attributePaths = {"orderer", "delivery"})
+    @Query("SELECT o FROM Order o WHERE o.id = :orderId")
     Optional<Order> findByIdWithAllDetails(@Param("orderId") Long orderId);
 
+    /**
+     * 주문 읽기 모델 재구축용 - 여러 주문을 상세 조회와 같은 방식으로 로딩 (주문 상품/상품은 chunk 단위 배치 조회)
+     */
+    @EntityGraph(attributePaths = {"orderer", "delivery"})
+    @Query("SELECT o FROM Order o WHERE o.id IN :orderIds")
+    List<Order> findAllByIdInWithAllDetails(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 읽기 모델 재구축 chunk 잠금 (SELECT ... FOR SHARE)
+     * 재구축 트랜잭션이 끝날 때까지 상태 변경을 막고, 진행 중인 상태 변경은 커밋을 기다린 뒤 읽음
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :orderIds")
+    List<Long> lockForShare(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문 id keyset 조회 (읽기 모델 재구축 시 chunk 단위로 나누기 위함)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
 
     /**
      * 특정 주문 ID로 주문 엔티티를 조회하며,
@@ -48,5 +101,67 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             "WHERE o.id = :orderId")
     Optional<Order> findByIdWithOrdererItemsAndProducts(@Param("orderId") Long orderId);
 
-    List<Order> findByOrdererId(Long memberId);
+    /**
+     * 회원 주문 목록 첫 페이지 (최신순)
+     * (orderer_id, order_date) 인덱스 사용
+     * @param pageable 조회 건수 제한용 (정렬은 쿼리에 고정)
+     */
+    @Query(ORDER_SUMMARY_SELECT +
+            "WHERE o.orderer.id = :memberId " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<OrderSummaryDto> findSummariesByOrdererId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 회원 주문 목록 다음 페이지 - 커서(주문일, 주문 id) 이후부터 조회 (offset 없음)
+     */
+    @Query(ORDER_SUMMARY_SELECT +
+            "WHERE o.orderer.id = :memberId " +
+            "AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :orderId)) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<OrderSummaryDto> findSummariesByOrdererIdAfter(@Param("memberId") Long memberId,
+                                                       @Param("orderDate") LocalDateTime orderDate,
+                                                       @Param("orderId") Long orderId,
+                                                       Pageable pageable);
+
+    /**
+     * 결제 대기 주문 목록 (만료 타이밍 휠 재구축용)
+     * status 인덱스로 결제 대기 주문만 읽고 id 기준 keyset 으로 나눠 조회
+     */
+    @Query("SELECT new shop.shop_spring.order.Dto.PendingOrderDto(o.id, o.orderDate) FROM Order o " +
+            "WHERE o.status = :status AND o.id > :afterId " +
+            "ORDER BY o.id")
+    List<PendingOrderDto> findPendingOrdersAfter(@Param("status") Order.OrderStatus status,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    /**
+     * 만료 대상 주문 잠금 - 결제 콜백과 동시에 처리되지 않도록 (SELECT ... FOR UPDATE)
+     * @return 아직 결제 대기 중이고 만료 기준 시각 이전에 주문된 주문 id
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id FROM Order o " +
+            "WHERE o.id IN :orderIds AND o.status = :status AND o.orderDate <= :cutoff")
+    List<Long> lockExpiredOrderIds(@Param("orderIds") Collection<Long> orderIds,
+                                   @Param("status") Order.OrderStatus status,
+                                   @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT new shop.shop_spring.order.Dto.ProductQuantityDto(oi.product.id, SUM(oi.count)) " +
+            "FROM OrderItem oi WHERE oi.order.id IN :orderIds " +
+            "GROUP BY oi.product.id")
+    List<ProductQuantityDto> sumQuantitiesByProduct(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문 상태 일괄 변경 (버전 증가 -> 이전 상태를 읽은 트랜잭션은 낙관적 잠금 충돌)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.version = o.version + 1 " +
+            "WHERE o.id IN :orderIds AND o.status = :from")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds,
+                     @Param("from") Order.OrderStatus from,
+                     @Param("to") Order.OrderStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Delivery d SET d.status = :status WHERE d.order.id IN :orderIds")
+    int updateDeliveryStatus(@Param("orderIds") Collection<Long> orderIds,
+                             @Param("status") Delivery.DeliveryStatus status);
 }
@@ -0,0 +1,33 @@
+package shop.shop_spring.order.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.domain.OrderView;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    /**
+     * 주문 상태만 변경 (주문 상품/배송 정보는 그대로)
+     * 같은 트랜잭션의 주문 엔티티 변경을 지우지 않도록 영속성 컨텍스트는 비우지 않음
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OrderView v SET v.status = :status, v.updatedAt = :now WHERE v.orderId IN :orderIds")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds,
+                     @Param("status") Order.OrderStatus status,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OrderView v SET v.status = :status, v.deliveryStatus = :deliveryStatus, v.updatedAt = :now " +
+            "WHERE v.orderId IN :orderIds")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds,
+                     @Param("status") Order.OrderStatus status,
+                     @Param("deliveryStatus") Delivery.DeliveryStatus deliveryStatus,
+                     @Param("now") LocalDateTime now);
+}
@@ -1,11 +1,12 @@
 package shop.shop_spring.order.sevice;
 
+import shop.shop_spring.common.pagination.CursorPage;
 import shop.shop_spring.order.Dto.DeliveryInfo;
 import shop.shop_spring.order.Dto.OrderDetailDto;
 import shop.shop_spring.order.Dto.OrderSummaryDto;
-import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
 
-import java.util.List;
+import java.util.Collection;
+
 
 public interface OrderService {
 
@@ -15,17 +16,17 @@ public interface OrderService {
      * @param productId 주문 상품 id
      * @param quantity 주문 수량
      * @param deliveryInfo 배송 정보
-     * @return
+     * @return 주문 id (PG 결제 요청은 커밋 후 비동기 전송)
      */
-    PaymentInitiationResponse placeOrder(Long memberId, Long productId, int quantity, DeliveryInfo deliveryInfo, String paymentMethod);
+    Long placeOrder(Long memberId, Long productId, int quantity, DeliveryInfo deliveryInfo, String paymentMethod);
 
     /**
      *  카트 내 상품 일괄 구매
      * @param memberId
      * @param deliveryInfo
-     * @return
+     * @return 주문 id (PG 결제 요청은 커밋 후 비동기 전송)
      */
-    PaymentInitiationResponse placeCartOrder(Long memberId, DeliveryInfo deliveryInfo, String paymentMethod);
+    Long placeCartOrder(Long memberId, DeliveryInfo deliveryInfo, String paymentMethod);
 
     /**
      * 주문 취소
@@ -43,14 +44,28 @@ public interface OrderService {
     OrderDetailDto getOrderDetails(Long memberId, Long orderId);
 
     /**
-     * 주문 리스트 조회
+     * 주문 리스트 조회 (최신순, 커서 기반 페이지)
      * @param memberId
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param size 페이지 크기
      * @return
      */
-    List<OrderSummaryDto> getOrdersByMember(Long memberId);
+    CursorPage<OrderSummaryDto> getOrdersByMember(Long memberId, String cursor, int size);
 
+    /**
+     * 결제 성공 콜백 처리 - 결제 대기 주문을 결제 완료로 변경
+     * 이미 만료/취소된 주문이면 환불 필요(REFUND_REQUIRED) 상태로 기록
+     */
     void handlePaymentSuccessCallback(Long orderId);
 
     void handlePaymentFailureCallback(Long orderId);
 
+    /**
+     * 결제 콜백 일괄 처리 (한 번의 조회, 한 번의 flush)
+     * 결제 대기 중이 아닌 주문은 건너뜀 (만료/취소 후 결제 성공한 주문은 환불 필요 상태로 기록)
+     * @param paidOrderIds 결제 성공 주문 id
+     * @param failedOrderIds 결제 실패 주문 id
+     */
+    void handlePaymentCallbacks(Collection<Long> paidOrderIds, Collection<Long> failedOrderIds);
+
 }
@@ -1,7 +1,9 @@
 package shop.shop_spring.order.sevice;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +13,11 @@ import shop.shop_spring.cart.service.CartService;
 import shop.shop_spring.common.exception.DataNotFoundException;
 import shop.shop_spring.common.exception.InsufficientStockException;
 import shop.shop_spring.common.exception.InvalidOrderStatusException;
+import shop.shop_spring.common.pagination.CursorPage;
+import shop.shop_spring.common.pagination.KeysetCursor;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberService;
 import shop.shop_spring.order.Dto.DeliveryInfo;
@@ -19,43 +26,51 @@ import shop.shop_spring.order.Dto.OrderSummaryDto;
 import shop.shop_spring.order.domain.Delivery;
 import shop.shop_spring.order.domain.Order;
 import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.domain.OrderView;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
 import shop.shop_spring.order.repository.OrderRepository;
-import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
-import shop.shop_spring.payment.service.PaymentService;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService{
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final MemberService memberService;
     private final ProductService productService;
-    private final PaymentService paymentService;
+    private final PaymentOutboxService paymentOutboxService;
     private final CartService cartService;
-
-    @Value("${app.payment.success-callback-url}")
-    private String successCallbackUrl;
-    @Value("${app.payment.failure-callback-url}")
-    private String failureCallbackUrl;
+    private final InventoryService inventoryService;
+    private final StripedProductLockManager productLockManager;
+    private final PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    private final OrderViewProjector orderViewProjector;
 
     @Transactional
     @Override
-    public PaymentInitiationResponse placeOrder(Long memberId, Long productId, int quantity, DeliveryInfo deliveryInfo, String paymentMethod) {
+    public Long placeOrder(Long memberId, Long productId, int quantity, DeliveryInfo deliveryInfo, String paymentMethod) {
         // 1. 주문 상품 및 회원 조회
         Member member = memberService.findById(memberId);
         Product product = productService.findById(productId);
 
-        // 2. 재고 체크
+        // 2. 재고 체크 (빠른 실패용, 실제 차감은 예약에서 조건부로 수행)
         if (product.getStockQuantity() < quantity){
-            throw new InsufficientStockException("상품 재고 부족");
+            throw new InsufficientStockException("상품 재고 부족", List.of(productId));
         }
+        reserveStock(Map.of(productId, quantity));
 
         // 3. 주문 상품 생성
         OrderItem orderItem = OrderItem.builder()
@@ -79,7 +94,7 @@ public class OrderServiceImpl implements OrderService{
                 .orderer(member)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.PENDING)
-                .totalAmount(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                .totalAmount(product.getPrice().times(quantity))
                 .orderItems(new ArrayList<>())
                 .paymentMethod(paymentMethod)
                 .build();
@@ -88,56 +103,46 @@ public class OrderServiceImpl implements OrderService{
         order.addOrderItem(orderItem);
         order.setDelivery(delivery);
 
-        // 6. 주문 저장
+        // 6. 주문 저장 (상세 조회용 읽기 모델도 같은 트랜잭션에서 저장)
         Order savedOrder = orderRepository.save(order);
+        orderViewProjector.project(savedOrder);
+
+        // 7. 결제 요청 등록 (PG 전송은 커밋 후 outbox 워커가 수행)
+        paymentOutboxService.enqueue(savedOrder);
 
-        // 7. 결제 시스템 결제 요청
-        PaymentInitiationResponse initiationResponse = paymentService.initiatePayment(
-                savedOrder.getId(),
-                savedOrder.getTotalAmount(),
-                savedOrder.getPaymentMethod(),
-                this.successCallbackUrl,
-                this.failureCallbackUrl
-        );
+        // 8. 결제 대기 만료 등록 (PG 결제 페이지에서 이탈한 주문 정리)
+        pendingOrderExpiryScheduler.register(savedOrder.getId(), savedOrder.getOrderDate());
 
-        return initiationResponse;
+        return savedOrder.getId();
     }
 
+    /**
+     * 장바구니 주문 - 단계별로 한 번씩만 DB 접근
+     * 조회(장바구니/항목/상품 fetch join 1회) -> 검증(DB 접근 없음) -> 재고 일괄 예약(UPDATE 배치 1회)
+     * -> 주문 저장(주문/주문 상품/배송 테이블별 배치 insert) -> 장바구니 일괄 삭제(DELETE 1회)
+     */
     @Transactional
     @Override
-    public PaymentInitiationResponse placeCartOrder(Long memberId, DeliveryInfo deliveryInfo, String paymentMethod) {
+    public Long placeCartOrder(Long memberId, DeliveryInfo deliveryInfo, String paymentMethod) {
         // 1. 회원 및 장바구니 조회
         Member member = memberService.findById(memberId);
         Cart cart = cartService.getCartEntityWithItemsAndProducts(memberId);
 
-        List<CartItem> cartItems = cart.getCartItems();
-        if (cartItems.isEmpty()){
-            throw new IllegalArgumentException("장바구니가 비었음. 주문 상품 없음");
+        // 2. 장바구니 내 상품 재고 체크 및 주문 상품 생성
+        List<OrderItem> orderItems = toOrderItems(cart.getCartItems());
+        // 합계는 long 으로 누적 (상품마다 Money 를 만들지 않음)
+        long totalAmount = 0L;
+        for (OrderItem orderItem : orderItems){
+            totalAmount = Math.addExact(totalAmount,
+                    Math.multiplyExact(orderItem.getOrderPrice().getAmount(), orderItem.getCount()));
         }
 
-        // 2. 장바구니 내 상품 재고 체크
-        List<OrderItem> orderItems = new ArrayList<>();
-        BigDecimal totalAmount = BigDecimal.ZERO;
-
-        for (CartItem cartItem : cartItems){
-            Product product = cartItem.getProduct();
-            int quantity = cartItem.getQuantity();
-            if ( product.getStockQuantity() < quantity){
-                throw new InsufficientStockException("상품 재고 부족: " + product.getTitle());
-            }
-
-            OrderItem orderItem = OrderItem.builder()
-                    .product(product)
-                    .orderPrice(product.getPrice())
-                    .count(quantity)
-                    .productTitleAtOrder(product.getTitle())
-                    .build();
-
-            orderItems.add(orderItem);
-
-            totalAmount = totalAmount.add(product.getPrice().multiply(BigDecimal.valueOf(quantity)));
-        }
+        // 3. 재고 예약 - 부족한 상품이 있으면 전부 취소되고 해당 상품 목록과 함께 예외
+        // 상품 잠금은 장바구니 순서와 무관하게 정해진 순서로 획득 (반대 순서 장바구니끼리 교착 방지)
+        Map<Long, Integer> quantities = toQuantitiesByProductId(orderItems);
+        reserveStock(quantities);
 
+        // 4. 주문 저장
         Delivery delivery = Delivery.builder()
                 .receiverName(deliveryInfo.getReceiverName())
                 .address(deliveryInfo.getAddress() + " " + deliveryInfo.getAddressDetail())
@@ -149,7 +154,7 @@ public class OrderServiceImpl implements OrderService{
                 .orderer(member)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.PENDING)
-                .totalAmount(totalAmount)
+                .totalAmount(Money.of(totalAmount))
                 .paymentMethod(paymentMethod)
                 .build();
 
@@ -160,18 +165,15 @@ public class OrderServiceImpl implements OrderService{
         order.setDelivery(delivery);
 
         Order savedOrder = orderRepository.save(order);
+        orderViewProjector.project(savedOrder);
 
-        cartService.clearCart(memberId);
+        // 5. 장바구니 비우기 (이미 조회한 장바구니 id 로 일괄 삭제)
+        cartService.clearCheckedOutCart(memberId, cart);
 
-        PaymentInitiationResponse initiationResponse = paymentService.initiatePayment(
-                savedOrder.getId(),
-                savedOrder.getTotalAmount(),
-                savedOrder.getPaymentMethod(),
-                this.successCallbackUrl,
-                this.failureCallbackUrl
-        );
+        paymentOutboxService.enqueue(savedOrder);
+        pendingOrderExpiryScheduler.register(savedOrder.getId(), savedOrder.getOrderDate());
 
-        return initiationResponse;
+        return savedOrder.getId();
     }
 
     @Transactional
@@ -186,23 +188,34 @@ public class OrderServiceImpl implements OrderService{
 
         if (order.getStatus() == Order.OrderStatus.SHIPPED ||
             order.getStatus() == Order.OrderStatus.DELIVERED ||
-            order.getStatus() == Order.OrderStatus.CANCELED){
+            order.getStatus() == Order.OrderStatus.CANCELED ||
+            order.getStatus() == Order.OrderStatus.REFUND_REQUIRED){
             throw new InvalidOrderStatusException("현재 주문 상태(" + order.getStatus().getDisplayName() + ") 취소 불가");
         }
 
         order.setStatus(Order.OrderStatus.CANCELED);
         order.getDelivery().setStatus(Delivery.DeliveryStatus.CANCELED);
 
-        for (OrderItem orderItem : order.getOrderItems()){
-            Product product = orderItem.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + orderItem.getCount());
-        }
+        // 주문 시 예약된 재고 반환
+        Map<Long, Integer> quantities = toQuantitiesByProductId(order.getOrderItems());
+        releaseStock(quantities);
 
+        orderViewProjector.updateStatus(List.of(orderId), Order.OrderStatus.CANCELED, Delivery.DeliveryStatus.CANCELED);
     }
 
     @Transactional
     @Override
     public OrderDetailDto getOrderDetails(Long memberId, Long orderId) {
+        // 읽기 모델이 있으면 주문 id 한 건 조회로 응답
+        OrderView view = orderViewProjector.find(orderId).orElse(null);
+        if (view != null){
+            if (!view.getOrdererId().equals(memberId)) {
+                throw new AccessDeniedException("접근 권한 없음");
+            }
+            return orderViewProjector.toDetailDto(view);
+        }
+
+        // 아직 읽기 모델이 없는 주문 (재구축 전) -> 원본 테이블 조인 조회
         Order order = orderRepository.findByIdWithAllDetails(orderId)
                 .orElseThrow(() -> new DataNotFoundException("주문을 찾을 수 없음"));
 
@@ -215,22 +228,27 @@ public class OrderServiceImpl implements OrderService{
 
     @Transactional
     @Override
-    public List<OrderSummaryDto> getOrdersByMember(Long memberId) {
-        memberService.findById(memberId);
-
-        List<Order> orders = orderRepository.findByOrdererId(memberId);
-        if (orders.isEmpty()){
-            return new ArrayList<>();
+    public CursorPage<OrderSummaryDto> getOrdersByMember(Long memberId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE){
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 함");
         }
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리 없음)
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<OrderSummaryDto> fetched = keysetCursor == null
+                ? orderRepository.findSummariesByOrdererId(memberId, limit)
+                : orderRepository.findSummariesByOrdererIdAfter(memberId, keysetCursor.getCreatedAt(), keysetCursor.getId(), limit);
 
-        return orders.stream()
-                .map(order -> OrderSummaryDto.builder()
-                        .orderId(order.getId())
-                        .orderDate(order.getOrderDate())
-                        .totalAmount(order.getTotalAmount())
-                        .status(order.getStatus())
-                        .build())
-                .collect(Collectors.toList());
+        boolean hasNext = fetched.size() > size;
+        List<OrderSummaryDto> content = hasNext ? fetched.subList(0, size) : fetched;
+
+        String nextCursor = null;
+        if (hasNext){
+            OrderSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getOrderDate(), last.getOrderId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
     }
 
     @Transactional
@@ -243,21 +261,27 @@ public class OrderServiceImpl implements OrderService{
                 });
 
         // 2. 주문 상태 확인(중복 처리 방지 등)
+        // 만료/취소된 주문에 결제가 완료된 경우 -> 무시하지 않고 환불 대상으로 기록
+        if (order.getStatus() == Order.OrderStatus.CANCELED){
+            order.setStatus(Order.OrderStatus.REFUND_REQUIRED);
+            orderRepository.saveAndFlush(order);
+            orderViewProjector.updateStatus(List.of(orderId), Order.OrderStatus.REFUND_REQUIRED);
+            warnRefundRequired(List.of(orderId));
+            return;
+        }
         if (order.getStatus() != Order.OrderStatus.PENDING){
-            System.out.println("주문이 이미 처리 됐음 " + order.getStatus().toString());
+            log.info("이미 처리된 주문의 결제 성공 콜백 무시: orderId={}, status={}", orderId, order.getStatus());
             return;
         }
 
-        // 3. 주문 상태 갱신
+        // 3. 주문 상태 갱신 (재고는 주문 시 이미 예약됨, DB 재고 변경 없음)
+        // 버전 검사를 재고 처리 전에 수행 -> 동시 중복 콜백은 여기서 낙관적 잠금 예외로 중단
+        Map<Long, Integer> quantities = toQuantitiesByProductId(order.getOrderItems());
         order.setStatus(Order.OrderStatus.PAID);
+        orderRepository.saveAndFlush(order);
+        orderViewProjector.updateStatus(List.of(orderId), Order.OrderStatus.PAID);
 
-        // 4. 주문 후속 처리
-        for (OrderItem orderItem : order.getOrderItems()){
-            Product product = orderItem.getProduct();
-            product.setStockQuantity(product.getStockQuantity() - orderItem.getCount());
-        }
-
-        orderRepository.save(order);
+        inventoryService.confirm(quantities);
     }
 
     @Transactional
@@ -271,14 +295,135 @@ public class OrderServiceImpl implements OrderService{
 
         // 2. 주문 상태 확인(중복 처리 방지)
         if (order.getStatus() != Order.OrderStatus.PENDING){
-            System.out.println("주문이 이미 결제 됐거나 취소 처리 됐음 " + order.getStatus().toString());
+            log.info("이미 결제 됐거나 취소된 주문의 결제 실패 콜백 무시: orderId={}, status={}", orderId, order.getStatus());
             return;
         }
 
-        // 3. 주문 상태 갱신
-        order.setStatus(Order.OrderStatus.CANCELED);
-        order.getDelivery().setStatus(Delivery.DeliveryStatus.CANCELED);
+        // 3. 주문 상태 갱신 (버전 검사 후 재고 반환 -> 중복 콜백이 재고를 두 번 돌려주지 않음)
+        // 상품 잠금은 주문 행 갱신 전에 획득하고 재고 반환 문장까지만 유지
+        Map<Long, Integer> quantities = toQuantitiesByProductId(order.getOrderItems());
+        try (StripedProductLockManager.Locked locked = productLockManager.lock(quantities.keySet())){
+            order.setStatus(Order.OrderStatus.CANCELED);
+            order.getDelivery().setStatus(Delivery.DeliveryStatus.CANCELED);
+            orderRepository.saveAndFlush(order);
+
+            // 4. 예약 재고 반환
+            inventoryService.release(quantities);
+        }
+        orderViewProjector.updateStatus(List.of(orderId), Order.OrderStatus.CANCELED, Delivery.DeliveryStatus.CANCELED);
+    }
 
-        orderRepository.save(order);
+    @Transactional
+    @Override
+    public void handlePaymentCallbacks(Collection<Long> paidOrderIds, Collection<Long> failedOrderIds) {
+        Set<Long> orderIds = new HashSet<>(paidOrderIds);
+        orderIds.addAll(failedOrderIds);
+        if (orderIds.isEmpty()){
+            return;
+        }
+
+        // 1. 배치 내 주문 일괄 조회
+        List<Order> orders = orderRepository.findAllByIdInWithDelivery(orderIds);
+
+        // 2. 결제 대기 중인 주문만 상태 갱신, 재고 처리 수량은 상품별로 합산
+        List<Long> paidIds = new ArrayList<>();
+        List<Long> canceledIds = new ArrayList<>();
+        List<Long> refundRequiredIds = new ArrayList<>();
+        List<OrderItem> paidItems = new ArrayList<>();
+        List<OrderItem> canceledItems = new ArrayList<>();
+        for (Order order : orders){
+            // 만료/취소 후 결제 성공 -> 재고는 이미 반환됐으므로 환불 대상으로만 기록
+            if (order.getStatus() == Order.OrderStatus.CANCELED && paidOrderIds.contains(order.getId())){
+                order.setStatus(Order.OrderStatus.REFUND_REQUIRED);
+                refundRequiredIds.add(order.getId());
+                continue;
+            }
+            if (order.getStatus() != Order.OrderStatus.PENDING){
+                continue;
+            }
+            if (paidOrderIds.contains(order.getId())){
+                order.setStatus(Order.OrderStatus.PAID);
+                paidIds.add(order.getId());
+                paidItems.addAll(order.getOrderItems());
+            } else {
+                order.setStatus(Order.OrderStatus.CANCELED);
+                order.getDelivery().setStatus(Delivery.DeliveryStatus.CANCELED);
+                canceledIds.add(order.getId());
+                canceledItems.addAll(order.getOrderItems());
+            }
+        }
+
+        // 3. 반환할 상품 잠금 후 한 번에 flush (버전 검사 포함), 재고 반환 - 잠금은 반환 문장까지만 유지
+        Map<Long, Integer> paidQuantities = toQuantitiesByProductId(paidItems);
+        Map<Long, Integer> canceledQuantities = toQuantitiesByProductId(canceledItems);
+        try (StripedProductLockManager.Locked locked = productLockManager.lock(canceledQuantities.keySet())){
+            orderRepository.flush();
+            if (!canceledQuantities.isEmpty()){
+                inventoryService.release(canceledQuantities);
+            }
+        }
+        orderViewProjector.updateStatus(paidIds, Order.OrderStatus.PAID);
+        orderViewProjector.updateStatus(canceledIds, Order.OrderStatus.CANCELED, Delivery.DeliveryStatus.CANCELED);
+        orderViewProjector.updateStatus(refundRequiredIds, Order.OrderStatus.REFUND_REQUIRED);
+        if (!refundRequiredIds.isEmpty()){
+            warnRefundRequired(refundRequiredIds);
+        }
+
+        // 결제 완료분은 DB 재고 변경 없음 (Redis 예약 수량만 커밋 후 정리)
+        if (!paidQuantities.isEmpty()){
+            inventoryService.confirm(paidQuantities);
+        }
+    }
+
+    // 결제 대기 만료(또는 사용자 취소) 후 PG 결제 성공 통보 - 고객 돈은 빠져나갔고 재고는 이미 반환됨
+    // 주문 상태(REFUND_REQUIRED)로 남겨 환불/대사 처리 대상이 되도록 함
+    private void warnRefundRequired(List<Long> orderIds){
+        log.warn("취소된 주문의 결제 성공 콜백 수신, 환불 필요 주문으로 기록: orderIds={}", orderIds);
+    }
+
+    // 재고 변경 문장을 보내는 동안만 상품 잠금 (변경된 행은 DB 행 잠금으로 커밋까지 보호됨)
+    // 트랜잭션의 첫 DB 쓰기 전에 호출 -> 행 잠금을 쥔 채 상품 잠금을 기다리지 않음
+    private void reserveStock(Map<Long, Integer> quantities){
+        try (StripedProductLockManager.Locked locked = productLockManager.lock(quantities.keySet())){
+            inventoryService.reserve(quantities);
+        }
+    }
+
+    private void releaseStock(Map<Long, Integer> quantities){
+        try (StripedProductLockManager.Locked locked = productLockManager.lock(quantities.keySet())){
+            inventoryService.release(quantities);
+        }
+    }
+
+    // 재고 부족 상품이 있으면 예약 전에 바로 실패 (실제 차감은 예약에서 조건부로 수행)
+    private List<OrderItem> toOrderItems(List<CartItem> cartItems){
+        if (cartItems.isEmpty()){
+            throw new IllegalArgumentException("장바구니가 비었음. 주문 상품 없음");
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>(cartItems.size());
+        for (CartItem cartItem : cartItems){
+            Product product = cartItem.getProduct();
+            int quantity = cartItem.getQuantity();
+            if ( product.getStockQuantity() < quantity){
+                throw new InsufficientStockException("상품 재고 부족: " + product.getTitle(), List.of(product.getId()));
+            }
+
+            orderItems.add(OrderItem.builder()
+                    .product(product)
+                    .orderPrice(product.getPrice())
+                    .count(quantity)
+                    .productTitleAtOrder(product.getTitle())
+                    .build());
+        }
+        return orderItems;
+    }
+
+    private Map<Long, Integer> toQuantitiesByProductId(List<OrderItem> orderItems){
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderItem orderItem : orderItems){
+            quantities.merge(orderItem.getProduct().getId(), orderItem.getCount(), Integer::sum);
+        }
+        return quantities;
     }
 }
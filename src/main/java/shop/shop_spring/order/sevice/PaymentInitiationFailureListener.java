@@ -0,0 +1,27 @@
+package shop.shop_spring.order.sevice;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.payment.event.PaymentInitiationFailedEvent;
+
+/**
+ * PG 결제 요청 최종 실패 시 주문 취소 및 예약 재고 반환
+ * (결제 모듈이 주문 서비스를 직접 참조하지 않도록 이벤트로 전달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentInitiationFailureListener {
+    private final OrderService orderService;
+
+    @EventListener
+    public void onPaymentInitiationFailed(PaymentInitiationFailedEvent event){
+        try {
+            orderService.handlePaymentFailureCallback(event.getOrderId());
+        } catch (RuntimeException e){
+            log.error("결제 요청 실패 주문 취소 처리 실패: orderId={}", event.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package shop.shop_spring.order.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.shop_spring.order.Dto.OrderDetailDto;
+import shop.shop_spring.order.Dto.OrderItemDto;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.domain.OrderView;
+import shop.shop_spring.order.repository.OrderRepository;
+import shop.shop_spring.order.repository.OrderViewRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 상세 읽기 모델(order_view) 갱신/조회
+ * - 주문 생성 시 전체 행 저장, 상태 변경 시 상태 컬럼만 갱신 (호출한 트랜잭션에 참여 -> 주문과 함께 커밋/롤백)
+ * - 도입 전 주문이나 누락된 행은 rebuild 로 채움
+ *   chunk 의 주문을 공유 잠금한 뒤 읽으므로 재구축과 겹친 상태 변경은 재구축 행 위에 다시 반영됨
+ */
+@Slf4j
+@Component
+public class OrderViewProjector {
+    private static final TypeReference<List<OrderItemDto>> ITEMS_TYPE = new TypeReference<>() {};
+    private static final int REBUILD_CHUNK_MAX_ATTEMPTS = 3;
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 관리자 요청은 재구축 시작만 하고 반환, 동시에 하나만 실행
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private ThreadPoolTaskExecutor rebuildExecutor;
+
+    @Value("${app.order.view.rebuild-chunk-size:500}")
+    private int rebuildChunkSize = 500;
+
+    public OrderViewProjector(OrderViewRepository orderViewRepository,
+                              OrderRepository orderRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.orderViewRepository = orderViewRepository;
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start(){
+        rebuildExecutor = new ThreadPoolTaskExecutor();
+        rebuildExecutor.setCorePoolSize(1);
+        rebuildExecutor.setMaxPoolSize(1);
+        rebuildExecutor.setQueueCapacity(0);
+        rebuildExecutor.setThreadNamePrefix("order-view-rebuild-");
+        rebuildExecutor.initialize();
+    }
+
+    @PreDestroy
+    void stop(){
+        rebuildExecutor.shutdown();
+    }
+
+    /**
+     * 새 주문의 읽기 모델 저장
+     * 주문자, 배송 정보, 주문 상품(상품 포함)이 로딩된 주문이어야 함
+     */
+    @Transactional
+    public OrderView project(Order order){
+        return orderViewRepository.save(OrderView.of(order, writeItems(order)));
+    }
+
+    @Transactional
+    public void updateStatus(Collection<Long> orderIds, Order.OrderStatus status){
+        if (orderIds.isEmpty()){
+            return;
+        }
+        orderViewRepository.updateStatus(orderIds, status, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void updateStatus(Collection<Long> orderIds, Order.OrderStatus status, Delivery.DeliveryStatus deliveryStatus){
+        if (orderIds.isEmpty()){
+            return;
+        }
+        orderViewRepository.updateStatus(orderIds, status, deliveryStatus, LocalDateTime.now());
+    }
+
+    public Optional<OrderView> find(Long orderId){
+        return orderViewRepository.findById(orderId);
+    }
+
+    public OrderDetailDto toDetailDto(OrderView view){
+        return OrderDetailDto.builder()
+                .orderId(view.getOrderId())
+                .ordererName(view.getOrdererName())
+                .orderDate(view.getOrderDate())
+                .totalAmount(view.getTotalAmount())
+                .status(view.getStatus())
+                .paymentMethod(view.getPaymentMethod())
+                .receiverName(view.getReceiverName())
+                .address(view.getAddress())
+                .deliveryMessage(view.getDeliveryMessage())
+                .deliveryStatus(view.getDeliveryStatus())
+                .orderItems(readItems(view))
+                .build();
+    }
+
+    /**
+     * 재구축을 별도 스레드에서 시작 (결과는 로그로 확인)
+     * @return 시작했으면 true, 이미 재구축 중이면 false
+     */
+    public boolean rebuildAsync(){
+        if (!rebuilding.compareAndSet(false, true)){
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e){
+                    log.error("주문 읽기 모델 재구축 실패", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e){
+            rebuilding.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * 전체 주문으로 읽기 모델 재구축 (주문 id 순 chunk 단위, chunk 마다 한 트랜잭션)
+     * @return 재구축한 주문 수
+     */
+    public int rebuild(){
+        long afterId = 0L;
+        int count = 0;
+        List<Long> orderIds;
+        do {
+            orderIds = orderRepository.findIdsAfter(afterId, PageRequest.ofSize(rebuildChunkSize));
+            if (orderIds.isEmpty()){
+                break;
+            }
+            rebuildChunk(orderIds);
+            afterId = orderIds.get(orderIds.size() - 1);
+            count += orderIds.size();
+        } while (orderIds.size() == rebuildChunkSize);
+
+        log.info("주문 읽기 모델 재구축: {}건", count);
+        return count;
+    }
+
+    private void rebuildChunk(List<Long> chunk){
+        for (int attempt = 1; ; attempt++){
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    // 주문을 공유 잠금한 뒤 읽음 - 진행 중인 상태 변경은 커밋 후 값으로, 이후 상태 변경은 재구축 행 위에 반영
+                    orderRepository.lockForShare(chunk);
+                    orderViewRepository.deleteAllByIdInBatch(chunk);
+                    orderRepository.findAllByIdInWithAllDetails(chunk).forEach(this::project);
+                });
+                return;
+            } catch (ConcurrencyFailureException e){
+                // 상태 변경과 잠금 순서가 엇갈려 교착 희생자가 된 경우 - chunk 전체를 다시 실행
+                if (attempt >= REBUILD_CHUNK_MAX_ATTEMPTS){
+                    throw e;
+                }
+                log.info("주문 읽기 모델 재구축 잠금 충돌, 재시도: firstOrderId={}, attempt={}", chunk.get(0), attempt);
+            }
+        }
+    }
+
+    private String writeItems(Order order){
+        List<OrderItemDto> items = order.getOrderItems().stream()
+                .map(OrderItemDto::fromEntity)
+                .collect(Collectors.toList());
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e){
+            throw new IllegalStateException("주문 상품 직렬화 실패: orderId=" + order.getId(), e);
+        }
+    }
+
+    private List<OrderItemDto> readItems(OrderView view){
+        try {
+            return objectMapper.readValue(view.getItemsJson(), ITEMS_TYPE);
+        } catch (JsonProcessingException e){
+            throw new IllegalStateException("주문 상품 역직렬화 실패: orderId=" + view.getOrderId(), e);
+        }
+    }
+}
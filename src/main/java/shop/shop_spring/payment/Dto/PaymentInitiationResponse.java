@@ -1,6 +1,7 @@
 package shop.shop_spring.payment.Dto;
 
 import lombok.*;
+import shop.shop_spring.payment.domain.PaymentOutbox;
 
 @Getter @Setter
 @NoArgsConstructor
@@ -8,6 +9,10 @@ import lombok.*;
 @Builder
 public class PaymentInitiationResponse {
 
+    private Long orderId; // 주문 id (결제 요청 상태 조회용)
+
+    private boolean pending; // 결제 요청이 아직 PG사로 전송되지 않음 -> 상태 조회 API 로 재확인
+
     private boolean success; // 결제 시작 요청 성공 여부
 
     private String redirectUrl; // 사용자에게 리다이렉션할 PG사 결제 페이지 URL
@@ -17,4 +22,32 @@ public class PaymentInitiationResponse {
     private String errorCode; // error code
 
     private String errorMessage; // 결제 요청 실패 시, PG 오류 메세지
+
+    public static PaymentInitiationResponse pending(Long orderId){
+        return PaymentInitiationResponse.builder()
+                .orderId(orderId)
+                .pending(true)
+                .build();
+    }
+
+    public static PaymentInitiationResponse fromOutbox(PaymentOutbox outbox){
+        switch (outbox.getStatus()){
+            case DISPATCHED:
+                return PaymentInitiationResponse.builder()
+                        .orderId(outbox.getOrderId())
+                        .success(true)
+                        .redirectUrl(outbox.getRedirectUrl())
+                        .pgTransactionId(outbox.getPgTransactionId())
+                        .build();
+            case FAILED:
+                return PaymentInitiationResponse.builder()
+                        .orderId(outbox.getOrderId())
+                        .success(false)
+                        .errorCode("PG_REQUEST_FAILED")
+                        .errorMessage("PG사 결제 요청 실패")
+                        .build();
+            default:
+                return pending(outbox.getOrderId());
+        }
+    }
 }
@@ -7,7 +7,8 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import shop.shop_spring.order.sevice.OrderService;
+import shop.shop_spring.payment.service.PaymentCallbackBatcher;
+import shop.shop_spring.payment.service.PaymentCallbackDeduplicator;
 
 import java.util.Map;
 
@@ -15,36 +16,20 @@ import java.util.Map;
 @RequestMapping("/payments")
 @RequiredArgsConstructor
 public class PaymentCallbackController {
-    private final OrderService orderService;
+    private final PaymentCallbackBatcher callbackBatcher;
+    private final PaymentCallbackDeduplicator callbackDeduplicator;
 
     @PostMapping("/mock-callback/success")
     public ResponseEntity handleMockPaymentSuccessCallback(@RequestBody Map<String, Object> callbackData){
-        Long orderId;
-        try {
-            Object orderIdObj = callbackData.get("orderId");
-            if (orderIdObj == null){
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Error: orderId missing");
-            }
-
-            if (orderIdObj instanceof Number){
-                orderId = ((Number) orderIdObj).longValue();
-            } else {
-                orderId = Long.valueOf(orderIdObj.toString());
-            }
-        } catch (Exception e){
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Error: invalid data format");
-        }
-
-         try {
-            orderService.handlePaymentSuccessCallback(orderId);
-            return ResponseEntity.status(HttpStatus.OK).body("OK");
-         } catch (Exception e){
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error: Internal server error");
-         }
+        return handleCallback(callbackData, true);
     }
 
     @PostMapping("/mock-callback/failure")
     public ResponseEntity handleMockPaymentFailureCallback(@RequestBody Map<String, Object> callbackData){
+        return handleCallback(callbackData, false);
+    }
+
+    private ResponseEntity handleCallback(Map<String, Object> callbackData, boolean success){
         Long orderId;
         try {
             Object orderIdObj = callbackData.get("orderId");
@@ -60,12 +45,20 @@ public class PaymentCallbackController {
         } catch (Exception e){
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Error: invalid data format");
         }
+        Object pgTransactionIdObj = callbackData.get("pgTransactionId");
+        String pgTransactionId = pgTransactionIdObj == null ? null : pgTransactionIdObj.toString();
 
-        try {
-            orderService.handlePaymentFailureCallback(orderId);
+        // 중복 콜백은 DB 접근 없이 성공 응답 (PG 재전송 중단)
+        if (!callbackDeduplicator.tryAcquire(orderId, pgTransactionId)){
             return ResponseEntity.status(HttpStatus.OK).body("OK");
-        } catch (Exception e){
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error: Internal server error");
         }
+
+        // 배치 처리 큐에 접수 후 바로 응답 (반영은 PaymentCallbackBatcher 가 모아서 수행)
+        if (!callbackBatcher.submit(orderId, pgTransactionId, success)){
+            // 큐 가득 참 -> 처리하지 않았으므로 PG 가 재전송하도록 503
+            callbackDeduplicator.release(orderId, pgTransactionId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Error: busy, retry later");
+        }
+        return ResponseEntity.status(HttpStatus.OK).body("OK");
     }
 }
@@ -0,0 +1,76 @@
+package shop.shop_spring.payment.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import shop.shop_spring.common.id.TimeOrderedId;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 요청 outbox
+ * 주문과 같은 트랜잭션에서 저장하고, PG 요청은 트랜잭션 밖 워커가 전송 (PG 지연이 DB 커넥션을 붙잡지 않도록)
+ */
+@Entity
+@Table(name = "payment_outbox", indexes = {
+        @Index(name = "idx_payment_outbox_status_next_attempt", columnList = "status, next_attempt_at") // 전송 대상 조회
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentOutbox {
+    @Id
+    @TimeOrderedId
+    @Column(name = "payment_outbox_id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, unique = true)
+    private Long orderId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId; // 결제 요청 상태 조회 권한 확인용
+
+    @Column(name = "amount", nullable = false, precision = 10)
+    private BigDecimal amount;
+
+    @Column(name = "payment_method", nullable = false, length = 50)
+    private String paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // PENDING: 다음 전송 가능 시각, IN_FLIGHT: 점유 만료 시각 (지나면 다른 워커가 재전송)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "redirect_url", length = 1000)
+    private String redirectUrl;
+
+    @Column(name = "pg_transaction_id")
+    private String pgTransactionId;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum OutboxStatus {
+        PENDING,    // 전송 대기 (재시도 대기 포함)
+        IN_FLIGHT,  // 워커가 PG 요청 중
+        DISPATCHED, // PG 결제 요청 성공
+        FAILED      // 재시도 한도 초과
+    }
+}
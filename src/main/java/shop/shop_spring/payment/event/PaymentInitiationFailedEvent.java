@@ -0,0 +1,13 @@
+package shop.shop_spring.payment.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PG 결제 요청이 재시도 한도를 넘겨 최종 실패 -> 주문 취소 및 예약 재고 반환 필요
+ */
+@Getter
+@RequiredArgsConstructor
+public class PaymentInitiationFailedEvent {
+    private final Long orderId;
+}
@@ -0,0 +1,44 @@
+package shop.shop_spring.payment.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import shop.shop_spring.payment.domain.PaymentOutbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    Optional<PaymentOutbox> findByOrderId(Long orderId);
+
+    /**
+     * 전송 대상 outbox id 조회 (전송 가능 시각이 지난 대기 건 + 점유 만료된 전송 중 건)
+     */
+    @Query("SELECT p.id FROM PaymentOutbox p " +
+            "WHERE p.status IN :statuses AND p.nextAttemptAt <= :now " +
+            "ORDER BY p.nextAttemptAt")
+    List<Long> findDueIds(@Param("statuses") Collection<PaymentOutbox.OutboxStatus> statuses,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * 전송 점유 - 조건부 UPDATE 로 여러 워커/서버 중 하나만 성공
+     * @return 1 이면 점유 성공
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PaymentOutbox p " +
+            "SET p.status = :inFlight, p.attempts = p.attempts + 1, p.nextAttemptAt = :leaseUntil " +
+            "WHERE p.id = :id AND p.status IN :claimable AND p.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("inFlight") PaymentOutbox.OutboxStatus inFlight,
+              @Param("claimable") Collection<PaymentOutbox.OutboxStatus> claimable,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,173 @@
+package shop.shop_spring.payment.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.order.sevice.OrderService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 콜백 마이크로 배치 처리
+ * - 콜백 컨트롤러는 큐에 넣고 바로 응답, 워커 스레드가 최대 batch-size 건 또는 batch-max-wait-ms 마다 모아서 처리
+ * - 배치당 주문 일괄 조회 1회 + flush 1회 (콜백마다 트랜잭션/조회/커밋하지 않음)
+ * - 큐가 가득 차면 offer-timeout-ms 만큼 기다린 뒤 거부 -> 컨트롤러가 503 응답, PG 가 재전송 (backpressure)
+ *
+ * 내구성: 응답(200)한 콜백은 배치가 커밋되기 전까지 메모리에만 있음
+ * - 정상 종료 시에는 남은 큐를 모두 처리한 뒤 종료
+ * - 커밋 전에 프로세스가 비정상 종료되면 해당 콜백은 유실되고 주문은 결제 대기(PENDING)로 남음
+ *   -> PG 재전송에 의존할 수 없으므로 결제 대기 주문 정리/PG 결제 조회로 복구해야 함
+ * - 배치 처리 실패로 반영되지 못한 콜백은 중복 제거 키를 해제해 이후 PG 재전송을 받을 수 있게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCallbackBatcher {
+    private final OrderService orderService;
+    private final PaymentCallbackDeduplicator callbackDeduplicator;
+
+    @Value("${app.payment.callback.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${app.payment.callback.batch-max-wait-ms:20}")
+    private long batchMaxWaitMs = 20;
+
+    @Value("${app.payment.callback.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${app.payment.callback.offer-timeout-ms:50}")
+    private long offerTimeoutMs = 50;
+
+    private BlockingQueue<PaymentCallback> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start(){
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::runLoop, "payment-callback-batcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 콜백 접수
+     * @return 큐가 가득 차 접수하지 못하면 false
+     */
+    public boolean submit(Long orderId, String pgTransactionId, boolean success){
+        try {
+            return queue.offer(new PaymentCallback(orderId, pgTransactionId, success), offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runLoop(){
+        List<PaymentCallback> batch = new ArrayList<>(batchSize);
+        // 종료 요청 후에도 큐가 빌 때까지 처리
+        while (running || !queue.isEmpty()){
+            try {
+                PaymentCallback first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null){
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchMaxWaitMs);
+                while (batch.size() < batchSize){
+                    long remaining = deadline - System.nanoTime();
+                    PaymentCallback next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null){
+                        break;
+                    }
+                    batch.add(next);
+                }
+                apply(batch);
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e){
+                log.error("결제 콜백 배치 처리 중 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void apply(List<PaymentCallback> batch){
+        // 같은 주문의 콜백이 여러 건이면 먼저 들어온 것만 반영 (단건 처리 시 상태 검사와 같은 결과)
+        Map<Long, PaymentCallback> byOrderId = new LinkedHashMap<>();
+        for (PaymentCallback callback : batch){
+            byOrderId.putIfAbsent(callback.getOrderId(), callback);
+        }
+        Set<Long> paidOrderIds = new LinkedHashSet<>();
+        Set<Long> failedOrderIds = new LinkedHashSet<>();
+        for (PaymentCallback callback : byOrderId.values()){
+            (callback.isSuccess() ? paidOrderIds : failedOrderIds).add(callback.getOrderId());
+        }
+
+        try {
+            orderService.handlePaymentCallbacks(paidOrderIds, failedOrderIds);
+        } catch (RuntimeException e){
+            // 배치 중 한 건(동시 갱신 충돌 등) 때문에 전체가 롤백됨 -> 건별로 다시 처리해 영향 범위를 좁힘
+            log.warn("결제 콜백 배치 처리 실패, 건별 처리로 전환: size={}", byOrderId.size(), e);
+            byOrderId.values().forEach(this::applyOne);
+        }
+    }
+
+    private void applyOne(PaymentCallback callback){
+        try {
+            if (callback.isSuccess()){
+                applySuccess(callback.getOrderId());
+            } else {
+                orderService.handlePaymentFailureCallback(callback.getOrderId());
+            }
+        } catch (ConcurrencyFailureException e){
+            // 다른 콜백이 먼저 상태를 변경함 - 이미 처리된 것으로 간주
+            log.info("결제 콜백 동시 처리 충돌, 건너뜀: orderId={}", callback.getOrderId());
+        } catch (RuntimeException e){
+            log.error("결제 콜백 처리 실패: orderId={}", callback.getOrderId(), e);
+            callbackDeduplicator.release(callback.getOrderId(), callback.getPgTransactionId());
+        }
+    }
+
+    // 결제 성공은 충돌해도 버리지 않음 - 상대가 결제 대기 만료였다면 취소된 주문의 결제이므로
+    // 확정된 상태로 한 번 더 처리 (결제 완료면 무시, 취소됐으면 환불 필요로 기록)
+    private void applySuccess(Long orderId){
+        try {
+            orderService.handlePaymentSuccessCallback(orderId);
+        } catch (ConcurrencyFailureException e){
+            log.info("결제 성공 콜백 동시 처리 충돌, 최신 상태로 재처리: orderId={}", orderId);
+            orderService.handlePaymentSuccessCallback(orderId);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class PaymentCallback {
+        private final Long orderId;
+        private final String pgTransactionId;
+        private final boolean success;
+    }
+}
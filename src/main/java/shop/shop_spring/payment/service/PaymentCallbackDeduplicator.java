@@ -0,0 +1,55 @@
+package shop.shop_spring.payment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 결제 콜백 중복 제거 - (주문 id, PG 거래 id) 당 한 번만 처리
+ * PG 재전송/중복 콜백을 DB 접근 전에 걸러냄
+ * Redis 장애 시에는 통과시키고 주문 낙관적 잠금(@Version) + 상태 검사에 맡김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCallbackDeduplicator {
+    static final String KEY_PREFIX = "payment:callback:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${app.payment.callback.dedup-ttl-seconds:86400}")
+    private long ttlSeconds = 86400;
+
+    /**
+     * @return 처음 들어온 콜백이면 true, 이미 처리(중)인 콜백이면 false
+     */
+    public boolean tryAcquire(Long orderId, String pgTransactionId){
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(keyOf(orderId, pgTransactionId), "1", Duration.ofSeconds(ttlSeconds));
+            return !Boolean.FALSE.equals(acquired);
+        } catch (RuntimeException e){
+            log.warn("결제 콜백 중복 확인 실패, DB 검사로 처리: orderId={}", orderId, e);
+            return true;
+        }
+    }
+
+    /**
+     * 처리 실패 시 키 해제 - PG 재전송 콜백을 다시 받을 수 있도록
+     */
+    public void release(Long orderId, String pgTransactionId){
+        try {
+            redisTemplate.delete(keyOf(orderId, pgTransactionId));
+        } catch (RuntimeException e){
+            log.warn("결제 콜백 중복 키 해제 실패: orderId={}", orderId, e);
+        }
+    }
+
+    static String keyOf(Long orderId, String pgTransactionId){
+        return KEY_PREFIX + orderId + ":" + (pgTransactionId == null ? "-" : pgTransactionId);
+    }
+}
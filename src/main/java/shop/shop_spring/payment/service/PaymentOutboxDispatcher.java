@@ -0,0 +1,207 @@
+package shop.shop_spring.payment.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
+import shop.shop_spring.payment.domain.PaymentOutbox;
+import shop.shop_spring.payment.domain.PaymentOutbox.OutboxStatus;
+import shop.shop_spring.payment.event.PaymentInitiationFailedEvent;
+import shop.shop_spring.payment.repository.PaymentOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 요청 outbox 전송 워커
+ * - 주문 커밋 직후 submit 으로 바로 전송 시도, 놓친 건/재시도 건은 주기적으로 sweep
+ * - 전송 전 조건부 UPDATE 로 점유하므로 여러 서버가 같은 건을 동시에 보내지 않음
+ * - PG 호출은 DB 트랜잭션 밖에서 수행 -> 커넥션 점유 시간은 DB 작업 시간으로 제한
+ * - 점유 후 응답 전에 서버가 죽으면 점유 만료 후 재전송되므로 PG 에는 주문 id 를 멱등 키로 전달해야 함
+ */
+@Slf4j
+@Component
+public class PaymentOutboxDispatcher {
+    private static final List<OutboxStatus> CLAIMABLE = List.of(OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT);
+
+    private final PaymentOutboxRepository outboxRepository;
+    private final PaymentService paymentService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 주문 id -> 결제 요청 완료 핸들 (이 서버에서 접수한 주문만)
+    private final Map<Long, CompletableFuture<PaymentInitiationResponse>> handles = new ConcurrentHashMap<>();
+    // 워커 큐에 들어가 있는 outbox id (sweep 중복 제출 방지)
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolTaskExecutor workers;
+
+    @Value("${app.payment.success-callback-url}")
+    private String successCallbackUrl;
+    @Value("${app.payment.failure-callback-url}")
+    private String failureCallbackUrl;
+
+    @Value("${app.payment.outbox.workers:8}")
+    private int workerCount = 8;
+
+    @Value("${app.payment.outbox.queue-capacity:1000}")
+    private int queueCapacity = 1000;
+
+    @Value("${app.payment.outbox.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${app.payment.outbox.retry-base-ms:1000}")
+    private long retryBaseMs = 1000;
+
+    @Value("${app.payment.outbox.lease-ms:30000}")
+    private long leaseMs = 30000;
+
+    @Value("${app.payment.outbox.sweep-batch-size:100}")
+    private int sweepBatchSize = 100;
+
+    @Value("${app.payment.outbox.handle-ttl-ms:60000}")
+    private long handleTtlMs = 60000;
+
+    public PaymentOutboxDispatcher(PaymentOutboxRepository outboxRepository,
+                                   PaymentService paymentService,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.outboxRepository = outboxRepository;
+        this.paymentService = paymentService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void start(){
+        workers = new ThreadPoolTaskExecutor();
+        workers.setCorePoolSize(workerCount);
+        workers.setMaxPoolSize(workerCount);
+        workers.setQueueCapacity(queueCapacity);
+        workers.setThreadNamePrefix("payment-outbox-");
+        workers.setWaitForTasksToCompleteOnShutdown(true);
+        workers.setAwaitTerminationSeconds(10);
+        workers.initialize();
+    }
+
+    @PreDestroy
+    void stop(){
+        workers.shutdown();
+    }
+
+    /**
+     * 주문 커밋 후 호출 - 전송을 워커에 맡기고 완료 핸들 반환
+     * 핸들은 handle-ttl-ms 가 지나면 null 로 완료되어 정리됨 (다른 서버가 전송한 경우 등)
+     */
+    public CompletableFuture<PaymentInitiationResponse> submit(Long outboxId, Long orderId){
+        CompletableFuture<PaymentInitiationResponse> handle = handles.computeIfAbsent(orderId, id -> {
+            CompletableFuture<PaymentInitiationResponse> created = new CompletableFuture<>();
+            created.completeOnTimeout(null, handleTtlMs, TimeUnit.MILLISECONDS)
+                    .whenComplete((response, e) -> handles.remove(id, created));
+            return created;
+        });
+        enqueue(outboxId);
+        return handle;
+    }
+
+    public CompletableFuture<PaymentInitiationResponse> handleOf(Long orderId){
+        return handles.get(orderId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.payment.outbox.poll-interval-ms:1000}")
+    public void sweep(){
+        List<Long> dueIds = outboxRepository.findDueIds(CLAIMABLE, LocalDateTime.now(), PageRequest.ofSize(sweepBatchSize));
+        dueIds.forEach(this::enqueue);
+    }
+
+    private void enqueue(Long outboxId){
+        if (!queued.add(outboxId)){
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    dispatch(outboxId);
+                } catch (RuntimeException e){
+                    log.error("결제 요청 전송 처리 실패: outboxId={}", outboxId, e);
+                } finally {
+                    queued.remove(outboxId);
+                }
+            });
+        } catch (TaskRejectedException e){
+            // 큐가 가득 차면 outbox 에 남겨두고 다음 sweep 에서 전송 (요청 스레드는 기다리지 않음)
+            queued.remove(outboxId);
+            log.warn("결제 요청 워커 큐 가득 참, 다음 주기에 전송: outboxId={}", outboxId);
+        }
+    }
+
+    void dispatch(Long outboxId){
+        LocalDateTime now = LocalDateTime.now();
+        if (outboxRepository.claim(outboxId, OutboxStatus.IN_FLIGHT, CLAIMABLE, now, now.plusNanos(leaseMs * 1_000_000)) == 0){
+            return; // 다른 워커가 전송 중이거나 이미 처리됨
+        }
+        PaymentOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null){
+            return;
+        }
+
+        PaymentInitiationResponse response;
+        try {
+            response = paymentService.initiatePayment(
+                    outbox.getOrderId(),
+                    outbox.getAmount(),
+                    outbox.getPaymentMethod(),
+                    successCallbackUrl,
+                    failureCallbackUrl);
+        } catch (RuntimeException e){
+            onFailure(outbox, e.getMessage());
+            return;
+        }
+        onSuccess(outbox, response);
+    }
+
+    private void onSuccess(PaymentOutbox outbox, PaymentInitiationResponse response){
+        outbox.setStatus(OutboxStatus.DISPATCHED);
+        outbox.setRedirectUrl(response.getRedirectUrl());
+        outbox.setPgTransactionId(response.getPgTransactionId());
+        outbox.setLastError(null);
+        outboxRepository.save(outbox);
+
+        complete(outbox);
+    }
+
+    private void onFailure(PaymentOutbox outbox, String errorMessage){
+        outbox.setLastError(errorMessage);
+        if (outbox.getAttempts() >= maxAttempts){
+            outbox.setStatus(OutboxStatus.FAILED);
+            outboxRepository.save(outbox);
+            log.warn("결제 요청 재시도 한도 초과, 주문 취소: orderId={}", outbox.getOrderId());
+
+            eventPublisher.publishEvent(new PaymentInitiationFailedEvent(outbox.getOrderId()));
+            complete(outbox);
+            return;
+        }
+
+        // 지수 백오프 후 재시도
+        long delayMs = retryBaseMs << Math.min(outbox.getAttempts() - 1, 10);
+        outbox.setStatus(OutboxStatus.PENDING);
+        outbox.setNextAttemptAt(LocalDateTime.now().plusNanos(delayMs * 1_000_000));
+        outboxRepository.save(outbox);
+    }
+
+    private void complete(PaymentOutbox outbox){
+        CompletableFuture<PaymentInitiationResponse> handle = handles.get(outbox.getOrderId());
+        if (handle != null){
+            handle.complete(PaymentInitiationResponse.fromOutbox(outbox));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package shop.shop_spring.payment.service;
+
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
+
+import java.time.Duration;
+
+public interface PaymentOutboxService {
+
+    /**
+     * 결제 요청 등록 - 주문과 같은 트랜잭션에서 outbox 저장, 커밋 후 워커가 PG 로 전송
+     * @param order 저장된 주문
+     */
+    void enqueue(Order order);
+
+    /**
+     * 결제 요청 결과 대기
+     * @param orderId
+     * @param timeout 최대 대기 시간
+     * @return 시간 내 처리되지 않으면 pending 응답
+     */
+    PaymentInitiationResponse awaitInitiation(Long orderId, Duration timeout);
+
+    /**
+     * 결제 요청 상태 조회 (pending 응답 이후 클라이언트 재확인용)
+     * @param memberId
+     * @param orderId
+     * @return
+     */
+    PaymentInitiationResponse getInitiation(Long memberId, Long orderId);
+}
@@ -0,0 +1,73 @@
+package shop.shop_spring.payment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.shop_spring.common.exception.DataNotFoundException;
+import shop.shop_spring.common.transaction.AfterCommit;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
+import shop.shop_spring.payment.domain.PaymentOutbox;
+import shop.shop_spring.payment.repository.PaymentOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentOutboxServiceImpl implements PaymentOutboxService {
+    private final PaymentOutboxRepository outboxRepository;
+    private final PaymentOutboxDispatcher dispatcher;
+
+    @Transactional
+    @Override
+    public void enqueue(Order order) {
+        PaymentOutbox outbox = PaymentOutbox.builder()
+                .orderId(order.getId())
+                .memberId(order.getOrderer().getId())
+                .amount(order.getTotalAmount().toBigDecimal())
+                .paymentMethod(order.getPaymentMethod())
+                .status(PaymentOutbox.OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        PaymentOutbox saved = outboxRepository.save(outbox);
+
+        // 커밋 전에 보내면 롤백된 주문이 PG 로 나갈 수 있으므로 커밋 후 워커에 전달
+        AfterCommit.run(() -> dispatcher.submit(saved.getId(), saved.getOrderId()));
+    }
+
+    @Override
+    public PaymentInitiationResponse awaitInitiation(Long orderId, Duration timeout) {
+        CompletableFuture<PaymentInitiationResponse> handle = dispatcher.handleOf(orderId);
+        if (handle == null){
+            return PaymentInitiationResponse.pending(orderId);
+        }
+        try {
+            PaymentInitiationResponse response = handle.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return response != null ? response : PaymentInitiationResponse.pending(orderId);
+        } catch (TimeoutException | ExecutionException e){
+            return PaymentInitiationResponse.pending(orderId);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            return PaymentInitiationResponse.pending(orderId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PaymentInitiationResponse getInitiation(Long memberId, Long orderId) {
+        PaymentOutbox outbox = outboxRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new DataNotFoundException("결제 요청을 찾을 수 없음"));
+
+        if (!outbox.getMemberId().equals(memberId)){
+            throw new AccessDeniedException("접근 권한 없음");
+        }
+        return PaymentInitiationResponse.fromOutbox(outbox);
+    }
+}
@@ -0,0 +1,55 @@
+package shop.shop_spring.product.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.common.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 상세 화면용 정보 (캐시 저장 대상)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDetailDto {
+    private Long id;
+    private String title;
+    private BigDecimal price;
+    private Integer stockQuantity;
+    private Status status;
+    private String thumbnailUrl;
+    private String username;
+    private Long categoryId;
+    private String categoryName;
+    private String description;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ProductDetailDto of(Product product, String description){
+        if (product == null){
+            return null;
+        }
+        Category category = product.getCategory();
+
+        return new ProductDetailDto(
+                product.getId(),
+                product.getTitle(),
+                Money.toBigDecimalOrNull(product.getPrice()),
+                product.getStockQuantity(),
+                product.getStatus(),
+                product.getThumbnailUrl(),
+                product.getUsername(),
+                (category != null) ? category.getId() : null,
+                (category != null) ? category.getName() : null,
+                description,
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
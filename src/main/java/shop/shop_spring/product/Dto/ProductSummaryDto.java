@@ -0,0 +1,55 @@
+package shop.shop_spring.product.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.common.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 화면/검색 API 용 요약 정보
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSummaryDto {
+    private Long id;
+    private String title;
+    private BigDecimal price;
+    private Integer stockQuantity;
+    private String thumbnailUrl;
+    private Status status;
+    private Long categoryId;
+    private String categoryName;
+    private LocalDateTime createdAt;
+
+    // 조회 쿼리 생성자 프로젝션용 (엔티티 가격은 Money)
+    public ProductSummaryDto(Long id, String title, Money price, Integer stockQuantity, String thumbnailUrl, Status status,
+                             Long categoryId, String categoryName, LocalDateTime createdAt){
+        this(id, title, Money.toBigDecimalOrNull(price), stockQuantity, thumbnailUrl, status, categoryId, categoryName, createdAt);
+    }
+
+    public static ProductSummaryDto fromEntity(Product product){
+        if (product == null){
+            return null;
+        }
+        Category category = product.getCategory();
+
+        return new ProductSummaryDto(
+                product.getId(),
+                product.getTitle(),
+                Money.toBigDecimalOrNull(product.getPrice()),
+                product.getStockQuantity(),
+                product.getThumbnailUrl(),
+                product.getStatus(),
+                (category != null) ? category.getId() : null,
+                (category != null) ? category.getName() : null,
+                product.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,217 @@
+package shop.shop_spring.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.common.cache.LocalLruCache;
+import shop.shop_spring.common.transaction.AfterCommit;
+import shop.shop_spring.product.Dto.ProductDetailDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 2단계 read-through 캐시 (로컬 LRU -> Redis -> DB)
+ * 상품 수정/삭제/재고 변경 시 evict 호출 -> Redis 키 삭제 + pub/sub 으로 모든 노드의 로컬 캐시 무효화
+ * 무효화마다 상품별 세대 값을 올리고, 조회 시작 시점의 세대가 그대로일 때만 캐시에 저장
+ * -> 무효화 전에 읽은 오래된 상세가 무효화 뒤에 다시 저장되지 않음 (Redis 는 세대 비교 후 SET 을 스크립트로 원자 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache implements MessageListener {
+    public static final String INVALIDATE_CHANNEL = "product:detail:invalidate";
+    private static final String KEY_PREFIX = "product:detail:";
+    private static final String GENERATION_PREFIX = "product:detail:gen:";
+    // 조회 한 번(DB 로딩 포함)보다 충분히 길게 - 만료 후에는 세대 없음(0)으로 보고 비교
+    private static final long GENERATION_TTL_SECONDS = 86400;
+    // 로컬 캐시 무효화 세대 (상품 id 해시로 나눈 구간별, 메모리 고정)
+    private static final int LOCAL_GENERATION_STRIPES = 1024;
+
+    // KEYS[1] = 상세 키, KEYS[2] = 세대 키 / ARGV[1] = 조회 시작 시 세대, ARGV[2] = JSON, ARGV[3] = TTL(초)
+    private static final RedisScript<Long> POPULATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2])
+            if (current or '0') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 상세 키, KEYS[2] = 세대 키 / ARGV[1] = 세대 TTL(초)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.cache.product-detail.local-max-size:10000}")
+    private int localMaxSize = 10000;
+
+    @Value("${app.cache.product-detail.local-ttl-seconds:30}")
+    private long localTtlSeconds = 30;
+
+    @Value("${app.cache.product-detail.redis-ttl-seconds:600}")
+    private long redisTtlSeconds = 600;
+
+    private LocalLruCache<Long, ProductDetailDto> localCache;
+    private final AtomicLongArray localGenerations = new AtomicLongArray(LOCAL_GENERATION_STRIPES);
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder skippedPopulates = new LongAdder();
+
+    @PostConstruct
+    void init(){
+        localCache = new LocalLruCache<>("product-detail", localMaxSize, localTtlSeconds * 1000);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    public ProductDetailDto get(Long productId, Function<Long, ProductDetailDto> loader){
+        ProductDetailDto cached = localCache.get(productId);
+        if (cached != null){
+            return cached;
+        }
+
+        // 조회 시작 시점의 세대 (이후 무효화되면 저장하지 않음)
+        long localGeneration = localGenerations.get(stripeOf(productId));
+        RedisEntry entry = readRedis(productId);
+        if (entry.detail != null){
+            redisHits.increment();
+            putLocal(productId, entry.detail, localGeneration);
+            return entry.detail;
+        }
+        redisMisses.increment();
+
+        ProductDetailDto loaded = loader.apply(productId);
+        if (loaded != null){
+            if (entry.generation != null){ // Redis 조회 실패 시 세대를 모르므로 Redis 저장 생략
+                writeRedis(productId, loaded, entry.generation);
+            }
+            putLocal(productId, loaded, localGeneration);
+        }
+        return loaded;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 무효화 (롤백 시 무효화하지 않음)
+     */
+    public void evict(Long productId){
+        AfterCommit.run(() -> evictNow(productId));
+    }
+
+    public void evictAll(List<Long> productIds){
+        AfterCommit.run(() -> productIds.forEach(this::evictNow));
+    }
+
+    public ProductDetailCacheStats stats(){
+        return new ProductDetailCacheStats(localCache.stats(), redisHits.sum(), redisMisses.sum(), skippedPopulates.sum());
+    }
+
+    private void evictNow(Long productId){
+        invalidateLocal(productId);
+        try {
+            stringRedisTemplate.execute(INVALIDATE_SCRIPT, List.of(KEY_PREFIX + productId, GENERATION_PREFIX + productId),
+                    String.valueOf(GENERATION_TTL_SECONDS));
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, productId.toString());
+        } catch (DataAccessException e){
+            // Redis 장애 시 로컬 TTL 만료로 수렴
+            log.warn("상품 상세 캐시 무효화 실패: productId={}", productId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidateLocal(Long.parseLong(body));
+        } catch (NumberFormatException e){
+            log.warn("잘못된 상품 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private void invalidateLocal(Long productId){
+        localGenerations.incrementAndGet(stripeOf(productId));
+        localCache.invalidate(productId);
+    }
+
+    private void putLocal(Long productId, ProductDetailDto detail, long generation){
+        if (localGenerations.get(stripeOf(productId)) != generation){
+            skippedPopulates.increment();
+            return;
+        }
+        localCache.put(productId, detail);
+    }
+
+    // 상세와 세대를 한 번에 조회 (왕복 1회)
+    private RedisEntry readRedis(Long productId){
+        try {
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(List.of(KEY_PREFIX + productId, GENERATION_PREFIX + productId));
+            String json = values == null ? null : values.get(0);
+            String generation = values == null || values.get(1) == null ? "0" : values.get(1);
+            if (json == null){
+                return new RedisEntry(null, generation);
+            }
+            try {
+                return new RedisEntry(objectMapper.readValue(json, ProductDetailDto.class), generation);
+            } catch (JsonProcessingException e){
+                // 깨진 값은 다시 로딩해서 덮어씀
+                log.warn("상품 상세 캐시 역직렬화 실패: productId={}", productId, e);
+                return new RedisEntry(null, generation);
+            }
+        } catch (DataAccessException e){
+            log.warn("상품 상세 캐시 조회 실패: productId={}", productId, e);
+            return new RedisEntry(null, null);
+        }
+    }
+
+    private void writeRedis(Long productId, ProductDetailDto detail, String generation){
+        try {
+            String json = objectMapper.writeValueAsString(detail);
+            Long written = stringRedisTemplate.execute(POPULATE_SCRIPT,
+                    List.of(KEY_PREFIX + productId, GENERATION_PREFIX + productId),
+                    generation, json, String.valueOf(redisTtlSeconds));
+            if (written == null || written == 0L){
+                skippedPopulates.increment();
+            }
+        } catch (DataAccessException | JsonProcessingException e){
+            log.warn("상품 상세 캐시 저장 실패: productId={}", productId, e);
+        }
+    }
+
+    private static int stripeOf(Long productId){
+        return Math.floorMod(Long.hashCode(productId), LOCAL_GENERATION_STRIPES);
+    }
+
+    private static class RedisEntry {
+        private final ProductDetailDto detail;
+        // 조회 시점의 세대, Redis 조회 실패 시 null
+        private final String generation;
+
+        private RedisEntry(ProductDetailDto detail, String generation) {
+            this.detail = detail;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package shop.shop_spring.product.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import shop.shop_spring.common.cache.CacheStats;
+
+/**
+ * 상품 상세 캐시 통계 (로컬 LRU + Redis 단계 적중률 + 무효화와 경합해 건너뛴 저장 수)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductDetailCacheStats {
+    private CacheStats local;
+    private long redisHits;
+    private long redisMisses;
+    private long skippedPopulates;
+
+    public double getRedisHitRatio(){
+        long total = redisHits + redisMisses;
+        return total == 0 ? 0.0 : (double) redisHits / total;
+    }
+}
@@ -1,15 +1,23 @@
 package shop.shop_spring.product.controller;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import shop.shop_spring.common.pagination.CursorPage;
 import shop.shop_spring.common.response.CustomApiResponse;
 import shop.shop_spring.product.Dto.ProductCreationRequest;
+import shop.shop_spring.product.Dto.ProductSearchCondition;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
+import shop.shop_spring.product.enums.Status;
 import shop.shop_spring.product.service.ProductServiceImpl;
 
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -30,4 +38,27 @@ public class ProductApiController {
         return ResponseEntity.status(HttpStatus.OK).body(successResponse);
     }
 
+    @Operation(summary = "상품 검색", description = "판매중/품절 상품을 최신순으로 커서 기반 페이지 조회. 응답의 nextCursor 를 다음 요청의 cursor 로 전달")
+    @GetMapping
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(유효하지 않은 커서, 페이지 크기)")
+    })
+    public ResponseEntity<CustomApiResponse<CursorPage<ProductSummaryDto>>> searchProducts(
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "category", required = false) Long categoryId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ){
+        ProductSearchCondition searchCondition = new ProductSearchCondition();
+        searchCondition.setProductTitle(title);
+        searchCondition.setCategoryId(categoryId);
+        searchCondition.setStatuses(List.of(Status.ACTIVE, Status.SOLD_OUT));
+
+        CursorPage<ProductSummaryDto> page = productService.searchProductPage(searchCondition, cursor, size);
+
+        CustomApiResponse<CursorPage<ProductSummaryDto>> response = CustomApiResponse.success("상품 조회 성공", page);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
 }
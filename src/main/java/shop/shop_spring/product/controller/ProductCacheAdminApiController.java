@@ -0,0 +1,35 @@
+package shop.shop_spring.product.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shop_spring.common.response.CustomApiResponse;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.cache.ProductDetailCacheStats;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache Admin API", description = "캐시 상태 조회 관리자 API")
+public class ProductCacheAdminApiController {
+
+    private final ProductDetailCache productDetailCache;
+
+    @Operation(summary = "상품 상세 캐시 통계", description = "로컬 캐시의 적중/미스/퇴출 횟수와 현재 크기, Redis 단계 적중/미스 횟수 조회")
+    @GetMapping("/product-detail")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    public ResponseEntity<CustomApiResponse<ProductDetailCacheStats>> getProductDetailCacheStats(){
+        CustomApiResponse<ProductDetailCacheStats> response = CustomApiResponse.success("캐시 통계 조회 성공", productDetailCache.stats());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -6,10 +6,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import shop.shop_spring.common.pagination.CursorPage;
 import shop.shop_spring.product.Dto.ProductCreationRequest;
+import shop.shop_spring.product.Dto.ProductDetailDto;
 import shop.shop_spring.product.Dto.ProductSearchCondition;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
 import shop.shop_spring.product.ProductForm;
-import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.enums.Status;
 import shop.shop_spring.product.service.ProductServiceImpl;
 
@@ -23,10 +25,13 @@ import java.util.List;
 public class ProductViewController {
     private final ProductServiceImpl productService;
 
+    private static final int PAGE_SIZE = 20;
+
     @GetMapping("/{id}")
     String showDetail(@PathVariable Long id, Model model, Authentication auth){
-        Product product = productService.findById(id);
+        ProductDetailDto product = productService.getProductDetail(id);
         model.addAttribute("product", product);
+        model.addAttribute("description", product.getDescription());
 
         boolean isLoggedIn = auth != null && auth.isAuthenticated();
         model.addAttribute("isLoggedIn", isLoggedIn);
@@ -45,6 +50,7 @@ public class ProductViewController {
     public String listProducts(
         @RequestParam(value = "title", required = false) String title,
         @RequestParam(value = "category", required = false) Long categoryId,
+        @RequestParam(value = "cursor", required = false) String cursor,
         Model model
     ){
         ProductSearchCondition searchCondition = new ProductSearchCondition();
@@ -56,9 +62,12 @@ public class ProductViewController {
         statuses.add(Status.SOLD_OUT);
         searchCondition.setStatuses(statuses);
 
-        List<Product> products = productService.searchProducts(searchCondition);
+        CursorPage<ProductSummaryDto> page = productService.searchProductPage(searchCondition, cursor, PAGE_SIZE);
 
-        model.addAttribute("products", products);
+        model.addAttribute("products", page.getContent());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("currentTitle", title);
+        model.addAttribute("currentCategoryId", categoryId);
         return "products/list";
     }
 
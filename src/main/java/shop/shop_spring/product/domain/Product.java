@@ -2,9 +2,12 @@ package shop.shop_spring.product.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import shop.shop_spring.common.id.TimeOrderedId;
 import shop.shop_spring.category.domain.Category;
 import shop.shop_spring.product.enums.Status;
-import java.math.BigDecimal;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.common.money.MoneyConverter;
 import java.time.LocalDateTime;
 
 
@@ -13,16 +16,18 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@BatchSize(size = 100) // 주문 상품 등에서 참조하는 상품 프록시를 id IN 으로 묶어서 로딩
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, length = 255)
     private String title;
 
     @Column(nullable = false, precision = 10)
-    private BigDecimal price;
+    @Convert(converter = MoneyConverter.class)
+    private Money price;
 
     @Column(nullable = false, length = 255)
     private String username;
@@ -30,22 +35,6 @@ public class Product {
     @Column(nullable = false)
     private Integer stockQuantity;
 
-    @OneToOne(mappedBy = "product",
-                cascade = CascadeType.ALL, // 상품 삭제 시 상세 설명eh 삭제
-                orphanRemoval = true, // 고아 객체도 제거
-                fetch = FetchType.LAZY)
-    private ProductDescription description;
-
-    public void setDescription(ProductDescription productDetail){
-        if (this.description != null) {
-            this.description.setProduct(null);
-        }
-        this.description = productDetail;
-        if (productDetail != null){
-            productDetail.setProduct(this);
-        }
-    }
-
     @ManyToOne
     @JoinColumn(name = "category_id")
     private Category category;
@@ -2,20 +2,33 @@ package shop.shop_spring.product.domain;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 상품 상세 설명 (TEXT)
+ * Product 쪽에는 연관관계를 두지 않음 - mappedBy 쪽 OneToOne 은 지연 로딩이 불가능하여
+ * 상품 목록 조회 시 상품마다 설명 조회 쿼리가 추가로 발생했음
+ * 상세 설명은 필요한 화면에서 ProductDescriptionRepository 로 상품 id 기준 조회
+ */
 @Entity
 @Getter
 @Setter
+@NoArgsConstructor
 public class ProductDescription {
     @Id @Column(name="product_id")
     private Long id; // 아래의 MapsId에서 매핑되는 상품의 id를 가져옴
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     @MapsId
     private Product product;
 
     @Column(columnDefinition = "TEXT")
     private String description;
+
+    public ProductDescription(Product product, String description) {
+        this.product = product;
+        this.description = description;
+    }
 }
@@ -0,0 +1,14 @@
+package shop.shop_spring.product.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.shop_spring.product.domain.ProductDescription;
+
+public interface ProductDescriptionRepository extends JpaRepository<ProductDescription, Long> {
+
+    @Modifying
+    @Query("DELETE FROM ProductDescription d WHERE d.id = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+}
@@ -0,0 +1,26 @@
+package shop.shop_spring.product.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
+import shop.shop_spring.product.domain.Product;
+
+import java.util.List;
+import java.util.SortedMap;
+
+public interface ProductQueryRepository {
+
+    /**
+     * 목록 카드용 요약 정보만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * (createdAt, id) 내림차순 정렬, 최대 limit 건
+     */
+    List<ProductSummaryDto> findSummaries(Specification<Product> spec, int limit);
+
+    /**
+     * 여러 상품 재고 조건부 차감을 JDBC 배치 한 번으로 전송 (상품마다 UPDATE 왕복 없음)
+     * 상품 id 오름차순으로 실행 -> 다중 상품 주문 간 행 잠금 순서 고정
+     * 부족한 상품이 있어도 나머지는 차감되므로 호출한 트랜잭션에서 롤백해야 함
+     * @param quantitiesByProductId 상품 id -> 수량
+     * @return 재고가 부족해 차감되지 않은 상품 id
+     */
+    List<Long> decreaseStocks(SortedMap<Long, Integer> quantitiesByProductId);
+}
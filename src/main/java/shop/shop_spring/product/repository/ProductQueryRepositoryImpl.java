@@ -0,0 +1,88 @@
+package shop.shop_spring.product.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.hibernate.Session;
+import org.springframework.data.jpa.domain.Specification;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
+import shop.shop_spring.product.domain.Product;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+
+public class ProductQueryRepositoryImpl implements ProductQueryRepository {
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<ProductSummaryDto> findSummaries(Specification<Product> spec, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ProductSummaryDto> query = cb.createQuery(ProductSummaryDto.class);
+        Root<Product> root = query.from(Product.class);
+        Join<Product, Category> category = root.join("category", JoinType.LEFT);
+
+        // 생성자 프로젝션 - 설명(TEXT), 카테고리 엔티티를 로딩하지 않고 필요한 컬럼만 조회
+        query.select(cb.construct(ProductSummaryDto.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("price"),
+                root.get("stockQuantity"),
+                root.get("thumbnailUrl"),
+                root.get("status"),
+                category.get("id"),
+                category.get("name"),
+                root.get("createdAt")
+        ));
+
+        if (spec != null){
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null){
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> decreaseStocks(SortedMap<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()){
+            return List.of();
+        }
+        // 쓰기 지연된 변경 먼저 반영 (@Modifying(flushAutomatically = true) 와 같음)
+        em.flush();
+
+        List<Long> productIds = new ArrayList<>(quantitiesByProductId.keySet());
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DECREASE_STOCK_SQL)) {
+                for (Long productId : productIds){
+                    int quantity = quantitiesByProductId.get(productId);
+                    statement.setInt(1, quantity);
+                    statement.setLong(2, productId);
+                    statement.setInt(3, quantity);
+                    statement.addBatch();
+                }
+                // MySQL(rewriteBatchedStatements=true)도 UPDATE 배치는 문장별 변경 행 수를 돌려줌
+                int[] updatedRows = statement.executeBatch();
+
+                List<Long> failed = new ArrayList<>();
+                for (int i = 0; i < updatedRows.length; i++){
+                    if (updatedRows[i] == 0){
+                        failed.add(productIds.get(i));
+                    }
+                }
+                return failed;
+            }
+        });
+    }
+}
@@ -3,11 +3,36 @@ package shop.shop_spring.product.repository;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.enums.Status;
 
 import java.util.List;
+import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>, ProductQueryRepository {
     List<Product> findAllByStatusNot(Status status, Sort sort);
+
+    @Query("SELECT p.id AS id, p.title AS title FROM Product p")
+    List<ProductTitleView> findAllTitleViews();
+
+    @Query("SELECT p.id AS id, p.title AS title FROM Product p WHERE p.id = :id")
+    Optional<ProductTitleView> findTitleViewById(@Param("id") Long id);
+
+    // 재고가 충분할 때만 차감 (단일 UPDATE 로 조회-비교-쓰기 경쟁 방지), 반환값 0 이면 재고 부족
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity " +
+            "WHERE p.id = :productId AND p.stockQuantity >= :quantity")
+    int decreaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.id = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // Redis 재고 카운터 값으로 덮어쓰기 (write-behind 동기화, 핫 상품 해제)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = :stockQuantity WHERE p.id = :productId")
+    int overwriteStock(@Param("productId") Long productId, @Param("stockQuantity") int stockQuantity);
 }
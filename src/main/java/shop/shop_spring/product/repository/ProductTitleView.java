@@ -0,0 +1,9 @@
+package shop.shop_spring.product.repository;
+
+/**
+ * 상품 제목 인덱스 구축용 (id, title) 프로젝션
+ */
+public interface ProductTitleView {
+    Long getId();
+    String getTitle();
+}
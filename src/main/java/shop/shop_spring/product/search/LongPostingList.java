@@ -0,0 +1,80 @@
+package shop.shop_spring.product.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 정렬된 long 배열 기반 posting list (박싱 없음)
+ */
+class LongPostingList {
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids = new long[4];
+    private int size = 0;
+
+    void add(long id){
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0){
+            return;
+        }
+        int insertAt = -(pos + 1);
+        if (size == ids.length){
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(long id){
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0){
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    boolean contains(long id){
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int size(){
+        return size;
+    }
+
+    boolean isEmpty(){
+        return size == 0;
+    }
+
+    long[] toArray(){
+        return size == 0 ? EMPTY : Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 가장 짧은 목록을 기준으로 나머지 목록에 이진 탐색하여 교집합 계산
+     */
+    static long[] intersect(LongPostingList[] lists){
+        if (lists.length == 0){
+            return EMPTY;
+        }
+        LongPostingList smallest = lists[0];
+        for (LongPostingList list : lists){
+            if (list.size < smallest.size){
+                smallest = list;
+            }
+        }
+        long[] result = new long[smallest.size];
+        int count = 0;
+        outer:
+        for (int i = 0; i < smallest.size; i++){
+            long id = smallest.ids[i];
+            for (LongPostingList list : lists){
+                if (list != smallest && !list.contains(id)){
+                    continue outer;
+                }
+            }
+            result[count++] = id;
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,269 @@
+package shop.shop_spring.product.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.product.repository.ProductTitleView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 제목 n-gram 역색인
+ * 공백 기준 토큰화 없이 문자 단위 2-gram / 3-gram 으로 색인하므로 한글 제목에도 부분 일치 검색 가능
+ * gram 교집합으로 후보를 구한 뒤 원문 포함 여부를 확인하여 LIKE '%x%' 와 동일한 결과를 반환
+ * 노드마다 메모리에 있으므로 변경된 상품 id 를 Redis pub/sub 으로 알리고, 받은 노드는 DB 의 현재 제목으로 반영
+ * pub/sub 은 유실될 수 있으므로 주기적으로 전체 재구축하여 수렴
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductTitleIndex implements MessageListener {
+    public static final String CHANGE_CHANNEL = "product:title-index:change";
+    static final int MIN_QUERY_LENGTH = 2;
+    private static final long[] EMPTY = new long[0];
+
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 자신이 보낸 변경 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 후보가 이보다 많으면 IN 절이 비대해지므로 DB LIKE 검색으로 대체
+    @Value("${app.product.title-index.max-candidates:1000}")
+    private int maxCandidates = 1000;
+
+    private final Map<String, LongPostingList> postings = new HashMap<>();
+    private final Map<Long, String> titles = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+    // 구축 중 들어온 변경 사항 (value 가 null 이면 삭제)
+    private Map<Long, String> pendingChanges = null;
+
+    @PostConstruct
+    void subscribe(){
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    // 유실된 변경 메시지 보정
+    @Scheduled(fixedDelayString = "${app.product.title-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.product.title-index.rebuild-interval-ms:600000}")
+    public void rebuildPeriodically(){
+        rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild(){
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<ProductTitleView> views = productRepository.findAllTitleViews();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            titles.clear();
+            for (ProductTitleView view : views){
+                addInternal(view.getId(), view.getTitle());
+            }
+            pendingChanges.forEach((id, title) -> {
+                removeInternal(id);
+                if (title != null){
+                    addInternal(id, title);
+                }
+            });
+            pendingChanges = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 로컬 반영 후 다른 노드에 변경 알림 (커밋 후 호출)
+     */
+    public void upsert(Long productId, String title){
+        upsertLocally(productId, title);
+        broadcast(productId);
+    }
+
+    public void remove(Long productId){
+        removeLocally(productId);
+        broadcast(productId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0){
+            log.warn("잘못된 상품 제목 색인 변경 메시지: {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separator))){
+            return;
+        }
+        Long productId;
+        try {
+            productId = Long.parseLong(body.substring(separator + 1));
+        } catch (NumberFormatException e){
+            log.warn("잘못된 상품 제목 색인 변경 메시지: {}", body);
+            return;
+        }
+        // 메시지 순서와 관계없이 커밋된 최신 제목으로 수렴
+        productRepository.findTitleViewById(productId).ifPresentOrElse(
+                view -> upsertLocally(view.getId(), view.getTitle()),
+                () -> removeLocally(productId));
+    }
+
+    private void broadcast(Long productId){
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, nodeId + ":" + productId);
+        } catch (DataAccessException e){
+            // 다른 노드는 주기적 재구축으로 수렴
+            log.warn("상품 제목 색인 변경 알림 실패: productId={}", productId, e);
+        }
+    }
+
+    private void upsertLocally(Long productId, String title){
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null){
+                pendingChanges.put(productId, title);
+            }
+            removeInternal(productId);
+            addInternal(productId, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocally(Long productId){
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null){
+                pendingChanges.put(productId, null);
+            }
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목에 keyword 를 포함하는 상품 id (오름차순)
+     * 인덱스 미구축, 검색어가 너무 짧거나 결과가 너무 많으면 null -> 호출 측에서 LIKE 검색으로 대체
+     */
+    public long[] search(String keyword){
+        if (!ready || keyword == null){
+            return null;
+        }
+        String normalized = normalize(keyword);
+        if (normalized.length() < MIN_QUERY_LENGTH){
+            return null;
+        }
+        // 3글자 이상이면 선택도가 높은 3-gram 사용
+        int gramSize = normalized.length() >= 3 ? 3 : 2;
+        Set<String> grams = grams(normalized, gramSize);
+
+        lock.readLock().lock();
+        try {
+            LongPostingList[] lists = new LongPostingList[grams.size()];
+            int i = 0;
+            for (String gram : grams){
+                LongPostingList list = postings.get(gram);
+                if (list == null){
+                    return EMPTY;
+                }
+                lists[i++] = list;
+            }
+
+            long[] candidates = LongPostingList.intersect(lists);
+            long[] matched = new long[candidates.length];
+            int count = 0;
+            for (long id : candidates){
+                String title = titles.get(id);
+                if (title != null && title.contains(normalized)){
+                    matched[count++] = id;
+                }
+            }
+            if (count > maxCandidates){
+                return null;
+            }
+            return Arrays.copyOf(matched, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady(){
+        return ready;
+    }
+
+    private void addInternal(Long productId, String title){
+        if (productId == null || title == null){
+            return;
+        }
+        String normalized = normalize(title);
+        titles.put(productId, normalized);
+        for (String gram : indexGrams(normalized)){
+            postings.computeIfAbsent(gram, g -> new LongPostingList()).add(productId);
+        }
+    }
+
+    private void removeInternal(Long productId){
+        String normalized = titles.remove(productId);
+        if (normalized == null){
+            return;
+        }
+        for (String gram : indexGrams(normalized)){
+            LongPostingList list = postings.get(gram);
+            if (list == null){
+                continue;
+            }
+            list.remove(productId);
+            if (list.isEmpty()){
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> indexGrams(String normalized){
+        Set<String> result = grams(normalized, 2);
+        result.addAll(grams(normalized, 3));
+        return result;
+    }
+
+    private static Set<String> grams(String text, int n){
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + n <= text.length(); i++){
+            result.add(text.substring(i, i + n));
+        }
+        return result;
+    }
+
+    // DB 의 lower(title) 와 동일하게 소문자 기준 비교
+    private static String normalize(String text){
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
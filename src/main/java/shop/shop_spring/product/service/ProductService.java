@@ -1,20 +1,40 @@
 package shop.shop_spring.product.service;
 
+import shop.shop_spring.common.pagination.CursorPage;
 import shop.shop_spring.product.Dto.ProductCreationRequest;
+import shop.shop_spring.product.Dto.ProductDetailDto;
 import shop.shop_spring.product.Dto.ProductSearchCondition;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
 import shop.shop_spring.product.Dto.ProductUpdateRequest;
 import shop.shop_spring.product.domain.Product;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductService {
 
     Long createProduct(ProductCreationRequest product);
 
-    List<Product> searchProducts(ProductSearchCondition productSearchCondition);
+    /**
+     * (createdAt, id) 기준 keyset 페이지 조회 - 목록 카드용 요약 정보만 반환
+     * cursor 가 null 이면 첫 페이지, 결과의 nextCursor 를 다음 요청에 그대로 전달
+     */
+    CursorPage<ProductSummaryDto> searchProductPage(ProductSearchCondition productSearchCondition, String cursor, int size);
 
     Product findById(Long id);
 
+    // 여러 상품 한 번에 조회 (없는 상품은 결과에서 빠짐)
+    List<Product> findAllByIds(Collection<Long> ids);
+
+    /**
+     * 상품 상세 화면용 조회 (캐시 사용)
+     * 수정/삭제 권한 확인 등 최신 엔티티가 필요한 곳에서는 findById 사용
+     */
+    ProductDetailDto getProductDetail(Long productId);
+
+    // 상품 상세 설명 (없으면 null)
+    String findDescription(Long productId);
+
     void updateProduct(String username, Long productId, ProductUpdateRequest updateRequest);
 
     void deleteProduct(String username, Long pd);
@@ -1,7 +1,6 @@
 package shop.shop_spring.product.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -9,17 +8,27 @@ import org.springframework.transaction.annotation.Transactional;
 import shop.shop_spring.category.service.CategoryService;
 import shop.shop_spring.category.domain.Category;
 import shop.shop_spring.common.exception.DataNotFoundException;
+import shop.shop_spring.common.pagination.CursorPage;
+import shop.shop_spring.common.pagination.KeysetCursor;
+import shop.shop_spring.common.transaction.AfterCommit;
 import shop.shop_spring.product.Dto.ProductCreationRequest;
+import shop.shop_spring.product.Dto.ProductDetailDto;
 import shop.shop_spring.product.Dto.ProductSearchCondition;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
 import shop.shop_spring.product.Dto.ProductUpdateRequest;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.repository.ProductDescriptionRepository;
 import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.product.search.ProductTitleIndex;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.domain.ProductDescription;
 import shop.shop_spring.product.enums.Status;
 import shop.shop_spring.product.specification.ProductSpecification;
+import shop.shop_spring.common.money.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,7 +37,13 @@ import java.util.Optional;
 public class ProductServiceImpl implements ProductService{
     private final CategoryService categoryService;
     private final ProductRepository productRepository;
+    private final ProductDescriptionRepository productDescriptionRepository;
+    private final ProductTitleIndex productTitleIndex;
+    private final ProductDetailCache productDetailCache;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Transactional
     @Override
     public Long createProduct(ProductCreationRequest request) {
         
@@ -40,15 +55,14 @@ public class ProductServiceImpl implements ProductService{
         Category category = categoryService.findById(request.getCategoryId());
         newProduct.setCategory(category);
 
-        if (request.getDescription() != null){
-            ProductDescription productDescription  = new ProductDescription();
-            productDescription.setDescription(request.getDescription());
-            newProduct.setDescription(productDescription);
-        }
-
         validateProduct(newProduct);
         productRepository.save(newProduct);
 
+        if (request.getDescription() != null){
+            productDescriptionRepository.save(new ProductDescription(newProduct, request.getDescription()));
+        }
+        AfterCommit.run(() -> productTitleIndex.upsert(newProduct.getId(), newProduct.getTitle()));
+
         return newProduct.getId();
     }
 
@@ -61,7 +75,7 @@ public class ProductServiceImpl implements ProductService{
     private Product productCreationRequestToProduct(ProductCreationRequest request) {
         Product product = new Product();
         product.setTitle(request.getTitle());
-        product.setPrice(request.getPrice());
+        product.setPrice(Money.ofNullable(request.getPrice()));
         product.setUsername(request.getUsername());
         product.setStockQuantity(request.getStockQuantity());
         product.setThumbnailUrl(request.getThumbnailUrl());
@@ -82,8 +96,50 @@ public class ProductServiceImpl implements ProductService{
     }
 
     @Override
-    public List<Product> searchProducts(ProductSearchCondition searchCondition) {
-        Long id = searchCondition.getId();
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return productRepository.findAllById(ids);
+    }
+
+    @Override
+    public ProductDetailDto getProductDetail(Long productId) {
+        return productDetailCache.get(productId,
+                id -> ProductDetailDto.of(findById(id), findDescription(id)));
+    }
+
+    @Override
+    public String findDescription(Long productId) {
+        return productDescriptionRepository.findById(productId)
+                .map(ProductDescription::getDescription)
+                .orElse(null);
+    }
+
+    @Override
+    public CursorPage<ProductSummaryDto> searchProductPage(ProductSearchCondition searchCondition, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE){
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 함");
+        }
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+        Specification<Product> spec = buildSearchSpecification(searchCondition);
+        if (keysetCursor != null){
+            spec = spec.and(ProductSpecification.seekAfter(keysetCursor.getCreatedAt(), keysetCursor.getId()));
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리 없음)
+        List<ProductSummaryDto> fetched = productRepository.findSummaries(spec, size + 1);
+
+        boolean hasNext = fetched.size() > size;
+        List<ProductSummaryDto> content = hasNext ? fetched.subList(0, size) : fetched;
+
+        String nextCursor = null;
+        if (hasNext){
+            ProductSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    private Specification<Product> buildSearchSpecification(ProductSearchCondition searchCondition) {
         String title = searchCondition.getProductTitle();
         Long categoryId = searchCondition.getCategoryId();
         String seller = searchCondition.getSellerUsername();
@@ -95,9 +151,14 @@ public class ProductServiceImpl implements ProductService{
             spec = spec.and(ProductSpecification.statusIn(statuses));
         }
 
-        // 검색어가 존재
+        // 검색어가 존재 - 제목 인덱스 후보로 제한, 인덱스를 쓸 수 없으면 LIKE 검색
         if (title != null && !title.trim().isEmpty()){
-            spec = spec.and(ProductSpecification.titleLike(title.trim()));
+            long[] candidateIds = productTitleIndex.search(title.trim());
+            if (candidateIds != null){
+                spec = spec.and(ProductSpecification.idIn(candidateIds));
+            } else {
+                spec = spec.and(ProductSpecification.titleLike(title.trim()));
+            }
         }
 
         // 카테고리 존재
@@ -111,10 +172,7 @@ public class ProductServiceImpl implements ProductService{
         if (seller != null && !seller.trim().isEmpty()){
             spec = spec.and(ProductSpecification.hasOwnerUsername(seller.trim()));
         }
-
-        Sort sortByCreatedAtDesc = Sort.by(Sort.Direction.DESC, "createdAt");
-
-        return productRepository.findAll(spec, sortByCreatedAtDesc);
+        return spec;
     }
 
     @Transactional
@@ -125,7 +183,10 @@ public class ProductServiceImpl implements ProductService{
         if (!username.equals(product.getUsername())){
             throw new AccessDeniedException("상품 삭제 권한이 없음");
         }
+        productDescriptionRepository.deleteByProductId(productId);
         productRepository.deleteById(productId);
+        AfterCommit.run(() -> productTitleIndex.remove(productId));
+        productDetailCache.evict(productId);
     }
 
     @Transactional
@@ -145,15 +206,11 @@ public class ProductServiceImpl implements ProductService{
         String descriptionContent = updateRequest.getDescription();
 
         product.setTitle(title);
-        product.setPrice(price);
+        product.setPrice(Money.ofNullable(price));
         product.setStockQuantity(stockQuantity);
         //product.setThumbnailUrl(thumbnailUrl);
-        ProductDescription productDescription = product.getDescription();
-        if (productDescription == null){
-            ProductDescription description = new ProductDescription();
-            product.setDescription(description);
-            productDescription = product.getDescription();
-        }
+        ProductDescription productDescription = productDescriptionRepository.findById(productId)
+                .orElseGet(() -> new ProductDescription(product, null));
         productDescription.setDescription(descriptionContent);
 
         if (status == null){
@@ -166,6 +223,8 @@ public class ProductServiceImpl implements ProductService{
         validateProduct(product);
 
         productRepository.save(product);
-
+        productDescriptionRepository.save(productDescription);
+        AfterCommit.run(() -> productTitleIndex.upsert(productId, title));
+        productDetailCache.evict(productId);
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.domain.Specification;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.enums.Status;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class ProductSpecification {
@@ -50,4 +51,37 @@ public class ProductSpecification {
             return criteriaBuilder.equal(root.get("username"), username.trim());
         };
     }
+
+    // (createdAt, id) DESC 정렬 기준으로 커서 이후의 행만 조회
+    public static Specification<Product> seekAfter(LocalDateTime createdAt, Long id){
+        return (root, query, criteriaBuilder) -> {
+            if (createdAt == null || id == null){
+                return null;
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(root.get("createdAt"), createdAt),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get("createdAt"), createdAt),
+                            criteriaBuilder.lessThan(root.get("id"), id)
+                    )
+            );
+        };
+    }
+
+    // 제목 인덱스로 찾은 후보 id 로 제한 (후보가 없으면 항상 거짓)
+    public static Specification<Product> idIn(long[] ids){
+        return (root, query, criteriaBuilder) -> {
+            if (ids == null){
+                return null;
+            }
+            if (ids.length == 0){
+                return criteriaBuilder.disjunction();
+            }
+            CriteriaBuilder.In<Long> inClause = criteriaBuilder.in(root.get("id"));
+            for (long id : ids){
+                inClause.value(id);
+            }
+            return inClause;
+        };
+    }
 }
@@ -7,14 +7,17 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import shop.shop_spring.security.jwt.JwtUtil;
+import shop.shop_spring.security.jwt.RefreshTokenStore;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRefresher tokenRefresher;
 
-    public String login(String username, String password){
+    public AuthTokens login(String username, String password){
 
         // 사용자 인증 토큰 생성
         var authToken = new UsernamePasswordAuthenticationToken(username, password);
@@ -26,8 +29,17 @@ public class AuthService {
         // 인증 정보 설정
         SecurityContextHolder.getContext().setAuthentication(authenticatedAuth);
 
-        // jwt 반환
-        return jwtUtil.createToken(SecurityContextHolder.getContext().getAuthentication());
+        // jwt + refresh token 반환
+        String accessToken = jwtUtil.createToken(SecurityContextHolder.getContext().getAuthentication());
+        return new AuthTokens(accessToken, refreshTokenStore.issue(username),
+                jwtUtil.getAccessTokenTtlSeconds(), refreshTokenStore.getTtlSeconds());
     }
 
+    /**
+     * refresh token 으로 재발급 (비밀번호 검증 없이 최신 회원 정보로 발급)
+     * 사용한 refresh token 은 폐기하고 새 토큰으로 교체
+     */
+    public AuthTokens refresh(String refreshToken){
+        return tokenRefresher.rotate(refreshToken);
+    }
 }
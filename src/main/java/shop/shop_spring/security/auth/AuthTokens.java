@@ -0,0 +1,17 @@
+package shop.shop_spring.security.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인/재발급 결과 (짧은 access token + 일회용 refresh token)
+ * refresh token 을 교체하지 않은 자동 재발급이면 refreshToken 은 null
+ */
+@Getter
+@AllArgsConstructor
+public class AuthTokens {
+    private String accessToken;
+    private String refreshToken;
+    private long accessTokenTtlSeconds;
+    private long refreshTokenTtlSeconds;
+}
@@ -0,0 +1,53 @@
+package shop.shop_spring.security.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.common.exception.InvalidTokenException;
+import shop.shop_spring.security.jwt.JwtUtil;
+import shop.shop_spring.security.jwt.RefreshTokenStore;
+import shop.shop_spring.security.model.MyUser;
+
+/**
+ * refresh token 으로 토큰 재발급 (비밀번호 검증 없이 최신 회원 정보로 발급)
+ * 재발급 API 와 JwtAuthenticationFilter 의 자동 재발급이 함께 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRefresher {
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MyUserDetailService myUserDetailService;
+
+    /**
+     * 사용한 refresh token 은 폐기하고 새 토큰으로 교체
+     */
+    public AuthTokens rotate(String refreshToken){
+        String username = refreshToken == null ? null : refreshTokenStore.consume(refreshToken);
+        if (username == null){
+            throw new InvalidTokenException("만료되었거나 이미 사용된 refresh token");
+        }
+        return issue(username, true);
+    }
+
+    /**
+     * 필터의 자동 재발급 - 같은 refresh token 으로 동시에 들어온 요청 중 하나만 교체하고,
+     * 유예 시간 안에 들어온 나머지 요청에는 access token 만 발급 (refresh token 은 null)
+     * @return 재발급 결과, 유효하지 않은 토큰이면 null
+     */
+    public AuthTokens rotateOrReissue(String refreshToken){
+        String username = refreshTokenStore.consume(refreshToken);
+        if (username != null){
+            return issue(username, true);
+        }
+        username = refreshTokenStore.findRecentlyRotated(refreshToken);
+        return username == null ? null : issue(username, false);
+    }
+
+    private AuthTokens issue(String username, boolean rotate){
+        MyUser user = (MyUser) myUserDetailService.loadUserByUsername(username);
+        String accessToken = jwtUtil.createToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        return new AuthTokens(accessToken, rotate ? refreshTokenStore.issue(username) : null,
+                jwtUtil.getAccessTokenTtlSeconds(), refreshTokenStore.getTtlSeconds());
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.ExceptionTranslationFilter;
 import shop.shop_spring.security.jwt.JwtAuthenticationFilter;
+import shop.shop_spring.security.jwt.JwtLogoutHandler;
 
 
 @Configuration
@@ -34,6 +35,7 @@ public class SecurityConfig {
 
             "/api/members/register",
             "/api/members/login",
+            "/api/members/token/refresh",
             "/api/members/password-reset",
             "/api/members/change-password",
             "/api/categories/**",
@@ -54,7 +56,12 @@ public class SecurityConfig {
             "/api/payments/**"
     };
 
+    String[] urlBeAdmin = {
+            "/api/admin/**"
+    };
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final JwtLogoutHandler jwtLogoutHandler;
 
     @Bean
     PasswordEncoder passwordEncoder(){
@@ -83,10 +90,13 @@ public class SecurityConfig {
         http.addFilterBefore(jwtAuthenticationFilter, ExceptionTranslationFilter.class);
 
         http.authorizeHttpRequests((authorize) -> authorize
+                        .requestMatchers(urlBeAdmin).hasRole("ADMIN")
                         .requestMatchers(urlsBePermittedAll).permitAll()
                         .requestMatchers(urlBeAuthenticated).authenticated())
 
-                .logout(logout -> logout.permitAll());
+                .logout(logout -> logout
+                        .addLogoutHandler(jwtLogoutHandler) // 토큰 폐기 + 쿠키 삭제
+                        .permitAll());
 
         // .formLogin(...) 은 session 방식에서 사용함 빼야함
 
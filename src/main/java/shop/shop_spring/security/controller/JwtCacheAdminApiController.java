@@ -0,0 +1,35 @@
+package shop.shop_spring.security.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.shop_spring.common.response.CustomApiResponse;
+import shop.shop_spring.security.jwt.JwtFilterStats;
+import shop.shop_spring.security.jwt.VerifiedTokenCache;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache Admin API", description = "캐시 상태 조회 관리자 API")
+public class JwtCacheAdminApiController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Operation(summary = "JWT 검증 캐시 통계", description = "검증된 토큰 캐시의 적중률과 JWT 인증 필터 평균 처리 시간 조회")
+    @GetMapping("/jwt")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    public ResponseEntity<CustomApiResponse<JwtFilterStats>> getJwtCacheStats(){
+        CustomApiResponse<JwtFilterStats> response = CustomApiResponse.success("캐시 통계 조회 성공", verifiedTokenCache.stats());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
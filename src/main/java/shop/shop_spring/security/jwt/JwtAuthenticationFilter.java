@@ -1,12 +1,12 @@
 package shop.shop_spring.security.jwt;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import shop.shop_spring.member.domain.enums.Role;
 
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,16 +15,26 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
+import shop.shop_spring.security.auth.AuthTokens;
+import shop.shop_spring.security.auth.TokenRefresher;
 import shop.shop_spring.security.model.MyUser;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+@Slf4j
 @Component
 @AllArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    // 자동 재발급하지 않는 경로 (명시적 재발급, 로그아웃)
+    private static final Set<String> NO_SILENT_REFRESH_PATHS = Set.of("/api/members/token/refresh", "/logout");
+
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final TokenRefresher tokenRefresher;
 
     @Override
     protected void doFilterInternal(
@@ -33,36 +43,94 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
         //요청들어올때마다 실행할 코드 정의
+        long start = System.nanoTime();
+        authenticate(request, response);
+        verifiedTokenCache.recordFilterTime(System.nanoTime() - start);
 
-        // 쿠키 없을 때 예외처리
-        Cookie[] cookies = request.getCookies();
-        if (cookies == null){
-            filterChain.doFilter(request, response);
-            return;
-        }
+        filterChain.doFilter(request, response);
+    }
 
+    private void authenticate(HttpServletRequest request, HttpServletResponse response){
         // jwt만 가져옴
-        var jwtCookie = "";
-        for (int i = 0; i < cookies.length; i++){
-            if (cookies[i].getName().equals("jwt")){
-                jwtCookie = cookies[i].getValue();
-                break;
-            }
+        String jwtCookie = TokenCookies.find(request, TokenCookies.ACCESS_TOKEN);
+        VerifiedToken verifiedToken = jwtCookie == null || jwtCookie.isEmpty() ? null : verify(jwtCookie);
+
+        // jwt가 없거나 만료/위조 -> refresh token 쿠키가 있으면 자동 재발급
+        if (verifiedToken == null){
+            verifiedToken = refreshSilently(request, response);
         }
-        // jwt가 없을 때
-        if (jwtCookie.equals("")){
-            filterChain.doFilter(request, response);
+        if (verifiedToken == null){
             return;
         }
 
+        // 로그아웃 등으로 폐기된 토큰 (로컬 Bloom filter 로 확인)
+        if (revokedTokenRegistry.isRevoked(verifiedToken.getTokenId())){
+            return;
+        }
+
+        MyUser myUser = verifiedToken.getUser();
+        var authToken = new UsernamePasswordAuthenticationToken(
+                myUser, null, myUser.getAuthorities()
+        );
+
+        authToken.setDetails(new WebAuthenticationDetailsSource()
+                .buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    // 이미 검증된 토큰이면 서명 검증/클레임 파싱 생략, 유효하지 않으면 null
+    private VerifiedToken verify(String jwt){
+        VerifiedToken verifiedToken = verifiedTokenCache.get(jwt);
+        if (verifiedToken != null){
+            return verifiedToken;
+        }
+
         // Claims: jwt Cookie 내의 jwt 문자열로부터 추출된 정보들
         Claims claim;
         try {
-            claim = jwtUtil.extractToken(jwtCookie);
+            claim = jwtUtil.extractToken(jwt);
         } catch (Exception e){
-            filterChain.doFilter(request, response);
-            return;
+            return null;
         }
+        verifiedToken = new VerifiedToken(toMyUser(claim), claim.getId());
+        verifiedTokenCache.put(jwt, verifiedToken, claim.getExpiration());
+        return verifiedToken;
+    }
+
+    /**
+     * refresh token 으로 새 토큰을 발급해 응답 쿠키에 싣고, 새 access token 으로 이번 요청을 인증
+     */
+    private VerifiedToken refreshSilently(HttpServletRequest request, HttpServletResponse response){
+        String refreshToken = TokenCookies.find(request, TokenCookies.REFRESH_TOKEN);
+        if (refreshToken == null || refreshToken.isEmpty()
+                || NO_SILENT_REFRESH_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()))){
+            return null;
+        }
+
+        AuthTokens tokens;
+        try {
+            tokens = tokenRefresher.rotateOrReissue(refreshToken);
+        } catch (RuntimeException e){
+            log.warn("토큰 자동 재발급 실패", e);
+            return null;
+        }
+        if (tokens == null){
+            // 만료/폐기된 refresh token - 이후 요청마다 다시 조회하지 않도록 쿠키 삭제
+            response.addCookie(TokenCookies.expire(TokenCookies.REFRESH_TOKEN));
+            return null;
+        }
+
+        response.addCookie(TokenCookies.create(TokenCookies.ACCESS_TOKEN,
+                tokens.getAccessToken(), tokens.getAccessTokenTtlSeconds()));
+        if (tokens.getRefreshToken() != null){
+            response.addCookie(TokenCookies.create(TokenCookies.REFRESH_TOKEN,
+                    tokens.getRefreshToken(), tokens.getRefreshTokenTtlSeconds()));
+        }
+        return verify(tokens.getAccessToken());
+    }
+
+    private MyUser toMyUser(Claims claim){
         // claim으로부터 권한 정보 추출
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(claim.get("role").toString()));
@@ -75,17 +143,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         myUser.setName(claim.get("name").toString());
         myUser.setNickname(claim.get("nickname").toString());
         myUser.setRole(Enum.valueOf(Role.class, claim.get("role").toString()));
-
-        var authToken = new UsernamePasswordAuthenticationToken(
-                myUser, null, authorities
-        );
-
-        authToken.setDetails(new WebAuthenticationDetailsSource()
-                .buildDetails(request)
-        );
-        SecurityContextHolder.getContext().setAuthentication(authToken);
-
-        filterChain.doFilter(request, response);
+        return myUser;
     }
 
 }
@@ -0,0 +1,20 @@
+package shop.shop_spring.security.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import shop.shop_spring.common.cache.CacheStats;
+
+/**
+ * JWT 인증 필터 통계 (검증 캐시 적중률 + 필터 처리 시간)
+ */
+@Getter
+@AllArgsConstructor
+public class JwtFilterStats {
+    private CacheStats cache;
+    private long requests;
+    private long totalFilterNanos;
+
+    public double getAverageFilterMicros(){
+        return requests == 0 ? 0.0 : totalFilterNanos / 1000.0 / requests;
+    }
+}
@@ -0,0 +1,57 @@
+package shop.shop_spring.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃 시 토큰 폐기
+ * access token 은 만료 시각까지 폐기 목록에 등록, refresh token 은 삭제 후 두 쿠키 모두 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtLogoutHandler implements LogoutHandler {
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String accessToken = TokenCookies.find(request, TokenCookies.ACCESS_TOKEN);
+        String refreshToken = TokenCookies.find(request, TokenCookies.REFRESH_TOKEN);
+
+        try {
+            if (accessToken != null && !accessToken.isEmpty()){
+                revokeAccessToken(accessToken);
+            }
+            if (refreshToken != null && !refreshToken.isEmpty()){
+                refreshTokenStore.revoke(refreshToken);
+            }
+        } catch (RuntimeException e){
+            // Redis 장애 - 쿠키는 지우고 access token 은 짧은 만료에 맡김
+            log.warn("로그아웃 토큰 폐기 실패", e);
+        }
+
+        response.addCookie(TokenCookies.expire(TokenCookies.ACCESS_TOKEN));
+        response.addCookie(TokenCookies.expire(TokenCookies.REFRESH_TOKEN));
+    }
+
+    private void revokeAccessToken(String accessToken){
+        verifiedTokenCache.invalidate(accessToken);
+        Claims claims;
+        try {
+            claims = jwtUtil.extractToken(accessToken);
+        } catch (JwtException | IllegalArgumentException e){
+            return; // 이미 만료되었거나 위조된 토큰 - 필터에서 거부되므로 폐기 불필요
+        }
+        revokedTokenRegistry.revoke(claims.getId(), claims.getExpiration());
+    }
+}
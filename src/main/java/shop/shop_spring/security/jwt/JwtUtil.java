@@ -1,6 +1,7 @@
 package shop.shop_spring.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -12,17 +13,26 @@ import shop.shop_spring.security.model.MyUser;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
     @Value("${spring.jwt.secret}")
     private String secretKeyString;
+
+    // 폐기/재발급이 가능하므로 짧게 유지
+    @Value("${app.jwt.access-token-ttl-seconds:900}")
+    private long accessTokenTtlSeconds = 900;
+
     private SecretKey key;
+    // 파서는 불변/스레드 안전하므로 한 번만 생성하여 재사용
+    private JwtParser parser;
 
     @PostConstruct
     public void init(){
         byte[] keyBytes = Decoders.BASE64.decode(secretKeyString);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     // JWT 만들어주는 함수
@@ -34,17 +44,21 @@ public class JwtUtil {
                 .claim("nickname", user.getNickname())
                 .claim("name", user.getName())
                 .claim("role", user.getRole().toString())
+                .id(UUID.randomUUID().toString()) // 폐기 확인용 토큰 id(jti)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 )) //유효기간 60분
+                .expiration(new Date(System.currentTimeMillis() + accessTokenTtlSeconds * 1000)) //유효기간 기본 15분
                 .signWith(key)
                 .compact();
         return jwt;
     }
 
+    public long getAccessTokenTtlSeconds(){
+        return accessTokenTtlSeconds;
+    }
+
     // JWT 디코딩
     public Claims extractToken(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token).getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
         return claims;
     }
 
@@ -0,0 +1,75 @@
+package shop.shop_spring.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Redis 기반 refresh token 저장소 (토큰 다이제스트 -> username)
+ * 한 번 사용하면 삭제되는 일회용 토큰 - 재발급 시 새 토큰으로 교체(rotation)
+ * 교체된 토큰은 짧은 유예 시간 동안만 기록 (동시에 출발한 요청들의 자동 재발급용)
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+    static final String KEY_PREFIX = "auth:refresh:";
+    static final String ROTATED_KEY_PREFIX = "auth:refresh:rotated:";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.jwt.refresh-token-ttl-seconds:1209600}")
+    private long ttlSeconds = 1209600; // 14일
+
+    @Value("${app.jwt.refresh-token-grace-seconds:30}")
+    private long graceSeconds = 30;
+
+    public String issue(String username){
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        stringRedisTemplate.opsForValue().set(keyOf(refreshToken), username, Duration.ofSeconds(ttlSeconds));
+        return refreshToken;
+    }
+
+    /**
+     * 토큰 사용 (원자적 조회 + 삭제)
+     * @return 토큰 주인 username, 없거나 이미 사용된 토큰이면 null
+     */
+    public String consume(String refreshToken){
+        String username = stringRedisTemplate.opsForValue().getAndDelete(keyOf(refreshToken));
+        if (username != null && graceSeconds > 0){
+            stringRedisTemplate.opsForValue().set(rotatedKeyOf(refreshToken), username, Duration.ofSeconds(graceSeconds));
+        }
+        return username;
+    }
+
+    /**
+     * 유예 시간 안에 교체된 토큰이면 토큰 주인 username, 아니면 null
+     */
+    public String findRecentlyRotated(String refreshToken){
+        return stringRedisTemplate.opsForValue().get(rotatedKeyOf(refreshToken));
+    }
+
+    public void revoke(String refreshToken){
+        stringRedisTemplate.delete(List.of(keyOf(refreshToken), rotatedKeyOf(refreshToken)));
+    }
+
+    public long getTtlSeconds(){
+        return ttlSeconds;
+    }
+
+    private static String keyOf(String refreshToken){
+        return KEY_PREFIX + TokenDigests.sha256(refreshToken);
+    }
+
+    private static String rotatedKeyOf(String refreshToken){
+        return ROTATED_KEY_PREFIX + TokenDigests.sha256(refreshToken);
+    }
+}
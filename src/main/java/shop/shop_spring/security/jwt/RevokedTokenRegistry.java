@@ -0,0 +1,115 @@
+package shop.shop_spring.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.common.bloom.BloomFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * 폐기된 access token id(jti) 목록
+ * 원본은 Redis sorted set (score = 토큰 만료 시각, 만료된 id 는 재적재 시 정리)
+ * 각 노드는 로컬 Bloom filter 로 미러링하여 요청마다 네트워크 없이 O(1) 확인
+ * Bloom filter 양성(폐기됐거나 거짓 양성)일 때만 Redis 로 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenRegistry implements MessageListener {
+    public static final String REVOKE_CHANNEL = "auth:revoked";
+    static final String KEY = "auth:revoked-jti";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${app.jwt.revocation.expected-insertions:100000}")
+    private int expectedInsertions = 100000;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate = 0.001;
+
+    private volatile BloomFilter current;
+    // 재적재 중 새 필터 (재적재 동안 들어온 폐기 id 도 빠지지 않도록 함께 기록)
+    private volatile BloomFilter next;
+
+    @PostConstruct
+    void init(){
+        current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKE_CHANNEL));
+    }
+
+    /**
+     * 토큰 폐기 - 만료 시각까지 보관 후 다른 노드에 전파
+     */
+    public void revoke(String tokenId, Date expiration){
+        if (tokenId == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()){
+            return; // 이미 만료된 토큰은 필터에서 거부됨
+        }
+        stringRedisTemplate.opsForZSet().add(KEY, tokenId, expiration.getTime());
+        stringRedisTemplate.convertAndSend(REVOKE_CHANNEL, tokenId);
+        add(tokenId);
+    }
+
+    public boolean isRevoked(String tokenId){
+        if (tokenId == null || !current.mightContain(tokenId)){
+            return false;
+        }
+        try {
+            return stringRedisTemplate.opsForZSet().score(KEY, tokenId) != null;
+        } catch (RuntimeException e){
+            log.warn("토큰 폐기 여부 확인 실패, 폐기된 것으로 처리: jti={}", tokenId, e);
+            return true;
+        }
+    }
+
+    /**
+     * Redis 에서 다시 적재하여 필터 교체 (만료된 id 정리 + 거짓 양성률 회복)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.reload-interval-ms:300000}",
+            initialDelayString = "${app.jwt.revocation.reload-interval-ms:300000}")
+    public synchronized void reload(){
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+            Long count = stringRedisTemplate.opsForZSet().zCard(KEY);
+            int size = (int) Math.min(Integer.MAX_VALUE / 2, count == null ? 0 : count);
+
+            next = new BloomFilter(Math.max(expectedInsertions, size * 2), falsePositiveRate);
+            Set<String> tokenIds = stringRedisTemplate.opsForZSet().range(KEY, 0, -1);
+            if (tokenIds != null){
+                tokenIds.forEach(next::put);
+            }
+            current = next;
+        } catch (RuntimeException e){
+            log.warn("폐기 토큰 목록 재적재 실패, 기존 필터 유지", e);
+        } finally {
+            next = null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void add(String tokenId){
+        current.put(tokenId);
+        BloomFilter reloading = next;
+        if (reloading != null){
+            reloading.put(tokenId);
+        }
+    }
+}
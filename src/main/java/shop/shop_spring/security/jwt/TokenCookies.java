@@ -0,0 +1,41 @@
+package shop.shop_spring.security.jwt;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * access/refresh token 쿠키 이름과 생성/조회
+ */
+public final class TokenCookies {
+    public static final String ACCESS_TOKEN = "jwt";
+    public static final String REFRESH_TOKEN = "refresh_token";
+
+    private TokenCookies() {
+    }
+
+    public static Cookie create(String name, String value, long maxAgeSeconds){
+        var cookie = new Cookie(name, value);
+        cookie.setMaxAge((int) maxAgeSeconds);
+        cookie.setHttpOnly(true); // js 등에서 접근 x
+        cookie.setPath("/");
+        return cookie;
+    }
+
+    // 쿠키 삭제용 (maxAge 0)
+    public static Cookie expire(String name){
+        return create(name, "", 0);
+    }
+
+    public static String find(HttpServletRequest request, String name){
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null){
+            return null;
+        }
+        for (Cookie cookie : cookies){
+            if (cookie.getName().equals(name)){
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package shop.shop_spring.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 보관/조회 키로 쓰는 고정 길이 SHA-256 다이제스트
+ */
+final class TokenDigests {
+    private TokenDigests() {
+    }
+
+    static String sha256(String token){
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없음", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package shop.shop_spring.security.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import shop.shop_spring.security.model.MyUser;
+
+/**
+ * 서명 검증이 끝난 토큰의 인증 주체와 토큰 id (폐기 여부 확인용)
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final MyUser user;
+    private final String tokenId;
+}
@@ -0,0 +1,74 @@
+package shop.shop_spring.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.shop_spring.common.cache.ConcurrentTtlCache;
+
+import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 검증된 JWT 캐시 (토큰 문자열 -> 미리 만들어 둔 MyUser + 토큰 id)
+ * 같은 세션의 반복 요청은 서명 검증/클레임 파싱 없이 인증 정보를 재사용
+ * 모든 인증 요청이 거치므로 요청마다 다이제스트 계산이나 전역 잠금 없이 토큰 문자열로 바로 조회
+ * (서버 메모리에만 있고 서명까지 같아야 적중하므로 원문 키로 충분)
+ * 항목은 캐시 TTL 과 토큰 만료 시각 중 빠른 쪽에 만료되므로 만료된 토큰으로 인증되지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+    @Value("${app.jwt.verified-cache.max-size:10000}")
+    private int maxSize = 10000;
+
+    @Value("${app.jwt.verified-cache.ttl-seconds:300}")
+    private long ttlSeconds = 300;
+
+    private final LongSupplier clock; // epoch millis
+    private ConcurrentTtlCache<String, VerifiedToken> cache;
+
+    // 필터 처리 시간 (토큰 추출 ~ SecurityContext 설정, 이후 필터 체인 제외)
+    private final LongAdder filterRequests = new LongAdder();
+    private final LongAdder filterNanos = new LongAdder();
+
+    public VerifiedTokenCache() {
+        this(System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void init(){
+        cache = new ConcurrentTtlCache<>("jwt-verified", maxSize, ttlSeconds * 1000);
+    }
+
+    public VerifiedToken get(String token){
+        return cache.get(token);
+    }
+
+    public void put(String token, VerifiedToken verifiedToken, Date expiration){
+        if (expiration == null){
+            return;
+        }
+        cache.put(token, verifiedToken, expiration.getTime() - clock.getAsLong());
+    }
+
+    public void invalidate(String token){
+        cache.invalidate(token);
+    }
+
+    public void invalidateAll(){
+        cache.invalidateAll();
+    }
+
+    public void recordFilterTime(long nanos){
+        filterRequests.increment();
+        filterNanos.add(nanos);
+    }
+
+    public JwtFilterStats stats(){
+        return new JwtFilterStats(cache.stats(), filterRequests.sum(), filterNanos.sum());
+    }
+}
@@ -0,0 +1,291 @@
+package shop.shop_spring.cart.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.domain.CartItem;
+import shop.shop_spring.cart.repository.CartRepository;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.member.repository.MemberRepository;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.common.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class RedisCartFlusherTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private RedisCartStore cartStore;
+    private RedisCartFlusher flusher;
+
+    private Member member;
+    private Product productA;
+    private Product productB;
+    private Product productC;
+
+    @BeforeEach
+    void setUp(){
+        cartStore = mock(RedisCartStore.class);
+        flusher = new RedisCartFlusher(cartStore, cartRepository, memberRepository, productRepository, transactionManager);
+
+        member = persistMember("test@test.com");
+
+        Category category = new Category();
+        category.setName("테스트 카테고리");
+        testEntityManager.persist(category);
+
+        productA = persistProduct(category, "상품 A");
+        productB = persistProduct(category, "상품 B");
+        productC = persistProduct(category, "상품 C");
+    }
+
+    @Test
+    void DB_장바구니_없으면_생성_후_상품_저장(){
+        // given
+        when(cartStore.read(member.getId())).thenReturn(Optional.of(List.of(
+                line(productA, 2), line(productB, 1))));
+
+        // when
+        flusher.flushBatch(List.of(member.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        Cart cart = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        assertThat(quantities(cart)).isEqualTo(Map.of(productA.getId(), 2, productB.getId(), 1));
+    }
+
+    @Test
+    void 기존_장바구니와_차이만_반영(){
+        // given - DB: A 1개, B 1개 / Redis: A 5개, C 3개
+        persistCart(Map.of(productA, 1, productB, 1));
+        when(cartStore.read(member.getId())).thenReturn(Optional.of(List.of(
+                line(productA, 5), line(productC, 3))));
+
+        // when
+        flusher.flushBatch(List.of(member.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        Cart cart = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        assertThat(quantities(cart)).isEqualTo(Map.of(productA.getId(), 5, productC.getId(), 3));
+    }
+
+    @Test
+    void Redis_에_장바구니_없으면_DB_유지(){
+        // given - TTL 만료 등으로 Redis 에서 사라진 장바구니
+        persistCart(Map.of(productA, 1));
+        when(cartStore.read(member.getId())).thenReturn(Optional.empty());
+
+        // when
+        flusher.flushBatch(List.of(member.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        Cart cart = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        assertThat(quantities(cart)).isEqualTo(Map.of(productA.getId(), 1));
+        verify(cartStore, never()).markDirty(List.of(member.getId()));
+    }
+
+    @Test
+    void 비운_장바구니는_DB_항목_삭제(){
+        // given
+        persistCart(Map.of(productA, 1, productB, 2));
+        when(cartStore.read(member.getId())).thenReturn(Optional.of(List.of()));
+
+        // when
+        flusher.flushBatch(List.of(member.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        Cart cart = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        assertThat(cart.getCartItems()).isEmpty();
+    }
+
+    @Test
+    void 가격이_바뀐_상품은_담을때_가격과_합계_갱신(){
+        // given - DB: A 1개(10000원) / Redis: A 2개(12000원)
+        persistCart(Map.of(productA, 1));
+        when(cartStore.read(member.getId())).thenReturn(Optional.of(List.of(
+                new RedisCartStore.CartLine(productA.getId(), 2, BigDecimal.valueOf(12000)))));
+
+        // when
+        flusher.flushBatch(List.of(member.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        Cart cart = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        assertThat(cart.getCartItems()).singleElement()
+                .satisfies(item -> assertThat(item.getUnitPrice()).isEqualTo(12000L));
+        assertThat(cart.getTotalQuantity()).isEqualTo(2);
+        assertThat(cart.getTotalAmount()).isEqualTo(24000L);
+    }
+
+    @Test
+    void 삭제된_상품은_제외하고_나머지_반영(){
+        // given - Redis 에 담긴 뒤 삭제된 상품
+        Long deletedProductId = productC.getId() + 1000;
+        when(cartStore.read(member.getId())).thenReturn(Optional.of(List.of(
+                line(productA, 2),
+                new RedisCartStore.CartLine(deletedProductId, 1, BigDecimal.valueOf(10000)))));
+
+        // when
+        flusher.flushBatch(List.of(member.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        Cart cart = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        assertThat(quantities(cart)).isEqualTo(Map.of(productA.getId(), 2));
+        verify(cartStore, never()).markDirty(any());
+    }
+
+    @Test
+    void 배치_실패시_회원별로_반영하고_실패한_회원만_dirty(){
+        // given
+        Member other = persistMember("other@test.com");
+        when(cartStore.read(member.getId())).thenThrow(new IllegalStateException("Redis 오류"));
+        when(cartStore.read(other.getId())).thenReturn(Optional.of(List.of(line(productA, 3))));
+
+        // when
+        flusher.flushBatch(List.of(member.getId(), other.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        Cart cart = cartRepository.findByMemberIdWithItemsAndProducts(other.getId()).orElseThrow();
+        assertThat(quantities(cart)).isEqualTo(Map.of(productA.getId(), 3));
+        verify(cartStore).markDirty(List.of(member.getId()));
+        verify(cartStore).completeDirty(List.of(member.getId(), other.getId()));
+    }
+
+    @Test
+    void 반영_실패시_dirty_로_되돌린_뒤_처리중_집합에서_제거(){
+        // given
+        when(cartStore.read(member.getId())).thenThrow(new IllegalStateException("Redis 오류"));
+
+        // when
+        flusher.flushBatch(List.of(member.getId()));
+
+        // then
+        InOrder inOrder = inOrder(cartStore);
+        inOrder.verify(cartStore).markDirty(List.of(member.getId()));
+        inOrder.verify(cartStore).completeDirty(List.of(member.getId()));
+    }
+
+    @Test
+    void 중단된_반영을_복구하고_잠금_만료시_다음_배치_중단(){
+        // given - 배치 크기 1, 첫 배치 후 잠금 연장 실패
+        ReflectionTestUtils.setField(flusher, "batchSize", 1);
+        when(cartStore.isEnabled()).thenReturn(true);
+        when(cartStore.tryLockSync(anyString(), any())).thenReturn(true);
+        when(cartStore.claimDirty(anyInt())).thenReturn(List.of(member.getId()));
+        when(cartStore.read(member.getId())).thenReturn(Optional.empty());
+        when(cartStore.renewSync(anyString(), any())).thenReturn(false);
+
+        // when
+        flusher.flush();
+
+        // then
+        verify(cartStore).recoverDirty();
+        verify(cartStore, times(1)).claimDirty(1);
+        verify(cartStore).completeDirty(List.of(member.getId()));
+        verify(cartStore).unlockSync(anyString());
+    }
+
+    private void persistCart(Map<Product, Integer> quantities){
+        Cart cart = Cart.builder().member(member).build();
+        quantities.forEach((product, quantity) -> cart.addCartItem(CartItem.builder()
+                .product(product)
+                .quantity(quantity)
+                .build()));
+        testEntityManager.persist(cart);
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    private RedisCartStore.CartLine line(Product product, int quantity){
+        return new RedisCartStore.CartLine(product.getId(), quantity, product.getPrice().toBigDecimal());
+    }
+
+    private Map<Long, Integer> quantities(Cart cart){
+        return cart.getCartItems().stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), CartItem::getQuantity));
+    }
+
+    private Member persistMember(String username){
+        Member member = Member.builder()
+                .username(username)
+                .password("password")
+                .name("테스트")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .address("서울")
+                .addressDetail("101호")
+                .nickname(username)
+                .role(Role.ROLE_USER)
+                .build();
+        testEntityManager.persist(member);
+        return member;
+    }
+
+    private Product persistProduct(Category category, String title){
+        Product product = Product.builder()
+                .title(title)
+                .price(Money.of(10000))
+                .username("테스트 판매자")
+                .stockQuantity(10)
+                .status(Status.ACTIVE)
+                .category(category)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        testEntityManager.persist(product);
+        return product;
+    }
+}
@@ -0,0 +1,172 @@
+package shop.shop_spring.cart.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Lua 스크립트 검증용 - 로컬 Redis(또는 호환 서버)가 있을 때만 실행
+ * 접속 정보: -Dtest.redis.host, -Dtest.redis.port (기본 localhost:6379)
+ */
+public class RedisCartStoreTest {
+    private static final Long MEMBER_ID = 900_000_101L;
+    private static final Long PRODUCT_ID = 900_000_201L;
+    private static final Long OTHER_PRODUCT_ID = 900_000_202L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisCartStore cartStore;
+
+    @BeforeEach
+    void setUp(){
+        connectionFactory = new LettuceConnectionFactory(
+                System.getProperty("test.redis.host", "localhost"),
+                Integer.getInteger("test.redis.port", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        assumeTrue(isRedisAvailable(), "로컬 Redis 없음 - 테스트 생략");
+
+        cartStore = new RedisCartStore(redisTemplate);
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown(){
+        if (cartStore != null){
+            cleanUp();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 미적재_장바구니는_변경하지_않고_적재_요청(){
+        // When
+        long result = cartStore.put(MEMBER_ID, PRODUCT_ID, 2, BigDecimal.valueOf(1000));
+
+        // Then
+        assertThat(result).isEqualTo(RedisCartStore.NOT_LOADED);
+        assertThat(cartStore.read(MEMBER_ID)).isEmpty();
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.DIRTY_KEY, String.valueOf(MEMBER_ID))).isFalse();
+    }
+
+    @Test
+    void 적재_후_담기_수량변경_삭제(){
+        // Given
+        cartStore.load(MEMBER_ID, List.of(new RedisCartStore.CartLine(PRODUCT_ID, 1, new BigDecimal("1500.50"))));
+
+        // When
+        cartStore.put(MEMBER_ID, OTHER_PRODUCT_ID, 3, BigDecimal.valueOf(2000));
+        long updated = cartStore.updateQuantity(MEMBER_ID, PRODUCT_ID, 5);
+        long removed = cartStore.remove(MEMBER_ID, OTHER_PRODUCT_ID);
+
+        // Then
+        assertThat(updated).isEqualTo(1L);
+        assertThat(removed).isEqualTo(1L);
+        List<RedisCartStore.CartLine> lines = cartStore.read(MEMBER_ID).orElseThrow();
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).getProductId()).isEqualTo(PRODUCT_ID);
+        assertThat(lines.get(0).getQuantity()).isEqualTo(5);
+        // 수량 변경 시 담을 때 가격 유지
+        assertThat(lines.get(0).getPrice()).isEqualByComparingTo("1500.50");
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.DIRTY_KEY, String.valueOf(MEMBER_ID))).isTrue();
+    }
+
+    @Test
+    void 없는_상품_수량변경_삭제는_0(){
+        // Given
+        cartStore.load(MEMBER_ID, List.of());
+
+        // When & Then
+        assertThat(cartStore.updateQuantity(MEMBER_ID, PRODUCT_ID, 2)).isZero();
+        assertThat(cartStore.remove(MEMBER_ID, PRODUCT_ID)).isZero();
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.DIRTY_KEY, String.valueOf(MEMBER_ID))).isFalse();
+    }
+
+    @Test
+    void 비우면_빈_장바구니로_남음(){
+        // Given
+        cartStore.load(MEMBER_ID, List.of(
+                new RedisCartStore.CartLine(PRODUCT_ID, 1, BigDecimal.valueOf(1000)),
+                new RedisCartStore.CartLine(OTHER_PRODUCT_ID, 2, BigDecimal.valueOf(2000))));
+
+        // When
+        long cleared = cartStore.clear(MEMBER_ID);
+
+        // Then - 빈 장바구니와 미적재 장바구니 구분 (flusher 가 DB 항목을 삭제해야 함)
+        assertThat(cleared).isEqualTo(2L);
+        assertThat(cartStore.read(MEMBER_ID)).hasValue(List.of());
+        assertThat(cartStore.clear(MEMBER_ID)).isZero();
+    }
+
+    @Test
+    void 이미_있는_장바구니는_다시_적재하지_않음(){
+        // Given
+        cartStore.load(MEMBER_ID, List.of(new RedisCartStore.CartLine(PRODUCT_ID, 1, BigDecimal.valueOf(1000))));
+
+        // When
+        boolean loaded = cartStore.load(MEMBER_ID, List.of());
+
+        // Then
+        assertThat(loaded).isFalse();
+        assertThat(cartStore.read(MEMBER_ID).orElseThrow()).hasSize(1);
+    }
+
+    @Test
+    void 꺼낸_dirty_는_완료_전까지_처리중_집합에_남고_복구시_되돌아옴(){
+        // Given
+        cartStore.markDirty(List.of(MEMBER_ID));
+
+        // When - 꺼낸 뒤 반영 완료 전에 중단
+        List<Long> claimed = cartStore.claimDirty(10);
+
+        // Then
+        assertThat(claimed).contains(MEMBER_ID);
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.DIRTY_KEY, String.valueOf(MEMBER_ID))).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.PROCESSING_KEY, String.valueOf(MEMBER_ID))).isTrue();
+
+        assertThat(cartStore.recoverDirty()).isGreaterThanOrEqualTo(1);
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.DIRTY_KEY, String.valueOf(MEMBER_ID))).isTrue();
+        assertThat(redisTemplate.hasKey(RedisCartStore.PROCESSING_KEY)).isFalse();
+
+        // 반영 완료 시 처리 중 집합에서 제거
+        cartStore.claimDirty(10);
+        cartStore.completeDirty(List.of(MEMBER_ID));
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.PROCESSING_KEY, String.valueOf(MEMBER_ID))).isFalse();
+    }
+
+    @Test
+    void 동기화_잠금은_가진_노드만_연장(){
+        // Given
+        assertThat(cartStore.tryLockSync("node-a", Duration.ofSeconds(1))).isTrue();
+
+        // When & Then
+        assertThat(cartStore.renewSync("node-a", Duration.ofSeconds(30))).isTrue();
+        assertThat(redisTemplate.getExpire(RedisCartStore.SYNC_LOCK_KEY)).isGreaterThan(1L);
+        assertThat(cartStore.renewSync("node-b", Duration.ofSeconds(30))).isFalse();
+        cartStore.unlockSync("node-a");
+    }
+
+    private boolean isRedisAvailable(){
+        try {
+            return "PONG".equals(redisTemplate.execute(connection -> connection.ping(), true));
+        } catch (RuntimeException e){
+            return false;
+        }
+    }
+
+    private void cleanUp(){
+        redisTemplate.delete(RedisCartStore.KEY_PREFIX + MEMBER_ID);
+        redisTemplate.opsForSet().remove(RedisCartStore.DIRTY_KEY, String.valueOf(MEMBER_ID));
+        redisTemplate.opsForSet().remove(RedisCartStore.PROCESSING_KEY, String.valueOf(MEMBER_ID));
+        redisTemplate.delete(RedisCartStore.SYNC_LOCK_KEY);
+    }
+}
@@ -15,9 +15,9 @@ import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Optional;
 
@@ -55,7 +55,7 @@ public class CartServiceAddTest {
         testProduct = Product.builder()
                 .id(10L)
                 .title("테스트 상품")
-                .price(BigDecimal.valueOf(10000))
+                .price(Money.of(10000))
                 .build();
 
         testCart = Cart.builder()
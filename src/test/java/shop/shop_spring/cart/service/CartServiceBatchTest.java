@@ -0,0 +1,172 @@
+package shop.shop_spring.cart.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.domain.CartItem;
+import shop.shop_spring.cart.dto.CartDto;
+import shop.shop_spring.cart.dto.CartItemDto;
+import shop.shop_spring.cart.dto.CartOperation;
+import shop.shop_spring.cart.repository.CartItemRepository;
+import shop.shop_spring.cart.repository.CartRepository;
+import shop.shop_spring.cart.support.CartHelper;
+import shop.shop_spring.common.exception.DataNotFoundException;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.service.MemberServiceImpl;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CartServiceBatchTest {
+    @InjectMocks
+    private CartServiceImpl cartService;
+
+    @Mock
+    private MemberServiceImpl memberService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private CartHelper cartHelper;
+
+    private Member testMember;
+    private Product productA;
+    private Product productB;
+    private Product productC;
+    private Cart testCart;
+
+    @BeforeEach
+    void setUp(){
+        testMember = Member.builder()
+                .id(1L)
+                .name("테스트 회원")
+                .build();
+
+        productA = product(10L, 1000);
+        productB = product(11L, 2000);
+        productC = product(12L, 3000);
+
+        testCart = Cart.builder()
+                .id(100L)
+                .member(testMember)
+                .cartItems(new ArrayList<>())
+                .build();
+        testCart.addCartItem(CartItem.builder().id(200L).product(productA).quantity(2).build());
+        testCart.addCartItem(CartItem.builder().id(201L).product(productB).quantity(1).build());
+    }
+
+    @Test
+    void 장바구니_한번_조회로_여러_작업_적용(){
+        // given
+        when(cartRepository.findByMemberIdWithItemsAndProducts(testMember.getId())).thenReturn(Optional.of(testCart));
+        when(productService.findAllByIds(List.of(productC.getId()))).thenReturn(List.of(productC));
+
+        List<CartOperation> operations = List.of(
+                new CartOperation(CartOperation.Type.SET_QUANTITY, productA.getId(), 5),
+                new CartOperation(CartOperation.Type.REMOVE, productB.getId(), null),
+                new CartOperation(CartOperation.Type.ADD, productC.getId(), 3));
+
+        // when
+        CartDto result = cartService.applyOperations(testMember.getId(), operations);
+
+        // then
+        verify(cartRepository, times(1)).findByMemberIdWithItemsAndProducts(testMember.getId());
+        verify(cartRepository, never()).save(any(Cart.class));
+        verify(productService, times(1)).findAllByIds(List.of(productC.getId()));
+        verifyNoInteractions(cartHelper, memberService);
+
+        ArgumentCaptor<List<CartItem>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cartItemRepository, times(1)).saveAll(savedCaptor.capture());
+        assertThat(savedCaptor.getValue()).hasSize(1);
+        assertThat(savedCaptor.getValue().get(0).getProduct()).isEqualTo(productC);
+
+        Map<Long, Integer> quantities = result.getItems().stream()
+                .collect(Collectors.toMap(CartItemDto::getProductId, CartItemDto::getQuantity));
+        assertThat(quantities).isEqualTo(Map.of(productA.getId(), 5, productC.getId(), 3));
+        assertThat(result.getTotalItemCount()).isEqualTo(8);
+        assertThat(result.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(5 * 1000 + 3 * 3000));
+    }
+
+    @Test
+    void 삭제_후_다시_담으면_수량만_변경(){
+        // given
+        when(cartRepository.findByMemberIdWithItemsAndProducts(testMember.getId())).thenReturn(Optional.of(testCart));
+
+        List<CartOperation> operations = List.of(
+                new CartOperation(CartOperation.Type.REMOVE, productA.getId(), null),
+                new CartOperation(CartOperation.Type.ADD, productA.getId(), 4));
+
+        // when
+        CartDto result = cartService.applyOperations(testMember.getId(), operations);
+
+        // then - 같은 상품의 삭제 + 추가가 아니라 기존 항목 수량 변경 (unique 제약 충돌 없음)
+        assertThat(testCart.getCartItems()).hasSize(2);
+        assertThat(testCart.getCartItems().get(0).getId()).isEqualTo(200L);
+        assertThat(testCart.getCartItems().get(0).getQuantity()).isEqualTo(4);
+        assertThat(result.getTotalProductsCount()).isEqualTo(2);
+        verify(productService, never()).findAllByIds(anyCollection());
+        verify(cartItemRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    void 장바구니에_없는_상품_수량변경시_예외_변경_없음(){
+        // given
+        when(cartRepository.findByMemberIdWithItemsAndProducts(testMember.getId())).thenReturn(Optional.of(testCart));
+
+        List<CartOperation> operations = List.of(
+                new CartOperation(CartOperation.Type.SET_QUANTITY, productA.getId(), 5),
+                new CartOperation(CartOperation.Type.SET_QUANTITY, productC.getId(), 1));
+
+        // when & then
+        assertThrows(DataNotFoundException.class,
+                () -> cartService.applyOperations(testMember.getId(), operations));
+        assertThat(testCart.getCartItems().get(0).getQuantity()).isEqualTo(2);
+        verifyNoInteractions(cartItemRepository, productService);
+    }
+
+    @Test
+    void 잘못된_수량이면_조회_없이_예외(){
+        // given
+        List<CartOperation> operations = List.of(
+                new CartOperation(CartOperation.Type.ADD, productA.getId(), 0));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> cartService.applyOperations(testMember.getId(), operations));
+        verifyNoInteractions(cartRepository, cartItemRepository, productService, memberService);
+    }
+
+    private Product product(Long id, long price){
+        return Product.builder()
+                .id(id)
+                .title("테스트 상품 " + id)
+                .price(Money.of(price))
+                .build();
+    }
+}
@@ -15,6 +15,7 @@ import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
 import static org.assertj.core.api.Assertions.assertThat;
 
 
@@ -22,7 +23,6 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.assertThrows; // assertThrows 임포트
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -59,7 +59,7 @@ public class CartServiceClearTest {
         testProduct = Product.builder()
                 .id(10L)
                 .title("테스트 상품")
-                .price(BigDecimal.valueOf(1000))
+                .price(Money.of(1000))
                 .build();
 
         existingCartItem = CartItem.builder()
@@ -0,0 +1,175 @@
+package shop.shop_spring.cart.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.domain.CartItem;
+import shop.shop_spring.cart.dto.CartSummaryDto;
+import shop.shop_spring.cart.repository.CartItemRepository;
+import shop.shop_spring.cart.repository.CartRepository;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.common.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class CartTotalsReconcilerTest {
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private CartTotalsReconciler reconciler;
+
+    private Member member;
+    private Product productA;
+    private Product productB;
+
+    @BeforeEach
+    void setUp(){
+        reconciler = new CartTotalsReconciler(cartRepository, transactionManager);
+
+        member = Member.builder()
+                .username("test@test.com")
+                .password("password")
+                .name("테스트")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .address("서울")
+                .addressDetail("101호")
+                .nickname("테스터")
+                .role(Role.ROLE_USER)
+                .build();
+        testEntityManager.persist(member);
+
+        Category category = new Category();
+        category.setName("테스트 카테고리");
+        testEntityManager.persist(category);
+
+        productA = persistProduct(category, "상품 A", 1000);
+        productB = persistProduct(category, "상품 B", 2500);
+    }
+
+    @Test
+    void 항목_변경시_합계_갱신_검증_통과(){
+        // given - A 2개 + B 1개 담은 뒤 A 수량 5개로 변경, B 삭제, B 3개 다시 담기
+        Cart cart = persistCart();
+        CartItem itemA = addItem(cart, productA, 2);
+        CartItem itemB = addItem(cart, productB, 1);
+        testEntityManager.flush();
+
+        itemA.setQuantity(5);
+        cart.removeCartItem(itemB);
+        testEntityManager.flush();
+        addItem(cart, productB, 3);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        int corrected = reconciler.reconcile(List.of(cart.getId()));
+
+        // then
+        assertThat(corrected).isZero();
+        CartSummaryDto summary = cartRepository.findSummaryByMemberId(member.getId()).orElseThrow();
+        assertThat(summary.getTotalItemCount()).isEqualTo(8);
+        assertThat(summary.getTotalProductsCount()).isEqualTo(2);
+        assertThat(summary.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(5 * 1000 + 3 * 2500));
+    }
+
+    @Test
+    void 일괄_삭제로_어긋난_합계_보정(){
+        // given - 항목만 일괄 DELETE (합계 초기화 없이)
+        Cart cart = persistCart();
+        addItem(cart, productA, 2);
+        addItem(cart, productB, 1);
+        testEntityManager.flush();
+        cartItemRepository.deleteAllByCartId(cart.getId());
+        testEntityManager.clear();
+
+        // when
+        int corrected = reconciler.reconcile(List.of(cart.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        assertThat(corrected).isEqualTo(1);
+        Cart reloaded = cartRepository.findById(cart.getId()).orElseThrow();
+        assertThat(reloaded.getTotalQuantity()).isZero();
+        assertThat(reloaded.getProductCount()).isZero();
+        assertThat(reloaded.getTotalAmount()).isZero();
+    }
+
+    @Test
+    void 단가_없는_기존_항목은_상품_가격으로_채워_합계_계산(){
+        // given - 합계 도입 전에 저장된 항목 (단가 없음, 합계 0)
+        Cart cart = persistCart();
+        testEntityManager.persist(CartItem.builder().cart(cart).product(productA).quantity(3).build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        int corrected = reconciler.reconcile(List.of(cart.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        assertThat(corrected).isEqualTo(1);
+        Cart reloaded = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        assertThat(reloaded.getCartItems().get(0).getUnitPrice()).isEqualTo(1000L);
+        assertThat(reloaded.getTotalQuantity()).isEqualTo(3);
+        assertThat(reloaded.getProductCount()).isEqualTo(1);
+        assertThat(reloaded.getTotalAmount()).isEqualTo(3000L);
+        assertThat(reconciler.reconcile(List.of(cart.getId()))).isZero();
+    }
+
+    private Cart persistCart(){
+        Cart cart = Cart.builder().member(member).build();
+        testEntityManager.persist(cart);
+        return cart;
+    }
+
+    private CartItem addItem(Cart cart, Product product, int quantity){
+        CartItem cartItem = CartItem.builder()
+                .product(product)
+                .quantity(quantity)
+                .build();
+        cart.addCartItem(cartItem);
+        testEntityManager.persist(cartItem);
+        return cartItem;
+    }
+
+    private Product persistProduct(Category category, String title, long price){
+        LocalDateTime now = LocalDateTime.now();
+        Product product = Product.builder()
+                .title(title)
+                .price(Money.of(price))
+                .username("테스트 판매자")
+                .stockQuantity(10)
+                .status(Status.ACTIVE)
+                .category(category)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        testEntityManager.persist(product);
+        return product;
+    }
+}
@@ -5,14 +5,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import shop.shop_spring.category.repository.CategoryParentView;
 import shop.shop_spring.category.repository.CategoryRepository;
 import shop.shop_spring.category.service.CategoryService;
 import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.category.tree.CategoryTree;
+import shop.shop_spring.category.tree.CategoryTreeHolder;
 import shop.shop_spring.common.exception.DataNotFoundException;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +26,8 @@ public class CategoryServiceTest {
     private CategoryService categoryService;
     @Mock
     private CategoryRepository categoryRepository;
+    @Mock
+    private CategoryTreeHolder categoryTreeHolder;
 
     @Test
     void 상위_카테고리_조회_성공(){
@@ -95,4 +102,27 @@ public class CategoryServiceTest {
         assertTrue(emptyChildrenCategory.isEmpty(), "하위 카테고리가 비어있어야함");
         assertEquals(0, emptyChildrenCategory.size(), "하위 카테고리 개수는 0개");
     }
+
+    @Test
+    void 하위_카테고리_아이디_조회_DB_조회_없음(){
+        // given
+        CategoryParentView parent = mock(CategoryParentView.class);
+        when(parent.getId()).thenReturn(2L);
+        CategoryParentView child1 = mock(CategoryParentView.class);
+        when(child1.getId()).thenReturn(5L);
+        when(child1.getParentId()).thenReturn(2L);
+        CategoryParentView child2 = mock(CategoryParentView.class);
+        when(child2.getId()).thenReturn(6L);
+        when(child2.getParentId()).thenReturn(2L);
+
+        CategoryTree tree = CategoryTree.build(1L, List.of(parent, child1, child2));
+        when(categoryTreeHolder.current()).thenReturn(tree);
+
+        // when
+        List<Long> ids = categoryService.getAllDescendantCategoryIds(2L);
+
+        // then
+        assertEquals(List.of(2L, 5L, 6L), ids);
+        verifyNoInteractions(categoryRepository);
+    }
 }
@@ -0,0 +1,66 @@
+package shop.shop_spring.category;
+
+import org.junit.jupiter.api.Test;
+import shop.shop_spring.category.repository.CategoryParentView;
+import shop.shop_spring.category.tree.CategoryTree;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryTreeTest {
+
+    private CategoryParentView view(Long id, Long parentId){
+        return new CategoryParentView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getParentId() {
+                return parentId;
+            }
+        };
+    }
+
+    @Test
+    void 하위_카테고리_전위순회_순서로_계산(){
+        // given
+        // 1(의류) - 3(상의) - 5(티셔츠)
+        //         - 4(하의)
+        // 2(가전)
+        List<CategoryParentView> categories = List.of(
+                view(1L, null),
+                view(2L, null),
+                view(3L, 1L),
+                view(4L, 1L),
+                view(5L, 3L)
+        );
+
+        // when
+        CategoryTree tree = CategoryTree.build(1L, categories);
+
+        // then
+        assertArrayEquals(new long[]{1L, 3L, 5L, 4L}, tree.descendantIdsOf(1L));
+        assertArrayEquals(new long[]{3L, 5L}, tree.descendantIdsOf(3L));
+        assertArrayEquals(new long[]{2L}, tree.descendantIdsOf(2L));
+        assertEquals(5, tree.size());
+        assertEquals(1L, tree.getVersion());
+    }
+
+    @Test
+    void 없는_카테고리는_빈_배열(){
+        CategoryTree tree = CategoryTree.build(1L, List.of(view(1L, null)));
+
+        assertEquals(0, tree.descendantIdsOf(99L).length);
+        assertFalse(tree.contains(99L));
+    }
+
+    @Test
+    void 순환_데이터도_무한루프_없음(){
+        CategoryTree tree = CategoryTree.build(1L, List.of(view(1L, 2L), view(2L, 1L)));
+
+        assertArrayEquals(new long[]{1L, 2L}, tree.descendantIdsOf(1L));
+    }
+}
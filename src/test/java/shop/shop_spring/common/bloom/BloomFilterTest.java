@@ -0,0 +1,53 @@
+package shop.shop_spring.common.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTest {
+
+    @Test
+    void 추가한_값은_항상_포함(){
+        // given
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        String[] values = new String[1000];
+        for (int i = 0; i < values.length; i++){
+            values[i] = UUID.randomUUID().toString();
+            filter.put(values[i]);
+        }
+
+        // then - 거짓 음성 없음
+        for (String value : values){
+            assertTrue(filter.mightContain(value));
+        }
+    }
+
+    @Test
+    void 거짓_양성률은_설정값_근처(){
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++){
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // when
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++){
+            if (filter.mightContain(UUID.randomUUID().toString())){
+                falsePositives++;
+            }
+        }
+
+        // then - 1% 설정, 여유 있게 2% 미만
+        assertTrue(falsePositives < trials * 0.02, "거짓 양성 " + falsePositives + "건");
+    }
+
+    @Test
+    void 잘못된_설정은_예외(){
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
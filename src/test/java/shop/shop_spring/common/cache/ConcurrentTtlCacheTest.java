@@ -0,0 +1,85 @@
+package shop.shop_spring.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentTtlCacheTest {
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    void 최대_크기_초과시_만료된_항목부터_퇴출(){
+        // given
+        ConcurrentTtlCache<Long, String> cache = new ConcurrentTtlCache<>("test", 2, 1000, clock::get);
+        cache.put(1L, "a", 100);
+        cache.put(2L, "b");
+        clock.addAndGet(100_000_000L); // 0.1초 경과 - 1 만료
+
+        // when
+        cache.put(3L, "c");
+
+        // then
+        assertEquals(2, cache.size());
+        assertEquals("b", cache.get(2L));
+        assertEquals("c", cache.get(3L));
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    @Test
+    void 최대_크기_넘지_않음(){
+        // given
+        ConcurrentTtlCache<Long, String> cache = new ConcurrentTtlCache<>("test", 3, 1000, clock::get);
+
+        // when
+        for (long key = 1; key <= 10; key++){
+            cache.put(key, "v" + key);
+        }
+
+        // then
+        assertEquals(3, cache.size());
+        assertEquals(7, cache.stats().getEvictions());
+    }
+
+    @Test
+    void 항목별_TTL_은_캐시_TTL_을_넘지_않음(){
+        // given
+        ConcurrentTtlCache<Long, String> cache = new ConcurrentTtlCache<>("test", 10, 1000, clock::get);
+        cache.put(1L, "a", 200);
+        cache.put(2L, "b", 60_000);
+        cache.put(3L, "c", 0);
+
+        // when
+        clock.addAndGet(200_000_000L); // 0.2초 경과
+
+        // then
+        assertNull(cache.get(1L));
+        assertEquals("b", cache.get(2L));
+        assertNull(cache.get(3L));
+
+        clock.addAndGet(800_000_000L); // 1초 경과
+        assertNull(cache.get(2L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 적중_미스_집계(){
+        // given
+        ConcurrentTtlCache<Long, String> cache = new ConcurrentTtlCache<>("test", 10, 1000, clock::get);
+        cache.put(1L, "a");
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+        cache.invalidate(1L);
+        cache.get(1L);
+
+        // then
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0.5, stats.getHitRatio());
+    }
+}
@@ -0,0 +1,83 @@
+package shop.shop_spring.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalLruCacheTest {
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    void 최대_크기_초과시_가장_오래_사용하지_않은_항목_퇴출(){
+        // given
+        LocalLruCache<Long, String> cache = new LocalLruCache<>("test", 2, 1000, clock::get);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L); // 1 을 최근 사용으로
+
+        // when
+        cache.put(3L, "c");
+
+        // then
+        assertEquals("a", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("c", cache.get(3L));
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    @Test
+    void TTL_만료시_미스(){
+        // given
+        LocalLruCache<Long, String> cache = new LocalLruCache<>("test", 10, 1000, clock::get);
+        cache.put(1L, "a");
+
+        // when
+        clock.addAndGet(1_000_000_000L); // 1초 경과
+
+        // then
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 항목별_TTL_은_캐시_TTL_을_넘지_않음(){
+        // given
+        LocalLruCache<Long, String> cache = new LocalLruCache<>("test", 10, 1000, clock::get);
+        cache.put(1L, "a", 200);
+        cache.put(2L, "b", 60_000);
+        cache.put(3L, "c", 0);
+
+        // when
+        clock.addAndGet(200_000_000L); // 0.2초 경과
+
+        // then
+        assertNull(cache.get(1L));
+        assertEquals("b", cache.get(2L));
+        assertNull(cache.get(3L));
+
+        clock.addAndGet(800_000_000L); // 1초 경과
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void 적중_미스_집계(){
+        // given
+        LocalLruCache<Long, String> cache = new LocalLruCache<>("test", 10, 1000, clock::get);
+        cache.put(1L, "a");
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+        cache.invalidate(1L);
+        cache.get(1L);
+
+        // then
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0.5, stats.getHitRatio());
+    }
+}
@@ -0,0 +1,85 @@
+package shop.shop_spring.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOrderedIdGeneratorTest {
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    void 같은_ms_내에서도_단조_증가(){
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3, () -> NOW);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 1000; i++){ // 시퀀스(128) 소진 후에도 증가해야 함
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void 시계가_뒤로_가도_단조_증가(){
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, clock::get);
+
+        long first = generator.nextId();
+        clock.set(NOW - 5_000);
+        long second = generator.nextId();
+
+        assertTrue(second > first);
+    }
+
+    @Test
+    void 타임스탬프와_노드_복원(){
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(17, () -> NOW);
+
+        long id = generator.nextId();
+
+        assertEquals(NOW, TimeOrderedIdGenerator.timestampMillisOf(id));
+        assertEquals(17, TimeOrderedIdGenerator.nodeOf(id));
+    }
+
+    @Test
+    void 자바스크립트_안전_정수_범위(){
+        // 2094년 경 (41bit 타임스탬프 상한 직전)
+        long farFuture = TimeOrderedIdGenerator.EPOCH_MILLIS + (1L << 41) - 1;
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE, () -> farFuture);
+
+        assertTrue(generator.nextId() <= (1L << 53) - 1);
+    }
+
+    @Test
+    void 잘못된_노드_id(){
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE + 1, () -> NOW));
+    }
+
+    @Test
+    void 동시_생성시_중복_없음() throws InterruptedException {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 10_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++){
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++){
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread, ids.size());
+    }
+}
@@ -0,0 +1,60 @@
+package shop.shop_spring.common.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    @Test
+    void 합계_계산(){
+        // when
+        Money total = Money.of(10000).times(2).plus(Money.of(5000).times(3)).minus(Money.of(1000));
+
+        // then
+        assertEquals(34000L, total.getAmount());
+        assertEquals(Money.of(34000), total);
+        assertSame(total, total.plus(Money.ZERO));
+    }
+
+    @Test
+    void overflow_시_예외(){
+        assertThrows(ArithmeticException.class, () -> Money.of(Long.MAX_VALUE).plus(Money.of(1)));
+        assertThrows(ArithmeticException.class, () -> Money.of(Long.MAX_VALUE / 2 + 1).times(2));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e30")));
+    }
+
+    @Test
+    void BigDecimal_변환(){
+        // 최소 화폐 단위 아래는 반올림
+        assertEquals(Money.of(1501), Money.of(new BigDecimal("1500.50")));
+        assertEquals(0, new BigDecimal("12000").compareTo(Money.of(12000).toBigDecimal()));
+        assertNull(Money.ofNullable(null));
+        assertNull(Money.toBigDecimalOrNull(null));
+        assertThrows(IllegalArgumentException.class, () -> Money.of((BigDecimal) null));
+    }
+
+    @Test
+    void 컬럼_변환(){
+        MoneyConverter converter = new MoneyConverter();
+
+        BigDecimal column = converter.convertToDatabaseColumn(Money.of(9900));
+
+        assertEquals(0, new BigDecimal("9900").compareTo(column));
+        assertEquals(Money.of(9900), converter.convertToEntityAttribute(new BigDecimal("9900.00")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void JSON_은_숫자로_직렬화() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertEquals("12000", objectMapper.writeValueAsString(Money.of(12000)));
+        assertEquals(Money.of(12000), objectMapper.readValue("12000", Money.class));
+        assertEquals(1501L, Money.amountOf(new BigDecimal("1500.50")));
+    }
+}
@@ -0,0 +1,112 @@
+package shop.shop_spring.common.money;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import shop.shop_spring.order.domain.OrderItem;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주문 금액 합계 계산 비교 (주문 상품 1 / 10 / 50 개)
+ * 이전: 가격 BigDecimal, multiply + stream reduce(add) (placeCartOrder 의 기존 계산)
+ * 이후: 가격 Money, 합계는 long 으로 누적 (placeCartOrder 의 현재 계산)
+ * 1회 계산당 평균 시간과 할당 바이트(HotSpot 스레드 할당량, 지원하지 않는 JVM 이면 -1)를 출력하고 결과가 같은지 검증
+ */
+public class MoneyTotalBenchmarkTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    // JIT 가 계산을 제거하지 못하도록 결과를 모아 둠
+    private static long sink;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void 주문_금액_합계_BigDecimal_대비_Money(int itemCount){
+        // given
+        List<BigDecimal> prices = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++){
+            long price = 1000L + i * 350L;
+            int count = 1 + i % 5;
+            prices.add(BigDecimal.valueOf(price));
+            counts.add(count);
+            orderItems.add(OrderItem.builder()
+                    .orderPrice(Money.of(price))
+                    .count(count)
+                    .build());
+        }
+
+        // when
+        Measurement bigDecimal = measure(() -> bigDecimalTotal(prices, counts).longValueExact());
+        Measurement money = measure(() -> moneyTotal(orderItems).getAmount());
+
+        System.out.printf("주문 상품 %2d개 | BigDecimal: %6d ns, %6d B | Money: %6d ns, %6d B%n",
+                itemCount, bigDecimal.nanosPerOp, bigDecimal.bytesPerOp, money.nanosPerOp, money.bytesPerOp);
+
+        // then
+        assertEquals(bigDecimalTotal(prices, counts).longValueExact(), moneyTotal(orderItems).getAmount());
+        if (money.bytesPerOp >= 0){
+            assertTrue(money.bytesPerOp < bigDecimal.bytesPerOp, "Money 합계 계산의 할당량이 더 적어야 함");
+        }
+    }
+
+    // 변경 전 placeCartOrder 합계 계산
+    private static BigDecimal bigDecimalTotal(List<BigDecimal> prices, List<Integer> counts){
+        List<BigDecimal> lineTotals = new ArrayList<>(prices.size());
+        for (int i = 0; i < prices.size(); i++){
+            lineTotals.add(prices.get(i).multiply(BigDecimal.valueOf(counts.get(i))));
+        }
+        return lineTotals.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    // 변경 후 placeCartOrder 합계 계산
+    private static Money moneyTotal(List<OrderItem> orderItems){
+        long totalAmount = 0L;
+        for (OrderItem orderItem : orderItems){
+            totalAmount = Math.addExact(totalAmount,
+                    Math.multiplyExact(orderItem.getOrderPrice().getAmount(), orderItem.getCount()));
+        }
+        return Money.of(totalAmount);
+    }
+
+    private static Measurement measure(LongSupplier total){
+        for (int i = 0; i < WARMUP; i++){
+            sink += total.getAsLong();
+        }
+
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++){
+            sink += total.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytesAfter = allocatedBytes();
+
+        Measurement measurement = new Measurement();
+        measurement.nanosPerOp = elapsed / ITERATIONS;
+        measurement.bytesPerOp = bytesBefore < 0 ? -1 : (bytesAfter - bytesBefore) / ITERATIONS;
+        return measurement;
+    }
+
+    private static long allocatedBytes(){
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()
+                && threadMXBean.isThreadAllocatedMemoryEnabled()){
+            return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static class Measurement {
+        private long nanosPerOp;
+        private long bytesPerOp;
+    }
+}
@@ -0,0 +1,45 @@
+package shop.shop_spring.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpenInViewConfigTest {
+
+    @Test
+    void 주문_생성_요청은_OSIV_제외_커밋_후_커넥션_반환(){
+        // given
+        MappedInterceptor interceptor = registeredInterceptor();
+
+        // then - PG 결과를 기다리는 주문 생성 요청에는 EntityManager(커넥션)를 묶지 않음
+        assertThat(interceptor.matches(request("POST", "/orders/single-item/1"))).isFalse();
+        assertThat(interceptor.matches(request("POST", "/orders/cart-items"))).isFalse();
+
+        // 나머지 요청은 기존처럼 OSIV 적용
+        assertThat(interceptor.matches(request("GET", "/orders/1/payment"))).isTrue();
+        assertThat(interceptor.matches(request("GET", "/products/1"))).isTrue();
+    }
+
+    private MappedInterceptor registeredInterceptor(){
+        TestInterceptorRegistry registry = new TestInterceptorRegistry();
+        new OpenInViewConfig().addInterceptors(registry);
+        List<Object> interceptors = registry.interceptors();
+        assertThat(interceptors).hasSize(1);
+        return (MappedInterceptor) interceptors.get(0);
+    }
+
+    private MockHttpServletRequest request(String method, String uri){
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private static class TestInterceptorRegistry extends InterceptorRegistry {
+        List<Object> interceptors(){
+            return getInterceptors();
+        }
+    }
+}
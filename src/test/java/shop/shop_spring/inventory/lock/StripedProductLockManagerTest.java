@@ -0,0 +1,181 @@
+package shop.shop_spring.inventory.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.shop_spring.common.exception.ProductLockTimeoutException;
+import shop.shop_spring.inventory.Dto.ProductLockStatsDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StripedProductLockManagerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void tearDown(){
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 반대_순서_장바구니_동시_잠금_교착없음() throws Exception {
+        // Given - 스트라이프를 적게 두어 여러 상품이 같은 스트라이프를 공유하도록 함
+        StripedProductLockManager manager = newManager(8, 5000);
+        List<Long> ascending = LongStream.rangeClosed(1, 20).boxed().collect(Collectors.toList());
+        List<Long> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++){
+            List<Long> cart = i % 2 == 0 ? ascending : descending;
+            futures.add(executor.submit(() -> {
+                for (int n = 0; n < 200; n++){
+                    try (StripedProductLockManager.Locked locked = manager.lock(cart)){
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        // Then - 교착 없이 모두 완료 (시간 초과 예외도 없음)
+        for (Future<?> future : futures){
+            future.get(30, TimeUnit.SECONDS);
+        }
+        long timeouts = manager.stats(8).stream().mapToLong(ProductLockStatsDto::getTimeouts).sum();
+        assertThat(timeouts).isZero();
+    }
+
+    @Test
+    void 같은_스트라이프_상품은_한번만_잠금(){
+        // Given
+        StripedProductLockManager manager = newManager(1, 100);
+
+        // When
+        try (StripedProductLockManager.Locked locked = manager.lock(List.of(3L, 1L, 2L))){
+            // Then
+            assertThat(manager.stats(10)).hasSize(1);
+            assertThat(manager.stats(10).get(0).getAcquisitions()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void 대기_시간_초과시_획득한_잠금_모두_해제() throws Exception {
+        // Given - 다른 스레드가 hotProductId 를 잡고 있음
+        StripedProductLockManager manager = newManager(256, 50);
+        Long hotProductId = LongStream.iterate(1L, id -> id + 1).filter(id -> manager.stripeOf(id) > 0).findFirst().getAsLong();
+        Long otherProductId = productInLowerStripe(manager, hotProductId);
+
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> {
+            try (StripedProductLockManager.Locked locked = manager.lock(List.of(hotProductId))){
+                held.countDown();
+                release.await();
+            }
+            return null;
+        });
+        held.await();
+
+        // When - 낮은 스트라이프(otherProductId)부터 잡고 hotProductId 에서 시간 초과
+        ProductLockTimeoutException exception = assertThrows(ProductLockTimeoutException.class,
+                () -> manager.lock(List.of(hotProductId, otherProductId)));
+
+        // Then
+        assertThat(exception.getProductIds()).containsExactly(hotProductId);
+        assertThat(lockableFromOtherThread(manager, otherProductId)).isTrue();
+        ProductLockStatsDto hotStripe = statsOf(manager, manager.stripeOf(hotProductId));
+        assertThat(hotStripe.getTimeouts()).isEqualTo(1);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void 경합_지표_대기열과_대기시간_기록() throws Exception {
+        // Given
+        StripedProductLockManager manager = newManager(256, 5000);
+        Long productId = 42L;
+        int stripe = manager.stripeOf(productId);
+
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> {
+            try (StripedProductLockManager.Locked locked = manager.lock(List.of(productId))){
+                held.countDown();
+                release.await();
+            }
+            return null;
+        });
+        held.await();
+
+        // When - 두 번째 스레드가 대기
+        Future<?> waiter = executor.submit(() -> manager.lock(List.of(productId)).close());
+        long deadline = System.currentTimeMillis() + 2000;
+        while (statsOf(manager, stripe).getQueueLength() == 0 && System.currentTimeMillis() < deadline){
+            Thread.sleep(5);
+        }
+
+        // Then - 대기 중에는 대기열 길이 1
+        assertThat(statsOf(manager, stripe).getQueueLength()).isEqualTo(1);
+
+        Thread.sleep(20);
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        waiter.get(5, TimeUnit.SECONDS);
+
+        ProductLockStatsDto stats = statsOf(manager, stripe);
+        assertThat(stats.getQueueLength()).isZero();
+        assertThat(stats.getAcquisitions()).isEqualTo(2);
+        assertThat(stats.getContendedAcquisitions()).isEqualTo(1);
+        assertThat(stats.getTotalWaitMicros()).isGreaterThan(0);
+        assertThat(stats.getMaxWaitMicros()).isEqualTo(stats.getTotalWaitMicros());
+        assertThat(stats.getLastContendedProductId()).isEqualTo(productId);
+    }
+
+    private StripedProductLockManager newManager(int stripes, long timeoutMs){
+        StripedProductLockManager manager = new StripedProductLockManager();
+        ReflectionTestUtils.setField(manager, "stripeCount", stripes);
+        ReflectionTestUtils.setField(manager, "timeoutMs", timeoutMs);
+        manager.init();
+        return manager;
+    }
+
+    private Long productInLowerStripe(StripedProductLockManager manager, Long productId){
+        int stripe = manager.stripeOf(productId);
+        for (long candidate = productId + 1; ; candidate++){
+            if (manager.stripeOf(candidate) < stripe){
+                return candidate;
+            }
+        }
+    }
+
+    private boolean lockableFromOtherThread(StripedProductLockManager manager, Long productId) throws Exception {
+        return executor.submit(() -> {
+            try (StripedProductLockManager.Locked locked = manager.lock(List.of(productId))){
+                return true;
+            } catch (ProductLockTimeoutException e){
+                return false;
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    private ProductLockStatsDto statsOf(StripedProductLockManager manager, int stripe){
+        return manager.stats(Integer.MAX_VALUE).stream()
+                .filter(stats -> stats.getStripe() == stripe)
+                .findFirst()
+                .orElseThrow();
+    }
+}
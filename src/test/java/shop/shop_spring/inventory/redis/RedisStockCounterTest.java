@@ -0,0 +1,174 @@
+package shop.shop_spring.inventory.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Lua 스크립트 검증용 - 로컬 Redis(또는 호환 서버)가 있을 때만 실행
+ * 접속 정보: -Dtest.redis.host, -Dtest.redis.port (기본 localhost:6379)
+ */
+public class RedisStockCounterTest {
+    private static final Long HOT_ID = 900_000_001L;
+    private static final Long OTHER_HOT_ID = 900_000_002L;
+    private static final Long COLD_ID = 900_000_003L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisStockCounter stockCounter;
+
+    @BeforeEach
+    void setUp(){
+        connectionFactory = new LettuceConnectionFactory(
+                System.getProperty("test.redis.host", "localhost"),
+                Integer.getInteger("test.redis.port", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        assumeTrue(isRedisAvailable(), "로컬 Redis 없음 - 테스트 생략");
+
+        stockCounter = new RedisStockCounter(redisTemplate);
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown(){
+        if (stockCounter != null){
+            cleanUp();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 예약_성공_핫상품만_차감_미관리상품_분리(){
+        // Given
+        stockCounter.load(HOT_ID, 10);
+
+        // When
+        RedisStockCounter.Reservation reservation = stockCounter.reserve(quantities(HOT_ID, 3, COLD_ID, 2));
+
+        // Then
+        assertThat(reservation.getFailedProductIds()).isEmpty();
+        assertThat(reservation.getReserved()).isEqualTo(Map.of(HOT_ID, 3));
+        assertThat(reservation.getUnmanaged()).isEqualTo(Map.of(COLD_ID, 2));
+        assertThat(stockCounter.available(HOT_ID)).isEqualTo(7L);
+        assertThat(redisTemplate.opsForSet().isMember(RedisStockCounter.DIRTY_KEY, String.valueOf(HOT_ID))).isTrue();
+    }
+
+    @Test
+    void 예약_실패_하나라도_부족하면_전부_차감_안함(){
+        // Given
+        stockCounter.load(HOT_ID, 10);
+        stockCounter.load(OTHER_HOT_ID, 1);
+
+        // When
+        RedisStockCounter.Reservation reservation = stockCounter.reserve(quantities(HOT_ID, 3, OTHER_HOT_ID, 2));
+
+        // Then
+        assertThat(reservation.getFailedProductIds()).containsExactly(OTHER_HOT_ID);
+        assertThat(reservation.getReserved()).isEmpty();
+        assertThat(stockCounter.available(HOT_ID)).isEqualTo(10L);
+        assertThat(stockCounter.available(OTHER_HOT_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    void 반환_및_확정(){
+        // Given
+        stockCounter.load(HOT_ID, 10);
+        stockCounter.reserve(quantities(HOT_ID, 4, COLD_ID, 1));
+
+        // When
+        Map<Long, Integer> unmanaged = stockCounter.release(quantities(HOT_ID, 1, COLD_ID, 1));
+        stockCounter.confirm(Map.of(HOT_ID, 3));
+
+        // Then
+        assertThat(unmanaged).isEqualTo(Map.of(COLD_ID, 1));
+        assertThat(stockCounter.available(HOT_ID)).isEqualTo(7L);
+        assertThat(redisTemplate.opsForHash().get(RedisStockCounter.KEY_PREFIX + HOT_ID, "reserved")).isEqualTo("0");
+    }
+
+    @Test
+    void 해제시_가용재고_반환_후_미관리(){
+        // Given
+        stockCounter.load(HOT_ID, 10);
+        stockCounter.reserve(quantities(HOT_ID, 4));
+
+        // When
+        Long available = stockCounter.unload(HOT_ID);
+
+        // Then
+        assertThat(available).isEqualTo(6L);
+        assertThat(stockCounter.managedIds(List.of(HOT_ID))).isEmpty();
+        assertThat(stockCounter.unload(HOT_ID)).isNull();
+        assertThat(stockCounter.release(quantities(HOT_ID, 4))).isEqualTo(Map.of(HOT_ID, 4));
+    }
+
+    @Test
+    void 가용재고_일괄조회는_관리중인_상품만(){
+        // Given
+        stockCounter.load(HOT_ID, 10);
+        stockCounter.load(OTHER_HOT_ID, 5);
+        stockCounter.reserve(quantities(HOT_ID, 3));
+
+        // When
+        Map<Long, Long> available = stockCounter.availableAll(List.of(HOT_ID, COLD_ID, OTHER_HOT_ID));
+
+        // Then
+        assertThat(available).isEqualTo(Map.of(HOT_ID, 7L, OTHER_HOT_ID, 5L));
+    }
+
+    @Test
+    void 꺼낸_상품은_완료_전까지_처리중_집합에_남고_복구시_dirty_로(){
+        // Given
+        stockCounter.markDirty(List.of(HOT_ID));
+
+        // When - 꺼낸 뒤 반영 완료 전에 중단
+        List<Long> claimed = stockCounter.claimDirty(10);
+
+        // Then
+        assertThat(claimed).contains(HOT_ID);
+        assertThat(redisTemplate.opsForSet().isMember(RedisStockCounter.DIRTY_KEY, String.valueOf(HOT_ID))).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember(RedisStockCounter.PROCESSING_KEY, String.valueOf(HOT_ID))).isTrue();
+
+        assertThat(stockCounter.recoverDirty()).isGreaterThanOrEqualTo(1);
+        assertThat(redisTemplate.opsForSet().isMember(RedisStockCounter.DIRTY_KEY, String.valueOf(HOT_ID))).isTrue();
+        assertThat(redisTemplate.hasKey(RedisStockCounter.PROCESSING_KEY)).isFalse();
+
+        // 반영 완료 시 처리 중 집합에서 제거
+        stockCounter.claimDirty(10);
+        stockCounter.completeDirty(List.of(HOT_ID));
+        assertThat(redisTemplate.opsForSet().isMember(RedisStockCounter.PROCESSING_KEY, String.valueOf(HOT_ID))).isFalse();
+    }
+
+    private Map<Long, Integer> quantities(Object... idAndQuantity){
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (int i = 0; i < idAndQuantity.length; i += 2){
+            quantities.put((Long) idAndQuantity[i], (Integer) idAndQuantity[i + 1]);
+        }
+        return quantities;
+    }
+
+    private boolean isRedisAvailable(){
+        try {
+            return "PONG".equals(redisTemplate.execute(connection -> connection.ping(), true));
+        } catch (RuntimeException e){
+            return false;
+        }
+    }
+
+    private void cleanUp(){
+        for (Long productId : List.of(HOT_ID, OTHER_HOT_ID, COLD_ID)){
+            redisTemplate.delete(RedisStockCounter.KEY_PREFIX + productId);
+            redisTemplate.opsForSet().remove(RedisStockCounter.DIRTY_KEY, String.valueOf(productId));
+            redisTemplate.opsForSet().remove(RedisStockCounter.PROCESSING_KEY, String.valueOf(productId));
+        }
+    }
+}
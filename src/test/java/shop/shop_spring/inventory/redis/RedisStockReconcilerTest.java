@@ -0,0 +1,93 @@
+package shop.shop_spring.inventory.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.repository.ProductRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisStockReconcilerTest {
+    @Mock
+    private RedisStockCounter stockCounter;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductDetailCache productDetailCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RedisStockReconciler reconciler;
+
+    @BeforeEach
+    void setUp(){
+        reconciler = new RedisStockReconciler(stockCounter, productRepository, productDetailCache, transactionManager);
+    }
+
+    @Test
+    void 가용재고는_한번에_조회_후_반영하고_처리중_집합에서_제거(){
+        // given - 2번 상품은 그 사이 해제됨
+        when(stockCounter.availableAll(List.of(1L, 2L))).thenReturn(Map.of(1L, 7L));
+
+        // when
+        reconciler.syncBatch(List.of(1L, 2L));
+
+        // then
+        InOrder inOrder = inOrder(stockCounter, transactionManager, productRepository);
+        inOrder.verify(stockCounter).availableAll(List.of(1L, 2L));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(productRepository).overwriteStock(1L, 7);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(stockCounter).completeDirty(List.of(1L, 2L));
+        verify(productRepository, never()).overwriteStock(eq(2L), anyInt());
+        verify(stockCounter, never()).markDirty(any());
+    }
+
+    @Test
+    void 반영_실패시_dirty_로_되돌린_뒤_처리중_집합에서_제거(){
+        // given
+        when(stockCounter.availableAll(List.of(1L))).thenReturn(Map.of(1L, 7L));
+        doThrow(new IllegalStateException("DB 오류")).when(productRepository).overwriteStock(1L, 7);
+
+        // when
+        reconciler.syncBatch(List.of(1L));
+
+        // then
+        InOrder inOrder = inOrder(stockCounter);
+        inOrder.verify(stockCounter).markDirty(List.of(1L));
+        inOrder.verify(stockCounter).completeDirty(List.of(1L));
+    }
+
+    @Test
+    void 중단된_반영을_복구하고_잠금_만료시_다음_배치_중단(){
+        // given - 배치 크기 1, 첫 배치 후 잠금 연장 실패
+        ReflectionTestUtils.setField(reconciler, "batchSize", 1);
+        when(stockCounter.isEnabled()).thenReturn(true);
+        when(stockCounter.tryLockSync(anyString(), any())).thenReturn(true);
+        when(stockCounter.claimDirty(anyInt())).thenReturn(List.of(1L));
+        when(stockCounter.availableAll(List.of(1L))).thenReturn(Map.of());
+        when(stockCounter.renewSync(anyString(), any())).thenReturn(false);
+
+        // when
+        reconciler.sync();
+
+        // then
+        verify(stockCounter).recoverDirty();
+        verify(stockCounter, times(1)).claimDirty(1);
+        verify(stockCounter).completeDirty(List.of(1L));
+        verify(stockCounter).unlockSync(anyString());
+    }
+}
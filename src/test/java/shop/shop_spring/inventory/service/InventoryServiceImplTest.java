@@ -0,0 +1,161 @@
+package shop.shop_spring.inventory.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import shop.shop_spring.common.exception.InsufficientStockException;
+import shop.shop_spring.inventory.redis.RedisStockCounter;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.repository.ProductRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private RedisStockCounter stockCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InventoryServiceImpl inventoryService;
+
+    @BeforeEach
+    void setUp(){
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        inventoryService = new InventoryServiceImpl(productRepository, productDetailCache, stockCounter, transactionManager);
+    }
+
+    @Test
+    void 재고_예약_성공_상품ID_오름차순(){
+        // Given
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(3L, 1);
+        quantities.put(1L, 2);
+        when(productRepository.decreaseStocks(any())).thenReturn(List.of());
+
+        // When
+        inventoryService.reserve(quantities);
+
+        // Then - 상품 id 오름차순으로 배치 한 번에 차감
+        ArgumentCaptor<SortedMap<Long, Integer>> captor = ArgumentCaptor.forClass(SortedMap.class);
+        verify(productRepository, times(1)).decreaseStocks(captor.capture());
+        assertThat(captor.getValue()).containsExactly(entry(1L, 2), entry(3L, 1));
+        // 별도 트랜잭션을 열지 않음 (호출 트랜잭션에 참여)
+        verify(transactionManager, never()).getTransaction(any());
+        verify(productDetailCache, times(1)).evictAll(List.of(1L, 3L));
+    }
+
+    @Test
+    void 재고_예약_실패_부족한_상품_모두_보고(){
+        // Given
+        when(productRepository.decreaseStocks(new TreeMap<>(Map.of(1L, 1, 2L, 1, 3L, 1)))).thenReturn(List.of(1L, 3L));
+
+        // When
+        InsufficientStockException e = assertThrows(InsufficientStockException.class,
+                () -> inventoryService.reserve(Map.of(1L, 1, 2L, 1, 3L, 1)));
+
+        // Then
+        assertThat(e.getFailedProductIds()).containsExactly(1L, 3L);
+        verify(productDetailCache, never()).evictAll(anyList());
+    }
+
+    @Test
+    void 재고_예약_실패_잘못된_수량(){
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> inventoryService.reserve(Map.of(1L, 0)));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void 재고_예약_Redis_핫상품은_카운터_나머지는_DB(){
+        // Given
+        when(stockCounter.isEnabled()).thenReturn(true);
+        when(stockCounter.reserve(new TreeMap<>(Map.of(1L, 1, 2L, 3))))
+                .thenReturn(new RedisStockCounter.Reservation(List.of(), Map.of(1L, 1), Map.of(2L, 3)));
+        when(productRepository.decreaseStocks(new TreeMap<>(Map.of(2L, 3)))).thenReturn(List.of());
+
+        // When
+        inventoryService.reserve(Map.of(1L, 1, 2L, 3));
+
+        // Then - 핫 상품은 DB 차감 대상에서 빠짐
+        verify(productRepository, times(1)).decreaseStocks(new TreeMap<>(Map.of(2L, 3)));
+        verify(productDetailCache, times(1)).evictAll(List.of(2L));
+    }
+
+    @Test
+    void 재고_예약_실패_Redis_카운터_부족시_DB_차감_안함(){
+        // Given
+        when(stockCounter.isEnabled()).thenReturn(true);
+        when(stockCounter.reserve(any()))
+                .thenReturn(new RedisStockCounter.Reservation(List.of(1L), Map.of(), Map.of(2L, 3)));
+
+        // When
+        InsufficientStockException e = assertThrows(InsufficientStockException.class,
+                () -> inventoryService.reserve(Map.of(1L, 1, 2L, 3)));
+
+        // Then
+        assertThat(e.getFailedProductIds()).containsExactly(1L);
+        verify(productRepository, never()).decreaseStocks(any());
+    }
+
+    @Test
+    void 재고_예약_실패_DB_부족시_Redis_예약분_반환(){
+        // Given
+        when(stockCounter.isEnabled()).thenReturn(true);
+        when(stockCounter.reserve(any()))
+                .thenReturn(new RedisStockCounter.Reservation(List.of(), Map.of(1L, 1), Map.of(2L, 3)));
+        when(productRepository.decreaseStocks(new TreeMap<>(Map.of(2L, 3)))).thenReturn(List.of(2L));
+        when(stockCounter.release(Map.of(1L, 1))).thenReturn(Map.of());
+
+        // When
+        InsufficientStockException e = assertThrows(InsufficientStockException.class,
+                () -> inventoryService.reserve(Map.of(1L, 1, 2L, 3)));
+
+        // Then
+        assertThat(e.getFailedProductIds()).containsExactly(2L);
+        verify(stockCounter, times(1)).release(Map.of(1L, 1));
+    }
+
+    @Test
+    void 재고_반환_Redis_핫상품은_카운터_나머지는_DB(){
+        // Given
+        when(stockCounter.isEnabled()).thenReturn(true);
+        when(stockCounter.managedIds(any())).thenReturn(List.of(1L));
+        when(stockCounter.release(any())).thenReturn(Map.of());
+
+        // When (활성 트랜잭션 없음 -> 카운터 반환 즉시 실행)
+        inventoryService.release(Map.of(1L, 1, 2L, 3));
+
+        // Then
+        verify(stockCounter, times(1)).release(new TreeMap<>(Map.of(1L, 1)));
+        verify(productRepository, never()).increaseStock(eq(1L), anyInt());
+        verify(productRepository, times(1)).increaseStock(2L, 3);
+    }
+}
@@ -0,0 +1,65 @@
+package shop.shop_spring.member;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.member.repository.MemberRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class MemberRepositoryQueryCountTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 회원_조회시_장바구니_쿼리_없음(){
+        // given - 장바구니가 있는 회원
+        Member member = Member.builder()
+                .username("test@test.com")
+                .password("password")
+                .name("테스트")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .address("서울")
+                .addressDetail("101호")
+                .nickname("테스터")
+                .role(Role.ROLE_USER)
+                .build();
+        testEntityManager.persist(member);
+        testEntityManager.persist(Cart.builder().member(member).build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Optional<Member> found = memberRepository.findById(member.getId());
+
+        // then
+        assertTrue(found.isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount(), "회원 조회는 단일 쿼리여야함");
+        assertEquals(0, statistics.getEntityStatistics(Cart.class.getName()).getLoadCount(), "장바구니는 로딩되지 않아야함");
+    }
+}
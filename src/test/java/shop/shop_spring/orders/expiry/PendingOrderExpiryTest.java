@@ -0,0 +1,183 @@
+package shop.shop_spring.orders.expiry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.inventory.service.InventoryService;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.common.money.Money;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(PendingOrderExpiryScheduler.class)
+public class PendingOrderExpiryTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final LocalDateTime CUTOFF = NOW.minusMinutes(30);
+
+    @Autowired
+    private PendingOrderExpiryScheduler expiryScheduler;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @MockitoBean
+    private InventoryService inventoryService;
+    @MockitoBean
+    private OrderViewProjector orderViewProjector;
+
+    private Member member;
+    private Product productA;
+    private Product productB;
+
+    @BeforeEach
+    void setUp(){
+        member = Member.builder()
+                .username("test@test.com")
+                .password("password")
+                .name("테스트")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .address("서울")
+                .addressDetail("101호")
+                .nickname("테스터")
+                .role(Role.ROLE_USER)
+                .build();
+        testEntityManager.persist(member);
+
+        Category category = new Category();
+        category.setName("테스트 카테고리");
+        testEntityManager.persist(category);
+
+        productA = persistProduct(category, "상품 A");
+        productB = persistProduct(category, "상품 B");
+    }
+
+    @Test
+    void 만료된_결제대기_주문만_일괄취소_배송취소_재고반환(){
+        // given
+        Order expired1 = persistOrder(Order.OrderStatus.PENDING, NOW.minusHours(1), productA, 2, productB, 1);
+        Order expired2 = persistOrder(Order.OrderStatus.PENDING, NOW.minusHours(2), productA, 3, null, 0);
+        Order recent = persistOrder(Order.OrderStatus.PENDING, NOW.minusMinutes(5), productA, 1, null, 0);
+        Order paid = persistOrder(Order.OrderStatus.PAID, NOW.minusHours(3), productB, 4, null, 0);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        int canceled = expiryScheduler.expire(
+                List.of(expired1.getId(), expired2.getId(), recent.getId(), paid.getId()), CUTOFF);
+
+        // then
+        assertThat(canceled).isEqualTo(2);
+        assertCanceled(expired1.getId());
+        assertCanceled(expired2.getId());
+        assertThat(testEntityManager.find(Order.class, recent.getId()).getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+        assertThat(testEntityManager.find(Order.class, paid.getId()).getStatus()).isEqualTo(Order.OrderStatus.PAID);
+
+        // 취소된 주문들의 수량을 상품별로 합산해 한 번에 반환
+        verify(inventoryService, times(1)).release(Map.of(productA.getId(), 5, productB.getId(), 1));
+        // 읽기 모델도 같은 트랜잭션에서 취소 상태로 갱신
+        verify(orderViewProjector, times(1)).updateStatus(
+                argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(expired1.getId(), expired2.getId()))),
+                eq(Order.OrderStatus.CANCELED), eq(Delivery.DeliveryStatus.CANCELED));
+    }
+
+    @Test
+    void 만료대상이_이미_처리됐으면_아무것도_안함(){
+        Order paid = persistOrder(Order.OrderStatus.PAID, NOW.minusHours(1), productA, 1, null, 0);
+        testEntityManager.flush();
+
+        assertThat(expiryScheduler.expire(List.of(paid.getId()), CUTOFF)).isZero();
+        verifyNoInteractions(inventoryService);
+    }
+
+    @Test
+    void 시작시_결제대기_주문만_휠에_재구축(){
+        persistOrder(Order.OrderStatus.PENDING, NOW.minusHours(1), productA, 1, null, 0);
+        persistOrder(Order.OrderStatus.PENDING, NOW, productA, 1, null, 0);
+        persistOrder(Order.OrderStatus.PAID, NOW, productA, 1, null, 0);
+        testEntityManager.flush();
+        int before = expiryScheduler.registeredCount();
+
+        expiryScheduler.rebuild();
+
+        assertThat(expiryScheduler.registeredCount() - before).isEqualTo(2);
+    }
+
+    private void assertCanceled(Long orderId){
+        Order order = testEntityManager.find(Order.class, orderId);
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CANCELED);
+        assertThat(order.getDelivery().getStatus()).isEqualTo(Delivery.DeliveryStatus.CANCELED);
+        assertThat(order.getVersion()).isEqualTo(1L); // 동시 결제 콜백은 낙관적 잠금 충돌
+    }
+
+    private Product persistProduct(Category category, String title){
+        Product product = Product.builder()
+                .title(title)
+                .price(Money.of(10000))
+                .username("테스트 판매자")
+                .stockQuantity(10)
+                .status(Status.ACTIVE)
+                .category(category)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        testEntityManager.persist(product);
+        return product;
+    }
+
+    private Order persistOrder(Order.OrderStatus status, LocalDateTime orderDate,
+                               Product first, int firstCount, Product second, int secondCount){
+        Order order = Order.builder()
+                .orderer(member)
+                .orderDate(orderDate)
+                .status(status)
+                .totalAmount(Money.of(10000))
+                .orderItems(new ArrayList<>())
+                .paymentMethod("CARD")
+                .build();
+        order.addOrderItem(orderItem(first, firstCount));
+        if (second != null){
+            order.addOrderItem(orderItem(second, secondCount));
+        }
+        order.setDelivery(Delivery.builder()
+                .receiverName("테스트")
+                .address("서울 101호")
+                .status(Delivery.DeliveryStatus.READY)
+                .build());
+        testEntityManager.persist(order);
+        return order;
+    }
+
+    private OrderItem orderItem(Product product, int count){
+        return OrderItem.builder()
+                .product(product)
+                .orderPrice(product.getPrice())
+                .count(count)
+                .productTitleAtOrder(product.getTitle())
+                .build();
+    }
+}
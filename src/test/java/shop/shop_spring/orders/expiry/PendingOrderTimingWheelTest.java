@@ -0,0 +1,68 @@
+package shop.shop_spring.orders.expiry;
+
+import org.junit.jupiter.api.Test;
+import shop.shop_spring.order.expiry.PendingOrderTimingWheel;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PendingOrderTimingWheelTest {
+    private static final long TICK = 1_000L;
+    private static final long START = 1_000_000L;
+
+    @Test
+    void 만료시각_이전에는_꺼내지_않음(){
+        PendingOrderTimingWheel wheel = new PendingOrderTimingWheel(TICK, 8, START);
+        wheel.schedule(1L, START + 2_500);
+
+        assertThat(wheel.advance(START + 2_000)).isEmpty();
+        assertThat(wheel.advance(START + 3_000)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 휠_한바퀴보다_먼_만료시각(){
+        // 휠 크기 8 tick, 만료는 20 tick 후 -> 같은 슬롯을 두 번 지나쳐도 만료 전에는 유지
+        PendingOrderTimingWheel wheel = new PendingOrderTimingWheel(TICK, 8, START);
+        wheel.schedule(1L, START + 20 * TICK);
+        wheel.schedule(2L, START + 4 * TICK); // 20 과 같은 슬롯 (20 % 8 == 4)
+
+        for (long t = 1; t < 20; t++){
+            List<Long> batch = wheel.advance(START + t * TICK);
+            if (t == 4){
+                assertThat(batch).containsExactly(2L);
+            } else {
+                assertThat(batch).isEmpty();
+            }
+        }
+        assertThat(wheel.advance(START + 20 * TICK)).containsExactly(1L);
+    }
+
+    @Test
+    void 이미_지난_만료시각은_다음_tick에_만료(){
+        PendingOrderTimingWheel wheel = new PendingOrderTimingWheel(TICK, 8, START);
+        wheel.schedule(1L, START - 60_000); // 재구축 시 이미 만료된 주문
+
+        assertThat(wheel.advance(START + TICK)).containsExactly(1L);
+    }
+
+    @Test
+    void 오래_멈춘뒤_진행해도_만료된_주문_모두_반환(){
+        PendingOrderTimingWheel wheel = new PendingOrderTimingWheel(TICK, 8, START);
+        wheel.schedule(1L, START + 3 * TICK);
+        wheel.schedule(2L, START + 15 * TICK);
+        wheel.schedule(3L, START + 100 * TICK);
+
+        // 휠 크기보다 긴 30 tick 동안 진행 안 됨
+        assertThat(wheel.advance(START + 30 * TICK)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 100 * TICK)).containsExactly(3L);
+    }
+
+    @Test
+    void 휠_크기는_2의_거듭제곱(){
+        assertThrows(IllegalArgumentException.class, () -> new PendingOrderTimingWheel(TICK, 10, START));
+    }
+}
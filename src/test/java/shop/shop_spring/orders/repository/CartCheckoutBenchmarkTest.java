@@ -0,0 +1,218 @@
+package shop.shop_spring.orders.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import shop.shop_spring.cart.domain.Cart;
+import shop.shop_spring.cart.domain.CartItem;
+import shop.shop_spring.cart.repository.CartItemRepository;
+import shop.shop_spring.cart.repository.CartRepository;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.config.JpaConfig;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.repository.OrderRepository;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.support.JdbcTrafficCounter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static shop.shop_spring.support.TestFixtures.*;
+
+/**
+ * 장바구니 주문 DB 처리 비교 (장바구니 상품 1 / 10 / 50 개)
+ * 이전: 상품별 재고 차감 UPDATE -> 주문 저장 -> 장바구니 재조회 + 항목별 DELETE
+ * 이후: 재고 차감 UPDATE 배치 1회 -> 주문 저장 -> DELETE ... WHERE cart_id = ? 1회
+ * 실행 문장 수(배치에 담긴 문장 포함), DB 왕복 수(배치 전송 1회 = 1), 평균 지연 시간을 출력하고 왕복 수를 검증
+ * (주문 저장은 양쪽 모두 테이블별 JDBC 배치 insert, 지연 시간은 인메모리 H2 기준이므로 참고용)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.id.node-id=0"
+})
+@Import({JpaConfig.class, JdbcTrafficCounter.class})
+public class CartCheckoutBenchmarkTest {
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    // 장바구니 조회 1 + 재고 차감 배치 1 + 주문/주문 상품/배송 insert 배치 3 + 장바구니 삭제 1 + 합계 초기화 1
+    private static final int PIPELINE_ROUND_TRIPS = 7;
+
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Member member;
+    private Category category;
+    private Cart cart;
+
+    @BeforeEach
+    void setUp(){
+        member = persistMember(testEntityManager);
+        category = persistCategory(testEntityManager);
+
+        cart = Cart.builder().member(member).build();
+        testEntityManager.persist(cart);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void 장바구니_주문_항목별_처리_대비_일괄_처리(int itemCount){
+        // given
+        List<Product> products = persistProducts(testEntityManager, category, itemCount, 1_000_000);
+        testEntityManager.flush();
+
+        // when
+        Measurement perItem = measure(products, this::checkoutPerItem);
+        Measurement bulk = measure(products, this::checkoutBulk);
+
+        System.out.printf("장바구니 상품 %2d개 | 항목별: 문장 %3d, 왕복 %3d, %6d us | 일괄: 문장 %3d, 왕복 %3d, %6d us%n",
+                itemCount,
+                perItem.statements, perItem.roundTrips, perItem.averageMicros,
+                bulk.statements, bulk.roundTrips, bulk.averageMicros);
+
+        // then - 같은 결과 (재고 차감, 주문 상품 저장, 장바구니 비움)
+        assertThat(perItem.orderItemCount).isEqualTo(itemCount);
+        assertThat(bulk.orderItemCount).isEqualTo(itemCount);
+        assertThat(perItem.remainingCartItems).isZero();
+        assertThat(bulk.remainingCartItems).isZero();
+        testEntityManager.clear();
+        for (Product product : products){
+            assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity())
+                    .isEqualTo(1_000_000 - (WARMUP + ITERATIONS) * 2);
+        }
+
+        // 일괄 처리는 장바구니 상품 수와 관계없이 왕복 수 고정
+        assertThat(bulk.roundTrips).isLessThanOrEqualTo(PIPELINE_ROUND_TRIPS);
+        if (itemCount > 1){
+            assertThat(bulk.roundTrips).isLessThan(perItem.roundTrips);
+            assertThat(bulk.statements).isLessThan(perItem.statements);
+        }
+    }
+
+    // 변경 전 placeCartOrder + clearCart
+    private Order checkoutPerItem(){
+        Cart loaded = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        new TreeMap<>(quantities(loaded)).forEach(productRepository::decreaseStock);
+
+        Order order = saveOrder(loaded);
+
+        Cart reloaded = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        cartItemRepository.deleteAll(reloaded.getCartItems());
+        reloaded.getCartItems().clear();
+        testEntityManager.flush();
+        return order;
+    }
+
+    // 변경 후 placeCartOrder + clearCheckedOutCart
+    private Order checkoutBulk(){
+        Cart loaded = cartRepository.findByMemberIdWithItemsAndProducts(member.getId()).orElseThrow();
+        List<Long> failed = productRepository.decreaseStocks(new TreeMap<>(quantities(loaded)));
+        assertThat(failed).isEmpty();
+
+        Order order = saveOrder(loaded);
+
+        cartItemRepository.deleteAllByCartId(loaded.getId());
+        loaded.resetTotals();
+        testEntityManager.flush();
+        return order;
+    }
+
+    private Measurement measure(List<Product> products, Supplier<Order> checkout){
+        Measurement measurement = new Measurement();
+        long totalNanos = 0;
+        for (int i = 0; i < WARMUP + ITERATIONS; i++){
+            fillCart(products);
+            JdbcTrafficCounter.reset();
+
+            long start = System.nanoTime();
+            Order order = checkout.get();
+            long elapsed = System.nanoTime() - start;
+
+            if (i >= WARMUP){
+                totalNanos += elapsed;
+            }
+            measurement.statements = JdbcTrafficCounter.statements();
+            measurement.roundTrips = JdbcTrafficCounter.roundTrips();
+            measurement.orderItemCount = order.getOrderItems().size();
+        }
+        testEntityManager.clear();
+        measurement.remainingCartItems = cartRepository.findByMemberIdWithItemsAndProducts(member.getId())
+                .orElseThrow().getCartItems().size();
+        measurement.averageMicros = TimeUnit.NANOSECONDS.toMicros(totalNanos / ITERATIONS);
+        return measurement;
+    }
+
+    private Order saveOrder(Cart loaded){
+        Order order = Order.builder()
+                .orderer(member)
+                .orderDate(LocalDateTime.now())
+                .status(Order.OrderStatus.PENDING)
+                .totalAmount(Money.ZERO)
+                .paymentMethod("CARD")
+                .build();
+        for (CartItem cartItem : loaded.getCartItems()){
+            order.addOrderItem(orderItem(cartItem.getProduct(), cartItem.getQuantity()));
+        }
+        order.setDelivery(Delivery.builder()
+                .receiverName("테스트")
+                .address("서울 101호")
+                .status(Delivery.DeliveryStatus.READY)
+                .build());
+        Order saved = orderRepository.save(order);
+        testEntityManager.flush();
+        return saved;
+    }
+
+    private Map<Long, Integer> quantities(Cart loaded){
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (CartItem cartItem : loaded.getCartItems()){
+            quantities.merge(cartItem.getProduct().getId(), cartItem.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private void fillCart(List<Product> products){
+        testEntityManager.clear();
+        Cart managed = testEntityManager.find(Cart.class, cart.getId());
+        for (Product product : products){
+            CartItem cartItem = CartItem.builder()
+                    .product(testEntityManager.find(Product.class, product.getId()))
+                    .quantity(1)
+                    .build();
+            managed.addCartItem(cartItem);
+            testEntityManager.persist(cartItem);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    private static class Measurement {
+        private long statements;
+        private long roundTrips;
+        private long averageMicros;
+        private int orderItemCount;
+        private int remainingCartItems;
+    }
+}
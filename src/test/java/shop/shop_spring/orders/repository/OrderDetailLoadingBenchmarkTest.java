@@ -0,0 +1,156 @@
+package shop.shop_spring.orders.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.config.JpaConfig;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.order.Dto.OrderDetailDto;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.repository.OrderRepository;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.support.JdbcTrafficCounter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static shop.shop_spring.support.TestFixtures.*;
+
+/**
+ * 주문 상세 로딩 방식 비교 (주문 상품 1 / 20 / 200 개)
+ * 이전: 주문자/배송/주문 상품/상품을 한 쿼리로 fetch join + DISTINCT -> 주문/주문자/배송 컬럼이 주문 상품 수만큼 반복
+ * 이후: 주문자/배송(단일 연관)만 조인, 주문 상품/상품은 배치 조회
+ * 쿼리 수, 읽은 행 수, 읽은 값 크기(바이트 근사), 평균 지연 시간을 출력하고 쿼리 수/전송량을 검증
+ * (지연 시간은 인메모리 H2 기준이므로 참고용, 네트워크가 있는 MySQL 에서는 전송량 차이가 더 크게 반영됨)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.id.node-id=0"
+})
+@Import({JpaConfig.class, JdbcTrafficCounter.class})
+public class OrderDetailLoadingBenchmarkTest {
+    // 변경 전 findByIdWithAllDetails
+    private static final String FETCH_JOIN_QUERY = "SELECT DISTINCT o FROM Order o " +
+            "JOIN FETCH o.orderer m " +
+            "JOIN FETCH o.delivery d " +
+            "JOIN FETCH o.orderItems oi " +
+            "JOIN FETCH oi.product p " +
+            "WHERE o.id = :orderId";
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Member member;
+    private Category category;
+
+    @BeforeEach
+    void setUp(){
+        member = persistMember(testEntityManager);
+        category = persistCategory(testEntityManager);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void 주문_상세_로딩_fetch_join_대비_배치조회(int itemCount){
+        // given
+        Long orderId = persistOrder(itemCount);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        Measurement fetchJoin = measure(() -> testEntityManager.getEntityManager()
+                .createQuery(FETCH_JOIN_QUERY, Order.class)
+                .setParameter("orderId", orderId)
+                .getSingleResult());
+        Measurement batchFetch = measure(() -> orderRepository.findByIdWithAllDetails(orderId).orElseThrow());
+
+        System.out.printf("주문 상품 %3d개 | fetch join: 쿼리 %d, 행 %4d, %7d bytes, %6d us | 배치 조회: 쿼리 %d, 행 %4d, %7d bytes, %6d us%n",
+                itemCount,
+                fetchJoin.statements, fetchJoin.rows, fetchJoin.bytes, fetchJoin.averageMicros,
+                batchFetch.statements, batchFetch.rows, batchFetch.bytes, batchFetch.averageMicros);
+
+        // then - 같은 결과
+        assertThat(batchFetch.result).usingRecursiveComparison()
+                .ignoringCollectionOrder()
+                .isEqualTo(fetchJoin.result);
+        assertThat(batchFetch.result.getOrderItems()).hasSize(itemCount);
+
+        // 쿼리 수는 주문 상품 수가 아니라 배치 크기(100) 단위로만 증가 (N+1 없음)
+        long productBatches = (itemCount + 99) / 100;
+        assertThat(batchFetch.statements).isLessThanOrEqualTo(3 + productBatches);
+
+        // 주문 상품이 여러 개면 주문/주문자/배송 컬럼 반복이 없어 전송량이 적음
+        if (itemCount > 1){
+            assertThat(batchFetch.bytes).isLessThan(fetchJoin.bytes);
+        }
+    }
+
+    private Measurement measure(Supplier<Order> loader){
+        Measurement measurement = new Measurement();
+        long totalNanos = 0;
+        for (int i = 0; i < WARMUP + ITERATIONS; i++){
+            testEntityManager.clear();
+            JdbcTrafficCounter.reset();
+
+            long start = System.nanoTime();
+            // 연관 엔티티 접근까지 포함 (지연 로딩 쿼리도 측정)
+            OrderDetailDto result = OrderDetailDto.fromEntity(loader.get());
+            long elapsed = System.nanoTime() - start;
+
+            if (i >= WARMUP){
+                totalNanos += elapsed;
+            }
+            measurement.result = result;
+        }
+        measurement.statements = JdbcTrafficCounter.statements();
+        measurement.rows = JdbcTrafficCounter.rows();
+        measurement.bytes = JdbcTrafficCounter.bytes();
+        measurement.averageMicros = TimeUnit.NANOSECONDS.toMicros(totalNanos / ITERATIONS);
+        return measurement;
+    }
+
+    private Long persistOrder(int itemCount){
+        Order order = Order.builder()
+                .orderer(member)
+                .orderDate(LocalDateTime.now())
+                .status(Order.OrderStatus.PAID)
+                .totalAmount(Money.of(10000L * itemCount))
+                .orderItems(new ArrayList<>())
+                .paymentMethod("CARD")
+                .build();
+        for (Product product : persistProducts(testEntityManager, category, itemCount, 10)){
+            order.addOrderItem(orderItem(product, 1));
+        }
+        order.setDelivery(Delivery.builder()
+                .receiverName("테스트")
+                .address("서울특별시 강남구 테헤란로 123 101동 1001호")
+                .deliveryMessage("부재 시 문 앞에 놓아주세요")
+                .status(Delivery.DeliveryStatus.READY)
+                .build());
+        testEntityManager.persist(order);
+        return order.getId();
+    }
+
+    private static class Measurement {
+        private long statements;
+        private long rows;
+        private long bytes;
+        private long averageMicros;
+        private OrderDetailDto result;
+    }
+}
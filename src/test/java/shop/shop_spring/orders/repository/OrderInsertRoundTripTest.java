@@ -0,0 +1,97 @@
+package shop.shop_spring.orders.repository;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import shop.shop_spring.config.JpaConfig;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.support.JdbcTrafficCounter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static shop.shop_spring.support.TestFixtures.*;
+
+/**
+ * 장바구니 주문 저장 시 DB 왕복 횟수 측정
+ * 이전(IDENTITY): insert 마다 생성 키를 받아야 해서 배치 불가 -> 주문 1 + 주문 상품 N + 배송 1
+ * 이후(애플리케이션 생성 id + jdbc batch): 테이블별 배치 1회씩 -> 3
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.id.node-id=0"
+})
+@Import({JpaConfig.class, JdbcTrafficCounter.class})
+public class OrderInsertRoundTripTest {
+    private static final int ITEM_COUNT = 20;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Member member;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp(){
+        member = persistMember(testEntityManager);
+        products = persistProducts(testEntityManager, persistCategory(testEntityManager), ITEM_COUNT, 10);
+        testEntityManager.flush();
+    }
+
+    @Test
+    void 배치_저장시_주문_상품_수와_무관하게_왕복_3회(){
+        int roundTrips = saveCartOrder();
+
+        System.out.println("주문 상품 " + ITEM_COUNT + "개 저장 왕복 횟수(배치): " + roundTrips);
+        assertEquals(3, roundTrips, "주문/주문 상품/배송 테이블별 배치 1회씩");
+    }
+
+    @Test
+    void 배치_미사용시_주문_상품_수만큼_왕복(){
+        // IDENTITY 사용 시와 같은 insert 방식
+        testEntityManager.getEntityManager().unwrap(Session.class).setJdbcBatchSize(1);
+
+        int roundTrips = saveCartOrder();
+
+        System.out.println("주문 상품 " + ITEM_COUNT + "개 저장 왕복 횟수(배치 없음): " + roundTrips);
+        assertEquals(ITEM_COUNT + 2, roundTrips);
+    }
+
+    private int saveCartOrder(){
+        Order order = Order.builder()
+                .orderer(member)
+                .orderDate(LocalDateTime.now())
+                .status(Order.OrderStatus.PENDING)
+                .totalAmount(Money.of(10000L * ITEM_COUNT))
+                .orderItems(new ArrayList<>())
+                .paymentMethod("CARD")
+                .build();
+        for (Product product : products){
+            order.addOrderItem(orderItem(product, 1));
+        }
+        order.setDelivery(Delivery.builder()
+                .receiverName("테스트")
+                .address("서울 101호")
+                .status(Delivery.DeliveryStatus.READY)
+                .build());
+
+        JdbcTrafficCounter.reset();
+        testEntityManager.persist(order);
+        testEntityManager.flush();
+        int roundTrips = (int) JdbcTrafficCounter.roundTrips();
+
+        assertNotNull(order.getId());
+        return roundTrips;
+    }
+}
@@ -0,0 +1,140 @@
+package shop.shop_spring.orders.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.order.Dto.OrderSummaryDto;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.repository.OrderRepository;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.common.money.Money;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class OrderSummaryQueryTest {
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp(){
+        member = Member.builder()
+                .username("test@test.com")
+                .password("password")
+                .name("테스트")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .address("서울")
+                .addressDetail("101호")
+                .nickname("테스터")
+                .role(Role.ROLE_USER)
+                .build();
+        testEntityManager.persist(member);
+
+        Category category = new Category();
+        category.setName("테스트 카테고리");
+        testEntityManager.persist(category);
+
+        Product product = Product.builder()
+                .title("테스트 상품")
+                .price(Money.of(10000))
+                .username("테스트 판매자")
+                .stockQuantity(10)
+                .status(Status.ACTIVE)
+                .category(category)
+                .createdAt(BASE_DATE)
+                .updatedAt(BASE_DATE)
+                .build();
+        testEntityManager.persist(product);
+
+        // 주문 i 는 상품 i+1 종류, 두 번째/세 번째 주문은 같은 주문일
+        persistOrder(product, BASE_DATE, 1);
+        persistOrder(product, BASE_DATE.plusDays(1), 2);
+        persistOrder(product, BASE_DATE.plusDays(1), 3);
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void 주문_요약_최신순_상품수_대표상품명_단일쿼리(){
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<OrderSummaryDto> summaries = orderRepository.findSummariesByOrdererId(member.getId(), PageRequest.ofSize(10));
+
+        // then
+        assertEquals(3, summaries.size());
+        assertEquals(BASE_DATE.plusDays(1), summaries.get(0).getOrderDate());
+        assertTrue(summaries.get(0).getOrderId() > summaries.get(1).getOrderId(), "같은 주문일은 id 내림차순");
+        assertEquals(3L, summaries.get(0).getItemCount());
+        assertEquals("주문 상품 0", summaries.get(0).getFirstItemTitle());
+        assertEquals(1L, summaries.get(2).getItemCount());
+        assertEquals(1, statistics.getPrepareStatementCount(), "목록 조회는 단일 쿼리여야함");
+        assertEquals(0, statistics.getEntityLoadCount(), "엔티티를 로딩하지 않아야함");
+    }
+
+    @Test
+    void 커서_이후_주문만_조회(){
+        List<OrderSummaryDto> firstPage = orderRepository.findSummariesByOrdererId(member.getId(), PageRequest.ofSize(2));
+        OrderSummaryDto last = firstPage.get(1);
+
+        // when
+        List<OrderSummaryDto> nextPage = orderRepository.findSummariesByOrdererIdAfter(
+                member.getId(), last.getOrderDate(), last.getOrderId(), PageRequest.ofSize(2));
+
+        // then
+        assertEquals(2, firstPage.size());
+        assertEquals(1, nextPage.size());
+        assertEquals(BASE_DATE, nextPage.get(0).getOrderDate());
+    }
+
+    private void persistOrder(Product product, LocalDateTime orderDate, int itemCount){
+        Order order = Order.builder()
+                .orderer(member)
+                .orderDate(orderDate)
+                .status(Order.OrderStatus.PAID)
+                .totalAmount(Money.of(10000L * itemCount))
+                .orderItems(new ArrayList<>())
+                .paymentMethod("CARD")
+                .build();
+        for (int i = 0; i < itemCount; i++){
+            order.addOrderItem(OrderItem.builder()
+                    .product(product)
+                    .orderPrice(product.getPrice())
+                    .count(1)
+                    .productTitleAtOrder("주문 상품 " + i)
+                    .build());
+        }
+        testEntityManager.persist(order);
+    }
+}
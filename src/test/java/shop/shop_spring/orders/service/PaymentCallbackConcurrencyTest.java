@@ -0,0 +1,211 @@
+package shop.shop_spring.orders.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.shop_spring.cart.service.CartService;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.member.service.MemberService;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
+import shop.shop_spring.order.repository.OrderRepository;
+import shop.shop_spring.order.sevice.OrderService;
+import shop.shop_spring.order.sevice.OrderServiceImpl;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 주문의 결제 성공 콜백이 동시에 여러 번 들어와도 상태 변경(및 재고 확정)은 한 번만 일어나야 함
+ * Redis 중복 제거를 통과한 경우(Redis 장애 등)에도 주문 낙관적 잠금으로 보장되는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(OrderServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 콜백마다 독립 트랜잭션으로 커밋
+public class PaymentCallbackConcurrencyTest {
+    private static final int CALLBACKS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private MemberService memberService;
+    @MockitoBean
+    private ProductService productService;
+    @MockitoBean
+    private PaymentOutboxService paymentOutboxService;
+    @MockitoBean
+    private CartService cartService;
+    @MockitoBean
+    private InventoryService inventoryService;
+    @MockitoBean
+    private PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    @MockitoBean
+    private StripedProductLockManager productLockManager;
+    @MockitoBean
+    private OrderViewProjector orderViewProjector;
+
+    private TransactionTemplate transactionTemplate;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp(){
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        orderId = transactionTemplate.execute(status -> {
+            Member member = Member.builder()
+                    .username("test@test.com")
+                    .password("password")
+                    .name("테스트")
+                    .birthDate(LocalDate.of(2000, 1, 1))
+                    .address("서울")
+                    .addressDetail("101호")
+                    .nickname("테스터")
+                    .role(Role.ROLE_USER)
+                    .build();
+            testEntityManager.persist(member);
+
+            Category category = new Category();
+            category.setName("테스트 카테고리");
+            testEntityManager.persist(category);
+
+            LocalDateTime now = LocalDateTime.now();
+            Product product = Product.builder()
+                    .title("테스트 상품")
+                    .price(Money.of(10000))
+                    .username("테스트 판매자")
+                    .stockQuantity(10)
+                    .status(Status.ACTIVE)
+                    .category(category)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            testEntityManager.persist(product);
+
+            Order order = Order.builder()
+                    .orderer(member)
+                    .orderDate(now)
+                    .status(Order.OrderStatus.PENDING)
+                    .totalAmount(Money.of(20000))
+                    .orderItems(new ArrayList<>())
+                    .paymentMethod("CARD")
+                    .build();
+            order.addOrderItem(OrderItem.builder()
+                    .product(product)
+                    .orderPrice(product.getPrice())
+                    .count(2)
+                    .productTitleAtOrder(product.getTitle())
+                    .build());
+            order.setDelivery(Delivery.builder()
+                    .receiverName("테스트")
+                    .address("서울 101호")
+                    .status(Delivery.DeliveryStatus.READY)
+                    .build());
+            testEntityManager.persist(order);
+            return order.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown(){
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String entity : List.of("OrderItem", "Delivery", "Order", "Product", "Category", "Member")){
+                testEntityManager.getEntityManager().createQuery("DELETE FROM " + entity + " e").executeUpdate();
+            }
+        });
+    }
+
+    @Test
+    void 동시_중복_결제성공_콜백_상태변경_한번만() throws InterruptedException {
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < CALLBACKS; i++){
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    orderService.handlePaymentSuccessCallback(orderId);
+                    completed.incrementAndGet();
+                } catch (ConcurrencyFailureException e){
+                    conflicts.incrementAndGet(); // 동시 갱신 충돌 -> 롤백
+                } catch (Throwable e){
+                    unexpected.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        System.out.println("중복 콜백 " + CALLBACKS + "건: 정상 종료 " + completed.get() + ", 충돌 " + conflicts.get());
+        assertThat(unexpected).isEmpty();
+        assertThat(completed.get() + conflicts.get()).isEqualTo(CALLBACKS);
+
+        // 상태 변경 및 재고 확정은 정확히 한 번
+        verify(inventoryService, times(1)).confirm(anyMap());
+        Order reloaded = orderRepository.findById(orderId).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void 만료_후_도착한_결제성공_콜백은_환불_필요로_기록(){
+        // given - 결제 대기 만료 처리로 일괄 취소됨
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.updateStatus(List.of(orderId), Order.OrderStatus.PENDING, Order.OrderStatus.CANCELED));
+
+        // when
+        orderService.handlePaymentSuccessCallback(orderId);
+
+        // then - 재고는 이미 반환됐으므로 확정하지 않고 환불 대상으로 남김
+        verify(inventoryService, never()).confirm(anyMap());
+        Order reloaded = orderRepository.findById(orderId).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(Order.OrderStatus.REFUND_REQUIRED);
+    }
+}
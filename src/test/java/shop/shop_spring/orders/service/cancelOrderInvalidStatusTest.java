@@ -6,21 +6,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 import shop.shop_spring.cart.service.CartService;
 import shop.shop_spring.common.exception.InvalidOrderStatusException;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.order.domain.Delivery;
 import shop.shop_spring.order.domain.Order;
 import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
 import shop.shop_spring.order.repository.OrderRepository;
 import shop.shop_spring.order.sevice.OrderServiceImpl;
-import shop.shop_spring.payment.service.PaymentService;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Optional;
@@ -38,11 +41,13 @@ public class cancelOrderInvalidStatusTest {
     private OrderRepository orderRepository;
     @Mock private MemberServiceImpl memberService;
     @Mock private ProductService productService;
-    @Mock private PaymentService paymentService;
+    @Mock private PaymentOutboxService paymentOutboxService;
     @Mock private CartService cartService;
+    @Mock private InventoryService inventoryService;
+    @Mock private PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    @Mock private StripedProductLockManager productLockManager;
+    @Mock private OrderViewProjector orderViewProjector;
 
-    private String successCallbackUrl = "http://localhost:8080/api/payments/mock-callback/success";
-    private String failureCallbackUrl = "http://localhost:8080/api/payments/mock-callback/failure";
 
     // 테스트에 사용할 공통 데이터
     private Member testOrderer; // 주문자
@@ -54,11 +59,8 @@ public class cancelOrderInvalidStatusTest {
     @BeforeEach
     void setUp() {
         // 각 테스트 메서드 실행 전에 모든 Mock 객체의 스텁과 호출 기록을 초기화
-        Mockito.reset(orderRepository, memberService, productService, paymentService, cartService);
+        Mockito.reset(orderRepository, memberService, productService, paymentOutboxService, cartService);
 
-        // @Value 필드들을 수동으로 주입
-        ReflectionTestUtils.setField(orderService, "successCallbackUrl", successCallbackUrl);
-        ReflectionTestUtils.setField(orderService, "failureCallbackUrl", failureCallbackUrl);
 
         // 1. 주문자 생성
         testOrderer = Member.builder()
@@ -70,7 +72,7 @@ public class cancelOrderInvalidStatusTest {
         testProduct = Product.builder()
                 .id(10L)
                 .title("Test Product")
-                .price(BigDecimal.valueOf(10000))
+                .price(Money.of(10000))
                 .stockQuantity(50)
                 .build();
 
@@ -82,7 +84,7 @@ public class cancelOrderInvalidStatusTest {
                 .orderer(testOrderer)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.SHIPPED) // <-- 취소 불가능 상태
-                .totalAmount(BigDecimal.valueOf(40000))
+                .totalAmount(Money.of(40000))
                 .paymentMethod("Credit Card")
                 .orderItems(new ArrayList<>())
                 .build();
@@ -97,7 +99,7 @@ public class cancelOrderInvalidStatusTest {
                 .orderer(testOrderer)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.DELIVERED) // <-- 취소 불가능 상태
-                .totalAmount(BigDecimal.valueOf(50000))
+                .totalAmount(Money.of(50000))
                 .paymentMethod("Credit Card")
                 .orderItems(new ArrayList<>())
                 .build();
@@ -112,7 +114,7 @@ public class cancelOrderInvalidStatusTest {
                 .orderer(testOrderer)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.CANCELED) // <-- 취소 불가능 상태
-                .totalAmount(BigDecimal.valueOf(60000))
+                .totalAmount(Money.of(60000))
                 .paymentMethod("Credit Card")
                 .orderItems(new ArrayList<>())
                 .build();
@@ -141,7 +143,7 @@ public class cancelOrderInvalidStatusTest {
 
         // Verify: 주문 상태 변경 및 재고 복원 관련 메서드는 호출되지 않았는지 확인
         verify(orderRepository, times(1)).findByIdWithOrdererItemsAndProducts(orderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService);
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService);
     }
 
     @Test
@@ -163,7 +165,7 @@ public class cancelOrderInvalidStatusTest {
 
         // Verify: 주문 상태 변경 및 재고 복원 관련 메서드는 호출되지 않았는지 확인
         verify(orderRepository, times(1)).findByIdWithOrdererItemsAndProducts(orderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService);
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService);
     }
 
     @Test
@@ -185,7 +187,7 @@ public class cancelOrderInvalidStatusTest {
 
         // Verify: 주문 상태 변경 및 재고 복원 관련 메서드는 호출되지 않았는지 확인
         verify(orderRepository, times(1)).findByIdWithOrdererItemsAndProducts(orderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService);
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService);
     }
 
 }
@@ -8,23 +8,28 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.test.util.ReflectionTestUtils;
 import shop.shop_spring.cart.service.CartService;
 import shop.shop_spring.common.exception.DataNotFoundException;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.order.domain.Delivery;
 import shop.shop_spring.order.domain.Order;
 import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
 import shop.shop_spring.order.repository.OrderRepository;
 import shop.shop_spring.order.sevice.OrderServiceImpl;
-import shop.shop_spring.payment.service.PaymentService;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,13 +48,17 @@ public class cancelOrderTest {
     @Mock
     private ProductService productService;
     @Mock
-    private PaymentService paymentService;
+    private PaymentOutboxService paymentOutboxService;
     @Mock
     private CartService cartService;
-
-    // @Value 필드들은 모든 OrderService 테스트 클래스에 필요
-    private String successCallbackUrl = "http://localhost:8080/api/payments/mock-callback/success";
-    private String failureCallbackUrl = "http://localhost:8080/api/payments/mock-callback/failure";
+    @Mock
+    private InventoryService inventoryService;
+    @Mock
+    private PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    @Mock
+    private StripedProductLockManager productLockManager;
+    @Mock
+    private OrderViewProjector orderViewProjector;
 
     private Member testOrderer; // 주문자
     private Member testAnotherMember; // 다른 회원 (권한 없음 테스트용)
@@ -61,11 +70,7 @@ public class cancelOrderTest {
     @BeforeEach
     void setUp() {
         // 각 테스트 메서드 실행 전에 모든 Mock 객체의 스텁과 호출 기록을 초기화
-        Mockito.reset(orderRepository, memberService, productService, paymentService, cartService);
-
-        // @Value 필드들을 수동으로 주입
-        ReflectionTestUtils.setField(orderService, "successCallbackUrl", successCallbackUrl);
-        ReflectionTestUtils.setField(orderService, "failureCallbackUrl", failureCallbackUrl);
+        Mockito.reset(orderRepository, memberService, productService, paymentOutboxService, cartService);
 
         // 1. 주문자 및 다른 회원 생성
         testOrderer = Member.builder()
@@ -82,7 +87,7 @@ public class cancelOrderTest {
         testProduct = Product.builder()
                 .id(10L)
                 .title("Test Product")
-                .price(BigDecimal.valueOf(10000))
+                .price(Money.of(10000))
                 .stockQuantity(50) // 초기 재고
                 .build();
 
@@ -93,7 +98,7 @@ public class cancelOrderTest {
                 .orderer(testOrderer)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.PENDING)
-                .totalAmount(BigDecimal.valueOf(20000))
+                .totalAmount(Money.of(20000))
                 .paymentMethod("Credit Card")
                 .orderItems(new ArrayList<>())
                 .build();
@@ -118,14 +123,13 @@ public class cancelOrderTest {
                 .build();
         testOrderPending.setDelivery(deliveryPending);
 
-
         // PAID 상태 주문
         testOrderPaid = Order.builder()
                 .id(101L)
                 .orderer(testOrderer)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.PAID)
-                .totalAmount(BigDecimal.valueOf(30000))
+                .totalAmount(Money.of(30000))
                 .paymentMethod("Bank Transfer")
                 .orderItems(new ArrayList<>())
                 .build();
@@ -150,14 +154,13 @@ public class cancelOrderTest {
                 .build();
         testOrderPaid.setDelivery(deliveryPaid);
 
-
         // SHIPPED 상태 주문 (취소 불가능)
         testOrderShipped = Order.builder()
                 .id(102L)
                 .orderer(testOrderer)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.SHIPPED)
-                .totalAmount(BigDecimal.valueOf(40000))
+                .totalAmount(Money.of(40000))
                 .paymentMethod("Credit Card")
                 .orderItems(new ArrayList<>())
                 .build();
@@ -187,7 +190,6 @@ public class cancelOrderTest {
     void 주문취소_성공_상태_결제대기중(){
         Long memberId = testOrderer.getId();
         Long orderId = testOrderPending.getId();
-        int initialStock = testProduct.getStockQuantity(); // 초기 재고: 50
         int orderedQuantity = testOrderPending.getOrderItems().get(0).getCount(); // 주문 수량: 2
 
         when(orderRepository.findByIdWithOrdererItemsAndProducts(orderId)).thenReturn(Optional.of(testOrderPending));
@@ -200,13 +202,14 @@ public class cancelOrderTest {
         assertThat(testOrderPending.getStatus()).isEqualTo(Order.OrderStatus.CANCELED);
         // 2. 배송 상태가 CANCELED로 변경되었는지 확인
         assertThat(testOrderPending.getDelivery().getStatus()).isEqualTo(Delivery.DeliveryStatus.CANCELED);
-        // 3. 상품 재고가 복원되었는지 확인 (initialStock + orderedQuantity)
-        assertThat(testProduct.getStockQuantity()).isEqualTo(initialStock + orderedQuantity); // 50 + 2 = 52
+        // 3. 예약된 상품 재고가 반환되었는지 확인
+        verify(inventoryService, times(1)).release(Map.of(testProduct.getId(), orderedQuantity));
+        verify(orderViewProjector, times(1)).updateStatus(List.of(orderId), Order.OrderStatus.CANCELED, Delivery.DeliveryStatus.CANCELED);
 
         // 4. orderRepository.save는 @Transactional에 의해 암시적으로 호출되므로 verify하지 않음
         // 5. 다른 Mock 객체들과 상호작용 없었는지 확인
         verify(orderRepository, times(1)).findByIdWithOrdererItemsAndProducts(orderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService);
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService);
     }
 
     @Test
@@ -214,7 +217,6 @@ public class cancelOrderTest {
         // Given
         Long memberId = testOrderer.getId();
         Long orderId = testOrderPaid.getId();
-        int initialStock = testProduct.getStockQuantity(); // 초기 재고: 50
         int orderedQuantity = testOrderPaid.getOrderItems().get(0).getCount(); // 주문 수량: 3
 
         when(orderRepository.findByIdWithOrdererItemsAndProducts(orderId)).thenReturn(Optional.of(testOrderPaid));
@@ -225,11 +227,11 @@ public class cancelOrderTest {
         // then
         assertThat(testOrderPaid.getStatus()).isEqualTo(Order.OrderStatus.CANCELED);
         assertThat(testOrderPaid.getDelivery().getStatus()).isEqualTo(Delivery.DeliveryStatus.CANCELED);
-        // 3. 상품 재고가 복원되었는지 확인 (initialStock + orderedQuantity)
-        assertThat(testProduct.getStockQuantity()).isEqualTo(initialStock + orderedQuantity); // 50 + 3 = 53
+        // 3. 예약된 상품 재고가 반환되었는지 확인
+        verify(inventoryService, times(1)).release(Map.of(testProduct.getId(), orderedQuantity));
 
         verify(orderRepository, times(1)).findByIdWithOrdererItemsAndProducts(orderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService);
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService);
     }
     
     @Test
@@ -248,7 +250,8 @@ public class cancelOrderTest {
         assertThat(thrown.getMessage()).isEqualTo("주문을 찾을 수 없음");
 
         verify(orderRepository, times(1)).findByIdWithOrdererItemsAndProducts(nonExistOrderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService);
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService);
+        verifyNoInteractions(inventoryService);
     }
 
     @Test
@@ -272,7 +275,7 @@ public class cancelOrderTest {
         verify(orderRepository, times(1)).findByIdWithOrdererItemsAndProducts(orderId);
         // 주문 상태 변경, 재고 복원, save 등은 호출되지 않았는지 확인
         // (orderRepository.save는 @Transactional에 의해 암시적으로 호출되므로 verify하지 않음)
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService);
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService);
     }
 
 }
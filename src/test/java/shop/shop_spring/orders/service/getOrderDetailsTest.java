@@ -8,20 +8,25 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.test.util.ReflectionTestUtils;
 import shop.shop_spring.cart.service.CartService;
 import shop.shop_spring.common.exception.DataNotFoundException;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.order.Dto.OrderDetailDto;
 import shop.shop_spring.order.domain.Delivery;
 import shop.shop_spring.order.domain.Order;
 import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.domain.OrderView;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
 import shop.shop_spring.order.repository.OrderRepository;
 import shop.shop_spring.order.sevice.OrderServiceImpl;
-import shop.shop_spring.payment.service.PaymentService;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -44,13 +49,17 @@ public class getOrderDetailsTest {
     @Mock
     private ProductService productService;
     @Mock
-    private PaymentService paymentService;
+    private PaymentOutboxService paymentOutboxService;
     @Mock
     private CartService cartService;
-
-    // @Value 필드들은 모든 OrderService 테스트 클래스에 필요
-    private String successCallbackUrl = "http://localhost:8080/api/payments/mock-callback/success";
-    private String failureCallbackUrl = "http://localhost:8080/api/payments/mock-callback/failure";
+    @Mock
+    private InventoryService inventoryService;
+    @Mock
+    private PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    @Mock
+    private StripedProductLockManager productLockManager;
+    @Mock
+    private OrderViewProjector orderViewProjector;
 
     // 테스트에 사용할 공통 데이터
     private Member testMember;
@@ -61,10 +70,7 @@ public class getOrderDetailsTest {
     void setUp() {
         // 이 테스트 클래스에서 사용되는 Mock 객체만 reset
         // OrderServiceImpl의 모든 final 필드를 Mock으로 선언했으므로 모두 reset합니다.
-        Mockito.reset(orderRepository, memberService, productService, paymentService, cartService);
-
-        ReflectionTestUtils.setField(orderService, "successCallbackUrl", successCallbackUrl);
-        ReflectionTestUtils.setField(orderService, "failureCallbackUrl", failureCallbackUrl);
+        Mockito.reset(orderRepository, memberService, productService, paymentOutboxService, cartService);
 
         testMember = Member.builder()
                 .id(1L)
@@ -74,7 +80,7 @@ public class getOrderDetailsTest {
         testProduct = Product.builder()
                 .id(10L)
                 .title("Test Product")
-                .price(BigDecimal.valueOf(10000))
+                .price(Money.of(10000))
                 .stockQuantity(100)
                 .build();
 
@@ -84,7 +90,7 @@ public class getOrderDetailsTest {
                 .orderer(testMember)
                 .orderDate(LocalDateTime.now())
                 .status(Order.OrderStatus.PAID)
-                .totalAmount(BigDecimal.valueOf(20000))
+                .totalAmount(Money.of(20000))
                 .paymentMethod("Credit Card")
                 .orderItems(new ArrayList<>()) // 초기화
                 .build();
@@ -127,7 +133,7 @@ public class getOrderDetailsTest {
         assertThat(result).isNotNull();
         assertThat(result.getOrderId()).isEqualTo(orderId);
         assertThat(result.getOrdererName()).isEqualTo(testMember.getName());
-        assertThat(result.getTotalAmount()).isEqualTo(testOrder.getTotalAmount());
+        assertThat(result.getTotalAmount()).isEqualTo(testOrder.getTotalAmount().toBigDecimal());
         assertThat(result.getStatus()).isEqualTo(testOrder.getStatus());
         assertThat(result.getPaymentMethod()).isEqualTo(testOrder.getPaymentMethod());
 
@@ -142,12 +148,12 @@ public class getOrderDetailsTest {
         assertThat(result.getOrderItems().get(0).getProductId()).isEqualTo(testProduct.getId());
         assertThat(result.getOrderItems().get(0).getProductName()).isEqualTo(testProduct.getTitle());
         assertThat(result.getOrderItems().get(0).getQuantity()).isEqualTo(2);
-        assertThat(result.getOrderItems().get(0).getOrderPrice()).isEqualTo(testProduct.getPrice());
-        assertThat(result.getOrderItems().get(0).getTotalPrice()).isEqualTo(testProduct.getPrice().multiply(BigDecimal.valueOf(2)));
+        assertThat(result.getOrderItems().get(0).getOrderPrice()).isEqualTo(testProduct.getPrice().toBigDecimal());
+        assertThat(result.getOrderItems().get(0).getTotalPrice()).isEqualTo(testProduct.getPrice().times(2).toBigDecimal());
 
         // Verify: 의존성 메서드 호출 확인
         verify(orderRepository, times(1)).findByIdWithAllDetails(orderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService); // 다른 Mock 객체들과 상호작용 없었는지 확인
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService); // 다른 Mock 객체들과 상호작용 없었는지 확인
     }
 
     @Test
@@ -166,7 +172,7 @@ public class getOrderDetailsTest {
         assertThat(thrown.getMessage()).isEqualTo("주문을 찾을 수 없음");
 
         verify(orderRepository, times(1)).findByIdWithAllDetails(nonExistentOrderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService);
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService);
     }
 
     @Test
@@ -188,7 +194,38 @@ public class getOrderDetailsTest {
 
         // Verify: orderRepository.findByIdWithAllDetails는 호출되었는지 확인
         verify(orderRepository, times(1)).findByIdWithAllDetails(orderId);
-        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentService, cartService); // 다른 Mock 객체들과 상호작용 없었는지 확인
+        verifyNoMoreInteractions(orderRepository, memberService, productService, paymentOutboxService, cartService); // 다른 Mock 객체들과 상호작용 없었는지 확인
+
+    }
+
+    @Test
+    void 주문상세조회_읽기모델_있으면_원본조인없이_반환(){
+        // Given
+        Long memberId = testMember.getId();
+        Long orderId = testOrder.getId();
+        OrderView view = OrderView.of(testOrder, "[]");
+        OrderDetailDto viewDto = OrderDetailDto.builder().orderId(orderId).build();
+
+        when(orderViewProjector.find(orderId)).thenReturn(Optional.of(view));
+        when(orderViewProjector.toDetailDto(view)).thenReturn(viewDto);
+
+        // When
+        OrderDetailDto result = orderService.getOrderDetails(memberId, orderId);
+
+        // Then
+        assertThat(result).isSameAs(viewDto);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void 주문상세조회_읽기모델_접근권한없음(){
+        // Given
+        Long orderId = testOrder.getId();
+        when(orderViewProjector.find(orderId)).thenReturn(Optional.of(OrderView.of(testOrder, "[]")));
 
+        // When & Then
+        assertThrows(AccessDeniedException.class, () -> orderService.getOrderDetails(999L, orderId));
+        verify(orderViewProjector, never()).toDetailDto(any());
+        verifyNoInteractions(orderRepository);
     }
 }
@@ -7,21 +7,29 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 import shop.shop_spring.cart.domain.Cart;
 import shop.shop_spring.cart.domain.CartItem;
 import shop.shop_spring.cart.service.CartService;
-import shop.shop_spring.common.exception.DataNotFoundException;
+import shop.shop_spring.common.pagination.CursorPage;
+import shop.shop_spring.common.pagination.KeysetCursor;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.order.Dto.DeliveryInfo;
 import shop.shop_spring.order.Dto.OrderSummaryDto;
 import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
 import shop.shop_spring.order.repository.OrderRepository;
 import shop.shop_spring.order.sevice.OrderServiceImpl;
-import shop.shop_spring.payment.service.PaymentService;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -32,6 +40,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,12 +55,18 @@ public class getOrdersByMemberTest {
     @Mock
     private ProductService productService;
     @Mock
-    private PaymentService paymentService;
+    private PaymentOutboxService paymentOutboxService;
     @Mock
     private CartService cartService;
+    @Mock
+    private InventoryService inventoryService;
+    @Mock
+    private PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    @Mock
+    private StripedProductLockManager productLockManager;
+    @Mock
+    private OrderViewProjector orderViewProjector;
 
-    private String successCallbackUrl = "http://localhost:8080/api/payments/mock-callback/success";
-    private String failureCallbackUrl = "http://localhost:8080/api/payments/mock-callback/failure";
 
     private Member testMember;
     private Product testProduct1;
@@ -62,10 +77,8 @@ public class getOrdersByMemberTest {
 
     @BeforeEach
     void setUp() {
-        Mockito.reset(orderRepository, memberService, productService, paymentService, cartService);
+        Mockito.reset(orderRepository, memberService, productService, paymentOutboxService, cartService);
 
-        ReflectionTestUtils.setField(orderService, "successCallbackUrl", successCallbackUrl);
-        ReflectionTestUtils.setField(orderService, "failureCallbackUrl", failureCallbackUrl);
 
         testMember = Member.builder()
                 .id(1L)
@@ -75,14 +88,14 @@ public class getOrdersByMemberTest {
         testProduct1 = Product.builder()
                 .id(10L)
                 .title("Test Product 1")
-                .price(BigDecimal.valueOf(10000))
+                .price(Money.of(10000))
                 .stockQuantity(100)
                 .build();
 
         testProduct2 = Product.builder()
                 .id(11L)
                 .title("Test Product 2")
-                .price(BigDecimal.valueOf(5000))
+                .price(Money.of(5000))
                 .stockQuantity(50)
                 .build();
 
@@ -125,55 +138,63 @@ public class getOrdersByMemberTest {
         // Given
         Long memberId = testMember.getId();
 
-        // Mock Order 엔티티 생성
-        Order order1 = Order.builder()
-                .id(1001L)
-                .orderer(testMember)
-                .orderDate(LocalDateTime.of(2023, 1, 1, 10, 0))
-                .status(Order.OrderStatus.PAID)
-                .totalAmount(BigDecimal.valueOf(25000))
-                .paymentMethod("Card")
-                .build();
+        // 쿼리에서 바로 조회되는 요약 DTO
+        OrderSummaryDto summary1 = new OrderSummaryDto(1002L, LocalDateTime.of(2023, 1, 5, 15, 30),
+                BigDecimal.valueOf(50000), Order.OrderStatus.SHIPPED, 2L, "Test Product 1");
+        OrderSummaryDto summary2 = new OrderSummaryDto(1001L, LocalDateTime.of(2023, 1, 1, 10, 0),
+                BigDecimal.valueOf(25000), Order.OrderStatus.PAID, 1L, "Test Product 2");
 
-        Order order2 = Order.builder()
-                .id(1002L)
-                .orderer(testMember)
-                .orderDate(LocalDateTime.of(2023, 1, 5, 15, 30))
-                .status(Order.OrderStatus.SHIPPED)
-                .totalAmount(BigDecimal.valueOf(50000))
-                .paymentMethod("Bank Transfer")
-                .build();
+        when(orderRepository.findSummariesByOrdererId(eq(memberId), any(Pageable.class)))
+                .thenReturn(Arrays.asList(summary1, summary2));
+
+        // When
+        CursorPage<OrderSummaryDto> result = orderService.getOrdersByMember(memberId, null, 20);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(summary1, summary2);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+
+        // Verify: 한 건 더 조회하여 다음 페이지 여부 판단, 회원/주문 엔티티 조회 없음
+        verify(orderRepository, times(1)).findSummariesByOrdererId(memberId, PageRequest.ofSize(21));
+        verifyNoMoreInteractions(orderRepository);
+        verifyNoInteractions(memberService, productService, paymentOutboxService, cartService);
+    }
+
+    @Test
+    void 회원id기반_주문목록조회_성공_다음페이지_커서(){
+        // Given
+        Long memberId = testMember.getId();
+        LocalDateTime lastOrderDate = LocalDateTime.of(2023, 1, 5, 15, 30);
 
-        List<Order> mockOrders = Arrays.asList(order1, order2);
+        OrderSummaryDto summary1 = new OrderSummaryDto(1003L, LocalDateTime.of(2023, 1, 7, 9, 0),
+                BigDecimal.valueOf(10000), Order.OrderStatus.PAID, 1L, "Test Product 1");
+        OrderSummaryDto summary2 = new OrderSummaryDto(1002L, lastOrderDate,
+                BigDecimal.valueOf(50000), Order.OrderStatus.SHIPPED, 2L, "Test Product 2");
+        OrderSummaryDto extra = new OrderSummaryDto(1001L, LocalDateTime.of(2023, 1, 1, 10, 0),
+                BigDecimal.valueOf(25000), Order.OrderStatus.PAID, 1L, "Test Product 2");
 
-        // Mocking: 의존성들의 동작 설정
-        when(memberService.findById(memberId)).thenReturn(testMember); // 회원 존재 확인
-        when(orderRepository.findByOrdererId(memberId)).thenReturn(mockOrders);
+        when(orderRepository.findSummariesByOrdererId(memberId, PageRequest.ofSize(3)))
+                .thenReturn(Arrays.asList(summary1, summary2, extra));
 
         // When
-        List<OrderSummaryDto> result = orderService.getOrdersByMember(memberId);
+        CursorPage<OrderSummaryDto> firstPage = orderService.getOrdersByMember(memberId, null, 2);
+
+        // Then
+        assertThat(firstPage.getContent()).containsExactly(summary1, summary2);
+        assertThat(firstPage.isHasNext()).isTrue();
+        KeysetCursor cursor = KeysetCursor.decode(firstPage.getNextCursor());
+        assertThat(cursor.getCreatedAt()).isEqualTo(lastOrderDate);
+        assertThat(cursor.getId()).isEqualTo(1002L);
+
+        // When - 커서로 다음 페이지 요청
+        when(orderRepository.findSummariesByOrdererIdAfter(memberId, lastOrderDate, 1002L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(extra));
+        CursorPage<OrderSummaryDto> secondPage = orderService.getOrdersByMember(memberId, firstPage.getNextCursor(), 2);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2); // 두 개의 주문이 반환되었는지 확인
-        // 첫 번째 주문 DTO 검증
-        OrderSummaryDto dto1 = result.get(0);
-        assertThat(dto1.getOrderId()).isEqualTo(order1.getId());
-        assertThat(dto1.getOrderDate()).isEqualTo(order1.getOrderDate());
-        assertThat(dto1.getTotalAmount()).isEqualTo(order1.getTotalAmount());
-        assertThat(dto1.getStatus()).isEqualTo(order1.getStatus());
-
-        // 두 번째 주문 DTO 검증
-        OrderSummaryDto dto2 = result.get(1);
-        assertThat(dto2.getOrderId()).isEqualTo(order2.getId());
-        assertThat(dto2.getOrderDate()).isEqualTo(order2.getOrderDate());
-        assertThat(dto2.getTotalAmount()).isEqualTo(order2.getTotalAmount());
-        assertThat(dto2.getStatus()).isEqualTo(order2.getStatus());
-
-        // Verify: 의존성 메서드 호출 확인
-        verify(memberService, times(1)).findById(memberId);
-        verify(orderRepository, times(1)).findByOrdererId(memberId);
-        verifyNoMoreInteractions(productService, paymentService, cartService); // 다른 서비스는 호출되지 않아야 함
+        assertThat(secondPage.getContent()).containsExactly(extra);
+        assertThat(secondPage.isHasNext()).isFalse();
     }
 
     @Test
@@ -181,38 +202,37 @@ public class getOrdersByMemberTest {
         // Given
         Long memberId = testMember.getId();
 
-        // orderRepository.findByOrdererId가 빈 리스트를 반환하도록 스텁
-        when(memberService.findById(memberId)).thenReturn(testMember); // 회원 존재 확인
-        when(orderRepository.findByOrdererId(memberId)).thenReturn(new ArrayList<>()); // 빈 리스트 반환
+        when(orderRepository.findSummariesByOrdererId(eq(memberId), any(Pageable.class))).thenReturn(new ArrayList<>()); // 빈 리스트 반환
 
         // When
-        List<OrderSummaryDto> result = orderService.getOrdersByMember(memberId);
+        CursorPage<OrderSummaryDto> result = orderService.getOrdersByMember(memberId, null, 20);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).isEmpty(); // 결과 리스트가 비어있는지 확인
-
-        // Verify: 의존성 메서드 호출 확인
-        verify(memberService, times(1)).findById(memberId);
-        verify(orderRepository, times(1)).findByOrdererId(memberId);
-        verifyNoMoreInteractions(orderRepository, memberService); // 다른 서비스는 호출되지 않아야 함
+        assertThat(result.getContent()).isEmpty(); // 결과 리스트가 비어있는지 확인
+        assertThat(result.getNextCursor()).isNull();
+        verifyNoInteractions(memberService);
     }
 
     @Test
-    void 회원id기반_주문목록조회_실패_회원없음(){
+    void 회원id기반_주문목록조회_실패_잘못된_페이지크기(){
         // Given
-        Long memberId = 999L;
-
-        when(memberService.findById(memberId)).thenThrow(new DataNotFoundException("회원 없음"));
+        Long memberId = testMember.getId();
 
         // when & then
-        DataNotFoundException thrown = assertThrows(DataNotFoundException.class, () -> {
-            orderService.getOrdersByMember(memberId);
-        });
+        assertThrows(IllegalArgumentException.class, () -> orderService.getOrdersByMember(memberId, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> orderService.getOrdersByMember(memberId, null, 101));
 
-        assertThat(thrown.getMessage()).isEqualTo("회원 없음");
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void 회원id기반_주문목록조회_실패_잘못된_커서(){
+        // Given
+        Long memberId = testMember.getId();
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> orderService.getOrdersByMember(memberId, "not-a-cursor", 20));
 
-        verify(orderRepository, never()).findByOrdererId(anyLong());
-        verifyNoMoreInteractions(orderRepository, memberService);;
+        verifyNoInteractions(orderRepository);
     }
 }
@@ -0,0 +1,156 @@
+package shop.shop_spring.orders.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import shop.shop_spring.cart.service.CartService;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
+import shop.shop_spring.member.service.MemberServiceImpl;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
+import shop.shop_spring.order.repository.OrderRepository;
+import shop.shop_spring.order.sevice.OrderServiceImpl;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class handlePaymentCallbacksTest {
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private MemberServiceImpl memberService;
+    @Mock
+    private ProductService productService;
+    @Mock
+    private PaymentOutboxService paymentOutboxService;
+    @Mock
+    private CartService cartService;
+    @Mock
+    private InventoryService inventoryService;
+    @Mock
+    private PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    @Mock
+    private StripedProductLockManager productLockManager;
+    @Mock
+    private OrderViewProjector orderViewProjector;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp(){
+        testProduct = Product.builder()
+                .id(10L)
+                .title("Test Product")
+                .price(Money.of(10000))
+                .stockQuantity(100)
+                .build();
+    }
+
+    @Test
+    void 결제콜백_일괄처리_한번에_조회하고_한번에_flush(){
+        // given
+        Order paid1 = pendingOrder(1L, 2);
+        Order paid2 = pendingOrder(2L, 3);
+        Order failed = pendingOrder(3L, 1);
+        Order alreadyPaid = pendingOrder(4L, 5);
+        alreadyPaid.setStatus(Order.OrderStatus.PAID);
+
+        when(orderRepository.findAllByIdInWithDelivery(Set.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(paid1, paid2, failed, alreadyPaid));
+
+        // when
+        orderService.handlePaymentCallbacks(Set.of(1L, 2L, 4L), Set.of(3L));
+
+        // then
+        assertThat(paid1.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(paid2.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(failed.getStatus()).isEqualTo(Order.OrderStatus.CANCELED);
+        assertThat(failed.getDelivery().getStatus()).isEqualTo(Delivery.DeliveryStatus.CANCELED);
+
+        verify(orderRepository, times(1)).findAllByIdInWithDelivery(Set.of(1L, 2L, 3L, 4L));
+        verify(orderRepository, times(1)).flush();
+        // 상품별로 합산된 수량으로 재고 확정/반환 1회씩 (이미 결제된 주문은 제외)
+        verify(inventoryService, times(1)).confirm(Map.of(testProduct.getId(), 5));
+        verify(inventoryService, times(1)).release(Map.of(testProduct.getId(), 1));
+        verifyNoMoreInteractions(orderRepository);
+    }
+
+    @Test
+    void 결제대기_주문이_없으면_재고처리_안함(){
+        // given
+        Order paid = pendingOrder(1L, 2);
+        paid.setStatus(Order.OrderStatus.PAID);
+        Order canceled = pendingOrder(2L, 3);
+        canceled.setStatus(Order.OrderStatus.CANCELED);
+        when(orderRepository.findAllByIdInWithDelivery(Set.of(1L, 2L)))
+                .thenReturn(List.of(paid, canceled));
+
+        // when - 이미 결제된 주문의 중복 성공, 취소된 주문의 실패
+        orderService.handlePaymentCallbacks(Set.of(1L), Set.of(2L));
+
+        // then
+        assertThat(paid.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(canceled.getStatus()).isEqualTo(Order.OrderStatus.CANCELED);
+        verify(inventoryService, never()).confirm(anyMap());
+        verify(inventoryService, never()).release(anyMap());
+    }
+
+    @Test
+    void 만료된_주문의_결제_성공은_환불_필요로_기록(){
+        // given - 결제 대기 만료로 이미 취소되고 재고도 반환된 주문
+        Order expired = pendingOrder(1L, 2);
+        expired.setStatus(Order.OrderStatus.CANCELED);
+        expired.getDelivery().setStatus(Delivery.DeliveryStatus.CANCELED);
+        when(orderRepository.findAllByIdInWithDelivery(Set.of(1L)))
+                .thenReturn(List.of(expired));
+
+        // when
+        orderService.handlePaymentCallbacks(Set.of(1L), Set.of());
+
+        // then - 재고는 다시 건드리지 않고 환불 대상으로 남김
+        assertThat(expired.getStatus()).isEqualTo(Order.OrderStatus.REFUND_REQUIRED);
+        verify(orderRepository).flush();
+        verify(orderViewProjector).updateStatus(List.of(1L), Order.OrderStatus.REFUND_REQUIRED);
+        verify(inventoryService, never()).confirm(anyMap());
+        verify(inventoryService, never()).release(anyMap());
+    }
+
+    private Order pendingOrder(Long orderId, int quantity){
+        Order order = Order.builder()
+                .id(orderId)
+                .status(Order.OrderStatus.PENDING)
+                .orderItems(new ArrayList<>())
+                .build();
+        order.addOrderItem(OrderItem.builder()
+                .product(testProduct)
+                .orderPrice(testProduct.getPrice())
+                .count(quantity)
+                .build());
+        order.setDelivery(Delivery.builder()
+                .status(Delivery.DeliveryStatus.READY)
+                .build());
+        return order;
+    }
+}
@@ -3,6 +3,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -13,22 +14,25 @@ import shop.shop_spring.cart.domain.CartItem;
 import shop.shop_spring.cart.service.CartService;
 import shop.shop_spring.common.exception.DataNotFoundException;
 import shop.shop_spring.common.exception.InsufficientStockException;
-import shop.shop_spring.common.exception.PaymentInitiationException;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.order.Dto.DeliveryInfo;
 import shop.shop_spring.order.domain.Delivery;
 import shop.shop_spring.order.domain.Order;
 import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
 import shop.shop_spring.order.repository.OrderRepository;
 import shop.shop_spring.order.sevice.OrderServiceImpl;
-import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
-import shop.shop_spring.payment.service.PaymentService;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -48,12 +52,17 @@ public class placeCartOrderTest {
     @Mock
     private ProductService productService; // placeCartOrder에서는 직접 사용 안함 (CartItem을 통해 접근)
     @Mock
-    private PaymentService paymentService;
+    private PaymentOutboxService paymentOutboxService;
     @Mock
     private CartService cartService; // placeCartOrder에서 핵심 의존성
-
-    private String successCallbackUrl = "http://localhost:8080/api/payments/mock-callback/success";
-    private String failureCallbackUrl = "http://localhost:8080/api/payments/mock-callback/failure";
+    @Mock
+    private InventoryService inventoryService;
+    @Mock
+    private PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    @Mock
+    private StripedProductLockManager productLockManager;
+    @Mock
+    private OrderViewProjector orderViewProjector;
 
     private Member testMember;
     private Product testProduct1;
@@ -65,10 +74,8 @@ public class placeCartOrderTest {
     @BeforeEach
     void setUp() {
 
-        Mockito.reset(orderRepository, memberService, productService, paymentService, cartService);
+        Mockito.reset(orderRepository, memberService, productService, paymentOutboxService, cartService);
 
-        ReflectionTestUtils.setField(orderService, "successCallbackUrl", successCallbackUrl);
-        ReflectionTestUtils.setField(orderService, "failureCallbackUrl", failureCallbackUrl);
 
         testMember = Member.builder()
                 .id(1L)
@@ -78,14 +85,14 @@ public class placeCartOrderTest {
         testProduct1 = Product.builder()
                 .id(10L)
                 .title("Test Product 1")
-                .price(BigDecimal.valueOf(10000))
+                .price(Money.of(10000))
                 .stockQuantity(100)
                 .build();
 
         testProduct2 = Product.builder()
                 .id(11L)
                 .title("Test Product 2")
-                .price(BigDecimal.valueOf(5000))
+                .price(Money.of(5000))
                 .stockQuantity(50)
                 .build();
 
@@ -132,7 +139,6 @@ public class placeCartOrderTest {
 
         when(memberService.findById(memberId)).thenReturn(testMember);
         when(cartService.getCartEntityWithItemsAndProducts(memberId)).thenReturn(testCart);
-        when(cartService.clearCart(memberId)).thenReturn(true); // 장바구니 비우기 성공 가정
 
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
         when(orderRepository.save(orderCaptor.capture())).thenAnswer(invocation -> {
@@ -141,24 +147,13 @@ public class placeCartOrderTest {
             return savedOrder;
         });
 
-        PaymentInitiationResponse mockInitiationResponse = PaymentInitiationResponse.builder()
-                .success(true)
-                .redirectUrl("http://mock-pg.com/cart-redirect")
-                .pgTransactionId("PG_TXN_CART_456")
-                .build();
-        when(paymentService.initiatePayment(anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString()))
-                .thenReturn(mockInitiationResponse);
-
         // When
-        PaymentInitiationResponse result = orderService.placeCartOrder(
+        Long result = orderService.placeCartOrder(
                 memberId, testDeliveryInfo, testPaymentMethod);
 
         // Then
-        // 1. 반환된 결과 검증
-        assertThat(result).isNotNull();
-        assertThat(result.isSuccess()).isTrue();
-        assertThat(result.getRedirectUrl()).isEqualTo("http://mock-pg.com/cart-redirect");
-        assertThat(result.getPgTransactionId()).isEqualTo("PG_TXN_CART_456");
+        // 1. 반환된 결과 검증 (주문 id)
+        assertThat(result).isEqualTo(200L);
 
         // 2. orderRepository.save가 올바른 Order 객체로 호출되었는지 검증
         verify(orderRepository, times(1)).save(any(Order.class));
@@ -169,8 +164,8 @@ public class placeCartOrderTest {
         assertThat(capturedOrder.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
 
         // 총 금액 계산 (10000 * 2 + 5000 * 3 = 20000 + 15000 = 35000)
-        BigDecimal expectedTotalAmount = BigDecimal.valueOf(10000).multiply(BigDecimal.valueOf(2))
-                .add(BigDecimal.valueOf(5000).multiply(BigDecimal.valueOf(3)));
+        Money expectedTotalAmount = Money.of(10000).times(2)
+                .plus(Money.of(5000).times(3));
         assertThat(capturedOrder.getTotalAmount()).isEqualTo(expectedTotalAmount);
         assertThat(capturedOrder.getPaymentMethod()).isEqualTo(testPaymentMethod);
 
@@ -200,19 +195,21 @@ public class placeCartOrderTest {
         assertThat(capturedDelivery.getDeliveryMessage()).isEqualTo(testDeliveryInfo.getDeliveryMessage());
         assertThat(capturedDelivery.getStatus()).isEqualTo(Delivery.DeliveryStatus.READY);
 
-        // 3. cartService.clearCart가 호출되었는지 검증
-        verify(cartService, times(1)).clearCart(memberId);
+        // 3. 조회한 장바구니를 다시 조회하지 않고 일괄 삭제했는지 검증
+        verify(cartService, times(1)).clearCheckedOutCart(memberId, testCart);
+        verify(cartService, never()).clearCart(anyLong());
 
-        // 4. paymentService.initiatePayment가 올바른 파라미터로 호출되었는지 검증
-        verify(paymentService, times(1)).initiatePayment(
-                capturedOrder.getId(),
-                capturedOrder.getTotalAmount(),
-                capturedOrder.getPaymentMethod(),
-                successCallbackUrl,
-                failureCallbackUrl
-        );
+        // 4. 저장된 주문으로 결제 요청이 outbox 에 등록되었는지 검증 (PG 직접 호출 없음)
+        verify(paymentOutboxService, times(1)).enqueue(capturedOrder);
+        // 결제 대기 만료 등록
+        verify(pendingOrderExpiryScheduler, times(1)).register(capturedOrder.getId(), capturedOrder.getOrderDate());
+
+        // 5. 재고 예약 전에 주문 상품 전체를 한 번에 잠금
+        InOrder inOrder = inOrder(productLockManager, inventoryService);
+        inOrder.verify(productLockManager).lock(Set.of(testProduct1.getId(), testProduct2.getId()));
+        inOrder.verify(inventoryService).reserve(anyMap());
 
-        // 5. 다른 서비스 메서드 호출 검증
+        // 6. 다른 서비스 메서드 호출 검증
         verify(memberService, times(1)).findById(memberId);
         verify(cartService, times(1)).getCartEntityWithItemsAndProducts(memberId);
         verifyNoMoreInteractions(productService); // productService는 직접 호출되지 않아야 함 (CartItem을 통해 접근)
@@ -241,8 +238,8 @@ public class placeCartOrderTest {
         verify(memberService, times(1)).findById(memberId);
         verify(cartService, times(1)).getCartEntityWithItemsAndProducts(memberId);
         verify(orderRepository, never()).save(any(Order.class));
-        verify(cartService, never()).clearCart(anyLong());
-        verify(paymentService, never()).initiatePayment(anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString());
+        verify(cartService, never()).clearCheckedOutCart(anyLong(), any());
+        verifyNoInteractions(paymentOutboxService);
         verifyNoMoreInteractions(productService);
     }
 
@@ -273,8 +270,8 @@ public class placeCartOrderTest {
         verify(memberService, times(1)).findById(memberId);
         verify(cartService, times(1)).getCartEntityWithItemsAndProducts(memberId);
         verify(orderRepository, never()).save(any(Order.class));
-        verify(cartService, never()).clearCart(anyLong());
-        verify(paymentService, never()).initiatePayment(anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString());
+        verify(cartService, never()).clearCheckedOutCart(anyLong(), any());
+        verifyNoInteractions(paymentOutboxService);
         verifyNoMoreInteractions(productService);
 
     }
@@ -325,52 +322,8 @@ public class placeCartOrderTest {
         verify(memberService, times(1)).findById(memberId);
         verify(cartService, times(1)).getCartEntityWithItemsAndProducts(memberId);
         verify(orderRepository, never()).save(any(Order.class));
-        verify(cartService, never()).clearCart(anyLong());
-        verify(paymentService, never()).initiatePayment(anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString());
-        verifyNoMoreInteractions(productService);
-    }
-
-    @Test
-    void 장바구니_구매_실패_PG사에러(){
-        // Given
-        Long memberId = testMember.getId();
-
-        when(memberService.findById(memberId)).thenReturn(testMember);
-        when(cartService.getCartEntityWithItemsAndProducts(memberId)).thenReturn(testCart);
-        when(cartService.clearCart(memberId)).thenReturn(true); // 장바구니 비우기 성공 가정
-
-        // orderRepository.save가 호출될 때 어떤 Order 객체가 전달되는지 캡처
-        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
-        when(orderRepository.save(orderCaptor.capture())).thenAnswer(invocation -> {
-            Order savedOrder = invocation.getArgument(0, Order.class);
-            ReflectionTestUtils.setField(savedOrder, "id", 200L);
-            return savedOrder;
-        });
-
-        // paymentService.initiatePayment가 PaymentInitiationException을 발생시키도록 Mocking
-        when(paymentService.initiatePayment(anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString()))
-                .thenThrow(new PaymentInitiationException("PG사 시스템 오류 발생"));
-
-        // When & Then
-        PaymentInitiationException thrown = assertThrows(PaymentInitiationException.class, () -> {
-            orderService.placeCartOrder(memberId, testDeliveryInfo, testPaymentMethod);
-        });
-
-        // 예외 메시지 검증 (선택 사항)
-        assertThat(thrown.getMessage()).contains("PG사 시스템 오류 발생");
-
-        // Verify:
-        // 1. 회원 및 장바구니 조회 호출 확인
-        verify(memberService, times(1)).findById(memberId);
-        verify(cartService, times(1)).getCartEntityWithItemsAndProducts(memberId);
-        // 2. 주문 저장까지는 호출되었는지 확인
-        verify(orderRepository, times(1)).save(any(Order.class));
-        // 3. 장바구니 비우기도 호출되었는지 확인 (주문 저장 후 호출되므로)
-        verify(cartService, times(1)).clearCart(memberId);
-        // 4. paymentService.initiatePayment는 예외를 던지기 위해 호출됨
-        verify(paymentService, times(1)).initiatePayment(
-                anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString());
-        // 5. 그 외 다른 서비스는 호출되지 않음
+        verify(cartService, never()).clearCheckedOutCart(anyLong(), any());
+        verifyNoInteractions(paymentOutboxService);
         verifyNoMoreInteractions(productService);
     }
 
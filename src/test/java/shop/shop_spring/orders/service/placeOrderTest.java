@@ -10,21 +10,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import shop.shop_spring.cart.service.CartService;
 import shop.shop_spring.common.exception.InsufficientStockException;
-import shop.shop_spring.common.exception.PaymentInitiationException;
+import shop.shop_spring.inventory.lock.StripedProductLockManager;
+import shop.shop_spring.inventory.service.InventoryService;
 import shop.shop_spring.member.domain.Member;
 import shop.shop_spring.member.service.MemberServiceImpl;
 import shop.shop_spring.order.Dto.DeliveryInfo;
 import shop.shop_spring.order.domain.Delivery;
 import shop.shop_spring.order.domain.Order;
 import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.expiry.PendingOrderExpiryScheduler;
 import shop.shop_spring.order.repository.OrderRepository;
 import shop.shop_spring.order.sevice.OrderServiceImpl;
-import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
-import shop.shop_spring.payment.service.PaymentService;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.payment.service.PaymentOutboxService;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.service.ProductService;
+import shop.shop_spring.common.money.Money;
 
-import java.math.BigDecimal;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -44,12 +47,17 @@ public class placeOrderTest {
     @Mock
     private ProductService productService;
     @Mock
-    private PaymentService paymentService;
+    private PaymentOutboxService paymentOutboxService;
     @Mock
     private CartService cartService;
-
-    private String successCallbackUrl = "http://localhost:8080/payments/mock-callback/success";
-    private String failureCallbackUrl = "http://localhost:8080/payments/mock-callback/failure";
+    @Mock
+    private InventoryService inventoryService;
+    @Mock
+    private PendingOrderExpiryScheduler pendingOrderExpiryScheduler;
+    @Mock
+    private StripedProductLockManager productLockManager;
+    @Mock
+    private OrderViewProjector orderViewProjector;
 
     private Member testMember;
     private Product testProduct;
@@ -58,8 +66,6 @@ public class placeOrderTest {
 
     @BeforeEach
     void setUp(){
-        ReflectionTestUtils.setField(orderService, "successCallbackUrl", successCallbackUrl);
-        ReflectionTestUtils.setField(orderService, "failureCallbackUrl", failureCallbackUrl);
 
         testMember = Member.builder()
                 .id(1L)
@@ -69,7 +75,7 @@ public class placeOrderTest {
         testProduct = Product.builder()
                 .id(10L)
                 .title("Test Product")
-                .price(BigDecimal.valueOf(10000))
+                .price(Money.of(10000))
                 .stockQuantity(100)
                 .build();
 
@@ -100,23 +106,11 @@ public class placeOrderTest {
             return savedOrder;
         });
 
-        PaymentInitiationResponse mockInitiationResponse = PaymentInitiationResponse.builder()
-                .success(true)
-                .redirectUrl("http://mock-pg.com/redirect")
-                .pgTransactionId("PG_TXN_123")
-                .build();
-
-        when(paymentService.initiatePayment(anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString()))
-                .thenReturn(mockInitiationResponse);
-
         // when
-        PaymentInitiationResponse result = orderService.placeOrder(memberId, productId,quantity, testDeliveryInfo, testPaymentMethod);
+        Long result = orderService.placeOrder(memberId, productId,quantity, testDeliveryInfo, testPaymentMethod);
 
         // then
-        assertThat(result).isNotNull();
-        assertThat(result.isSuccess()).isTrue();
-        assertThat(result.getRedirectUrl()).isEqualTo("http://mock-pg.com/redirect");
-        assertThat(result.getPgTransactionId()).isEqualTo("PG_TXN_123");
+        assertThat(result).isEqualTo(100L);
 
         verify(orderRepository).save(any(Order.class));
         Order capturedOrder = orderCaptor.getValue();
@@ -140,16 +134,15 @@ public class placeOrderTest {
         assertThat(capturedDelivery.getStatus()).isEqualTo(Delivery.DeliveryStatus.READY);
         assertThat(capturedDelivery.getOrder()).isEqualTo(capturedOrder);
 
-        verify(paymentService, times(1)).initiatePayment(
-                capturedOrder.getId(),
-                capturedOrder.getTotalAmount(),
-                capturedOrder.getPaymentMethod(),
-                successCallbackUrl,
-                failureCallbackUrl
-        );
+        // PG 요청은 직접 하지 않고 outbox 에 등록
+        verify(orderViewProjector, times(1)).project(capturedOrder);
+        verify(paymentOutboxService, times(1)).enqueue(capturedOrder);
+        // 결제 대기 만료 등록
+        verify(pendingOrderExpiryScheduler, times(1)).register(capturedOrder.getId(), capturedOrder.getOrderDate());
 
         verify(memberService, times(1)).findById(memberId);
         verify(productService, times(1)).findById(productId);
+        verify(inventoryService, times(1)).reserve(Map.of(productId, quantity));
         verifyNoMoreInteractions(cartService);
     }
 
@@ -164,7 +157,7 @@ public class placeOrderTest {
         Product lowStockProduct = Product.builder()
                 .id(productId)
                 .title("Low Stock Product")
-                .price(BigDecimal.valueOf(10000))
+                .price(Money.of(10000))
                 .stockQuantity(100) // 재고 100
                 .build();
 
@@ -177,44 +170,11 @@ public class placeOrderTest {
         });
 
         verify(orderRepository, never()).save(any(Order.class));
-        verify(paymentService, never()).initiatePayment(anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString());
+        verifyNoInteractions(paymentOutboxService);
         verify(memberService, times(1)).findById(memberId); // 회원 조회는 호출됨
         verify(productService, times(1)).findById(productId); // 상품 조회는 호출됨
+        verifyNoInteractions(inventoryService); // 재고 예약 시도 안함
         verifyNoMoreInteractions(cartService);
     }
 
-    @Test
-    void 단일_상품_구매_실패_PG사_실패() {
-        // given
-        Long memberId = testMember.getId();
-        Long productId = testProduct.getId();
-        int quantity = 5;
-
-        when(memberService.findById(memberId)).thenReturn(testMember);
-        when(productService.findById(productId)).thenReturn(testProduct);
-
-        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
-        when(orderRepository.save(orderCaptor.capture())).thenAnswer(invocation -> {
-            Order savedOrder = invocation.getArgument(0);
-            ReflectionTestUtils.setField(savedOrder, "id", 100L); // 가상의 주문 ID 설정
-            return savedOrder;
-        });
-
-        when(paymentService.initiatePayment(anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString()))
-                .thenThrow(new PaymentInitiationException("PG사 시스템 오류 발생"));
-
-        // When & Then
-        PaymentInitiationException thrown = assertThrows(PaymentInitiationException.class, () -> {
-            orderService.placeOrder(memberId, productId, quantity, testDeliveryInfo, testPaymentMethod);
-        });
-
-        verify(orderRepository, times(1)).save(any(Order.class));
-        verify(paymentService, times(1)).initiatePayment(
-                anyLong(), any(BigDecimal.class), anyString(), anyString(), anyString()); // initiatePayment는 호출됨
-        verify(memberService, times(1)).findById(memberId);
-        verify(productService, times(1)).findById(productId);
-        verifyNoMoreInteractions(cartService);
-    }
-
-
 }
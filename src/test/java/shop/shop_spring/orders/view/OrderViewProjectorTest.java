@@ -0,0 +1,189 @@
+package shop.shop_spring.orders.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.order.Dto.OrderDetailDto;
+import shop.shop_spring.order.domain.Delivery;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.order.domain.OrderView;
+import shop.shop_spring.order.view.OrderViewProjector;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.common.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(OrderViewProjector.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class OrderViewProjectorTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Autowired
+    private OrderViewProjector orderViewProjector;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Member member;
+    private Product productA;
+    private Product productB;
+
+    @BeforeEach
+    void setUp(){
+        member = Member.builder()
+                .username("test@test.com")
+                .password("password")
+                .name("테스트")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .address("서울")
+                .addressDetail("101호")
+                .nickname("테스터")
+                .role(Role.ROLE_USER)
+                .build();
+        testEntityManager.persist(member);
+
+        Category category = new Category();
+        category.setName("테스트 카테고리");
+        testEntityManager.persist(category);
+
+        productA = persistProduct(category, "상품 A");
+        productB = persistProduct(category, "상품 B");
+    }
+
+    @Test
+    void 읽기모델_상세조회_결과가_원본_조인조회와_같음(){
+        // given
+        Order order = persistOrder(Order.OrderStatus.PENDING);
+        orderViewProjector.project(order);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        OrderView view = orderViewProjector.find(order.getId()).orElseThrow();
+        OrderDetailDto fromView = orderViewProjector.toDetailDto(view);
+
+        // then
+        OrderDetailDto fromEntity = OrderDetailDto.fromEntity(testEntityManager.find(Order.class, order.getId()));
+        assertThat(view.getOrdererId()).isEqualTo(member.getId());
+        assertThat(fromView).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .ignoringCollectionOrder()
+                .isEqualTo(fromEntity);
+        assertThat(fromView.getOrderItems()).hasSize(2);
+    }
+
+    @Test
+    void 상태_변경시_읽기모델_상태만_갱신(){
+        // given
+        Order paid = persistOrder(Order.OrderStatus.PENDING);
+        Order canceled = persistOrder(Order.OrderStatus.PENDING);
+        orderViewProjector.project(paid);
+        orderViewProjector.project(canceled);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        orderViewProjector.updateStatus(List.of(paid.getId()), Order.OrderStatus.PAID);
+        orderViewProjector.updateStatus(List.of(canceled.getId()), Order.OrderStatus.CANCELED, Delivery.DeliveryStatus.CANCELED);
+        testEntityManager.clear();
+
+        // then
+        OrderView paidView = orderViewProjector.find(paid.getId()).orElseThrow();
+        assertThat(paidView.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(paidView.getDeliveryStatus()).isEqualTo(Delivery.DeliveryStatus.READY);
+
+        OrderView canceledView = orderViewProjector.find(canceled.getId()).orElseThrow();
+        assertThat(canceledView.getStatus()).isEqualTo(Order.OrderStatus.CANCELED);
+        assertThat(canceledView.getDeliveryStatus()).isEqualTo(Delivery.DeliveryStatus.CANCELED);
+        assertThat(orderViewProjector.toDetailDto(canceledView).getOrderItems()).hasSize(2);
+    }
+
+    @Test
+    void 재구축시_누락된_주문_채우고_이전_행_교체(){
+        // given - 하나는 읽기 모델 없음, 하나는 읽기 모델이 이전 상태로 남아 있음
+        Order missing = persistOrder(Order.OrderStatus.PAID);
+        Order stale = persistOrder(Order.OrderStatus.PENDING);
+        orderViewProjector.project(stale);
+        testEntityManager.flush();
+        stale.setStatus(Order.OrderStatus.CANCELED);
+        stale.getDelivery().setStatus(Delivery.DeliveryStatus.CANCELED);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        int rebuilt = orderViewProjector.rebuild();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        assertThat(rebuilt).isEqualTo(2);
+        assertThat(orderViewProjector.find(missing.getId()).orElseThrow().getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        OrderView staleView = orderViewProjector.find(stale.getId()).orElseThrow();
+        assertThat(staleView.getStatus()).isEqualTo(Order.OrderStatus.CANCELED);
+        assertThat(staleView.getDeliveryStatus()).isEqualTo(Delivery.DeliveryStatus.CANCELED);
+    }
+
+    private Product persistProduct(Category category, String title){
+        Product product = Product.builder()
+                .title(title)
+                .price(Money.of(10000))
+                .username("테스트 판매자")
+                .stockQuantity(10)
+                .status(Status.ACTIVE)
+                .category(category)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+        testEntityManager.persist(product);
+        return product;
+    }
+
+    private Order persistOrder(Order.OrderStatus status){
+        Order order = Order.builder()
+                .orderer(member)
+                .orderDate(NOW)
+                .status(status)
+                .totalAmount(Money.of(50000))
+                .orderItems(new ArrayList<>())
+                .paymentMethod("CARD")
+                .build();
+        order.addOrderItem(orderItem(productA, 2));
+        order.addOrderItem(orderItem(productB, 3));
+        order.setDelivery(Delivery.builder()
+                .receiverName("테스트")
+                .address("서울 101호")
+                .deliveryMessage("문 앞")
+                .status(Delivery.DeliveryStatus.READY)
+                .build());
+        testEntityManager.persist(order);
+        return order;
+    }
+
+    private OrderItem orderItem(Product product, int count){
+        return OrderItem.builder()
+                .product(product)
+                .orderPrice(product.getPrice())
+                .count(count)
+                .productTitleAtOrder(product.getTitle())
+                .build();
+    }
+}
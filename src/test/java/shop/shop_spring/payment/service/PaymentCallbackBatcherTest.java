@@ -0,0 +1,149 @@
+package shop.shop_spring.payment.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.shop_spring.order.domain.Order;
+import shop.shop_spring.order.sevice.OrderService;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentCallbackBatcherTest {
+    @InjectMocks
+    private PaymentCallbackBatcher batcher;
+
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private PaymentCallbackDeduplicator callbackDeduplicator;
+
+    private boolean started;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (started){
+            batcher.stop();
+        }
+    }
+
+    @Test
+    void 배치_크기만큼_모아서_한번에_처리(){
+        // given - 대기 시간은 길게, 크기로 배치 마감
+        start(3, 5_000, 100);
+
+        // when
+        batcher.submit(1L, "PG_1", true);
+        batcher.submit(2L, "PG_2", false);
+        batcher.submit(3L, "PG_3", true);
+
+        // then
+        verify(orderService, timeout(1_000).times(1)).handlePaymentCallbacks(Set.of(1L, 3L), Set.of(2L));
+        verify(orderService, never()).handlePaymentSuccessCallback(any());
+    }
+
+    @Test
+    void 대기시간_지나면_배치크기_미만이어도_처리(){
+        start(100, 20, 100);
+
+        batcher.submit(1L, "PG_1", true);
+
+        verify(orderService, timeout(1_000).times(1)).handlePaymentCallbacks(Set.of(1L), Set.of());
+    }
+
+    @Test
+    void 같은_주문의_콜백은_먼저_들어온것만_반영(){
+        // when - 결제 성공 후 같은 주문의 실패 콜백
+        batcher.apply(List.of(
+                new PaymentCallbackBatcher.PaymentCallback(1L, "PG_1", true),
+                new PaymentCallbackBatcher.PaymentCallback(1L, "PG_1_RETRY", false)));
+
+        // then
+        verify(orderService).handlePaymentCallbacks(Set.of(1L), Set.of());
+    }
+
+    @Test
+    void 배치_실패시_건별_처리로_전환(){
+        // given - 배치 중 한 주문이 동시 갱신 충돌
+        doThrow(new ObjectOptimisticLockingFailureException(Order.class, 2L))
+                .when(orderService).handlePaymentCallbacks(anyCollection(), anyCollection());
+        doThrow(new ObjectOptimisticLockingFailureException(Order.class, 2L))
+                .when(orderService).handlePaymentSuccessCallback(2L);
+        doThrow(new IllegalStateException("DB 오류"))
+                .when(orderService).handlePaymentFailureCallback(3L);
+
+        // when
+        batcher.apply(List.of(
+                new PaymentCallbackBatcher.PaymentCallback(1L, "PG_1", true),
+                new PaymentCallbackBatcher.PaymentCallback(2L, "PG_2", true),
+                new PaymentCallbackBatcher.PaymentCallback(3L, "PG_3", false)));
+
+        // then
+        verify(orderService).handlePaymentSuccessCallback(1L);
+        verify(orderService, times(2)).handlePaymentSuccessCallback(2L); // 충돌 후 최신 상태로 한 번 더
+        verify(orderService).handlePaymentFailureCallback(3L);
+        // 충돌(이미 처리됨)은 그대로, 처리 실패 건만 중복 제거 키 해제 -> PG 재전송 허용
+        verify(callbackDeduplicator).release(3L, "PG_3");
+        verifyNoMoreInteractions(callbackDeduplicator);
+    }
+
+    @Test
+    void 결제_성공_콜백이_충돌하면_최신_상태로_재처리(){
+        // given - 결제 대기 만료와 경합해 첫 시도만 충돌
+        doThrow(new ObjectOptimisticLockingFailureException(Order.class, 1L))
+                .when(orderService).handlePaymentCallbacks(anyCollection(), anyCollection());
+        doThrow(new ObjectOptimisticLockingFailureException(Order.class, 1L))
+                .doNothing()
+                .when(orderService).handlePaymentSuccessCallback(1L);
+
+        // when
+        batcher.apply(List.of(new PaymentCallbackBatcher.PaymentCallback(1L, "PG_1", true)));
+
+        // then - 재처리에서 환불 필요 등으로 기록되도록 버리지 않음
+        verify(orderService, times(2)).handlePaymentSuccessCallback(1L);
+        verifyNoInteractions(callbackDeduplicator);
+    }
+
+    @Test
+    void 큐가_가득차면_접수_거부() throws InterruptedException {
+        // given - 첫 배치 처리가 끝나지 않아 워커가 큐를 비우지 못하는 상황
+        start(1, 0, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(orderService).handlePaymentCallbacks(anyCollection(), anyCollection());
+
+        assertThat(batcher.submit(1L, "PG_1", true)).isTrue();
+        verify(orderService, timeout(1_000)).handlePaymentCallbacks(anyCollection(), anyCollection()); // 워커가 1번 처리 중
+        assertThat(batcher.submit(2L, "PG_2", true)).isTrue();  // 큐 1칸 사용
+
+        // when
+        boolean accepted = batcher.submit(3L, "PG_3", true);
+
+        // then
+        assertThat(accepted).isFalse();
+        release.countDown();
+    }
+
+    private void start(int batchSize, long batchMaxWaitMs, int queueCapacity){
+        ReflectionTestUtils.setField(batcher, "batchSize", batchSize);
+        ReflectionTestUtils.setField(batcher, "batchMaxWaitMs", batchMaxWaitMs);
+        ReflectionTestUtils.setField(batcher, "queueCapacity", queueCapacity);
+        batcher.start();
+        started = true;
+    }
+}
@@ -0,0 +1,104 @@
+package shop.shop_spring.payment.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 결제 콜백 중복 제거 검증 - 로컬 Redis(또는 호환 서버)가 있을 때만 실행
+ * 접속 정보: -Dtest.redis.host, -Dtest.redis.port (기본 localhost:6379)
+ */
+public class PaymentCallbackDeduplicatorTest {
+    private static final Long ORDER_ID = 900_000_101L;
+    private static final String PG_TX_ID = "PG_TXN_TEST";
+    private static final String OTHER_PG_TX_ID = "PG_TXN_TEST_OTHER";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private PaymentCallbackDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp(){
+        connectionFactory = new LettuceConnectionFactory(
+                System.getProperty("test.redis.host", "localhost"),
+                Integer.getInteger("test.redis.port", 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        assumeTrue(isRedisAvailable(), "로컬 Redis 없음 - 테스트 생략");
+
+        deduplicator = new PaymentCallbackDeduplicator(redisTemplate);
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown(){
+        if (deduplicator != null){
+            cleanUp();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 동시_중복_콜백중_하나만_통과() throws InterruptedException {
+        int callbacks = 300;
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < callbacks; i++){
+            executor.submit(() -> {
+                start.await();
+                if (deduplicator.tryAcquire(ORDER_ID, PG_TX_ID)){
+                    acquired.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(acquired.get()).isEqualTo(1);
+        assertThat(redisTemplate.getExpire(PaymentCallbackDeduplicator.keyOf(ORDER_ID, PG_TX_ID))).isPositive();
+    }
+
+    @Test
+    void 다른_거래id는_별도_처리(){
+        assertThat(deduplicator.tryAcquire(ORDER_ID, PG_TX_ID)).isTrue();
+        assertThat(deduplicator.tryAcquire(ORDER_ID, OTHER_PG_TX_ID)).isTrue();
+        assertThat(deduplicator.tryAcquire(ORDER_ID, PG_TX_ID)).isFalse();
+    }
+
+    @Test
+    void 처리_실패로_해제하면_재전송_콜백_처리가능(){
+        assertThat(deduplicator.tryAcquire(ORDER_ID, PG_TX_ID)).isTrue();
+
+        deduplicator.release(ORDER_ID, PG_TX_ID);
+
+        assertThat(deduplicator.tryAcquire(ORDER_ID, PG_TX_ID)).isTrue();
+    }
+
+    private boolean isRedisAvailable(){
+        try {
+            return "PONG".equals(redisTemplate.execute(connection -> connection.ping(), true));
+        } catch (RuntimeException e){
+            return false;
+        }
+    }
+
+    private void cleanUp(){
+        redisTemplate.delete(PaymentCallbackDeduplicator.keyOf(ORDER_ID, PG_TX_ID));
+        redisTemplate.delete(PaymentCallbackDeduplicator.keyOf(ORDER_ID, OTHER_PG_TX_ID));
+    }
+}
@@ -0,0 +1,155 @@
+package shop.shop_spring.payment.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.shop_spring.common.exception.PaymentInitiationException;
+import shop.shop_spring.payment.Dto.PaymentInitiationResponse;
+import shop.shop_spring.payment.domain.PaymentOutbox;
+import shop.shop_spring.payment.domain.PaymentOutbox.OutboxStatus;
+import shop.shop_spring.payment.event.PaymentInitiationFailedEvent;
+import shop.shop_spring.payment.repository.PaymentOutboxRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentOutboxDispatcherTest {
+    @InjectMocks
+    private PaymentOutboxDispatcher dispatcher;
+
+    @Mock
+    private PaymentOutboxRepository outboxRepository;
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private String successCallbackUrl = "http://localhost:8080/api/payments/mock-callback/success";
+    private String failureCallbackUrl = "http://localhost:8080/api/payments/mock-callback/failure";
+
+    private final Long outboxId = 1L;
+    private final Long orderId = 100L;
+
+    @BeforeEach
+    void setUp(){
+        ReflectionTestUtils.setField(dispatcher, "successCallbackUrl", successCallbackUrl);
+        ReflectionTestUtils.setField(dispatcher, "failureCallbackUrl", failureCallbackUrl);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown(){
+        dispatcher.stop();
+    }
+
+    @Test
+    void 결제요청_성공시_DISPATCHED_저장_및_대기중인_요청에_응답() throws Exception {
+        // given
+        claimedOutbox(1);
+        when(paymentService.initiatePayment(orderId, BigDecimal.valueOf(10000), "CARD", successCallbackUrl, failureCallbackUrl))
+                .thenReturn(PaymentInitiationResponse.builder()
+                        .success(true)
+                        .redirectUrl("http://mock-pg.com/redirect")
+                        .pgTransactionId("PG_TXN_123")
+                        .build());
+
+        // when
+        PaymentInitiationResponse result = dispatcher.submit(outboxId, orderId).get(2, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isPending()).isFalse();
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getOrderId()).isEqualTo(orderId);
+        assertThat(result.getRedirectUrl()).isEqualTo("http://mock-pg.com/redirect");
+
+        ArgumentCaptor<PaymentOutbox> saved = ArgumentCaptor.forClass(PaymentOutbox.class);
+        verify(outboxRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(OutboxStatus.DISPATCHED);
+        assertThat(saved.getValue().getPgTransactionId()).isEqualTo("PG_TXN_123");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void 결제요청_실패시_백오프_후_재시도_대기(){
+        // given
+        claimedOutbox(1);
+        when(paymentService.initiatePayment(any(), any(), any(), any(), any()))
+                .thenThrow(new PaymentInitiationException("PG사 시스템 오류 발생"));
+
+        // when
+        dispatcher.dispatch(outboxId);
+
+        // then
+        ArgumentCaptor<PaymentOutbox> saved = ArgumentCaptor.forClass(PaymentOutbox.class);
+        verify(outboxRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(saved.getValue().getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(saved.getValue().getLastError()).isEqualTo("PG사 시스템 오류 발생");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void 재시도_한도_초과시_FAILED_및_주문취소_이벤트_발행(){
+        // given
+        claimedOutbox(3);
+        when(paymentService.initiatePayment(any(), any(), any(), any(), any()))
+                .thenThrow(new PaymentInitiationException("PG사 시스템 오류 발생"));
+
+        // when
+        dispatcher.dispatch(outboxId);
+
+        // then
+        ArgumentCaptor<PaymentOutbox> saved = ArgumentCaptor.forClass(PaymentOutbox.class);
+        verify(outboxRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(OutboxStatus.FAILED);
+
+        ArgumentCaptor<PaymentInitiationFailedEvent> event = ArgumentCaptor.forClass(PaymentInitiationFailedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getOrderId()).isEqualTo(orderId);
+    }
+
+    @Test
+    void 점유_실패시_PG_요청_안함(){
+        // given - 다른 워커가 이미 점유
+        when(outboxRepository.claim(eq(outboxId), eq(OutboxStatus.IN_FLIGHT), any(), any(), any())).thenReturn(0);
+
+        // when
+        dispatcher.dispatch(outboxId);
+
+        // then
+        verify(outboxRepository, never()).findById(any());
+        verify(outboxRepository, never()).save(any());
+        verifyNoInteractions(paymentService, eventPublisher);
+    }
+
+    // 점유 후 조회되는 outbox (attempts 는 점유 시 증가된 값)
+    private void claimedOutbox(int attempts){
+        PaymentOutbox outbox = PaymentOutbox.builder()
+                .id(outboxId)
+                .orderId(orderId)
+                .memberId(1L)
+                .amount(BigDecimal.valueOf(10000))
+                .paymentMethod("CARD")
+                .status(OutboxStatus.IN_FLIGHT)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().plusSeconds(30))
+                .build();
+        when(outboxRepository.claim(eq(outboxId), eq(OutboxStatus.IN_FLIGHT), any(), any(), any())).thenReturn(1);
+        when(outboxRepository.findById(outboxId)).thenReturn(Optional.of(outbox));
+    }
+}
@@ -0,0 +1,113 @@
+package shop.shop_spring.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import shop.shop_spring.product.Dto.ProductDetailDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductDetailCacheTest {
+    private static final Long PRODUCT_ID = 1L;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ProductDetailCache cache;
+
+    @BeforeEach
+    void setUp(){
+        cache = new ProductDetailCache(stringRedisTemplate, redisMessageListenerContainer, new ObjectMapper().findAndRegisterModules());
+        cache.init();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, "3"));
+    }
+
+    @Test
+    void Redis_미스시_조회_시작_세대로_조건부_저장(){
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // when
+        ProductDetailDto detail = cache.get(PRODUCT_ID, id -> detail("상품"));
+
+        // then - 세대 "3" 이 그대로일 때만 SET 하도록 스크립트에 전달
+        assertThat(detail.getTitle()).isEqualTo("상품");
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("product:detail:1", "product:detail:gen:1")),
+                eq("3"), anyString(), anyString());
+        assertThat(cache.stats().getRedisMisses()).isEqualTo(1);
+        assertThat(cache.stats().getSkippedPopulates()).isZero();
+
+        // 로컬 캐시 적중 -> 다시 로딩하지 않음
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(PRODUCT_ID, id -> { loads.incrementAndGet(); return detail("다른 값"); });
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void 로딩_중_무효화되면_로컬_캐시에_저장하지_않음(){
+        // given - 로딩 도중 다른 노드의 무효화 메시지 도착, Redis 도 세대가 바뀌어 저장 거부
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        // when
+        cache.get(PRODUCT_ID, id -> {
+            cache.onMessage(invalidateMessage(id), null);
+            return detail("수정 전");
+        });
+
+        // then - 로컬/Redis 모두 저장 생략, 다음 조회는 다시 로딩
+        assertThat(cache.stats().getSkippedPopulates()).isEqualTo(2);
+        AtomicInteger loads = new AtomicInteger();
+        ProductDetailDto reloaded = cache.get(PRODUCT_ID, id -> { loads.incrementAndGet(); return detail("수정 후"); });
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(reloaded.getTitle()).isEqualTo("수정 후");
+    }
+
+    @Test
+    void Redis_적중_미스_집계(){
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("{\"title\":\"상품\"}", "0"));
+
+        // when
+        cache.get(PRODUCT_ID, id -> detail("로딩"));
+
+        // then
+        ProductDetailCacheStats stats = cache.stats();
+        assertThat(stats.getRedisHits()).isEqualTo(1);
+        assertThat(stats.getRedisMisses()).isZero();
+        assertThat(stats.getRedisHitRatio()).isEqualTo(1.0);
+        assertThat(stats.getLocal().getMisses()).isEqualTo(1);
+    }
+
+    private ProductDetailDto detail(String title){
+        return new ProductDetailDto(PRODUCT_ID, title, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private DefaultMessage invalidateMessage(Long productId){
+        return new DefaultMessage(ProductDetailCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                productId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
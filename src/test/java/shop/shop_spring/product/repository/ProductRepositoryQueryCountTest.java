@@ -0,0 +1,94 @@
+package shop.shop_spring.product.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.domain.ProductDescription;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.common.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class ProductRepositoryQueryCountTest {
+    private static final int PRODUCT_COUNT = 100;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp(){
+        Category category = new Category();
+        category.setName("테스트 카테고리");
+        testEntityManager.persist(category);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < PRODUCT_COUNT; i++){
+            Product product = Product.builder()
+                    .title("테스트 상품 " + i)
+                    .price(Money.of(10000))
+                    .username("테스트 판매자")
+                    .stockQuantity(10)
+                    .status(Status.ACTIVE)
+                    .category(category)
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now)
+                    .build();
+            testEntityManager.persist(product);
+            testEntityManager.persist(new ProductDescription(product, "테스트 상품 상세 설명 " + i));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 목록_요약_조회는_쿼리_한번(){
+        // when
+        List<ProductSummaryDto> summaries = productRepository.findSummaries(null, PRODUCT_COUNT);
+
+        // then
+        assertEquals(PRODUCT_COUNT, summaries.size());
+        assertEquals("테스트 카테고리", summaries.get(0).getCategoryName());
+        assertEquals(1, statistics.getPrepareStatementCount(), "목록 조회는 단일 쿼리여야함");
+        assertEquals(0, statistics.getEntityLoadCount(), "엔티티를 로딩하지 않아야함");
+    }
+
+    @Test
+    void 상품_엔티티_조회시_상품_설명은_로딩되지_않음(){
+        // when
+        List<Product> products = productRepository.findAll();
+
+        // then
+        assertEquals(PRODUCT_COUNT, products.size());
+        assertEquals(0, statistics.getEntityStatistics(ProductDescription.class.getName()).getLoadCount(),
+                "상품 설명은 로딩되지 않아야함");
+        // 상품 1번 + (EAGER) 카테고리 1번
+        assertTrue(statistics.getPrepareStatementCount() <= 2, "상품 수 만큼 추가 쿼리가 발생하면 안됨");
+    }
+}
@@ -0,0 +1,139 @@
+package shop.shop_spring.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.product.repository.ProductTitleView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductTitleIndexTest {
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @InjectMocks
+    private ProductTitleIndex productTitleIndex;
+
+    private ProductTitleView view(Long id, String title){
+        return new ProductTitleView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+        };
+    }
+
+    @BeforeEach
+    void setUp(){
+        when(productRepository.findAllTitleViews()).thenReturn(List.of(
+                view(1L, "남성용 청바지"),
+                view(2L, "여성용 청바지"),
+                view(3L, "Cotton T-Shirt"),
+                view(4L, "청자켓")
+        ));
+        productTitleIndex.rebuild();
+    }
+
+    @Test
+    void 한글_부분일치_검색(){
+        assertArrayEquals(new long[]{1L, 2L}, productTitleIndex.search("청바지"));
+        assertArrayEquals(new long[]{4L}, productTitleIndex.search("자켓"));
+    }
+
+    @Test
+    void 대소문자_구분_없음(){
+        assertArrayEquals(new long[]{3L}, productTitleIndex.search("t-sh"));
+    }
+
+    @Test
+    void gram_은_모두_있지만_연속되지_않으면_제외(){
+        // "바지 ", "지 청", " 청바" 가 한 제목에 모두 있지만 "바지 청바" 가 연속으로 있지는 않음
+        productTitleIndex.upsert(5L, "바지 청 세트 지 청바");
+
+        assertArrayEquals(new long[0], productTitleIndex.search("바지 청바"));
+    }
+
+    @Test
+    void 짧은_검색어는_null_반환(){
+        assertNull(productTitleIndex.search("청"));
+    }
+
+    @Test
+    void 증분_수정_삭제_반영(){
+        productTitleIndex.upsert(5L, "아동용 청바지");
+        productTitleIndex.upsert(1L, "남성용 면바지");
+        productTitleIndex.remove(2L);
+
+        assertArrayEquals(new long[]{5L}, productTitleIndex.search("청바지"));
+        assertArrayEquals(new long[]{1L}, productTitleIndex.search("면바지"));
+    }
+
+    @Test
+    void 변경은_다른_노드에_상품_id_로_알림(){
+        productTitleIndex.upsert(5L, "아동용 청바지");
+
+        verify(stringRedisTemplate).convertAndSend(eq(ProductTitleIndex.CHANGE_CHANNEL), endsWith(":5"));
+    }
+
+    @Test
+    void 다른_노드의_변경_알림은_DB_의_최신_제목으로_반영(){
+        // given - 다른 노드에서 1 번 제목 변경, 2 번 삭제
+        when(productRepository.findTitleViewById(1L)).thenReturn(Optional.of(view(1L, "남성용 면바지")));
+        when(productRepository.findTitleViewById(2L)).thenReturn(Optional.empty());
+
+        // when
+        productTitleIndex.onMessage(message("other-node:1"), null);
+        productTitleIndex.onMessage(message("other-node:2"), null);
+
+        // then
+        assertArrayEquals(new long[0], productTitleIndex.search("청바지"));
+        assertArrayEquals(new long[]{1L}, productTitleIndex.search("면바지"));
+    }
+
+    @Test
+    void 자신이_보낸_알림은_무시(){
+        // given - 자신이 보낸 메시지 본문
+        productTitleIndex.upsert(5L, "아동용 청바지");
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(ProductTitleIndex.CHANGE_CHANNEL), body.capture());
+
+        // when
+        productTitleIndex.onMessage(message(body.getValue()), null);
+
+        // then
+        verify(productRepository, never()).findTitleViewById(anyLong());
+    }
+
+    private DefaultMessage message(String body){
+        return new DefaultMessage(ProductTitleIndex.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
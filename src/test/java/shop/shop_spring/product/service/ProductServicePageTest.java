@@ -0,0 +1,125 @@
+package shop.shop_spring.product.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import shop.shop_spring.category.service.CategoryService;
+import shop.shop_spring.common.pagination.CursorPage;
+import shop.shop_spring.common.pagination.KeysetCursor;
+import shop.shop_spring.product.Dto.ProductSearchCondition;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.repository.ProductDescriptionRepository;
+import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.product.search.ProductTitleIndex;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductServicePageTest {
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductDescriptionRepository productDescriptionRepository;
+
+    @Mock
+    private ProductTitleIndex productTitleIndex;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @InjectMocks
+    private ProductServiceImpl productService;
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    private List<ProductSummaryDto> createTestSummaries(int count){
+        List<ProductSummaryDto> summaries = new ArrayList<>();
+        for (int i = 0; i < count; i++){
+            summaries.add(new ProductSummaryDto(
+                    (long) (100 - i), "테스트 상품 " + i, BigDecimal.valueOf(10000), 10,
+                    null, Status.ACTIVE, 1L, "테스트 카테고리", baseTime.minusMinutes(i)
+            ));
+        }
+        return summaries;
+    }
+
+    @Test
+    void 다음_페이지가_있으면_마지막_상품_기준_커서_반환(){
+        // given - size + 1 건 조회됨
+        List<ProductSummaryDto> fetched = createTestSummaries(4);
+        when(productRepository.findSummaries(any(Specification.class), eq(4))).thenReturn(fetched);
+
+        // when
+        CursorPage<ProductSummaryDto> page = productService.searchProductPage(new ProductSearchCondition(), null, 3);
+
+        // then
+        assertEquals(3, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+
+        KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+        ProductSummaryDto last = fetched.get(2);
+        assertEquals(last.getCreatedAt(), cursor.getCreatedAt());
+        assertEquals(last.getId(), cursor.getId());
+
+        verify(productRepository, times(1)).findSummaries(any(Specification.class), eq(4));
+        verifyNoInteractions(categoryService);
+    }
+
+    @Test
+    void 마지막_페이지면_커서_없음(){
+        // given
+        List<ProductSummaryDto> fetched = createTestSummaries(2);
+        when(productRepository.findSummaries(any(Specification.class), eq(4))).thenReturn(fetched);
+        String cursor = new KeysetCursor(baseTime.plusMinutes(1), 200L).encode();
+
+        // when
+        CursorPage<ProductSummaryDto> page = productService.searchProductPage(new ProductSearchCondition(), cursor, 3);
+
+        // then
+        assertEquals(2, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void 유효하지_않은_커서_예외(){
+        // given
+        String invalidCursor = "invalid-cursor";
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> {
+            productService.searchProductPage(new ProductSearchCondition(), invalidCursor, 20);
+        });
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void 페이지_크기_범위_초과_예외(){
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> {
+            productService.searchProductPage(new ProductSearchCondition(), null, 0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            productService.searchProductPage(new ProductSearchCondition(), null, 101);
+        });
+        verifyNoInteractions(productRepository);
+    }
+}
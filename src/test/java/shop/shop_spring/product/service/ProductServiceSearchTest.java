@@ -8,65 +8,66 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import shop.shop_spring.category.service.CategoryService;
-import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.common.pagination.CursorPage;
 import shop.shop_spring.product.Dto.ProductSearchCondition;
+import shop.shop_spring.product.Dto.ProductSummaryDto;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.product.repository.ProductDescriptionRepository;
 import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.product.search.ProductTitleIndex;
 import shop.shop_spring.product.domain.Product;
-import shop.shop_spring.product.domain.ProductDescription;
 import shop.shop_spring.product.specification.ProductSpecification;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+/**
+ * 검색 조건 -> Specification 구성 검증 (목록 조회 searchProductPage 경유)
+ */
 @ExtendWith(MockitoExtension.class)
 public class ProductServiceSearchTest {
+    private static final int PAGE_SIZE = 20;
+
     @Mock
     private CategoryService categoryService;
 
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductDescriptionRepository productDescriptionRepository;
+
+    @Mock
+    private ProductTitleIndex productTitleIndex;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
-    private List<Product> mockProduct;
-    private Sort expectedSort;
+    private List<ProductSummaryDto> mockSummaries;
 
     @BeforeEach
     void setup(){
-        Product p1 = createTestProduct(1L);
-        Product p2 = createTestProduct(2L);
-        mockProduct = Arrays.asList(p1, p2);
-        expectedSort = Sort.by(Sort.Direction.DESC, "createdAt");
+        mockSummaries = Arrays.asList(createTestSummary(2L), createTestSummary(1L));
     }
 
-    private Product createTestProduct(Long id){
-        Product product = new Product();
-        product.setId(id);
-        product.setTitle("테스트 상품");
-        product.setPrice(BigDecimal.valueOf(10000));
-        product.setUsername("테스트 판매자");
-        product.setStockQuantity(50);
-        ProductDescription productDescription = new ProductDescription();
-        productDescription.setDescription("테스트 상품 상세 설명");
-        product.setDescription(productDescription);
-        product.setThumbnailUrl("http://example.com/thum.jpg");
-        Category category = new Category();
-        category.setId(1L);
-        category.setName("테스트 카테고리");
-        product.setCategory(category);
-
-        return product;
+    private ProductSummaryDto createTestSummary(Long id){
+        return new ProductSummaryDto(id, "테스트 상품", BigDecimal.valueOf(10000), 50,
+                "http://example.com/thum.jpg", Status.ACTIVE, 1L, "테스트 카테고리",
+                LocalDateTime.of(2025, 5, 1, 12, 0).plusMinutes(id));
     }
 
     @Test
@@ -75,28 +76,20 @@ public class ProductServiceSearchTest {
         ProductSearchCondition emptyCondition = new ProductSearchCondition();
 
         ArgumentCaptor<Specification<Product>> specCaptor = ArgumentCaptor.forClass(Specification.class);
-        ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
-
-        when(productRepository.findAll(specCaptor.capture(), sortCaptor.capture())).
-                thenReturn(mockProduct);
+        when(productRepository.findSummaries(specCaptor.capture(), eq(PAGE_SIZE + 1))).thenReturn(mockSummaries);
 
         // when
-        List<Product> result = productService.searchProducts(emptyCondition);
+        CursorPage<ProductSummaryDto> result = productService.searchProductPage(emptyCondition, null, PAGE_SIZE);
 
         // then
-        verify(productRepository, times(1))
-                .findAll(any(Specification.class), eq(expectedSort));
+        verify(productRepository, times(1)).findSummaries(any(Specification.class), eq(PAGE_SIZE + 1));
 
         // specification에서 하위 카테고리 가져오는 메서드 호출x
         verifyNoInteractions(categoryService);
 
-        Sort capturedSort = sortCaptor.getValue();
-        assertNotNull(capturedSort, "Sort 객체가 존재해야함");
-        assertEquals(expectedSort.toString(), capturedSort.toString(), "정렬 순서가 일치해야함");
-
-        assertNotNull(result, "반환 결과가 있어야함");
-        assertEquals(mockProduct.size(), result.size(), "반환 상품의 개수는 일치해야함");
-        assertEquals(mockProduct, result, "반환 상품 리스트랑 mock이 일치해야함");
+        assertNotNull(specCaptor.getValue(), "Specification은 있어야 함");
+        assertEquals(mockSummaries, result.getContent(), "반환 상품 리스트랑 mock이 일치해야함");
+        assertFalse(result.isHasNext());
     }
 
     @Test
@@ -108,35 +101,50 @@ public class ProductServiceSearchTest {
 
         Specification<Product> mockTitleSpec = mock(Specification.class);
 
-        ArgumentCaptor<Specification<Product>> specCaptor = ArgumentCaptor.forClass(Specification.class);
-        ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
-
         try(MockedStatic<ProductSpecification> mockedSpec =
                     mockStatic(ProductSpecification.class)){
             mockedSpec.when(()->ProductSpecification.titleLike(searchTitle)).thenReturn(mockTitleSpec);
-            when(productRepository.findAll(specCaptor.capture(), sortCaptor.capture())).thenReturn(mockProduct);
+            when(productRepository.findSummaries(any(Specification.class), eq(PAGE_SIZE + 1))).thenReturn(mockSummaries);
 
             // when
-            List<Product> result = productService.searchProducts(searchCondition);
-
-            // then
-            verify(productRepository, times(1)).findAll(any(Specification.class), eq(expectedSort));
+            CursorPage<ProductSummaryDto> result = productService.searchProductPage(searchCondition, null, PAGE_SIZE);
 
+            // then - 인덱스를 쓸 수 없으면 LIKE 검색
+            mockedSpec.verify(()->ProductSpecification.titleLike(searchTitle), times(1));
             verifyNoInteractions(categoryService);
 
-            Sort capturedSort = sortCaptor.getValue();
-            assertNotNull(capturedSort, "Sort 객체는 있어야함");
-            assertEquals(expectedSort.toString(), capturedSort.toString(), "정렬 순서는 일치해야함");
+            assertEquals(mockSummaries, result.getContent(), "반환 상품과 mock 리스트는 같아야함");
+        }
+    }
 
-            Specification<Product> capturedSpec = specCaptor.getValue();
-            assertNotNull(capturedSpec, "Specification은 있어야 함");
+    @Test
+    void 상품제목기반_검색_인덱스_후보_사용(){
+        // given
+        String searchTitle = "테스트";
+        long[] candidateIds = {1L, 2L};
+        ProductSearchCondition searchCondition = new ProductSearchCondition();
+        searchCondition.setProductTitle(searchTitle);
 
-            assertNotNull(result, "검색 결과는 있어야 함");
-            assertEquals(mockProduct, result, "반환 상품과 mock 리스트는 같아야함");
+        Specification<Product> mockIdSpec = mock(Specification.class);
+        when(productTitleIndex.search(searchTitle)).thenReturn(candidateIds);
 
-        }
+        try(MockedStatic<ProductSpecification> mockedSpec =
+                    mockStatic(ProductSpecification.class)){
+            mockedSpec.when(()->ProductSpecification.idIn(candidateIds)).thenReturn(mockIdSpec);
+            when(productRepository.findSummaries(any(Specification.class), eq(PAGE_SIZE + 1))).thenReturn(mockSummaries);
+
+            // when
+            CursorPage<ProductSummaryDto> result = productService.searchProductPage(searchCondition, null, PAGE_SIZE);
 
+            // then
+            mockedSpec.verify(()->ProductSpecification.idIn(candidateIds), times(1));
+            mockedSpec.verify(()->ProductSpecification.titleLike(anyString()), never());
+            verifyNoInteractions(categoryService);
+
+            assertEquals(mockSummaries, result.getContent(), "반환 상품과 mock 리스트는 같아야함");
+        }
     }
+
     @Test
     void 카테고리기반_검색(){
         // given
@@ -149,31 +157,20 @@ public class ProductServiceSearchTest {
 
         Specification<Product> mockCategorySpec = mock(Specification.class);
 
-        ArgumentCaptor<Specification<Product>> specCaptor = ArgumentCaptor.forClass(Specification.class);
-        ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
-
         try( MockedStatic<ProductSpecification> mockedSpec =
                      mockStatic(ProductSpecification.class)){
             mockedSpec.when(()->ProductSpecification.categoryIn(descendantCategoryIds)).thenReturn(mockCategorySpec);
-            when(productRepository.findAll(specCaptor.capture(), sortCaptor.capture())).thenReturn(mockProduct);
+            when(productRepository.findSummaries(any(Specification.class), eq(PAGE_SIZE + 1))).thenReturn(mockSummaries);
 
             // when
-            List<Product> result = productService.searchProducts(searchCondition);
+            CursorPage<ProductSummaryDto> result = productService.searchProductPage(searchCondition, null, PAGE_SIZE);
 
-            // then
-            verify(productRepository, times(1)).findAll(any(Specification.class), eq(expectedSort));
-
-            Sort capturedSort = sortCaptor.getValue();
-            assertNotNull(capturedSort, "Sort 객체는 있어야함");
-            assertEquals(expectedSort.toString(), capturedSort.toString(), "정렬 순서는 일치해야함");
-
-            Specification<Product> capturedSpec = specCaptor.getValue();
-            assertNotNull(capturedSpec, "Specification은 있어야 함");
-
-            assertNotNull(result, "검색 결과는 있어야 함");
-            assertEquals(mockProduct, result, "반환 상품과 mock 리스트는 같아야함");
-            assertEquals(mockProduct.size(), result.size(), "반환 상품의 개수가 같아야함 ");
+            // then - 하위 카테고리까지 포함
+            mockedSpec.verify(()->ProductSpecification.categoryIn(descendantCategoryIds), times(1));
+            verify(categoryService, times(1)).getAllDescendantCategoryIds(searchCategoryId);
 
+            assertEquals(mockSummaries, result.getContent(), "반환 상품과 mock 리스트는 같아야함");
+            assertEquals(mockSummaries.size(), result.getContent().size(), "반환 상품의 개수가 같아야함 ");
         }
     }
 
@@ -185,35 +182,23 @@ public class ProductServiceSearchTest {
         ProductSearchCondition searchCondition = new ProductSearchCondition();
         searchCondition.setSellerUsername(searchSeller);
 
-        Specification<Product> mockCategorySpec = mock(Specification.class);
-
-        ArgumentCaptor<Specification<Product>> specCaptor = ArgumentCaptor.forClass(Specification.class);
-        ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+        Specification<Product> mockSellerSpec = mock(Specification.class);
 
         try( MockedStatic<ProductSpecification> mockedSpec =
                      mockStatic(ProductSpecification.class)){
 
-            mockedSpec.when(()->ProductSpecification.hasOwnerUsername(searchSeller)).thenReturn(mockCategorySpec);
-            when(productRepository.findAll(specCaptor.capture(), sortCaptor.capture())).thenReturn(mockProduct);
+            mockedSpec.when(()->ProductSpecification.hasOwnerUsername(searchSeller)).thenReturn(mockSellerSpec);
+            when(productRepository.findSummaries(any(Specification.class), eq(PAGE_SIZE + 1))).thenReturn(mockSummaries);
 
             // when
-            List<Product> result = productService.searchProducts(searchCondition);
+            CursorPage<ProductSummaryDto> result = productService.searchProductPage(searchCondition, null, PAGE_SIZE);
 
             // then
-            verify(productRepository, times(1)).findAll(any(Specification.class), eq(expectedSort));
+            mockedSpec.verify(()->ProductSpecification.hasOwnerUsername(searchSeller), times(1));
             verifyNoInteractions(categoryService);
 
-            Sort capturedSort = sortCaptor.getValue();
-            assertNotNull(capturedSort, "Sort 객체는 있어야함");
-            assertEquals(expectedSort.toString(), capturedSort.toString(), "정렬 순서는 일치해야함");
-
-            Specification<Product> capturedSpec = specCaptor.getValue();
-            assertNotNull(capturedSpec, "Specification은 있어야 함");
-
-            assertNotNull(result, "검색 결과는 있어야 함");
-            assertEquals(mockProduct, result, "반환 상품과 mock 리스트는 같아야함");
-            assertEquals(mockProduct.size(), result.size(), "반환 상품의 개수가 같아야함 ");
-
+            assertEquals(mockSummaries, result.getContent(), "반환 상품과 mock 리스트는 같아야함");
+            assertEquals(mockSummaries.size(), result.getContent().size(), "반환 상품의 개수가 같아야함 ");
         }
     }
 }
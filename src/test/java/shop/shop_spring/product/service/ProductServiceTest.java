@@ -10,9 +10,13 @@ import shop.shop_spring.category.service.CategoryService;
 import shop.shop_spring.category.domain.Category;
 import shop.shop_spring.common.exception.DataNotFoundException;
 import shop.shop_spring.product.Dto.ProductCreationRequest;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.repository.ProductDescriptionRepository;
 import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.product.search.ProductTitleIndex;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.domain.ProductDescription;
+import shop.shop_spring.common.money.Money;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -31,6 +35,15 @@ public class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductDescriptionRepository productDescriptionRepository;
+
+    @Mock
+    private ProductTitleIndex productTitleIndex;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -39,12 +52,9 @@ public class ProductServiceTest {
         Product product = new Product();
         product.setId(id);
         product.setTitle("테스트 상품");
-        product.setPrice(BigDecimal.valueOf(10000));
+        product.setPrice(Money.of(10000));
         product.setUsername("테스트 판매자");
         product.setStockQuantity(50);
-        ProductDescription productDescription = new ProductDescription();
-        productDescription.setDescription("테스트 상품 상세 설명");
-        product.setDescription(productDescription);
         product.setThumbnailUrl("http://example.com/thum.jpg");
         Category category = new Category();
         category.setId(1L);
@@ -95,9 +105,12 @@ public class ProductServiceTest {
         assertEquals(request.getUsername(), capturedProduct.getUsername(), "판매자 이름이 다름");
         assertNotNull(capturedProduct.getCategory(), "카테고리가 있어야함");
         assertEquals(mockCategory.getId(), capturedProduct.getCategory().getId(), "카테고리가 같아야함");
-        assertNotNull(capturedProduct.getDescription(), "상품 설명이 설정되지 않음");
-        assertEquals(request.getDescription(), capturedProduct.getDescription().getDescription(), "상품 설명이 다름");
         assertEquals(101L, capturedProduct.getId(), "저장되야하는 상품 id와 값이 다름");
+
+        ArgumentCaptor<ProductDescription> descriptionCaptor = ArgumentCaptor.forClass(ProductDescription.class);
+        verify(productDescriptionRepository, times(1)).save(descriptionCaptor.capture());
+        assertSame(capturedProduct, descriptionCaptor.getValue().getProduct(), "상품 설명은 저장된 상품에 연결되어야함");
+        assertEquals(request.getDescription(), descriptionCaptor.getValue().getDescription(), "상품 설명이 다름");
     }
 
     @Test
@@ -151,6 +164,7 @@ public class ProductServiceTest {
         }, "소유자는 상품을 삭제 가능함");
 
         // then
+        verify(productDescriptionRepository, times(1)).deleteByProductId(productId);
         verify(productRepository, times(1)).deleteById(productId);
     }
 
@@ -171,6 +185,7 @@ public class ProductServiceTest {
         assertEquals("상품 삭제 권한이 없음", thrown.getMessage());
 
         verify(productRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(productDescriptionRepository);
     }
 
 
@@ -9,13 +9,18 @@ import shop.shop_spring.category.service.CategoryService;
 import shop.shop_spring.category.domain.Category;
 
 import shop.shop_spring.product.Dto.ProductUpdateRequest;
+import shop.shop_spring.product.cache.ProductDetailCache;
+import shop.shop_spring.product.repository.ProductDescriptionRepository;
 import shop.shop_spring.product.repository.ProductRepository;
+import shop.shop_spring.product.search.ProductTitleIndex;
 import shop.shop_spring.product.domain.Product;
 import shop.shop_spring.product.domain.ProductDescription;
 import shop.shop_spring.product.enums.Status;
+import shop.shop_spring.common.money.Money;
 
 
 import java.math.BigDecimal;
+import java.util.Optional;
 import org.springframework.security.access.AccessDeniedException;
 
 
@@ -32,6 +37,15 @@ public class ProductServiceUpdateTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductDescriptionRepository productDescriptionRepository;
+
+    @Mock
+    private ProductTitleIndex productTitleIndex;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
     @Spy
     @InjectMocks
     private ProductServiceImpl productService;
@@ -51,13 +65,10 @@ public class ProductServiceUpdateTest {
         Product product = new Product();
         product.setId(id);
         product.setTitle("테스트 상품");
-        product.setPrice(BigDecimal.valueOf(10000));
+        product.setPrice(Money.of(10000));
         product.setUsername("테스트 판매자");
         product.setStockQuantity(50);
         product.setStatus(Status.ACTIVE);
-        ProductDescription productDescription = new ProductDescription();
-        productDescription.setDescription("테스트 상품 상세 설명");
-        product.setDescription(productDescription);
         //product.setThumbnailUrl("http://example.com/thum.jpg");
         Category category = new Category();
         category.setId(1L);
@@ -83,7 +94,10 @@ public class ProductServiceUpdateTest {
         //given
         createUpdateRequest();
 
+        ProductDescription existingDescription = new ProductDescription(existingProduct, "테스트 상품 상세 설명");
+
         doReturn(existingProduct).when(productService).findById(existingProductId);
+        when(productDescriptionRepository.findById(existingProductId)).thenReturn(Optional.of(existingDescription));
 
         // when
         productService.updateProduct(sellerUsername, existingProductId, updateRequest);
@@ -92,9 +106,11 @@ public class ProductServiceUpdateTest {
         verify(productService, times(1)).findById(existingProductId);
 
         assertEquals(updateRequest.getTitle(), existingProduct.getTitle());
-        assertEquals(updateRequest.getPrice(), existingProduct.getPrice());
+        assertEquals(Money.of(updateRequest.getPrice()), existingProduct.getPrice());
         assertEquals(updateRequest.getStatus(), existingProduct.getStatus());
-        assertEquals(updateRequest.getDescription(), existingProduct.getDescription().getDescription());
+        assertEquals(updateRequest.getDescription(), existingDescription.getDescription());
+        verify(productDescriptionRepository, times(1)).save(existingDescription);
+        verify(productDetailCache, times(1)).evict(existingProductId);
         assertEquals(updateRequest.getStockQuantity(), existingProduct.getStockQuantity());
         //assertEquals(updateRequest.getThumbnailUrl(), existingProduct.getThumbnailUrl());
 
@@ -127,9 +143,9 @@ public class ProductServiceUpdateTest {
     void 상품_설명_없음을_있음으로_갱신(){
         // given
         createUpdateRequest();
-        existingProduct.setDescription(null);
 
         doReturn(existingProduct).when(productService).findById(existingProductId);
+        when(productDescriptionRepository.findById(existingProductId)).thenReturn(Optional.empty());
 
         // when
         productService.updateProduct(sellerUsername, existingProductId, updateRequest);
@@ -138,12 +154,14 @@ public class ProductServiceUpdateTest {
         verify(productService, times(1)).findById(existingProductId);
 
         assertEquals(updateRequest.getTitle(), existingProduct.getTitle());
-        assertEquals(updateRequest.getPrice(), existingProduct.getPrice());
+        assertEquals(Money.of(updateRequest.getPrice()), existingProduct.getPrice());
         assertEquals(updateRequest.getStatus(), existingProduct.getStatus());
         assertEquals(updateRequest.getStockQuantity(), existingProduct.getStockQuantity());
 
-        assertNotNull(existingProduct.getDescription());
-        assertEquals(updateRequest.getDescription(), existingProduct.getDescription().getDescription());
+        ArgumentCaptor<ProductDescription> descriptionCaptor = ArgumentCaptor.forClass(ProductDescription.class);
+        verify(productDescriptionRepository, times(1)).save(descriptionCaptor.capture());
+        assertSame(existingProduct, descriptionCaptor.getValue().getProduct());
+        assertEquals(updateRequest.getDescription(), descriptionCaptor.getValue().getDescription());
 
         ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
         verify(productRepository, times(1)).save(productCaptor.capture());
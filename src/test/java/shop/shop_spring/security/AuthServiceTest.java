@@ -12,11 +12,20 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import shop.shop_spring.common.exception.InvalidTokenException;
+import shop.shop_spring.member.domain.enums.Role;
 import shop.shop_spring.security.auth.AuthService;
+import shop.shop_spring.security.auth.AuthTokens;
+import shop.shop_spring.security.auth.MyUserDetailService;
 import shop.shop_spring.security.jwt.JwtUtil;
+import shop.shop_spring.security.jwt.RefreshTokenStore;
+import shop.shop_spring.security.model.MyUser;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +41,12 @@ public class AuthServiceTest {
     @MockitoBean
     private JwtUtil mockedJwtUtil;
 
+    @MockitoBean
+    private RefreshTokenStore mockedRefreshTokenStore;
+
+    @MockitoBean
+    private MyUserDetailService mockedMyUserDetailService;
+
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
@@ -72,15 +87,17 @@ public class AuthServiceTest {
             // JwtUtil.createToken이 mockedSecurityContext.getAuthentication()이 반환하는 객체(mockedAuthenticatedAuth)를 인자로 받을 때
             // expectedJwtToken을 반환하도록 스텁
             when(mockedJwtUtil.createToken(mockedAuthenticatedAuth)).thenReturn(expectedJwtToken);
+            when(mockedRefreshTokenStore.issue(testUsername)).thenReturn("refresh-token");
 
 
         // When
         // AuthService.login 메서드 호출
-            String actualJwtToken = authService.login(testUsername, testPassword);
+            AuthTokens actualTokens = authService.login(testUsername, testPassword);
 
             // Then
-            // 1. login 메서드가 기대한 JWT 토큰을 반환했는지 검증
-            assertEquals(expectedJwtToken, actualJwtToken, "로그인 성공 시 JWT 토큰이 올바르게 반환되어야 합니다.");
+            // 1. login 메서드가 기대한 JWT 토큰과 refresh token 을 반환했는지 검증
+            assertEquals(expectedJwtToken, actualTokens.getAccessToken(), "로그인 성공 시 JWT 토큰이 올바르게 반환되어야 합니다.");
+            assertEquals("refresh-token", actualTokens.getRefreshToken());
 
             // 2. SecurityContextHolder 관련 검증 (static mocking 시 verify 방식 변경)
             mockedSecurityContextHolder.verify(SecurityContextHolder::getContext, times(2)); // getContext()가 두 번 호출됨 (set, get)
@@ -135,10 +152,42 @@ public class AuthServiceTest {
 
             // 인증 실패 했으므로 그 아래 코드들은 실행되지 않아야 함
             verify(mockedJwtUtil, never()).createToken(any(Authentication.class)); // createToken은 호출되지 않아야 함
+            verify(mockedRefreshTokenStore, never()).issue(any());
             verify(mockedSecurityContext, never()).setAuthentication(any(Authentication.class));
             verify(mockedSecurityContext, never()).getAuthentication();
 
         }
     }
 
+    @Test
+    void 토큰_재발급_성공시_refresh_token_교체(){
+        // Given
+        MyUser user = new MyUser("testUser@example.com", "encoded", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        user.setId(1L);
+        user.setRole(Role.ROLE_USER);
+        when(mockedRefreshTokenStore.consume("old-refresh-token")).thenReturn("testUser@example.com");
+        when(mockedMyUserDetailService.loadUserByUsername("testUser@example.com")).thenReturn(user);
+        when(mockedJwtUtil.createToken(any(Authentication.class))).thenReturn("new-jwt-token");
+        when(mockedRefreshTokenStore.issue("testUser@example.com")).thenReturn("new-refresh-token");
+
+        // When
+        AuthTokens tokens = authService.refresh("old-refresh-token");
+
+        // Then
+        assertEquals("new-jwt-token", tokens.getAccessToken());
+        assertEquals("new-refresh-token", tokens.getRefreshToken());
+        // 비밀번호 검증(AuthenticationManager) 없이 재발급
+        verify(mockedAuthenticationManagerBuilder, never()).getObject();
+    }
+
+    @Test
+    void 이미_사용된_refresh_token_으로_재발급_실패(){
+        // Given - 교체되어 삭제된 토큰
+        when(mockedRefreshTokenStore.consume("used-refresh-token")).thenReturn(null);
+
+        // When & Then
+        assertThrows(InvalidTokenException.class, () -> authService.refresh("used-refresh-token"));
+        verify(mockedJwtUtil, never()).createToken(any(Authentication.class));
+        verify(mockedRefreshTokenStore, never()).issue(any());
+    }
 }
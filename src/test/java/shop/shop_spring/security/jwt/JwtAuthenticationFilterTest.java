@@ -0,0 +1,214 @@
+package shop.shop_spring.security.jwt;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.security.auth.AuthTokens;
+import shop.shop_spring.security.auth.TokenRefresher;
+import shop.shop_spring.security.model.MyUser;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class JwtAuthenticationFilterTest {
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private RevokedTokenRegistry revokedTokenRegistry;
+    private TokenRefresher tokenRefresher;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp(){
+        JwtUtil realJwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(realJwtUtil, "secretKeyString",
+                Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-0123456789".getBytes()));
+        realJwtUtil.init();
+        jwtUtil = spy(realJwtUtil);
+
+        verifiedTokenCache = new VerifiedTokenCache(clock::get);
+        verifiedTokenCache.init();
+        revokedTokenRegistry = mock(RevokedTokenRegistry.class);
+        tokenRefresher = mock(TokenRefresher.class);
+        filter = new JwtAuthenticationFilter(jwtUtil, verifiedTokenCache, revokedTokenRegistry, tokenRefresher);
+    }
+
+    @AfterEach
+    void tearDown(){
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 같은_토큰_재요청시_검증_생략(){
+        // given
+        String token = createToken();
+
+        // when
+        Authentication first = doFilter(token);
+        Authentication second = doFilter(token);
+
+        // then
+        verify(jwtUtil, times(1)).extractToken(token);
+        MyUser user = (MyUser) second.getPrincipal();
+        assertSame(first.getPrincipal(), user);
+        assertEquals(1L, user.getId());
+        assertEquals("테스터", user.getNickname());
+        assertEquals(Role.ROLE_USER, user.getRole());
+        assertTrue(second.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_USER")));
+
+        JwtFilterStats stats = verifiedTokenCache.stats();
+        assertEquals(1, stats.getCache().getHits());
+        assertEquals(1, stats.getCache().getMisses());
+        assertEquals(2, stats.getRequests());
+    }
+
+    @Test
+    void 토큰_만료_시각_이후에는_캐시에서_제외(){
+        // given - 토큰 만료 시각까지 남은 시간만큼만 캐시
+        String token = createToken();
+        Date expiration = jwtUtil.extractToken(token).getExpiration();
+        VerifiedToken verifiedToken = new VerifiedToken(mock(MyUser.class), "jti");
+        verifiedTokenCache.put(token, verifiedToken, new Date(clock.get() - 1));
+
+        // then - 이미 만료된 시각이면 저장하지 않음
+        assertNull(verifiedTokenCache.get(token));
+
+        verifiedTokenCache.put(token, verifiedToken, expiration);
+        assertNotNull(verifiedTokenCache.get(token));
+    }
+
+    @Test
+    void 폐기된_토큰은_캐시에_있어도_인증하지_않음(){
+        // given - 한 번 인증되어 캐시에 올라간 뒤 로그아웃
+        String token = createToken();
+        String tokenId = jwtUtil.extractToken(token).getId();
+        assertNotNull(doFilter(token));
+        when(revokedTokenRegistry.isRevoked(tokenId)).thenReturn(true);
+
+        // when
+        Authentication afterRevoke = doFilter(token);
+
+        // then
+        assertNotNull(tokenId);
+        assertNull(afterRevoke);
+        verify(revokedTokenRegistry, times(2)).isRevoked(tokenId);
+    }
+
+    @Test
+    void 잘못된_토큰은_인증하지_않고_캐시하지_않음(){
+        // when
+        Authentication first = doFilter("invalid.token.value");
+        Authentication second = doFilter("invalid.token.value");
+
+        // then
+        assertNull(first);
+        assertNull(second);
+        verify(jwtUtil, times(2)).extractToken("invalid.token.value");
+        assertEquals(0, verifiedTokenCache.stats().getCache().getSize());
+    }
+
+    @Test
+    void access_token_만료시_refresh_token_으로_자동_재발급(){
+        // given - access token 쿠키 없이 refresh token 만 있음
+        String newToken = createToken();
+        when(tokenRefresher.rotateOrReissue("refresh-token"))
+                .thenReturn(new AuthTokens(newToken, "new-refresh-token", 900, 1209600));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        Authentication authentication = doFilter(response, new Cookie(TokenCookies.REFRESH_TOKEN, "refresh-token"));
+
+        // then - 이번 요청은 새 토큰으로 인증되고 두 쿠키 모두 교체
+        assertNotNull(authentication);
+        assertEquals(1L, ((MyUser) authentication.getPrincipal()).getId());
+        assertEquals(newToken, response.getCookie(TokenCookies.ACCESS_TOKEN).getValue());
+        assertEquals("new-refresh-token", response.getCookie(TokenCookies.REFRESH_TOKEN).getValue());
+    }
+
+    @Test
+    void 유예_시간_안의_동시_요청은_access_token_만_재발급(){
+        // given - 다른 요청이 먼저 교체한 refresh token
+        String newToken = createToken();
+        when(tokenRefresher.rotateOrReissue("refresh-token"))
+                .thenReturn(new AuthTokens(newToken, null, 900, 1209600));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        Authentication authentication = doFilter(response,
+                new Cookie(TokenCookies.ACCESS_TOKEN, "expired.token.value"),
+                new Cookie(TokenCookies.REFRESH_TOKEN, "refresh-token"));
+
+        // then - 먼저 교체한 요청의 refresh token 쿠키를 덮어쓰지 않음
+        assertNotNull(authentication);
+        assertEquals(newToken, response.getCookie(TokenCookies.ACCESS_TOKEN).getValue());
+        assertNull(response.getCookie(TokenCookies.REFRESH_TOKEN));
+    }
+
+    @Test
+    void 유효하지_않은_refresh_token_은_쿠키_삭제(){
+        // given
+        when(tokenRefresher.rotateOrReissue("used-refresh-token")).thenReturn(null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        Authentication authentication = doFilter(response, new Cookie(TokenCookies.REFRESH_TOKEN, "used-refresh-token"));
+
+        // then
+        assertNull(authentication);
+        assertEquals(0, response.getCookie(TokenCookies.REFRESH_TOKEN).getMaxAge());
+        assertNull(response.getCookie(TokenCookies.ACCESS_TOKEN));
+    }
+
+    @Test
+    void 유효한_access_token_이면_재발급하지_않음(){
+        // when
+        Authentication authentication = doFilter(new MockHttpServletResponse(),
+                new Cookie(TokenCookies.ACCESS_TOKEN, createToken()),
+                new Cookie(TokenCookies.REFRESH_TOKEN, "refresh-token"));
+
+        // then
+        assertNotNull(authentication);
+        verifyNoInteractions(tokenRefresher);
+    }
+
+    private Authentication doFilter(String token){
+        return doFilter(new MockHttpServletResponse(), new Cookie(TokenCookies.ACCESS_TOKEN, token));
+    }
+
+    private Authentication doFilter(MockHttpServletResponse response, Cookie... cookies){
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookies);
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private String createToken(){
+        MyUser user = new MyUser("test@test.com", "none", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        user.setId(1L);
+        user.setName("테스트");
+        user.setNickname("테스터");
+        user.setRole(Role.ROLE_USER);
+        return jwtUtil.createToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
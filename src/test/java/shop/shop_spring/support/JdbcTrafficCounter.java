@@ -0,0 +1,135 @@
+package shop.shop_spring.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource 를 감싸 JDBC 사용량을 세는 테스트 설정 (@Import 해서 사용, 측정 전에 reset)
+ * - 왕복 수: execute*, executeBatch 호출 (배치 전송 1회 = 1)
+ * - 실행 문장 수: 배치에 담긴 문장(addBatch) + 배치 외 execute*
+ * - ResultSet 에서 읽은 행 수와 값 크기(바이트 근사)
+ */
+@TestConfiguration
+public class JdbcTrafficCounter {
+    private static final AtomicLong ROUND_TRIPS = new AtomicLong();
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+    private static final AtomicLong ROWS = new AtomicLong();
+    private static final AtomicLong BYTES = new AtomicLong();
+
+    public static void reset(){
+        ROUND_TRIPS.set(0);
+        STATEMENTS.set(0);
+        ROWS.set(0);
+        BYTES.set(0);
+    }
+
+    public static long roundTrips(){
+        return ROUND_TRIPS.get();
+    }
+
+    public static long statements(){
+        return STATEMENTS.get();
+    }
+
+    public static long rows(){
+        return ROWS.get();
+    }
+
+    public static long bytes(){
+        return BYTES.get();
+    }
+
+    @Bean
+    static BeanPostProcessor jdbcTrafficCountingPostProcessor(){
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource){
+                    return wrap(DataSource.class, dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, Object target){
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (target instanceof Statement){
+                count(method.getName());
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e){
+                throw e.getTargetException();
+            }
+            if (target instanceof ResultSet){
+                if (method.getName().equals("next") && Boolean.TRUE.equals(result)){
+                    ROWS.incrementAndGet();
+                } else if (method.getName().startsWith("get") && args != null && args.length > 0){
+                    BYTES.addAndGet(sizeOf(result));
+                }
+                return result;
+            }
+            if (result instanceof Connection connection && method.getReturnType() == Connection.class){
+                return wrap(Connection.class, connection);
+            }
+            if (result instanceof CallableStatement statement && method.getReturnType() == CallableStatement.class){
+                return wrap(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement && method.getReturnType() == PreparedStatement.class){
+                return wrap(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement && method.getReturnType() == Statement.class){
+                return wrap(Statement.class, statement);
+            }
+            if (result instanceof ResultSet resultSet && method.getReturnType() == ResultSet.class){
+                return wrap(ResultSet.class, resultSet);
+            }
+            return result;
+        });
+    }
+
+    private static void count(String methodName){
+        if (methodName.equals("addBatch")){
+            STATEMENTS.incrementAndGet();
+        } else if (methodName.equals("executeBatch")){
+            ROUND_TRIPS.incrementAndGet();
+        } else if (methodName.startsWith("execute")){
+            STATEMENTS.incrementAndGet();
+            ROUND_TRIPS.incrementAndGet();
+        }
+    }
+
+    private static long sizeOf(Object value){
+        if (value instanceof String string){
+            return string.getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (value instanceof byte[] bytes){
+            return bytes.length;
+        }
+        if (value instanceof BigDecimal decimal){
+            return decimal.unscaledValue().toByteArray().length + 4;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Temporal || value instanceof Date){
+            return 8;
+        }
+        return 0;
+    }
+}
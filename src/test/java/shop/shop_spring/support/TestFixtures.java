@@ -0,0 +1,78 @@
+package shop.shop_spring.support;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import shop.shop_spring.category.domain.Category;
+import shop.shop_spring.common.money.Money;
+import shop.shop_spring.member.domain.Member;
+import shop.shop_spring.member.domain.enums.Role;
+import shop.shop_spring.order.domain.OrderItem;
+import shop.shop_spring.product.domain.Product;
+import shop.shop_spring.product.enums.Status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA 테스트 공용 픽스처 (회원, 카테고리, 상품, 주문 상품)
+ */
+public final class TestFixtures {
+    private TestFixtures() {
+    }
+
+    public static Member persistMember(TestEntityManager testEntityManager){
+        Member member = Member.builder()
+                .username("test@test.com")
+                .password("password")
+                .name("테스트")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .address("서울")
+                .addressDetail("101호")
+                .nickname("테스터")
+                .role(Role.ROLE_USER)
+                .build();
+        testEntityManager.persist(member);
+        return member;
+    }
+
+    public static Category persistCategory(TestEntityManager testEntityManager){
+        Category category = new Category();
+        category.setName("테스트 카테고리");
+        testEntityManager.persist(category);
+        return category;
+    }
+
+    /**
+     * 10000 원 상품 count 개 ("테스트 상품 0" ~)
+     */
+    public static List<Product> persistProducts(TestEntityManager testEntityManager, Category category,
+                                                int count, int stockQuantity){
+        LocalDateTime now = LocalDateTime.now();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++){
+            Product product = Product.builder()
+                    .title("테스트 상품 " + i)
+                    .price(Money.of(10000))
+                    .username("테스트 판매자")
+                    .stockQuantity(stockQuantity)
+                    .status(Status.ACTIVE)
+                    .category(category)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            testEntityManager.persist(product);
+            products.add(product);
+        }
+        return products;
+    }
+
+    public static OrderItem orderItem(Product product, int count){
+        return OrderItem.builder()
+                .product(product)
+                .orderPrice(product.getPrice())
+                .count(count)
+                .productTitleAtOrder(product.getTitle())
+                .build();
+    }
+}